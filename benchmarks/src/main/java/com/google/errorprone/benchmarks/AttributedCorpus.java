@@ -0,0 +1,128 @@
+/*
+ * Copyright 2026 The Error Prone Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.errorprone.benchmarks;
+
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.google.common.collect.ImmutableList;
+import com.google.errorprone.BaseErrorProneJavaCompiler;
+import com.google.errorprone.ErrorProneOptions;
+import com.sun.tools.javac.api.JavacTaskImpl;
+import com.sun.tools.javac.api.JavacTool;
+import com.sun.tools.javac.file.JavacFileManager;
+import com.sun.tools.javac.tree.JCTree.JCCompilationUnit;
+import com.sun.tools.javac.util.Context;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaFileObject;
+
+/**
+ * Sources that javac has parsed and attributed, with a context that Error Prone's checks, matchers
+ * and dataflow can be run against repeatedly.
+ */
+public final class AttributedCorpus implements AutoCloseable {
+
+  /**
+   * The javac options the corpora are compiled with. The package corpus uses javac's internal APIs,
+   * so they are exported to it; sources are resolved against the benchmarks' own classpath.
+   */
+  public static final ImmutableList<String> JAVAC_OPTIONS =
+      Stream.concat(
+              Stream.of("-proc:none", "-parameters"),
+              Stream.of(
+                      "api",
+                      "code",
+                      "comp",
+                      "file",
+                      "main",
+                      "model",
+                      "parser",
+                      "processing",
+                      "tree",
+                      "util")
+                  .flatMap(
+                      pkg ->
+                          Stream.of(
+                              "--add-exports",
+                              "jdk.compiler/com.sun.tools.javac." + pkg + "=ALL-UNNAMED")))
+          .collect(toImmutableList());
+
+  /** Parses and attributes {@code sources}, and fails if they don't compile. */
+  public static AttributedCorpus attribute(Iterable<? extends JavaFileObject> sources) {
+    DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+    JavacFileManager fileManager = new JavacFileManager(new Context(), false, UTF_8);
+    JavacTaskImpl task =
+        (JavacTaskImpl)
+            JavacTool.create()
+                .getTask(
+                    /* out= */ null,
+                    fileManager,
+                    diagnostics,
+                    JAVAC_OPTIONS,
+                    /* classes= */ null,
+                    sources);
+    ImmutableList<JCCompilationUnit> units =
+        StreamSupport.stream(task.parse().spliterator(), false)
+            .map(JCCompilationUnit.class::cast)
+            .collect(toImmutableList());
+    var unused = task.analyze();
+    for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+      if (diagnostic.getKind() == Diagnostic.Kind.ERROR) {
+        throw new IllegalStateException("Corpus doesn't compile: " + diagnostic);
+      }
+    }
+    Context context = task.getContext();
+    context.put(ErrorProneOptions.class, ErrorProneOptions.empty());
+    BaseErrorProneJavaCompiler.setupMessageBundle(context);
+    return new AttributedCorpus(fileManager, context, units);
+  }
+
+  private final JavacFileManager fileManager;
+  private final Context context;
+  private final ImmutableList<JCCompilationUnit> units;
+
+  private AttributedCorpus(
+      JavacFileManager fileManager, Context context, ImmutableList<JCCompilationUnit> units) {
+    this.fileManager = fileManager;
+    this.context = context;
+    this.units = units;
+  }
+
+  /** The context the sources were attributed in. */
+  public Context context() {
+    return context;
+  }
+
+  /** The attributed compilation units, in the order the sources were given. */
+  public ImmutableList<JCCompilationUnit> units() {
+    return units;
+  }
+
+  @Override
+  public void close() {
+    try {
+      fileManager.close();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2026 The Error Prone Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.errorprone.benchmarks;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.google.common.collect.ImmutableList;
+import com.google.errorprone.ErrorProneJavaCompiler;
+import com.sun.tools.javac.api.JavacTool;
+import com.sun.tools.javac.file.JavacFileManager;
+import com.sun.tools.javac.util.Context;
+import java.io.IOException;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compiles a corpus from scratch with plain javac and with Error Prone's default checks, stopping
+ * after flow analysis, so that the difference is the cost of running Error Prone in a build.
+ */
+@State(Scope.Benchmark)
+public class CompileBenchmark extends CompilerBenchmark {
+
+  /** The compiler to run. */
+  public enum Compiler {
+    JAVAC {
+      @Override
+      JavaCompiler create() {
+        return JavacTool.create();
+      }
+    },
+    ERROR_PRONE {
+      @Override
+      JavaCompiler create() {
+        return new ErrorProneJavaCompiler(ScannerBenchmark.scannerSupplier("default"));
+      }
+    };
+
+    abstract JavaCompiler create();
+  }
+
+  @Param({"GENERATED", "LAMBDAS", "PACKAGE"})
+  public Corpus corpus;
+
+  @Param({"JAVAC", "ERROR_PRONE"})
+  public Compiler compiler;
+
+  private JavaCompiler javaCompiler;
+  private ImmutableList<String> options;
+
+  @Setup
+  public void setUp() {
+    javaCompiler = compiler.create();
+    options =
+        ImmutableList.<String>builder()
+            .addAll(AttributedCorpus.JAVAC_OPTIONS)
+            .add("--should-stop=ifError=FLOW", "--should-stop=ifNoError=FLOW")
+            .build();
+  }
+
+  /** Returns the number of warnings, which should only change when the checks do. */
+  @Benchmark
+  public int compile() throws IOException {
+    DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+    try (JavacFileManager fileManager = new JavacFileManager(new Context(), false, UTF_8)) {
+      boolean success =
+          javaCompiler
+              .getTask(
+                  /* out= */ null,
+                  fileManager,
+                  diagnostics,
+                  options,
+                  /* classes= */ null,
+                  corpus.sources())
+              .call();
+      if (!success) {
+        throw new IllegalStateException("Corpus doesn't compile: " + diagnostics.getDiagnostics());
+      }
+    }
+    int warnings = 0;
+    for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+      if (diagnostic.getKind() != Diagnostic.Kind.NOTE) {
+        warnings++;
+      }
+    }
+    return warnings;
+  }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2026 The Error Prone Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.errorprone.benchmarks;
+
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.io.Resources;
+import com.google.common.reflect.ClassPath;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.util.Comparator;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+
+/**
+ * The Java sources that the benchmarks compile and analyze.
+ *
+ * <p>All of them are fixed: the generated file is produced from a fixed seed, the package is
+ * unpacked from a pinned Guava release, and the others are checked in under {@code
+ * src/main/resources}, so results from different runs and commits are comparable.
+ */
+public enum Corpus {
+  /** A single large, machine-generated class, like the output of a code generator. */
+  GENERATED {
+    @Override
+    ImmutableList<JavaFileObject> load() {
+      return ImmutableList.of(
+          new Source(
+              "generated/Generated.java",
+              GeneratedSource.generate(/* methods= */ 2_000, /* seed= */ 42)));
+    }
+  },
+  /** A hand-written file that makes heavy use of lambdas, method references and streams. */
+  LAMBDAS {
+    @Override
+    ImmutableList<JavaFileObject> load() {
+      return ImmutableList.of(resource("corpus/lambdas/Lambdas.java"));
+    }
+  },
+  /**
+   * Guava's {@code com.google.common.base} package: about fifty files and thirteen thousand lines
+   * of real library code. The sources are unpacked at build time from a Guava sources jar whose
+   * version is pinned in the benchmarks' pom, so they don't change when Guava is upgraded
+   * elsewhere.
+   */
+  PACKAGE {
+    @Override
+    ImmutableList<JavaFileObject> load() {
+      String prefix = RESOURCE_ROOT + "corpus/guava/";
+      try {
+        return ClassPath.from(Corpus.class.getClassLoader()).getResources().stream()
+            .map(ClassPath.ResourceInfo::getResourceName)
+            .filter(name -> name.startsWith(prefix) && name.endsWith(".java"))
+            .sorted(Comparator.naturalOrder())
+            .map(name -> resource(name.substring(RESOURCE_ROOT.length())))
+            .collect(toImmutableList());
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+  };
+
+  private static final String RESOURCE_ROOT = "com/google/errorprone/benchmarks/";
+
+  private ImmutableList<JavaFileObject> sources;
+
+  /** Returns the corpus' compilation units. */
+  public synchronized ImmutableList<JavaFileObject> sources() {
+    if (sources == null) {
+      sources = load();
+    }
+    return sources;
+  }
+
+  abstract ImmutableList<JavaFileObject> load();
+
+  /** Returns the source file packaged with the benchmarks at {@code path}, e.g. a rule pack. */
+  public static JavaFileObject resource(String path) {
+    try {
+      return new Source(
+          path,
+          Resources.toString(
+              Resources.getResource(Corpus.class, "/" + RESOURCE_ROOT + path), UTF_8));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /** An in-memory source file. */
+  static final class Source extends SimpleJavaFileObject {
+    private final String path;
+    private final String content;
+
+    Source(String path, String content) {
+      super(URI.create("file:///" + path), Kind.SOURCE);
+      this.path = path;
+      this.content = content;
+    }
+
+    String path() {
+      return path;
+    }
+
+    @Override
+    public String getCharContent(boolean ignoreEncodingErrors) {
+      return content;
+    }
+  }
+}
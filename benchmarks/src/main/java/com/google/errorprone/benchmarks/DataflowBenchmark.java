@@ -0,0 +1,124 @@
+/*
+ * Copyright 2026 The Error Prone Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.errorprone.benchmarks;
+
+import com.google.common.collect.ImmutableList;
+import com.google.errorprone.dataflow.nullnesspropagation.Nullness;
+import com.google.errorprone.dataflow.nullnesspropagation.NullnessAnalysis;
+import com.google.errorprone.util.ASTHelpers;
+import com.sun.source.tree.ExpressionTree;
+import com.sun.source.tree.IdentifierTree;
+import com.sun.source.tree.LambdaExpressionTree;
+import com.sun.source.tree.MemberSelectTree;
+import com.sun.source.tree.MethodInvocationTree;
+import com.sun.source.tree.MethodTree;
+import com.sun.source.util.TreePath;
+import com.sun.source.util.TreePathScanner;
+import com.sun.tools.javac.code.Symbol;
+import com.sun.tools.javac.code.Symbol.MethodSymbol;
+import com.sun.tools.javac.code.Symbol.VarSymbol;
+import com.sun.tools.javac.code.Type;
+import com.sun.tools.javac.tree.JCTree.JCCompilationUnit;
+import java.util.ArrayList;
+import java.util.List;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Runs the nullness dataflow analysis for the reference-typed expressions in every method of a
+ * corpus, in source order, as checks that ask about nullness do.
+ */
+@State(Scope.Benchmark)
+public class DataflowBenchmark extends CompilerBenchmark {
+
+  @Param({"GENERATED", "LAMBDAS", "PACKAGE"})
+  public Corpus corpus;
+
+  private AttributedCorpus attributed;
+  private NullnessAnalysis analysis;
+  private ImmutableList<TreePath> expressions;
+
+  @Setup
+  public void setUp() {
+    attributed = AttributedCorpus.attribute(corpus.sources());
+    analysis = NullnessAnalysis.instance(attributed.context());
+    List<TreePath> expressions = new ArrayList<>();
+    for (JCCompilationUnit unit : attributed.units()) {
+      new TreePathScanner<Void, Boolean>() {
+        @Override
+        public Void visitMethod(MethodTree tree, Boolean inMethod) {
+          return super.visitMethod(tree, true);
+        }
+
+        @Override
+        public Void visitLambdaExpression(LambdaExpressionTree tree, Boolean inMethod) {
+          return super.visitLambdaExpression(tree, true);
+        }
+
+        @Override
+        public Void visitIdentifier(IdentifierTree tree, Boolean inMethod) {
+          add(tree, inMethod);
+          return super.visitIdentifier(tree, inMethod);
+        }
+
+        @Override
+        public Void visitMemberSelect(MemberSelectTree tree, Boolean inMethod) {
+          add(tree, inMethod);
+          return super.visitMemberSelect(tree, inMethod);
+        }
+
+        @Override
+        public Void visitMethodInvocation(MethodInvocationTree tree, Boolean inMethod) {
+          add(tree, inMethod);
+          return super.visitMethodInvocation(tree, inMethod);
+        }
+
+        private void add(ExpressionTree tree, boolean inMethod) {
+          Type type = ASTHelpers.getType(tree);
+          Symbol symbol = ASTHelpers.getSymbol(tree);
+          if (inMethod
+              && type != null
+              && type.isReference()
+              && (symbol instanceof VarSymbol || symbol instanceof MethodSymbol)) {
+            expressions.add(getCurrentPath());
+          }
+        }
+      }.scan(new TreePath(unit), false);
+    }
+    this.expressions = ImmutableList.copyOf(expressions);
+  }
+
+  @TearDown
+  public void tearDown() {
+    attributed.close();
+  }
+
+  /** Returns the number of expressions found to be non-null. */
+  @Benchmark
+  public int nullness() {
+    int nonNull = 0;
+    for (TreePath expression : expressions) {
+      if (analysis.getNullness(expression, attributed.context()) == Nullness.NONNULL) {
+        nonNull++;
+      }
+    }
+    return nonNull;
+  }
+}
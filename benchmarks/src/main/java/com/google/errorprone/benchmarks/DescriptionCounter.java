@@ -0,0 +1,33 @@
+/*
+ * Copyright 2026 The Error Prone Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.errorprone.benchmarks;
+
+import com.google.errorprone.DescriptionListener;
+import com.google.errorprone.matchers.Description;
+
+/** Counts the findings reported to it, so benchmarks have a result that depends on them. */
+public final class DescriptionCounter implements DescriptionListener {
+  private int count;
+
+  @Override
+  public void onDescribed(Description description) {
+    count++;
+  }
+
+  public int count() {
+    return count;
+  }
+}
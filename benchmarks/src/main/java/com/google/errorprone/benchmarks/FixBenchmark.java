@@ -0,0 +1,117 @@
+/*
+ * Copyright 2026 The Error Prone Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.errorprone.benchmarks;
+
+import com.google.common.collect.ImmutableList;
+import com.google.errorprone.VisitorState;
+import com.google.errorprone.apply.DescriptionBasedDiff;
+import com.google.errorprone.apply.ImportOrganizer;
+import com.google.errorprone.apply.SourceFile;
+import com.google.errorprone.fixes.SuggestedFix;
+import com.google.errorprone.fixes.SuggestedFixes;
+import com.google.errorprone.matchers.Description;
+import com.google.errorprone.util.ASTHelpers;
+import com.sun.source.tree.MethodInvocationTree;
+import com.sun.source.util.TreePath;
+import com.sun.source.util.TreePathScanner;
+import com.sun.tools.javac.tree.JCTree.JCCompilationUnit;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Suggests a fix for every method invocation in a corpus, and applies them all as a patch would:
+ * each invocation is renamed, and every fourth also qualifies a type, which adds an import.
+ */
+@State(Scope.Benchmark)
+public class FixBenchmark extends CompilerBenchmark {
+
+  @Param({"GENERATED", "LAMBDAS", "PACKAGE"})
+  public Corpus corpus;
+
+  private AttributedCorpus attributed;
+  private VisitorState state;
+  private ImmutableList<ImmutableList<TreePath>> invocations;
+  private ImmutableList<SourceFile> sources;
+
+  @Setup
+  public void setUp() throws IOException {
+    attributed = AttributedCorpus.attribute(corpus.sources());
+    state = VisitorState.createForUtilityPurposes(attributed.context());
+    ImmutableList.Builder<ImmutableList<TreePath>> invocations = ImmutableList.builder();
+    ImmutableList.Builder<SourceFile> sources = ImmutableList.builder();
+    for (JCCompilationUnit unit : attributed.units()) {
+      List<TreePath> paths = new ArrayList<>();
+      new TreePathScanner<Void, Void>() {
+        @Override
+        public Void visitMethodInvocation(MethodInvocationTree tree, Void unused) {
+          // this() and super() calls can't be renamed.
+          if (!ASTHelpers.getSymbol(tree).isConstructor()) {
+            paths.add(getCurrentPath());
+          }
+          return super.visitMethodInvocation(tree, null);
+        }
+      }.scan(new TreePath(unit), null);
+      invocations.add(ImmutableList.copyOf(paths));
+      sources.add(SourceFile.create(unit.getSourceFile()));
+    }
+    this.invocations = invocations.build();
+    this.sources = sources.build();
+  }
+
+  @TearDown
+  public void tearDown() {
+    attributed.close();
+  }
+
+  /** Suggests the fixes, and returns the total length of the fixed sources. */
+  @Benchmark
+  public int suggestAndApply() {
+    int length = 0;
+    for (int i = 0; i < sources.size(); i++) {
+      JCCompilationUnit unit = attributed.units().get(i);
+      DescriptionBasedDiff diff =
+          DescriptionBasedDiff.createIgnoringOverlaps(unit, ImportOrganizer.STATIC_FIRST_ORGANIZER);
+      int count = 0;
+      for (TreePath path : invocations.get(i)) {
+        MethodInvocationTree tree = (MethodInvocationTree) path.getLeaf();
+        VisitorState state = this.state.withPath(path);
+        SuggestedFix.Builder fix = SuggestedFix.builder();
+        fix.merge(
+            SuggestedFixes.renameMethodInvocation(
+                tree, ASTHelpers.getSymbol(tree).getSimpleName() + "Renamed", state));
+        if (count++ % 4 == 0) {
+          String objects = SuggestedFixes.qualifyType(state, fix, "java.util.Objects");
+          fix.prefixWith(tree, objects + ".requireNonNull(").postfixWith(tree, ")");
+        }
+        diff.onDescribed(
+            Description.builder(tree, "Benchmark", /* link= */ null, "message")
+                .addFix(fix.build())
+                .build());
+      }
+      SourceFile source = new SourceFile(sources.get(i).getPath(), sources.get(i).getAsSequence());
+      diff.applyDifferences(source);
+      length += source.getAsSequence().length();
+    }
+    return length;
+  }
+}
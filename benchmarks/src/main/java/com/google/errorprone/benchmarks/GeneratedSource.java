@@ -0,0 +1,201 @@
+/*
+ * Copyright 2026 The Error Prone Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.errorprone.benchmarks;
+
+import java.util.Random;
+
+/**
+ * Generates a large class in the style of generated code: many similar methods over fields,
+ * collections, strings and boxed values, with the kinds of statements checks look at.
+ */
+final class GeneratedSource {
+
+  static String generate(int methods, long seed) {
+    Random random = new Random(seed);
+    StringBuilder out = new StringBuilder();
+    out.append("package generated;\n\n")
+        .append("import com.google.common.base.Preconditions;\n")
+        .append("import com.google.common.collect.ImmutableList;\n")
+        .append("import com.google.common.collect.ImmutableMap;\n")
+        .append("import java.util.ArrayList;\n")
+        .append("import java.util.Collections;\n")
+        .append("import java.util.HashMap;\n")
+        .append("import java.util.List;\n")
+        .append("import java.util.Map;\n")
+        .append("import java.util.Objects;\n")
+        .append("import java.util.Optional;\n")
+        .append("import java.util.stream.Collectors;\n\n")
+        .append("public final class Generated {\n");
+    for (int i = 0; i < methods / 10; i++) {
+      out.append("  private final List<String> names").append(i).append(" = new ArrayList<>();\n");
+      out.append("  private final Map<String, Integer> counts")
+          .append(i)
+          .append(" = new HashMap<>();\n");
+      out.append("  private Integer boxed").append(i).append(";\n");
+    }
+    for (int i = 0; i < methods; i++) {
+      int field = random.nextInt(methods / 10);
+      switch (random.nextInt(6)) {
+        case 0 -> appendAccumulator(out, i, field);
+        case 1 -> appendFormatter(out, i, field);
+        case 2 -> appendLookup(out, i, field);
+        case 3 -> appendValidator(out, i, field);
+        case 4 -> appendBuilder(out, i, field, random.nextInt(8) + 2);
+        default -> appendSwitch(out, i, random.nextInt(6) + 2);
+      }
+    }
+    out.append("}\n");
+    return out.toString();
+  }
+
+  private static void appendAccumulator(StringBuilder out, int i, int field) {
+    out.append("  public int accumulate")
+        .append(i)
+        .append("(List<Integer> values) {\n")
+        .append("    int total = 0;\n")
+        .append("    for (int j = 0; j < values.size(); j++) {\n")
+        .append("      Integer value = values.get(j);\n")
+        .append("      if (value != null && value > ")
+        .append(i % 17)
+        .append(") {\n")
+        .append("        total += value;\n")
+        .append("      }\n")
+        .append("    }\n")
+        .append("    List<String> copy = names")
+        .append(field)
+        .append(".isEmpty() ? Collections.emptyList() : names")
+        .append(field)
+        .append(".stream().filter(n -> n != null).collect(Collectors.toList());\n")
+        .append("    if (boxed")
+        .append(field)
+        .append(" != null && boxed")
+        .append(field)
+        .append(" == total + copy.size()) {\n")
+        .append("      names")
+        .append(field)
+        .append(".add(String.valueOf(total));\n")
+        .append("    }\n")
+        .append("    return total;\n")
+        .append("  }\n\n");
+  }
+
+  private static void appendFormatter(StringBuilder out, int i, int field) {
+    out.append("  public String format")
+        .append(i)
+        .append("(String name, long id) {\n")
+        .append("    StringBuilder sb = new StringBuilder();\n")
+        .append("    for (String existing : names")
+        .append(field)
+        .append(") {\n")
+        .append("      if (existing.equals(name)) {\n")
+        .append("        sb.append(String.format(\"%s-%d;\", existing, id));\n")
+        .append("      }\n")
+        .append("    }\n")
+        .append("    return sb.length() == 0 ? name + \":")
+        .append(i)
+        .append("\" : sb.toString().trim();\n")
+        .append("  }\n\n");
+  }
+
+  private static void appendLookup(StringBuilder out, int i, int field) {
+    out.append("  public Optional<Integer> lookup")
+        .append(i)
+        .append("(String key) {\n")
+        .append("    Integer count = counts")
+        .append(field)
+        .append(".containsKey(key) ? counts")
+        .append(field)
+        .append(".get(key) : boxed")
+        .append(field)
+        .append(";\n")
+        .append("    if (count == null) {\n")
+        .append("      counts")
+        .append(field)
+        .append(".put(key, ")
+        .append(i)
+        .append(");\n")
+        .append("      return Optional.empty();\n")
+        .append("    }\n")
+        .append("    return Optional.ofNullable(count).map(c -> c + ")
+        .append(i)
+        .append(").filter(c -> c % 2 == 0);\n")
+        .append("  }\n\n");
+  }
+
+  private static void appendValidator(StringBuilder out, int i, int field) {
+    out.append("  public void validate")
+        .append(i)
+        .append("(Object value, String message) {\n")
+        .append("    Preconditions.checkNotNull(value, message);\n")
+        .append("    Preconditions.checkArgument(!names")
+        .append(field)
+        .append(".isEmpty(), \"names%s is empty\", ")
+        .append(field)
+        .append(");\n")
+        .append("    try {\n")
+        .append("      Objects.requireNonNull(boxed")
+        .append(field)
+        .append(", \"boxed\");\n")
+        .append("    } catch (NullPointerException e) {\n")
+        .append("      throw new IllegalStateException(message + value, e);\n")
+        .append("    }\n")
+        .append("  }\n\n");
+  }
+
+  private static void appendBuilder(StringBuilder out, int i, int field, int entries) {
+    out.append("  public ImmutableMap<String, ImmutableList<Integer>> build")
+        .append(i)
+        .append("() {\n")
+        .append("    ImmutableMap.Builder<String, ImmutableList<Integer>> builder =")
+        .append(" ImmutableMap.builder();\n");
+    for (int j = 0; j < entries; j++) {
+      out.append("    builder.put(\"key")
+          .append(j)
+          .append("\", ImmutableList.of(")
+          .append(i)
+          .append(", ")
+          .append(j)
+          .append(", counts")
+          .append(field)
+          .append(".getOrDefault(\"key")
+          .append(j)
+          .append("\", 0)));\n");
+    }
+    out.append("    return builder.buildOrThrow();\n").append("  }\n\n");
+  }
+
+  private static void appendSwitch(StringBuilder out, int i, int cases) {
+    out.append("  public String describe").append(i).append("(int code) {\n");
+    out.append("    String result;\n").append("    switch (code) {\n");
+    for (int j = 0; j < cases; j++) {
+      out.append("      case ")
+          .append(j)
+          .append(":\n")
+          .append("        result = \"code")
+          .append(j)
+          .append("\";\n")
+          .append("        break;\n");
+    }
+    out.append("      default:\n")
+        .append("        result = Integer.toString(code);\n")
+        .append("    }\n")
+        .append("    return result;\n")
+        .append("  }\n\n");
+  }
+
+  private GeneratedSource() {}
+}
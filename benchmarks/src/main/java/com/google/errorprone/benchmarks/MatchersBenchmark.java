@@ -0,0 +1,207 @@
+/*
+ * Copyright 2026 The Error Prone Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.errorprone.benchmarks;
+
+import static com.google.errorprone.matchers.method.MethodMatchers.anyMethod;
+import static com.google.errorprone.matchers.method.MethodMatchers.instanceMethod;
+import static com.google.errorprone.matchers.method.MethodMatchers.staticMethod;
+
+import com.google.common.collect.ImmutableList;
+import com.google.errorprone.VisitorState;
+import com.google.errorprone.matchers.Matcher;
+import com.google.errorprone.matchers.Matchers;
+import com.google.errorprone.util.ASTHelpers;
+import com.sun.source.tree.ExpressionTree;
+import com.sun.tools.javac.code.Type;
+import com.sun.tools.javac.code.Types;
+import com.sun.tools.javac.tree.JCTree;
+import com.sun.tools.javac.tree.JCTree.JCCompilationUnit;
+import com.sun.tools.javac.tree.JCTree.JCMethodInvocation;
+import com.sun.tools.javac.tree.TreeScanner;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Matches every method invocation in a corpus against the kind of method matchers checks are built
+ * from, and answers the subtype queries that {@code onDescendantOf} relies on.
+ */
+@State(Scope.Benchmark)
+public class MatchersBenchmark extends CompilerBenchmark {
+
+  /** Method matchers of the shapes that checks use most often. */
+  static final ImmutableList<Matcher<ExpressionTree>> METHOD_MATCHERS =
+      ImmutableList.of(
+          staticMethod().onClass("com.google.common.base.Preconditions").named("checkNotNull"),
+          staticMethod().onClass("com.google.common.base.Preconditions").named("checkArgument"),
+          staticMethod().onClass("java.util.Objects").named("requireNonNull"),
+          staticMethod().onClass("java.util.Objects").named("equals"),
+          staticMethod().onClass("java.lang.String").named("format"),
+          staticMethod().onClass("java.lang.String").named("valueOf"),
+          staticMethod().onClass("java.util.Optional").namedAnyOf("of", "ofNullable", "empty"),
+          staticMethod().onClass("java.util.Collections").namedAnyOf("emptyList", "singletonList"),
+          staticMethod().onClass("com.google.common.collect.ImmutableList").named("of"),
+          staticMethod().onClass("java.util.stream.Collectors").named("toList"),
+          instanceMethod().onDescendantOf("java.util.Collection").named("add"),
+          instanceMethod()
+              .onDescendantOf("java.util.Collection")
+              .named("isEmpty")
+              .withNoParameters(),
+          instanceMethod().onDescendantOf("java.util.List").named("get"),
+          instanceMethod().onDescendantOf("java.util.Map").named("get"),
+          instanceMethod().onDescendantOf("java.util.Map").named("put"),
+          instanceMethod().onDescendantOf("java.util.Map").named("containsKey"),
+          instanceMethod().onExactClass("java.lang.String").named("equals"),
+          instanceMethod().onExactClass("java.lang.String").named("trim"),
+          instanceMethod().onExactClass("java.lang.StringBuilder").named("append"),
+          instanceMethod().onExactClass("java.util.Optional").namedAnyOf("get", "isPresent"),
+          instanceMethod().onDescendantOf("java.util.stream.Stream").namedAnyOf("map", "filter"),
+          instanceMethod().onDescendantOf("java.util.stream.Stream").named("collect"),
+          instanceMethod().onDescendantOf("java.lang.Object").named("hashCode").withNoParameters(),
+          instanceMethod().onDescendantOf("java.lang.Object").named("toString").withNoParameters(),
+          instanceMethod().onDescendantOf("com.sun.source.tree.Tree").named("getKind"),
+          instanceMethod().onDescendantOf("com.google.errorprone.VisitorState").named("getTypes"),
+          anyMethod().anyClass().named("close"));
+
+  @Param({"GENERATED", "LAMBDAS", "PACKAGE"})
+  public Corpus corpus;
+
+  private AttributedCorpus attributed;
+  private VisitorState state;
+  private ImmutableList<JCMethodInvocation> invocations;
+  private Matcher<ExpressionTree> anyOf;
+  private ImmutableList<Type> receiverTypes;
+  private ImmutableList<Type> supertypes;
+
+  @Setup
+  public void setUp() {
+    attributed = AttributedCorpus.attribute(corpus.sources());
+    state = VisitorState.createForUtilityPurposes(attributed.context());
+    List<JCMethodInvocation> invocations = new ArrayList<>();
+    Set<Type> receiverTypes = new LinkedHashSet<>();
+    Types types = state.getTypes();
+    for (JCCompilationUnit unit : attributed.units()) {
+      new TreeScanner() {
+        @Override
+        public void visitApply(JCMethodInvocation tree) {
+          invocations.add(tree);
+          Type receiver = ASTHelpers.getReceiverType(tree);
+          if (receiver != null && receiver.isReference()) {
+            receiverTypes.add(types.erasure(receiver));
+          }
+          super.visitApply(tree);
+        }
+      }.scan((JCTree) unit);
+    }
+    this.invocations = ImmutableList.copyOf(invocations);
+    this.receiverTypes = ImmutableList.copyOf(receiverTypes);
+    this.supertypes =
+        ImmutableList.of(
+                "java.lang.Iterable",
+                "java.util.Collection",
+                "java.util.List",
+                "java.util.Map",
+                "java.lang.CharSequence",
+                "com.sun.source.tree.Tree",
+                "com.google.errorprone.matchers.Matcher")
+            .stream()
+            .map(state::getTypeFromString)
+            .filter(type -> type != null)
+            .map(types::erasure)
+            .collect(ImmutableList.toImmutableList());
+    this.anyOf = Matchers.anyOf(METHOD_MATCHERS);
+  }
+
+  @TearDown
+  public void tearDown() {
+    attributed.close();
+  }
+
+  /** Tries each matcher on each invocation, as a check with a list of matchers would. */
+  @Benchmark
+  public int eachMatcher() {
+    int matches = 0;
+    for (JCMethodInvocation invocation : invocations) {
+      for (Matcher<ExpressionTree> matcher : METHOD_MATCHERS) {
+        if (matcher.matches(invocation, state)) {
+          matches++;
+        }
+      }
+    }
+    return matches;
+  }
+
+  /** Matches {@link Matchers#anyOf} of the same matchers, which looks them up by method name. */
+  @Benchmark
+  public int anyOf() {
+    int matches = 0;
+    for (JCMethodInvocation invocation : invocations) {
+      if (anyOf.matches(invocation, state)) {
+        matches++;
+      }
+    }
+    return matches;
+  }
+
+  /** A single matcher, to see the cost of one chain of constraints. */
+  @Benchmark
+  public int singleMatcher() {
+    Matcher<ExpressionTree> matcher = METHOD_MATCHERS.get(10);
+    int matches = 0;
+    for (JCMethodInvocation invocation : invocations) {
+      if (matcher.matches(invocation, state)) {
+        matches++;
+      }
+    }
+    return matches;
+  }
+
+  /** Erased subtype queries through {@link ASTHelpers}, which caches supertype closures. */
+  @Benchmark
+  public int isSubtype() {
+    int subtypes = 0;
+    for (Type type : receiverTypes) {
+      for (Type supertype : supertypes) {
+        if (ASTHelpers.isSubtype(type, supertype, state)) {
+          subtypes++;
+        }
+      }
+    }
+    return subtypes;
+  }
+
+  /** The same queries answered directly by javac. */
+  @Benchmark
+  public int javacIsSubtype() {
+    Types types = state.getTypes();
+    int subtypes = 0;
+    for (Type type : receiverTypes) {
+      for (Type supertype : supertypes) {
+        if (types.isSubtype(type, supertype)) {
+          subtypes++;
+        }
+      }
+    }
+    return subtypes;
+  }
+}
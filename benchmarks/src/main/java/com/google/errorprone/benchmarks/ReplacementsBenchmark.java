@@ -0,0 +1,102 @@
+/*
+ * Copyright 2026 The Error Prone Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.errorprone.benchmarks;
+
+import com.google.common.collect.ImmutableList;
+import com.google.errorprone.fixes.AppliedFix;
+import com.google.errorprone.fixes.Replacement;
+import com.google.errorprone.fixes.Replacements;
+import com.google.errorprone.fixes.SuggestedFix;
+import com.sun.tools.javac.tree.EndPosTable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Sorts and merges the edits of a large fix, e.g. one that renames a widely used symbol, and
+ * applies it to a file with one edit per line.
+ */
+@State(Scope.Benchmark)
+public class ReplacementsBenchmark extends CompilerBenchmark {
+
+  @Param({"1000", "10000", "100000"})
+  public int edits;
+
+  /** Whether the edits are added in source order, or in a random but fixed order. */
+  @Param({"true", "false"})
+  public boolean ordered;
+
+  private String source;
+  private ImmutableList<Replacement> replacements;
+  private SuggestedFix fix;
+  private EndPosTable endPositions;
+
+  @Setup
+  public void setUp() {
+    StringBuilder source = new StringBuilder();
+    List<Replacement> replacements = new ArrayList<>(edits);
+    for (int i = 0; i < edits; i++) {
+      int start = source.length();
+      source.append("    foo(").append(i).append(");\n");
+      replacements.add(Replacement.create(start + 4, start + 7, "bar"));
+    }
+    if (!ordered) {
+      Collections.shuffle(replacements, new Random(0));
+    }
+    this.source = source.toString();
+    this.replacements = ImmutableList.copyOf(replacements);
+    SuggestedFix.Builder fix = SuggestedFix.builder();
+    for (Replacement replacement : replacements) {
+      fix.replace(
+          replacement.startPosition(), replacement.endPosition(), replacement.replaceWith());
+    }
+    this.fix = fix.build();
+    // Position-based edits don't need end positions, but fixes insist on having a table.
+    try (AttributedCorpus empty =
+        AttributedCorpus.attribute(
+            ImmutableList.of(new Corpus.Source("Empty.java", "class Empty {}")))) {
+      this.endPositions = empty.units().get(0).endPositions;
+    }
+  }
+
+  /** Adds the edits one at a time, as {@code DescriptionBasedDiff} does for separate findings. */
+  @Benchmark
+  public ImmutableList<Replacement> addEach() {
+    Replacements result = new Replacements();
+    for (Replacement replacement : replacements) {
+      result.add(replacement);
+    }
+    return result.ascending().asList();
+  }
+
+  /** Sorts and merges all the edits of a single fix at once. */
+  @Benchmark
+  public ImmutableList<Replacement> getReplacements() {
+    return fix.getReplacements(endPositions).asList();
+  }
+
+  /** Applies the fix to the source. */
+  @Benchmark
+  public AppliedFix apply() {
+    return AppliedFix.fromSource(source, endPositions).apply(fix);
+  }
+}
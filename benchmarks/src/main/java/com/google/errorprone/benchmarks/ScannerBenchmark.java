@@ -0,0 +1,94 @@
+/*
+ * Copyright 2026 The Error Prone Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.errorprone.benchmarks;
+
+import com.google.errorprone.CodeTransformer;
+import com.google.errorprone.scanner.BuiltInCheckerSuppliers;
+import com.google.errorprone.scanner.ErrorProneScannerTransformer;
+import com.google.errorprone.scanner.ScannerSupplier;
+import com.sun.source.util.TreePath;
+import com.sun.tools.javac.tree.JCTree.JCCompilationUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Runs Error Prone's scanner over an attributed corpus, with the default or all checks, or with a
+ * single check that is known to be expensive.
+ *
+ * <p>Attribution happens once, so this measures only the checks. The corpus is scanned in the same
+ * context every time, as it would be by the next compilation in a warm daemon.
+ */
+@State(Scope.Benchmark)
+public class ScannerBenchmark extends CompilerBenchmark {
+
+  @Param({"GENERATED", "LAMBDAS", "PACKAGE"})
+  public Corpus corpus;
+
+  /** {@code default}, {@code all}, or the name of a single check. */
+  @Param({
+    "default",
+    "all",
+    "CheckReturnValue",
+    "FormatString",
+    "Immutable",
+    "UnusedMethod",
+    "UnusedVariable",
+  })
+  public String checks;
+
+  private AttributedCorpus attributed;
+  private CodeTransformer transformer;
+
+  @Setup
+  public void setUp() {
+    attributed = AttributedCorpus.attribute(corpus.sources());
+    transformer = ErrorProneScannerTransformer.create(scannerSupplier(checks).get());
+  }
+
+  @TearDown
+  public void tearDown() {
+    attributed.close();
+  }
+
+  /** Returns the number of findings, which should only change when the checks do. */
+  @Benchmark
+  public int scan() {
+    DescriptionCounter counter = new DescriptionCounter();
+    for (JCCompilationUnit unit : attributed.units()) {
+      transformer.apply(new TreePath(unit), attributed.context(), counter);
+    }
+    return counter.count();
+  }
+
+  static ScannerSupplier scannerSupplier(String checks) {
+    return switch (checks) {
+      case "default" -> BuiltInCheckerSuppliers.defaultChecks();
+      case "all" -> BuiltInCheckerSuppliers.allChecks();
+      default -> {
+        ScannerSupplier supplier =
+            BuiltInCheckerSuppliers.allChecks().filter(info -> info.canonicalName().equals(checks));
+        if (supplier.getEnabledChecks().isEmpty()) {
+          throw new IllegalArgumentException("No check named " + checks);
+        }
+        yield supplier;
+      }
+    };
+  }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2026 The Error Prone Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.errorprone.benchmarks;
+
+import com.google.errorprone.CompilationTestHelper;
+import com.google.errorprone.bugpatterns.formatstring.FormatString;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Runs a check's test the way {@link CompilationTestHelper} does in the check's own unit tests:
+ * with code generation, and stopping after flow analysis (the default).
+ */
+@State(Scope.Benchmark)
+public class TestHelperBenchmark extends CompilerBenchmark {
+
+  /** How the test compiles its sources. */
+  public enum Mode {
+    CODE_GENERATION,
+    ANALYSIS_ONLY,
+  }
+
+  @Param({"CODE_GENERATION", "ANALYSIS_ONLY"})
+  public Mode mode;
+
+  private String lambdas;
+
+  @Setup
+  public void setUp() {
+    lambdas = ((Corpus.Source) Corpus.LAMBDAS.sources().get(0)).getCharContent(false);
+  }
+
+  @Benchmark
+  public void doTest() {
+    CompilationTestHelper helper =
+        CompilationTestHelper.newInstance(FormatString.class, getClass())
+            .addSourceLines("Lambdas.java", lambdas)
+            .addSourceLines(
+                "Test.java",
+                "class Test {",
+                "  String f() {",
+                "    // BUG: Diagnostic contains: FormatString",
+                "    return String.format(\"%d\", \"x\");",
+                "  }",
+                "}");
+    switch (mode) {
+      case CODE_GENERATION -> helper.withCodeGeneration();
+      case ANALYSIS_ONLY -> {}
+    }
+    helper.doTest();
+  }
+}
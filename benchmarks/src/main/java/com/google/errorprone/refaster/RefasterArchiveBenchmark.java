@@ -0,0 +1,99 @@
+/*
+ * Copyright 2026 The Error Prone Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.errorprone.refaster;
+
+import com.google.common.collect.ImmutableList;
+import com.google.errorprone.CodeTransformer;
+import com.google.errorprone.CodeTransformerArchive;
+import com.google.errorprone.benchmarks.AttributedCorpus;
+import com.google.errorprone.benchmarks.CompilerBenchmark;
+import com.google.errorprone.benchmarks.Corpus;
+import com.google.errorprone.benchmarks.DescriptionCounter;
+import com.sun.source.util.TreePath;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Loads a large pack of compiled Refaster rules and applies it to the first compilation unit, as
+ * {@code -XepPatchChecks:refaster:} does at the start of a build, from an archive and from the
+ * single serialized transformer that older versions wrote.
+ *
+ * <p>Each measurement is a single cold load. Run with {@code -prof gc} to compare the allocations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 20)
+public class RefasterArchiveBenchmark extends CompilerBenchmark {
+
+  /** How the rules are stored. */
+  public enum Format {
+    ARCHIVE,
+    LEGACY,
+  }
+
+  @Param({"ARCHIVE", "LEGACY"})
+  public Format format;
+
+  @Param({"LAMBDAS", "GENERATED"})
+  public Corpus corpus;
+
+  @Param({"500", "1000"})
+  public int rules;
+
+  private Path path;
+  private AttributedCorpus attributed;
+
+  @Setup
+  public void setUp() throws IOException {
+    ImmutableList<RefasterRule<?, ?>> pack = RulePack.largeRules(rules);
+    path = Files.createTempFile("rules", ".refaster");
+    switch (format) {
+      case ARCHIVE -> RulePack.writeArchive(pack, path);
+      case LEGACY -> RulePack.writeLegacy(pack, path);
+    }
+    attributed = AttributedCorpus.attribute(corpus.sources());
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    attributed.close();
+    Files.delete(path);
+  }
+
+  /** Returns the number of matches, which should be the same for both formats. */
+  @Benchmark
+  public int loadAndApply() throws IOException, ClassNotFoundException {
+    CodeTransformer transformer = CodeTransformerArchive.load(path);
+    DescriptionCounter counter = new DescriptionCounter();
+    transformer.apply(new TreePath(attributed.units().get(0)), attributed.context(), counter);
+    return counter.count();
+  }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2026 The Error Prone Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.errorprone.refaster;
+
+import com.google.common.collect.ImmutableList;
+import com.google.errorprone.benchmarks.AttributedCorpus;
+import com.google.errorprone.benchmarks.CompilerBenchmark;
+import com.google.errorprone.benchmarks.Corpus;
+import com.sun.tools.javac.tree.JCTree;
+import com.sun.tools.javac.tree.JCTree.JCCompilationUnit;
+import com.sun.tools.javac.tree.JCTree.JCExpression;
+import com.sun.tools.javac.tree.TreeScanner;
+import com.sun.tools.javac.util.Context;
+import java.util.ArrayList;
+import java.util.List;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Matches the before-templates of generic Refaster rules against every expression in a corpus, and
+ * reports how often a type-checking verdict was reused.
+ *
+ * <p>Verdicts are cached in the context a rule is applied with. Sharing one context per rule and
+ * compilation unit is what {@link RefasterRule} does; a new context per candidate never reuses a
+ * verdict, which is how matching behaved before the cache.
+ */
+@State(Scope.Benchmark)
+public class RefasterTypecheckBenchmark extends CompilerBenchmark {
+
+  /** The scope of the type-checking cache. */
+  public enum CacheScope {
+    UNIT,
+    CANDIDATE,
+  }
+
+  /** The cache's counters, summed over an iteration. */
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class Counters {
+    public long hits;
+    public long misses;
+    public long matches;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      hits = 0;
+      misses = 0;
+      matches = 0;
+    }
+  }
+
+  @Param({"GENERATED", "LAMBDAS", "PACKAGE"})
+  public Corpus corpus;
+
+  @Param({"UNIT", "CANDIDATE"})
+  public CacheScope cacheScope;
+
+  private AttributedCorpus attributed;
+  private ImmutableList<RefasterRule<?, ?>> rules;
+  private ImmutableList<ImmutableList<JCExpression>> candidates;
+
+  @Setup
+  public void setUp() {
+    rules = RulePack.genericRules();
+    attributed = AttributedCorpus.attribute(corpus.sources());
+    ImmutableList.Builder<ImmutableList<JCExpression>> candidates = ImmutableList.builder();
+    for (JCCompilationUnit unit : attributed.units()) {
+      List<JCExpression> expressions = new ArrayList<>();
+      new TreeScanner() {
+        @Override
+        public void scan(JCTree tree) {
+          if (tree instanceof JCExpression expression) {
+            expressions.add(expression);
+          }
+          super.scan(tree);
+        }
+      }.scan(unit);
+      candidates.add(ImmutableList.copyOf(expressions));
+    }
+    this.candidates = candidates.build();
+  }
+
+  @TearDown
+  public void tearDown() {
+    attributed.close();
+  }
+
+  @Benchmark
+  public void match(Counters counters) {
+    for (int i = 0; i < candidates.size(); i++) {
+      JCCompilationUnit unit = attributed.units().get(i);
+      for (RefasterRule<?, ?> rule : rules) {
+        Context ruleContext = rule.prepareContext(attributed.context(), unit);
+        for (JCExpression candidate : candidates.get(i)) {
+          if (cacheScope == CacheScope.CANDIDATE) {
+            record(counters, ruleContext);
+            ruleContext = rule.prepareContext(attributed.context(), unit);
+          }
+          for (Template<?> template : rule.beforeTemplates()) {
+            for (Object unused : template.match(candidate, ruleContext)) {
+              counters.matches++;
+            }
+          }
+        }
+        record(counters, ruleContext);
+      }
+    }
+  }
+
+  private static void record(Counters counters, Context ruleContext) {
+    TypecheckCache cache = TypecheckCache.instance(ruleContext);
+    counters.hits += cache.hits();
+    counters.misses += cache.misses();
+  }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2026 The Error Prone Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.errorprone.refaster;
+
+import com.google.common.collect.ImmutableList;
+import com.google.errorprone.CodeTransformer;
+import com.google.errorprone.CodeTransformerArchive;
+import com.google.errorprone.CompositeCodeTransformer;
+import com.google.errorprone.benchmarks.AttributedCorpus;
+import com.google.errorprone.benchmarks.Corpus;
+import com.sun.source.tree.ClassTree;
+import com.sun.source.util.TreeScanner;
+import com.sun.tools.javac.tree.JCTree.JCCompilationUnit;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+
+/** Compiles packs of Refaster rules for the Refaster benchmarks. */
+final class RulePack {
+
+  /** Hand-written rules whose templates are generic methods. */
+  static ImmutableList<RefasterRule<?, ?>> genericRules() {
+    return compile(ImmutableList.of(Corpus.resource("rules/GenericRules.java")));
+  }
+
+  /**
+   * The generic rules, plus {@code count} generated rules over {@code String} methods, as a large
+   * rule pack might have.
+   */
+  static ImmutableList<RefasterRule<?, ?>> largeRules(int count) {
+    return compile(
+        ImmutableList.of(Corpus.resource("rules/GenericRules.java"), generatedRules(count)));
+  }
+
+  private static final String[][] STRING_RULES = {
+    {"boolean", "s.indexOf(\"%s\") >= 0", "s.contains(\"%s\")"},
+    {"boolean", "s.lastIndexOf(\"%s\") == -1", "!s.contains(\"%s\")"},
+    {"String", "s.concat(\"%s\")", "s + \"%s\""},
+    {"boolean", "s.equals(\"%s\")", "\"%s\".equals(s)"},
+    {"String", "s.replaceAll(\"%s\", \"\")", "s.replace(\"%s\", \"\")"},
+    {"boolean", "s.compareTo(\"%s\") == 0", "s.equals(\"%s\")"},
+    {"String", "s.trim().concat(\"%s\")", "s.strip() + \"%s\""},
+    {"boolean", "s.toLowerCase().startsWith(\"%s\")", "s.regionMatches(true, 0, \"%s\", 0, 4)"},
+  };
+
+  private static JavaFileObject generatedRules(int count) {
+    StringBuilder source = new StringBuilder();
+    source
+        .append("package rules;\n")
+        .append("import com.google.errorprone.refaster.annotation.AfterTemplate;\n")
+        .append("import com.google.errorprone.refaster.annotation.BeforeTemplate;\n")
+        .append("public final class GeneratedRules {\n");
+    for (int i = 0; i < count; i++) {
+      String[] rule = STRING_RULES[i % STRING_RULES.length];
+      String literal = String.format("k%03d", i);
+      source
+          .append("  static final class Rule")
+          .append(i)
+          .append(" {\n")
+          .append("    @BeforeTemplate ")
+          .append(rule[0])
+          .append(" before(String s) { return ")
+          .append(String.format(rule[1], literal))
+          .append("; }\n")
+          .append("    @AfterTemplate ")
+          .append(rule[0])
+          .append(" after(String s) { return ")
+          .append(String.format(rule[2], literal))
+          .append("; }\n")
+          .append("  }\n");
+    }
+    source.append("}\n");
+    return new SimpleJavaFileObject(
+        URI.create("file:///rules/GeneratedRules.java"), JavaFileObject.Kind.SOURCE) {
+      @Override
+      public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+        return source;
+      }
+    };
+  }
+
+  private static ImmutableList<RefasterRule<?, ?>> compile(List<JavaFileObject> sources) {
+    List<RefasterRule<?, ?>> rules = new ArrayList<>();
+    try (AttributedCorpus attributed = AttributedCorpus.attribute(sources)) {
+      for (JCCompilationUnit unit : attributed.units()) {
+        new TreeScanner<Void, Void>() {
+          @Override
+          public Void visitClass(ClassTree node, Void unused) {
+            for (CodeTransformer rule :
+                RefasterRuleBuilderScanner.extractRules(node, attributed.context())) {
+              rules.add((RefasterRule<?, ?>) rule);
+            }
+            return super.visitClass(node, null);
+          }
+        }.scan(unit, null);
+      }
+    }
+    return ImmutableList.copyOf(rules);
+  }
+
+  /** Writes {@code rules} in the archive format that {@code RefasterRuleCompiler} produces. */
+  static void writeArchive(List<RefasterRule<?, ?>> rules, Path path) throws IOException {
+    List<CodeTransformerArchive.Entry> entries = new ArrayList<>(rules.size());
+    for (RefasterRule<?, ?> rule : rules) {
+      entries.add(CodeTransformerArchive.Entry.create(rule, rule.requiredIdentifiers()));
+    }
+    try (OutputStream output = new BufferedOutputStream(Files.newOutputStream(path))) {
+      CodeTransformerArchive.write(entries, output);
+    }
+  }
+
+  /** Writes {@code rules} as a single serialized transformer, as older versions did. */
+  static void writeLegacy(List<RefasterRule<?, ?>> rules, Path path) throws IOException {
+    try (ObjectOutputStream output =
+        new ObjectOutputStream(new BufferedOutputStream(Files.newOutputStream(path)))) {
+      output.writeObject(CompositeCodeTransformer.compose(rules));
+    }
+  }
+
+  private RulePack() {}
+}
@@ -0,0 +1,226 @@
+/*
+ * Copyright 2026 The Error Prone Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package lambdas;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/** Stream pipelines, lambdas, method references and generic methods, in the style of app code. */
+public final class Lambdas {
+
+  record Order(String id, String customer, List<Item> items, Optional<String> coupon) {}
+
+  record Item(String sku, int quantity, long priceCents) {}
+
+  record Summary<K>(K key, long count, long totalCents) {}
+
+  private final Map<String, List<Order>> ordersByCustomer = new HashMap<>();
+  private final Map<String, Long> discounts = new HashMap<>();
+
+  public List<Order> ordersFor(String customer) {
+    return ordersByCustomer.containsKey(customer)
+        ? ordersByCustomer.get(customer)
+        : Collections.emptyList();
+  }
+
+  public long discountFor(String coupon) {
+    return discounts.containsKey(coupon) ? discounts.get(coupon) : 0L;
+  }
+
+  public static long total(Order order) {
+    return order.items().stream().mapToLong(item -> item.quantity() * item.priceCents()).sum();
+  }
+
+  public List<String> bigSpenders(long thresholdCents) {
+    return ordersByCustomer.entrySet().stream()
+        .filter(e -> e.getValue().stream().mapToLong(Lambdas::total).sum() > thresholdCents)
+        .map(Map.Entry::getKey)
+        .sorted()
+        .collect(Collectors.toList());
+  }
+
+  public Map<String, Long> revenueBySku() {
+    return ordersByCustomer.values().stream()
+        .flatMap(List::stream)
+        .flatMap(order -> order.items().stream())
+        .collect(
+            Collectors.groupingBy(
+                Item::sku, Collectors.summingLong(item -> item.quantity() * item.priceCents())));
+  }
+
+  public <K> List<Summary<K>> summarize(Function<? super Order, ? extends K> classifier) {
+    Map<K, List<Order>> groups =
+        ordersByCustomer.values().stream()
+            .flatMap(Collection::stream)
+            .collect(Collectors.groupingBy(classifier));
+    return groups.entrySet().stream()
+        .map(
+            e ->
+                new Summary<K>(
+                    e.getKey(),
+                    e.getValue().size(),
+                    e.getValue().stream().mapToLong(Lambdas::total).sum()))
+        .sorted(Comparator.comparingLong((Summary<K> s) -> s.totalCents()).reversed())
+        .collect(Collectors.toList());
+  }
+
+  public Optional<Order> largestOrder(String customer) {
+    return ordersFor(customer).stream().max(Comparator.comparingLong(Lambdas::total));
+  }
+
+  public String couponOrDefault(Order order, String fallback) {
+    Optional<String> coupon = order.coupon();
+    return coupon.isPresent() ? coupon.get() : fallback;
+  }
+
+  public long couponDiscount(Order order) {
+    return order.coupon().map(this::discountFor).filter(d -> d > 0).orElse(0L);
+  }
+
+  public ImmutableSet<String> customersWithCoupons() {
+    return ordersByCustomer.entrySet().stream()
+        .filter(e -> e.getValue().stream().anyMatch(o -> o.coupon().isPresent()))
+        .map(Map.Entry::getKey)
+        .collect(ImmutableSet.toImmutableSet());
+  }
+
+  public List<Item> itemsMatching(Predicate<? super Item> predicate) {
+    List<Item> result = new ArrayList<>();
+    ordersByCustomer.forEach(
+        (customer, orders) ->
+            orders.forEach(
+                order ->
+                    order.items().stream().filter(predicate).forEach(result::add)));
+    return result;
+  }
+
+  public List<Item> singleItem(Item item) {
+    return Collections.singletonList(item);
+  }
+
+  public static <T, R> List<R> mapAll(Collection<? extends T> values, Function<? super T, R> f) {
+    return values.stream().map(f).collect(Collectors.toList());
+  }
+
+  public static <T> List<T> filterAll(Collection<T> values, Predicate<? super T> p) {
+    return values.stream().filter(p).collect(Collectors.toList());
+  }
+
+  public static <A, B, C> Function<A, C> compose(
+      Function<? super A, ? extends B> f, Function<? super B, ? extends C> g) {
+    return a -> g.apply(f.apply(a));
+  }
+
+  public static <T, U, R> Function<T, Function<U, R>> curry(BiFunction<T, U, R> f) {
+    return t -> u -> f.apply(t, u);
+  }
+
+  public static <T> Supplier<T> memoize(Supplier<T> delegate) {
+    List<T> cache = new ArrayList<>(1);
+    return () -> {
+      if (cache.isEmpty()) {
+        cache.add(delegate.get());
+      }
+      return cache.get(0);
+    };
+  }
+
+  public static <T> boolean sameElements(List<T> a, List<T> b) {
+    return IntStream.range(0, Math.min(a.size(), b.size()))
+            .allMatch(i -> Objects.equals(a.get(i), b.get(i)))
+        && a.size() == b.size();
+  }
+
+  public CompletableFuture<Map<String, Long>> totalsAsync(Executor executor) {
+    List<CompletableFuture<Map.Entry<String, Long>>> futures =
+        ordersByCustomer.entrySet().stream()
+            .map(
+                e ->
+                    CompletableFuture.supplyAsync(
+                        () ->
+                            Map.entry(
+                                e.getKey(),
+                                e.getValue().stream().mapToLong(Lambdas::total).sum()),
+                        executor))
+            .collect(Collectors.toList());
+    return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]))
+        .thenApply(
+            unused ->
+                futures.stream()
+                    .map(CompletableFuture::join)
+                    .collect(
+                        ImmutableMap.toImmutableMap(Map.Entry::getKey, Map.Entry::getValue)));
+  }
+
+  public List<String> skus(Order order) {
+    return order.items().isEmpty()
+        ? Collections.emptyList()
+        : order.items().stream().map(Item::sku).distinct().collect(Collectors.toList());
+  }
+
+  public ImmutableList<String> report() {
+    Function<Order, String> line =
+        order ->
+            String.format(
+                "%s %s %d %s",
+                order.id(),
+                order.customer(),
+                total(order),
+                order.coupon().map(c -> "coupon=" + c).orElse(""));
+    return ordersByCustomer.values().stream()
+        .flatMap(List::stream)
+        .sorted(Comparator.comparing(Order::customer).thenComparing(Order::id))
+        .map(line)
+        .collect(ImmutableList.toImmutableList());
+  }
+
+  public static Stream<List<Integer>> windows(List<Integer> values, int size) {
+    return IntStream.rangeClosed(0, values.size() - size)
+        .mapToObj(start -> values.subList(start, start + size));
+  }
+
+  public static Map<Boolean, List<Integer>> partition(List<Integer> values) {
+    return values.stream().collect(Collectors.partitioningBy(v -> v % 2 == 0));
+  }
+
+  public static Optional<Integer> firstPositive(List<Optional<Integer>> values) {
+    return values.stream().flatMap(Optional::stream).filter(v -> v > 0).findFirst();
+  }
+
+  public static <T extends Comparable<? super T>> List<T> topN(Collection<T> values, int n) {
+    return values.stream().sorted(Comparator.reverseOrder()).limit(n).collect(Collectors.toList());
+  }
+}
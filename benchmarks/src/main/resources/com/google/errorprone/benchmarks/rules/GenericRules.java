@@ -0,0 +1,145 @@
+/*
+ * Copyright 2026 The Error Prone Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package rules;
+
+import com.google.common.collect.ImmutableList;
+import com.google.errorprone.refaster.annotation.AfterTemplate;
+import com.google.errorprone.refaster.annotation.BeforeTemplate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/** Refaster rules whose templates are generic methods, so matching them needs type inference. */
+public final class GenericRules {
+
+  static final class EmptyList<T> {
+    @BeforeTemplate
+    List<T> before() {
+      return Collections.emptyList();
+    }
+
+    @AfterTemplate
+    List<T> after() {
+      return ImmutableList.of();
+    }
+  }
+
+  static final class SingletonList<T> {
+    @BeforeTemplate
+    List<T> before(T element) {
+      return Collections.singletonList(element);
+    }
+
+    @AfterTemplate
+    List<T> after(T element) {
+      return ImmutableList.of(element);
+    }
+  }
+
+  static final class StreamToList<T> {
+    @BeforeTemplate
+    List<T> before(Stream<T> stream) {
+      return stream.collect(Collectors.toList());
+    }
+
+    @AfterTemplate
+    List<T> after(Stream<T> stream) {
+      return stream.collect(Collectors.toCollection(ArrayList::new));
+    }
+  }
+
+  static final class OptionalOrElse<T> {
+    @BeforeTemplate
+    T before(Optional<T> optional, T fallback) {
+      return optional.isPresent() ? optional.get() : fallback;
+    }
+
+    @AfterTemplate
+    T after(Optional<T> optional, T fallback) {
+      return optional.orElse(fallback);
+    }
+  }
+
+  static final class OptionalMapOrElse<T, R> {
+    @BeforeTemplate
+    R before(Optional<T> optional, Function<? super T, ? extends R> f, R fallback) {
+      return optional.isPresent() ? f.apply(optional.get()) : fallback;
+    }
+
+    @AfterTemplate
+    R after(Optional<T> optional, Function<? super T, ? extends R> f, R fallback) {
+      return optional.<R>map(f).orElse(fallback);
+    }
+  }
+
+  static final class MapGetOrDefault<K, V> {
+    @BeforeTemplate
+    V before(Map<K, V> map, K key, V fallback) {
+      return map.containsKey(key) ? map.get(key) : fallback;
+    }
+
+    @AfterTemplate
+    V after(Map<K, V> map, K key, V fallback) {
+      return map.getOrDefault(key, fallback);
+    }
+  }
+
+  static final class FilterNonNull<T> {
+    @BeforeTemplate
+    Stream<T> before(Stream<T> stream) {
+      return stream.filter(x -> x != null);
+    }
+
+    @AfterTemplate
+    Stream<T> after(Stream<T> stream) {
+      return stream.filter(Objects::nonNull);
+    }
+  }
+
+  static final class NegatedFilter<T> {
+    @BeforeTemplate
+    Stream<T> before(Stream<T> stream, Predicate<? super T> predicate) {
+      return stream.filter(predicate.negate()::test);
+    }
+
+    @AfterTemplate
+    Stream<T> after(Stream<T> stream, Predicate<? super T> predicate) {
+      return stream.filter(Predicate.not(predicate));
+    }
+  }
+
+  static final class OfNullableIsPresent<T> {
+    @BeforeTemplate
+    boolean before(T value) {
+      return Optional.ofNullable(value).isPresent();
+    }
+
+    @AfterTemplate
+    boolean after(T value) {
+      return value != null;
+    }
+  }
+
+  private GenericRules() {}
+}
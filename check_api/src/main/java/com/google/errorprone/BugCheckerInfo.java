@@ -22,11 +22,14 @@ import static com.google.common.collect.ImmutableSet.toImmutableSet;
 import com.google.common.collect.ImmutableSet;
 import com.google.errorprone.BugPattern.SeverityLevel;
 import com.google.errorprone.bugpatterns.BugChecker;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Modifier;
 import java.util.Collections;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Stream;
 import org.jspecify.annotations.Nullable;
@@ -37,8 +40,8 @@ import org.jspecify.annotations.Nullable;
  */
 public class BugCheckerInfo implements Serializable {
 
-  /** The BugChecker class. */
-  private final Class<? extends BugChecker> checker;
+  /** The BugChecker class, which is only loaded once it's needed. */
+  private final CheckerClass checker;
 
   /**
    * The canonical name of this check. Corresponds to the {@code name} attribute from its {@code
@@ -85,36 +88,94 @@ public class BugCheckerInfo implements Serializable {
   private final boolean disableable;
 
   public static BugCheckerInfo create(Class<? extends BugChecker> checker) {
+    ClassLoader classLoader = checker.getClassLoader();
+    Optional<BugPatternIndex.Entry> entry =
+        classLoader != null
+            ? BugPatternIndex.lookup(checker.getName(), classLoader)
+            : Optional.empty();
+    if (entry.isPresent()) {
+      return fromIndex(new CheckerClass(checker), entry.get(), classLoader);
+    }
+    return create(checker, new CheckerClass(checker));
+  }
+
+  /**
+   * Creates a {@link BugCheckerInfo} for the check whose class has the binary name {@code
+   * className}. If the check is in the {@link BugPatternIndex}, its class isn't loaded until {@link
+   * #checkerClass} is called, e.g. to instantiate the check once it's enabled.
+   */
+  public static BugCheckerInfo create(String className, ClassLoader classLoader) {
+    Optional<BugPatternIndex.Entry> entry = BugPatternIndex.lookup(className, classLoader);
+    if (entry.isPresent()) {
+      return fromIndex(new CheckerClass(className, classLoader), entry.get(), classLoader);
+    }
+    CheckerClass checker = new CheckerClass(className, classLoader);
+    return create(checker.get(), checker);
+  }
+
+  private static BugCheckerInfo create(Class<? extends BugChecker> clazz, CheckerClass checker) {
     BugPattern pattern =
         checkNotNull(
-            checker.getAnnotation(BugPattern.class),
+            clazz.getAnnotation(BugPattern.class),
             "BugCheckers must be annotated with @BugPattern");
     checkArgument(
-        !(Modifier.isAbstract(checker.getModifiers())
-            || Modifier.isInterface(checker.getModifiers())),
+        !(Modifier.isAbstract(clazz.getModifiers()) || Modifier.isInterface(clazz.getModifiers())),
         "%s must be a concrete class",
-        checker);
+        clazz);
     try {
       BugPatternValidator.validate(pattern);
     } catch (ValidationException e) {
       throw new IllegalStateException(e);
     }
-    return new BugCheckerInfo(checker, pattern);
+    return new BugCheckerInfo(canonicalName(clazz.getSimpleName(), pattern), checker, pattern);
   }
 
-  private BugCheckerInfo(Class<? extends BugChecker> checker, BugPattern pattern) {
-    this(canonicalName(checker.getSimpleName(), pattern), checker, pattern);
+  /**
+   * Creates a {@link BugCheckerInfo} from the check's entry in the {@link BugPatternIndex}, which
+   * was validated when it was written.
+   */
+  private static BugCheckerInfo fromIndex(
+      CheckerClass checker, BugPatternIndex.Entry entry, ClassLoader classLoader) {
+    String canonicalName = entry.canonicalName();
+    ImmutableSet.Builder<Class<? extends Annotation>> customSuppressionAnnotations =
+        ImmutableSet.builder();
+    boolean supportsSuppressWarnings = false;
+    for (String annotation : entry.suppressionAnnotations()) {
+      String simpleName =
+          annotation.substring(
+              Math.max(annotation.lastIndexOf('.'), annotation.lastIndexOf('$')) + 1);
+      if (simpleName.equals("SuppressWarnings")) {
+        supportsSuppressWarnings = true;
+        continue;
+      }
+      try {
+        customSuppressionAnnotations.add(
+            Class.forName(annotation, false, classLoader).asSubclass(Annotation.class));
+      } catch (ClassNotFoundException e) {
+        throw new IllegalStateException(e);
+      }
+    }
+    return new BugCheckerInfo(
+        checker,
+        canonicalName,
+        ImmutableSet.<String>builder().add(canonicalName).addAll(entry.altNames()).build(),
+        entry.summary(),
+        entry.severity(),
+        createLinkUrl(canonicalName, entry.linkType(), entry.link()),
+        supportsSuppressWarnings,
+        customSuppressionAnnotations.build(),
+        ImmutableSet.copyOf(entry.tags()),
+        entry.disableable());
   }
 
-  private BugCheckerInfo(
-      String canonicalName, Class<? extends BugChecker> checker, BugPattern pattern) {
+  private BugCheckerInfo(String canonicalName, CheckerClass checker, BugPattern pattern) {
     this(
         checker,
         canonicalName,
         ImmutableSet.<String>builder().add(canonicalName).add(pattern.altNames()).build(),
         pattern.summary(),
         pattern.severity(),
-        createLinkUrl(canonicalName, pattern),
+        createLinkUrl(canonicalName, pattern.linkType(), pattern.link()),
         Stream.of(pattern.suppressionAnnotations()).anyMatch(a -> isSuppressWarnings(a)),
         Stream.of(pattern.suppressionAnnotations())
             .filter(a -> !isSuppressWarnings(a))
@@ -124,7 +185,7 @@ public class BugCheckerInfo implements Serializable {
   }
 
   private BugCheckerInfo(
-      Class<? extends BugChecker> checker,
+      CheckerClass checker,
       String canonicalName,
       ImmutableSet<String> allNames,
       String message,
@@ -172,17 +233,18 @@ public class BugCheckerInfo implements Serializable {
         disableable);
   }
 
-  private static @Nullable String createLinkUrl(String canonicalName, BugPattern pattern) {
-    return switch (pattern.linkType()) {
+  private static @Nullable String createLinkUrl(
+      String canonicalName, BugPattern.LinkType linkType, String link) {
+    return switch (linkType) {
       case AUTOGENERATED -> String.format("https://errorprone.info/bugpattern/%s", canonicalName);
       case CUSTOM -> {
         // annotation.link() must be provided.
-        if (pattern.link().isEmpty()) {
+        if (link.isEmpty()) {
           throw new IllegalStateException(
               "If linkType element of @BugPattern is CUSTOM, "
                   + "a link element must also be provided.");
         }
-        yield pattern.link();
+        yield link;
       }
       case NONE -> null;
     };
@@ -235,13 +297,18 @@ public class BugCheckerInfo implements Serializable {
     return tags;
   }
 
+  /** The binary name of the check's class, which unlike {@link #checkerClass} doesn't load it. */
+  public String checkerClassName() {
+    return checker.name;
+  }
+
   public Class<? extends BugChecker> checkerClass() {
-    return checker;
+    return checker.get();
   }
 
   @Override
   public int hashCode() {
-    return checker.hashCode();
+    return checker.name.hashCode();
   }
 
   @Override
@@ -249,11 +316,55 @@ public class BugCheckerInfo implements Serializable {
     if (!(o instanceof BugCheckerInfo)) {
       return false;
     }
-    return checker.equals(((BugCheckerInfo) o).checker);
+    return checker.name.equals(((BugCheckerInfo) o).checker.name);
   }
 
   @Override
   public String toString() {
     return canonicalName;
   }
+
+  /**
+   * A check's class, which is loaded by name the first time it's needed. Copies made by {@link
+   * #withCustomDefaultSeverity} share it, so it's loaded at most once.
+   */
+  private static final class CheckerClass implements Serializable {
+    private final String name;
+    private transient @Nullable ClassLoader classLoader;
+    private volatile @Nullable Class<? extends BugChecker> checker;
+
+    CheckerClass(Class<? extends BugChecker> checker) {
+      this.name = checker.getName();
+      this.checker = checker;
+    }
+
+    CheckerClass(String name, ClassLoader classLoader) {
+      this.name = name;
+      this.classLoader = classLoader;
+    }
+
+    Class<? extends BugChecker> get() {
+      Class<? extends BugChecker> result = checker;
+      if (result == null) {
+        synchronized (this) {
+          result = checker;
+          if (result == null) {
+            try {
+              result = Class.forName(name, false, classLoader).asSubclass(BugChecker.class);
+            } catch (ClassNotFoundException e) {
+              throw new IllegalStateException(e);
+            }
+            checker = result;
+            classLoader = null;
+          }
+        }
+      }
+      return result;
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+      get();
+      out.defaultWriteObject();
+    }
+  }
 }
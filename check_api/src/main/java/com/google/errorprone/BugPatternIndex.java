@@ -0,0 +1,210 @@
+/*
+ * Copyright 2026 The Error Prone Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.errorprone;
+
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.google.auto.value.AutoValue;
+import com.google.common.base.Splitter;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.errorprone.BugPattern.LinkType;
+import com.google.errorprone.BugPattern.SeverityLevel;
+import com.google.errorprone.bugpatterns.BugChecker;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Reads the {@code @BugPattern} metadata which the {@code BugPatternIndexProcessor} writes at build
+ * time, so that {@link BugCheckerInfo} doesn't have to load every check on the classpath, including
+ * the ones which are then disabled, to read their annotations.
+ *
+ * <p>The index is a UTF-8 text file with one line per check, and these tab-separated fields:
+ *
+ * <ol>
+ *   <li>the binary name of the check's class
+ *   <li>the check's canonical name
+ *   <li>the {@link BugPattern#altNames}, comma-separated
+ *   <li>the {@link BugPattern#summary}
+ *   <li>the name of the {@link BugPattern#severity}
+ *   <li>the name of the {@link BugPattern#linkType}
+ *   <li>the {@link BugPattern#link}
+ *   <li>the {@link BugPattern#tags}, comma-separated
+ *   <li>the binary names of the {@link BugPattern#suppressionAnnotations}, comma-separated
+ *   <li>{@link BugPattern#disableable}, as {@code true} or {@code false}
+ * </ol>
+ *
+ * Within a field, backslashes, tabs, newlines, carriage returns and commas are escaped as {@code
+ * \\}, {@code \t}, {@code \n}, {@code \r} and {@code \c}.
+ *
+ * <p>Checks which were compiled without the processor, such as those in a subset of files
+ * recompiled incrementally, are simply not in the index, and their annotations are read
+ * reflectively instead. Like {@code META-INF/services} files, the index is trusted once it's
+ * written, so a check whose annotation was changed and recompiled without the processor needs a
+ * clean build.
+ */
+final class BugPatternIndex {
+
+  static final String INDEX = "META-INF/errorprone/bugpatterns.index";
+
+  /** The metadata of a single check. */
+  @AutoValue
+  abstract static class Entry {
+    abstract String className();
+
+    abstract String canonicalName();
+
+    abstract ImmutableList<String> altNames();
+
+    abstract String summary();
+
+    abstract SeverityLevel severity();
+
+    abstract LinkType linkType();
+
+    abstract String link();
+
+    abstract ImmutableList<String> tags();
+
+    abstract ImmutableList<String> suppressionAnnotations();
+
+    abstract boolean disableable();
+  }
+
+  /** The entries of the indices visible to each class loader, by class name. */
+  private static final Map<ClassLoader, ImmutableMap<String, Entry>> indices = new WeakHashMap<>();
+
+  /**
+   * Returns the index entry for the class named {@code className}, if it's in an index visible to
+   * {@code classLoader}.
+   */
+  static Optional<Entry> lookup(String className, ClassLoader classLoader) {
+    ImmutableMap<String, Entry> index;
+    synchronized (indices) {
+      index = indices.computeIfAbsent(classLoader, BugPatternIndex::load);
+    }
+    return Optional.ofNullable(index.get(className));
+  }
+
+  /** Returns the entry the processor would write for {@code checker}'s {@code @BugPattern}. */
+  static Entry describe(Class<? extends BugChecker> checker, BugPattern pattern) {
+    return new AutoValue_BugPatternIndex_Entry(
+        checker.getName(),
+        BugCheckerInfo.canonicalName(checker.getSimpleName(), pattern),
+        ImmutableList.copyOf(pattern.altNames()),
+        pattern.summary(),
+        pattern.severity(),
+        pattern.linkType(),
+        pattern.link(),
+        ImmutableList.copyOf(pattern.tags()),
+        Stream.of(pattern.suppressionAnnotations()).map(Class::getName).collect(toImmutableList()),
+        pattern.disableable());
+  }
+
+  private static ImmutableMap<String, Entry> load(ClassLoader classLoader) {
+    Map<String, Entry> entries = new HashMap<>();
+    try {
+      Enumeration<URL> resources = classLoader.getResources(INDEX);
+      while (resources.hasMoreElements()) {
+        try (BufferedReader reader =
+            new BufferedReader(
+                new InputStreamReader(resources.nextElement().openStream(), UTF_8))) {
+          String line;
+          while ((line = reader.readLine()) != null) {
+            if (!line.isEmpty()) {
+              Entry entry = parse(line);
+              entries.putIfAbsent(entry.className(), entry);
+            }
+          }
+        }
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return ImmutableMap.copyOf(entries);
+  }
+
+  private static final Splitter FIELD_SPLITTER = Splitter.on('\t');
+
+  private static final Splitter LIST_SPLITTER = Splitter.on(',');
+
+  static Entry parse(String line) {
+    List<String> fields = FIELD_SPLITTER.splitToList(line);
+    if (fields.size() != 10) {
+      throw new IllegalStateException("Malformed line in " + INDEX + ": " + line);
+    }
+    return new AutoValue_BugPatternIndex_Entry(
+        unescape(fields.get(0)),
+        unescape(fields.get(1)),
+        list(fields.get(2)),
+        unescape(fields.get(3)),
+        SeverityLevel.valueOf(fields.get(4)),
+        LinkType.valueOf(fields.get(5)),
+        unescape(fields.get(6)),
+        list(fields.get(7)),
+        list(fields.get(8)),
+        Boolean.parseBoolean(fields.get(9)));
+  }
+
+  private static ImmutableList<String> list(String field) {
+    if (field.isEmpty()) {
+      return ImmutableList.of();
+    }
+    ImmutableList.Builder<String> result = ImmutableList.builder();
+    for (String value : LIST_SPLITTER.split(field)) {
+      result.add(unescape(value));
+    }
+    return result.build();
+  }
+
+  private static String unescape(String value) {
+    if (value.indexOf('\\') < 0) {
+      return value;
+    }
+    StringBuilder result = new StringBuilder(value.length());
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (c != '\\' || i + 1 == value.length()) {
+        result.append(c);
+        continue;
+      }
+      char escaped = value.charAt(++i);
+      result.append(
+          switch (escaped) {
+            case 't' -> '\t';
+            case 'n' -> '\n';
+            case 'r' -> '\r';
+            case 'c' -> ',';
+            default -> escaped;
+          });
+    }
+    return result.toString();
+  }
+
+  private BugPatternIndex() {}
+}
@@ -0,0 +1,516 @@
+/*
+ * Copyright 2026 The Error Prone Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.errorprone;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.auto.value.AutoValue;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableClassToInstanceMap;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.sun.source.tree.CompilationUnitTree;
+import com.sun.source.tree.IdentifierTree;
+import com.sun.source.tree.MemberSelectTree;
+import com.sun.source.tree.Tree;
+import com.sun.source.util.TreePath;
+import com.sun.source.util.TreeScanner;
+import com.sun.tools.javac.util.Context;
+import com.sun.tools.javac.util.Name;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A versioned file format for compiled {@link CodeTransformer}s, e.g. Refaster rules, which are
+ * only deserialized once a compilation unit might match them.
+ *
+ * <p>The file starts with a directory listing, for each transformer, the identifiers that a
+ * compilation unit must contain for it to match, followed by the serialized transformers. The
+ * directory is read eagerly, and the rest of the file is mapped into memory and deserialized one
+ * transformer at a time. The class descriptors of all the transformers are written once, in a table
+ * ahead of the transformers, which refer to them by index, since most rules are made of the same
+ * classes.
+ *
+ * <p>The transformers are written with Java serialization, so an archive is only valid for the
+ * version of Error Prone that wrote it, and rules must be recompiled after upgrading. The header
+ * records that version, when it's known, and reading an archive written by another version fails
+ * with a request to recompile the rules. A rule whose classes have changed incompatibly since it
+ * was written, e.g. with a locally built snapshot, fails the same way when it is loaded.
+ */
+public final class CodeTransformerArchive {
+
+  private static final int MAGIC = 0x45505254; // "EPRT"
+
+  private static final String RECOMPILE = "recompile the rules with this version of Error Prone";
+  private static final int VERSION = 3;
+
+  /** The version of Error Prone, or an empty string if it isn't known. */
+  private static final String ERROR_PRONE_VERSION = ErrorProneVersion.loadVersionFromPom().or("");
+
+  /** A transformer to write to an archive. */
+  @AutoValue
+  public abstract static class Entry {
+    /**
+     * Creates an entry for {@code transformer}.
+     *
+     * @param requiredIdentifiers sets of identifiers, one of which a compilation unit must contain
+     *     entirely for {@code transformer} to match it; if any of them is empty, the transformer
+     *     may match any compilation unit.
+     */
+    public static Entry create(
+        CodeTransformer transformer, ImmutableList<ImmutableSet<String>> requiredIdentifiers) {
+      return new AutoValue_CodeTransformerArchive_Entry(transformer, requiredIdentifiers);
+    }
+
+    abstract CodeTransformer transformer();
+
+    abstract ImmutableList<ImmutableSet<String>> requiredIdentifiers();
+  }
+
+  /** Returns true if {@code in} starts with the header of an archive, and resets it. */
+  public static boolean isArchive(InputStream in) throws IOException {
+    checkArgument(in.markSupported());
+    in.mark(Integer.BYTES);
+    try {
+      return new DataInputStream(in).readInt() == MAGIC;
+    } catch (IOException e) {
+      return false;
+    } finally {
+      in.reset();
+    }
+  }
+
+  /** Writes an archive of the given transformers, which must be {@link java.io.Serializable}. */
+  public static void write(List<Entry> entries, OutputStream out) throws IOException {
+    DescriptorTableOutput descriptors = new DescriptorTableOutput();
+    List<byte[]> payloads = new ArrayList<>(entries.size());
+    for (Entry entry : entries) {
+      ByteArrayOutputStream payload = new ByteArrayOutputStream();
+      try (ObjectOutputStream output = new PayloadOutputStream(payload, descriptors)) {
+        output.writeObject(entry.transformer());
+      }
+      payloads.add(payload.toByteArray());
+    }
+    byte[] table = descriptors.toByteArray();
+    DataOutputStream output = new DataOutputStream(out);
+    output.writeInt(MAGIC);
+    output.writeInt(VERSION);
+    output.writeUTF(ERROR_PRONE_VERSION);
+    output.writeInt(entries.size());
+    for (int i = 0; i < entries.size(); i++) {
+      ImmutableList<ImmutableSet<String>> requiredIdentifiers =
+          entries.get(i).requiredIdentifiers();
+      output.writeInt(requiredIdentifiers.size());
+      for (ImmutableSet<String> identifiers : requiredIdentifiers) {
+        output.writeInt(identifiers.size());
+        for (String identifier : identifiers) {
+          output.writeUTF(identifier);
+        }
+      }
+      output.writeInt(payloads.get(i).length);
+    }
+    output.writeInt(table.length);
+    output.write(table);
+    for (byte[] payload : payloads) {
+      output.write(payload);
+    }
+    output.flush();
+  }
+
+  /**
+   * Reads the compiled transformer at {@code path}, which is either an archive or, for rules
+   * compiled by older versions, a single serialized transformer.
+   */
+  public static CodeTransformer load(Path path) throws IOException, ClassNotFoundException {
+    try (InputStream in = new BufferedInputStream(Files.newInputStream(path))) {
+      if (isArchive(in)) {
+        return read(path);
+      }
+      return (CodeTransformer) new ObjectInputStream(in).readObject();
+    }
+  }
+
+  /** Reads the archive at {@code path}. */
+  public static CodeTransformer read(Path path) throws IOException {
+    return read(path, ERROR_PRONE_VERSION);
+  }
+
+  @VisibleForTesting
+  static CodeTransformer read(Path path, String errorProneVersion) throws IOException {
+    ByteBuffer buffer;
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+    }
+    int magic = buffer.getInt();
+    if (magic != MAGIC) {
+      throw new IOException(path + " is not a compiled transformer archive");
+    }
+    int version = buffer.getInt();
+    if (version != VERSION) {
+      throw new IOException(
+          String.format("%s has version %d; expected version %d", path, version, VERSION));
+    }
+    DataInputStream input = new DataInputStream(new ByteBufferInputStream(buffer));
+    String writtenBy = input.readUTF();
+    if (!writtenBy.isEmpty()
+        && !errorProneVersion.isEmpty()
+        && !writtenBy.equals(errorProneVersion)) {
+      throw new IOException(
+          String.format(
+              "%s was compiled by Error Prone %s, but this is Error Prone %s; %s",
+              path, writtenBy, errorProneVersion, RECOMPILE));
+    }
+    int size = input.readInt();
+    ImmutableList.Builder<ImmutableList<ImmutableSet<String>>> requiredIdentifiers =
+        ImmutableList.builderWithExpectedSize(size);
+    int[] lengths = new int[size];
+    for (int i = 0; i < size; i++) {
+      int alternatives = input.readInt();
+      ImmutableList.Builder<ImmutableSet<String>> entry = ImmutableList.builder();
+      for (int j = 0; j < alternatives; j++) {
+        int count = input.readInt();
+        ImmutableSet.Builder<String> identifiers = ImmutableSet.builderWithExpectedSize(count);
+        for (int k = 0; k < count; k++) {
+          identifiers.add(input.readUTF());
+        }
+        entry.add(identifiers.build());
+      }
+      requiredIdentifiers.add(entry.build());
+      lengths[i] = input.readInt();
+    }
+    int tableLength = input.readInt();
+    int tableOffset = buffer.position();
+    int[] offsets = new int[size];
+    int offset = tableOffset + tableLength;
+    for (int i = 0; i < size; i++) {
+      offsets[i] = offset;
+      offset += lengths[i];
+    }
+    if (offset != buffer.limit()) {
+      throw new IOException(path + " is truncated");
+    }
+    return new LazyTransformer(
+        path, buffer, tableOffset, tableLength, offsets, lengths, requiredIdentifiers.build());
+  }
+
+  private static final Context.Key<LastScanned> IDENTIFIERS_KEY = new Context.Key<>();
+
+  /** Holds the identifiers of the most recently scanned compilation unit. */
+  private static final class LastScanned {
+    private @Nullable JavacInvocationInstance invocation;
+    private @Nullable CompilationUnitTree compilationUnit;
+    private @Nullable ImmutableSet<String> identifiers;
+  }
+
+  /**
+   * Returns the names of the identifiers and member selections in {@code compilationUnit}. The
+   * names are computed once per compilation unit and shared by every transformer applied to it;
+   * only the most recently requested unit's names are retained.
+   */
+  public static ImmutableSet<String> identifiersIn(
+      CompilationUnitTree compilationUnit, Context context) {
+    LastScanned lastScanned = context.get(IDENTIFIERS_KEY);
+    if (lastScanned == null) {
+      lastScanned = new LastScanned();
+      context.put(IDENTIFIERS_KEY, lastScanned);
+    }
+    // A reused context may hold the names of a unit from an earlier invocation.
+    JavacInvocationInstance invocation = JavacInvocationInstance.instance(context);
+    if (lastScanned.invocation != invocation
+        || lastScanned.compilationUnit != compilationUnit
+        || lastScanned.identifiers == null) {
+      lastScanned.invocation = invocation;
+      lastScanned.compilationUnit = compilationUnit;
+      lastScanned.identifiers = identifiersIn(compilationUnit);
+    }
+    return lastScanned.identifiers;
+  }
+
+  /** Returns the names of the identifiers and member selections in {@code tree}. */
+  public static ImmutableSet<String> identifiersIn(Tree tree) {
+    Set<Name> names = new HashSet<>();
+    new TreeScanner<Void, Void>() {
+      @Override
+      public Void visitIdentifier(IdentifierTree node, Void unused) {
+        names.add((Name) node.getName());
+        return null;
+      }
+
+      @Override
+      public Void visitMemberSelect(MemberSelectTree node, Void unused) {
+        names.add((Name) node.getIdentifier());
+        return super.visitMemberSelect(node, null);
+      }
+    }.scan(tree, null);
+    ImmutableSet.Builder<String> result = ImmutableSet.builderWithExpectedSize(names.size());
+    for (Name name : names) {
+      result.add(name.toString());
+    }
+    return result.build();
+  }
+
+  /**
+   * Returns true if {@code identifiers} contains every identifier of one of the sets of {@code
+   * requiredIdentifiers}.
+   */
+  public static boolean mightMatch(
+      ImmutableList<ImmutableSet<String>> requiredIdentifiers, Set<String> identifiers) {
+    return requiredIdentifiers.isEmpty()
+        || requiredIdentifiers.stream().anyMatch(identifiers::containsAll);
+  }
+
+  private static final class LazyTransformer implements CodeTransformer {
+    private final Path path;
+    private final ByteBuffer buffer;
+    private final int tableOffset;
+    private final int tableLength;
+    private final int[] offsets;
+    private final int[] lengths;
+    private final ImmutableList<ImmutableList<ImmutableSet<String>>> requiredIdentifiers;
+
+    private final @Nullable CodeTransformer[] loaded;
+    private final BitSet loadedIndices = new BitSet();
+    private CodeTransformer composite = CompositeCodeTransformer.compose();
+    private @Nullable List<ObjectStreamClass> descriptors;
+
+    LazyTransformer(
+        Path path,
+        ByteBuffer buffer,
+        int tableOffset,
+        int tableLength,
+        int[] offsets,
+        int[] lengths,
+        ImmutableList<ImmutableList<ImmutableSet<String>>> requiredIdentifiers) {
+      this.path = path;
+      this.buffer = buffer;
+      this.tableOffset = tableOffset;
+      this.tableLength = tableLength;
+      this.offsets = offsets;
+      this.lengths = lengths;
+      this.requiredIdentifiers = requiredIdentifiers;
+      this.loaded = new CodeTransformer[offsets.length];
+    }
+
+    @Override
+    public void apply(TreePath path, Context context, DescriptionListener listener) {
+      composite(path, context).apply(path, context, listener);
+    }
+
+    /**
+     * Loads any transformers that might match the compilation unit, and returns all loaded ones.
+     */
+    private synchronized CodeTransformer composite(TreePath path, Context context) {
+      if (loadedIndices.cardinality() == loaded.length) {
+        return composite;
+      }
+      ImmutableSet<String> identifiers = identifiersIn(path.getCompilationUnit(), context);
+      boolean changed = false;
+      for (int i = loadedIndices.nextClearBit(0);
+          i < loaded.length;
+          i = loadedIndices.nextClearBit(i + 1)) {
+        if (mightMatch(requiredIdentifiers.get(i), identifiers)) {
+          loaded[i] = load(i);
+          loadedIndices.set(i);
+          changed = true;
+        }
+      }
+      if (changed) {
+        // Keep the transformers in the order they were written, so matches are reported in the
+        // same order regardless of which were loaded first.
+        List<CodeTransformer> transformers = new ArrayList<>(loadedIndices.cardinality());
+        for (int i = loadedIndices.nextSetBit(0); i >= 0; i = loadedIndices.nextSetBit(i + 1)) {
+          transformers.add(loaded[i]);
+        }
+        composite = CompositeCodeTransformer.compose(transformers);
+      }
+      return composite;
+    }
+
+    private CodeTransformer load(int index) {
+      try {
+        if (descriptors == null) {
+          // The classes are only resolved once the first transformer is needed.
+          descriptors = readDescriptors(slice(tableOffset, tableLength));
+        }
+        try (ObjectInputStream input =
+            new PayloadInputStream(slice(offsets[index], lengths[index]), descriptors)) {
+          return (CodeTransformer) input.readObject();
+        }
+      } catch (InvalidClassException | ClassNotFoundException e) {
+        // The classes of the rule have changed since the archive was written.
+        throw new IllegalStateException(
+            String.format(
+                "Can't load Refaster rule from %s, which was compiled by a different version of"
+                    + " Error Prone; %s",
+                this.path, RECOMPILE),
+            e);
+      } catch (IOException e) {
+        throw new RuntimeException("Can't load Refaster rule from " + this.path, e);
+      }
+    }
+
+    private InputStream slice(int offset, int length) {
+      byte[] bytes = new byte[length];
+      buffer.get(offset, bytes);
+      return new ByteArrayInputStream(bytes);
+    }
+
+    @Override
+    public ImmutableClassToInstanceMap<Annotation> annotations() {
+      return ImmutableClassToInstanceMap.of();
+    }
+  }
+
+  /**
+   * The class descriptors of every transformer in an archive. Each descriptor is written once, to a
+   * table which the transformers refer to by index, rather than once per transformer.
+   */
+  private static final class DescriptorTableOutput {
+    private final Map<ObjectStreamClass, Integer> indices = new HashMap<>();
+    private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    private final ObjectOutputStream table;
+
+    DescriptorTableOutput() throws IOException {
+      this.table = new ObjectOutputStream(bytes);
+    }
+
+    /** Returns the index of {@code descriptor} in the table, adding it if necessary. */
+    int indexOf(ObjectStreamClass descriptor) throws IOException {
+      Integer index = indices.get(descriptor);
+      if (index == null) {
+        index = indices.size();
+        indices.put(descriptor, index);
+        // Written as a class descriptor, which is validated against the local class when read.
+        table.writeObject(descriptor);
+      }
+      return index;
+    }
+
+    byte[] toByteArray() throws IOException {
+      table.writeObject(null);
+      table.flush();
+      return bytes.toByteArray();
+    }
+  }
+
+  private static List<ObjectStreamClass> readDescriptors(InputStream in)
+      throws IOException, ClassNotFoundException {
+    List<ObjectStreamClass> descriptors = new ArrayList<>();
+    try (ObjectInputStream table = new ObjectInputStream(in)) {
+      for (Object descriptor = table.readObject();
+          descriptor != null;
+          descriptor = table.readObject()) {
+        descriptors.add((ObjectStreamClass) descriptor);
+      }
+    }
+    return descriptors;
+  }
+
+  /** Writes a transformer, with its class descriptors replaced by indices into the table. */
+  private static final class PayloadOutputStream extends ObjectOutputStream {
+    private final DescriptorTableOutput descriptors;
+
+    PayloadOutputStream(OutputStream out, DescriptorTableOutput descriptors) throws IOException {
+      super(out);
+      this.descriptors = descriptors;
+    }
+
+    @Override
+    protected void writeStreamHeader() {}
+
+    @Override
+    protected void writeClassDescriptor(ObjectStreamClass descriptor) throws IOException {
+      writeInt(descriptors.indexOf(descriptor));
+    }
+  }
+
+  /** Reads a transformer written by {@link PayloadOutputStream}. */
+  private static final class PayloadInputStream extends ObjectInputStream {
+    private final List<ObjectStreamClass> descriptors;
+
+    PayloadInputStream(InputStream in, List<ObjectStreamClass> descriptors) throws IOException {
+      super(in);
+      this.descriptors = descriptors;
+    }
+
+    @Override
+    protected void readStreamHeader() {}
+
+    @Override
+    protected ObjectStreamClass readClassDescriptor() throws IOException {
+      return descriptors.get(readInt());
+    }
+
+    @Override
+    protected Class<?> resolveClass(ObjectStreamClass descriptor)
+        throws IOException, ClassNotFoundException {
+      // The descriptors in the table were resolved when it was read.
+      Class<?> resolved = descriptor.forClass();
+      return resolved != null ? resolved : super.resolveClass(descriptor);
+    }
+  }
+
+  /** An {@link InputStream} reading from the current position of a {@link ByteBuffer}. */
+  private static final class ByteBufferInputStream extends InputStream {
+    private final ByteBuffer buffer;
+
+    ByteBufferInputStream(ByteBuffer buffer) {
+      this.buffer = buffer;
+    }
+
+    @Override
+    public int read() {
+      return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int length) {
+      if (!buffer.hasRemaining()) {
+        return -1;
+      }
+      int count = Math.min(length, buffer.remaining());
+      buffer.get(bytes, offset, count);
+      return count;
+    }
+  }
+
+  private CodeTransformerArchive() {}
+}
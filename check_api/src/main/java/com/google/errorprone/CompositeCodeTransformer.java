@@ -17,12 +17,15 @@
 package com.google.errorprone;
 
 import com.google.auto.value.AutoValue;
+import com.google.auto.value.extension.memoized.Memoized;
 import com.google.common.collect.ImmutableClassToInstanceMap;
 import com.google.common.collect.ImmutableList;
 import com.sun.source.util.TreePath;
 import com.sun.tools.javac.util.Context;
 import java.io.Serializable;
 import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.List;
 
 /** Combines multiple {@code CodeTransformer}s into one. */
 @AutoValue
@@ -41,11 +44,60 @@ public abstract class CompositeCodeTransformer implements CodeTransformer, Seria
 
   @Override
   public void apply(TreePath path, Context context, DescriptionListener listener) {
-    for (CodeTransformer transformer : transformers()) {
+    for (CodeTransformer transformer : combinedTransformers()) {
       transformer.apply(path, context, listener);
     }
   }
 
+  /**
+   * The {@link #transformers}, with each run of consecutive {@link Combinable} transformers that
+   * share a {@link Combiner} replaced by their combination.
+   */
+  @Memoized
+  ImmutableList<CodeTransformer> combinedTransformers() {
+    ImmutableList.Builder<CodeTransformer> result = ImmutableList.builder();
+    List<Combinable> run = new ArrayList<>();
+    for (CodeTransformer transformer : transformers()) {
+      if (!run.isEmpty()
+          && !(transformer instanceof Combinable combinable
+              && combinable.combiner().equals(run.get(0).combiner()))) {
+        result.add(combine(run));
+        run.clear();
+      }
+      if (transformer instanceof Combinable combinable) {
+        run.add(combinable);
+      } else {
+        result.add(transformer);
+      }
+    }
+    if (!run.isEmpty()) {
+      result.add(combine(run));
+    }
+    return result.build();
+  }
+
+  private static CodeTransformer combine(List<Combinable> run) {
+    return run.size() == 1 ? run.get(0) : run.get(0).combiner().combine(ImmutableList.copyOf(run));
+  }
+
+  /**
+   * A {@link CodeTransformer} that can be applied in a single pass together with other transformers
+   * of the same kind, e.g. a Refaster rule.
+   */
+  public interface Combinable extends CodeTransformer {
+    /** Returns the {@link Combiner} shared by all transformers this one can be combined with. */
+    Combiner combiner();
+  }
+
+  /** Combines {@link Combinable} transformers. */
+  public interface Combiner {
+    /**
+     * Returns a transformer that reports the same descriptions, in the same order, as applying each
+     * of {@code transformers} in turn.
+     */
+    CodeTransformer combine(ImmutableList<Combinable> transformers);
+  }
+
   @Override
   public ImmutableClassToInstanceMap<Annotation> annotations() {
     return ImmutableClassToInstanceMap.of();
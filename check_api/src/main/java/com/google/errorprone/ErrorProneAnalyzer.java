@@ -182,6 +182,7 @@ public class ErrorProneAnalyzer implements TaskListener {
     Context errorProneContext = new SubContext(context);
     errorProneContext.put(ErrorProneOptions.class, errorProneOptions);
     this.context = errorProneContext;
+    ErrorProneTimings.instance(context).configure(errorProneOptions);
   }
 
   private int errorProneErrors = 0;
@@ -26,10 +26,7 @@ import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.errorprone.apply.ImportOrganizer;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.ObjectInputStream;
 import java.nio.file.FileSystems;
-import java.nio.file.Files;
 import java.util.Arrays;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -442,16 +439,15 @@ public class ErrorProneOptions {
             patchCheckSet = true;
             String remaining = arg.substring(PATCH_CHECKS_PREFIX.length());
             if (remaining.startsWith("refaster:")) {
-              // Refaster rule, load from InputStream at file
+              // Refaster rule, load from file
               builder
                   .patchingOptionsBuilder()
                   .customRefactorer(
                       () -> {
                         String path = remaining.substring("refaster:".length());
-                        try (InputStream in =
-                                Files.newInputStream(FileSystems.getDefault().getPath(path));
-                            ObjectInputStream ois = new ObjectInputStream(in)) {
-                          return (CodeTransformer) ois.readObject();
+                        try {
+                          return CodeTransformerArchive.load(
+                              FileSystems.getDefault().getPath(path));
                         } catch (IOException | ClassNotFoundException e) {
                           throw new RuntimeException("Can't load Refaster rule from " + path, e);
                         }
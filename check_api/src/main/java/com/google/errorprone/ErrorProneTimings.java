@@ -16,21 +16,30 @@
 
 package com.google.errorprone;
 
-import static com.google.common.collect.ImmutableMap.toImmutableMap;
-
 import com.google.common.base.Stopwatch;
 import com.google.common.collect.ImmutableMap;
 import com.google.errorprone.matchers.Suppressible;
+import com.sun.management.ThreadMXBean;
 import com.sun.tools.javac.util.Context;
+import java.lang.management.ManagementFactory;
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
+import org.jspecify.annotations.Nullable;
 
-/** A collection of timing data for the runtime of individual checks. */
+/**
+ * A collection of timing data for the runtime of individual checks.
+ *
+ * <p>With {@code -XepOpt:ErrorProneTimings:TrackAllocations=true}, the bytes that each check
+ * allocates are recorded as well, if the JVM supports measuring a thread's allocations.
+ */
 public final class ErrorProneTimings {
 
   private static final Context.Key<ErrorProneTimings> timingsKey = new Context.Key<>();
 
+  /** The flag that enables {@link #allocations}. */
+  public static final String TRACK_ALLOCATIONS_FLAG = "ErrorProneTimings:TrackAllocations";
+
   public static ErrorProneTimings instance(Context context) {
     ErrorProneTimings instance = context.get(timingsKey);
     if (instance == null) {
@@ -43,15 +52,79 @@ public final class ErrorProneTimings {
     context.put(timingsKey, this);
   }
 
+  /**
+   * Enables or disables allocation tracking according to {@link #TRACK_ALLOCATIONS_FLAG}.
+   *
+   * <p>The options are passed in by the {@link ErrorProneAnalyzer} rather than read from the
+   * context, since the instance is created with javac's context, which doesn't contain them.
+   */
+  void configure(ErrorProneOptions options) {
+    this.threadMXBean =
+        options.getFlags().getBoolean(TRACK_ALLOCATIONS_FLAG).orElse(false)
+            ? allocationTrackingThreadMXBean()
+            : null;
+  }
+
+  /** Returns the JVM's {@link ThreadMXBean} if it can measure allocations, or else null. */
+  private static @Nullable ThreadMXBean allocationTrackingThreadMXBean() {
+    if (!(ManagementFactory.getThreadMXBean() instanceof ThreadMXBean threadMXBean)
+        || !threadMXBean.isThreadAllocatedMemorySupported()) {
+      return null;
+    }
+    if (!threadMXBean.isThreadAllocatedMemoryEnabled()) {
+      threadMXBean.setThreadAllocatedMemoryEnabled(true);
+    }
+    return threadMXBean;
+  }
+
   private final Map<String, Stopwatch> timers = new HashMap<>();
 
+  /** Time added with {@link #record}, in nanoseconds. */
+  private final Map<String, Long> recordedTimes = new HashMap<>();
+
+  /** Null unless allocations are tracked. */
+  private @Nullable ThreadMXBean threadMXBean;
+
+  private final Map<String, Long> allocations = new HashMap<>();
+
   private final Stopwatch initializationTime = Stopwatch.createUnstarted();
 
   /** Creates a timing span for the given {@link Suppressible}. */
   public AutoCloseable span(Suppressible suppressible) {
     String key = suppressible.canonicalName();
     Stopwatch sw = timers.computeIfAbsent(key, k -> Stopwatch.createUnstarted()).start();
-    return () -> sw.stop();
+    ThreadMXBean threadMXBean = this.threadMXBean;
+    if (threadMXBean == null) {
+      return () -> sw.stop();
+    }
+    long allocatedBefore = threadMXBean.getCurrentThreadAllocatedBytes();
+    return () -> {
+      sw.stop();
+      allocations.merge(
+          key, threadMXBean.getCurrentThreadAllocatedBytes() - allocatedBefore, Long::sum);
+    };
+  }
+
+  /**
+   * Adds time spent in the given {@link Suppressible}, and the bytes it allocated if allocations
+   * are tracked, outside of a {@link #span}. This is for checks that are called too often for a
+   * span per call, whose callers total up the time themselves.
+   */
+  public void record(Suppressible suppressible, long nanos, long allocatedBytes) {
+    String key = suppressible.canonicalName();
+    recordedTimes.merge(key, nanos, Long::sum);
+    if (threadMXBean != null) {
+      allocations.merge(key, allocatedBytes, Long::sum);
+    }
+  }
+
+  /**
+   * Returns the bytes allocated by the current thread so far, or 0 unless allocations are
+   * {@linkplain #TRACK_ALLOCATIONS_FLAG tracked}.
+   */
+  public long currentThreadAllocatedBytes() {
+    ThreadMXBean threadMXBean = this.threadMXBean;
+    return threadMXBean == null ? 0 : threadMXBean.getCurrentThreadAllocatedBytes();
   }
 
   /** Creates a timing span for initialization. */
@@ -62,8 +135,19 @@ public final class ErrorProneTimings {
 
   /** Returns the elapsed durations of each timer. */
   public ImmutableMap<String, Duration> timings() {
-    return timers.entrySet().stream()
-        .collect(toImmutableMap(e -> e.getKey(), e -> e.getValue().elapsed()));
+    Map<String, Duration> timings = new HashMap<>();
+    timers.forEach((key, timer) -> timings.put(key, timer.elapsed()));
+    recordedTimes.forEach(
+        (key, nanos) -> timings.merge(key, Duration.ofNanos(nanos), Duration::plus));
+    return ImmutableMap.copyOf(timings);
+  }
+
+  /**
+   * Returns the bytes allocated by each check, or an empty map unless allocations are {@linkplain
+   * #TRACK_ALLOCATIONS_FLAG tracked}.
+   */
+  public ImmutableMap<String, Long> allocations() {
+    return ImmutableMap.copyOf(allocations);
   }
 
   /** Returns the elapsed initialization time. */
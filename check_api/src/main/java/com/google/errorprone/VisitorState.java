@@ -21,6 +21,7 @@ import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.errorprone.util.ASTHelpers.getStartPosition;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableMultiset;
 import com.google.errorprone.BugPattern.SeverityLevel;
@@ -32,6 +33,9 @@ import com.google.errorprone.matchers.Suppressible;
 import com.google.errorprone.suppliers.Supplier;
 import com.google.errorprone.util.ErrorProneToken;
 import com.google.errorprone.util.ErrorProneTokens;
+import com.google.errorprone.util.OverrideIndex;
+import com.google.errorprone.util.SupertypeClosures;
+import com.google.errorprone.util.SymbolUsageIndex;
 import com.sun.source.tree.Tree;
 import com.sun.source.util.TreePath;
 import com.sun.tools.javac.code.Kinds.Kind;
@@ -55,11 +59,13 @@ import com.sun.tools.javac.util.Name;
 import com.sun.tools.javac.util.Names;
 import com.sun.tools.javac.util.Options;
 import java.io.IOException;
-import java.lang.ref.SoftReference;
+import java.lang.ref.Cleaner;
+import java.util.BitSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import javax.lang.model.util.Elements;
 import org.jspecify.annotations.Nullable;
 
@@ -266,6 +272,23 @@ public class VisitorState {
     return sharedState.names;
   }
 
+  /** Returns the compilation-scoped cache of erased supertype closures. */
+  public SupertypeClosures getSupertypeClosures() {
+    return sharedState.supertypeClosures;
+  }
+
+  /** Returns the compilation-scoped index of overridden methods. */
+  public OverrideIndex getOverrideIndex() {
+    return sharedState.overrideIndex;
+  }
+
+  /**
+   * Returns the index of declarations of and references to symbols in the current compilation unit.
+   */
+  public SymbolUsageIndex getSymbolUsageIndex() {
+    return SymbolUsageIndex.instance(getPath().getCompilationUnit(), context);
+  }
+
   public NullnessAnalysis getNullnessAnalysis() {
     return NullnessAnalysis.instance(context);
   }
@@ -406,12 +429,30 @@ public class VisitorState {
     if (!modular) {
       return getSymbolFromString(getSymtab().noModule, name);
     }
+    // Symtab already indexes every class it has entered by flat name across all modules, so only
+    // the modules that contain a class with this name need to be probed. The candidates are copied
+    // because completing a class can enter new ones.
+    ImmutableList<ClassSymbol> candidates =
+        ImmutableList.copyOf(getSymtab().getClassesForName(name));
+    if (candidates.isEmpty()) {
+      return null;
+    }
+    if (candidates.size() == 1) {
+      ModuleSymbol msym = candidates.get(0).packge().modle;
+      if (sharedState.modules.allModules().contains(msym)
+          && getSymtab().getClass(msym, name) == candidates.get(0)) {
+        return completeIfExists(candidates.get(0));
+      }
+    }
+    // The name is defined in several modules, or entered under a module other than its package's;
+    // preserve the module iteration order.
+    return getSymbolFromAllModules(name);
+  }
+
+  private @Nullable ClassSymbol getSymbolFromAllModules(Name name) {
     for (ModuleSymbol msym : sharedState.modules.allModules()) {
       ClassSymbol result = getSymbolFromString(msym, name);
       if (result != null) {
-        // TODO(cushon): the path where we iterate over all modules is probably slow.
-        // Try to learn some lessons from JDK-8189747, and consider disallowing this case and
-        // requiring users to call the getSymbolFromString(ModuleSymbol, Name) overload instead.
         return result;
       }
     }
@@ -419,7 +460,10 @@ public class VisitorState {
   }
 
   public @Nullable ClassSymbol getSymbolFromString(ModuleSymbol msym, Name name) {
-    ClassSymbol result = getSymtab().getClass(msym, name);
+    return completeIfExists(getSymtab().getClass(msym, name));
+  }
+
+  private static @Nullable ClassSymbol completeIfExists(@Nullable ClassSymbol result) {
     if (result == null || result.kind == Kind.ERR || !result.exists()) {
       return null;
     }
@@ -651,52 +695,149 @@ public class VisitorState {
     return sharedState.timings.span(suppressible);
   }
 
-  private static class Cache<T> implements Supplier<T> {
+  private static final class Cache<T> implements Supplier<T> {
     private final Supplier<T> impl;
-    /* Uses T instead of Optional<T> because we don't want to cache null results
-    (b/138753468). These inline caches persist between compilation units, and a type that fails to
-    resolve in one may become available in the next; we want to keep looking it up
-    (relying on the per-file cache in typeCache) if we don't have a result. If you want to cache a
-    computation which can return null, wrap it in an Optional at the call site.*/
-
-    private SoftReference<T> cache = new SoftReference<>(null);
-    private JavacInvocationInstance provenance;
+    private final int slot;
 
     private Cache(Supplier<T> impl) {
       this.impl = impl;
-      // provenance intentionally left null-initialized
+      this.slot = MemoizedValues.allocateSlot(this);
     }
 
     @Override
-    public synchronized T get(VisitorState state) {
-      /*
-       * Don't let callers rely on the TreePath: The Cache is shared across the whole compilation,
-       * not just the current VisitorState's TreePath's CompilationUnit.
-       */
-      state = state.withNoPathForMemoization();
-
-      /* javac is single-threaded, so in principle we don't really need to lock.
-      But in practice it's cheap enough to be worth getting peace of mind that this is
-      always correct. */
-      T value = cache.get();
+    public T get(VisitorState state) {
+      MemoizedValues values = state.sharedState.memoizedValues;
+      @SuppressWarnings("unchecked") // only this Cache stores values owned by it in its slot
+      T value = (T) values.get(slot, this);
       if (value == null) {
-        value = impl.get(state);
+        /*
+         * Don't let callers rely on the TreePath: The Cache is shared across the whole compilation,
+         * not just the current VisitorState's TreePath's CompilationUnit.
+         */
+        value = impl.get(state.withNoPathForMemoization());
+        /* We don't cache null results (b/138753468). The values persist between compilation units,
+        and a type that fails to resolve in one may become available in the next; we want to keep
+        looking it up (relying on the per-file cache in typeCache) if we don't have a result. If
+        you want to cache a computation which can return null, wrap it in an Optional at the call
+        site. */
         if (value != null) {
-          cache = new SoftReference<>(value);
-          provenance = state.sharedState.javacInvocationInstance;
-        }
-      } else {
-        JavacInvocationInstance current = state.sharedState.javacInvocationInstance;
-        if (provenance != current) {
-          value = impl.get(state);
-          cache = new SoftReference<>(value);
-          provenance = current;
+          values.put(slot, this, value);
         }
       }
       return value;
     }
   }
 
+  /**
+   * The values computed by {@link #memoize}d suppliers for a single javac invocation.
+   *
+   * <p>Each supplier owns a slot index into an array that is stored in the invocation's {@link
+   * Context}, so lookups don't need to lock, and values are discarded along with the {@link
+   * Context} rather than being held by the (usually static) supplier. Slots are recycled once their
+   * supplier is garbage collected; each entry records the supplier that stored it, so a recycled
+   * slot never returns another supplier's value.
+   */
+  private static final class MemoizedValues {
+    private static final Context.Key<MemoizedValues> MEMOIZED_VALUES_KEY = new Context.Key<>();
+
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    private static final BitSet usedSlots = new BitSet();
+
+    static MemoizedValues instance(Context context) {
+      MemoizedValues instance = context.get(MEMOIZED_VALUES_KEY);
+      if (instance == null) {
+        instance = new MemoizedValues(context);
+      }
+      instance.resetIfNewInvocation(context);
+      return instance;
+    }
+
+    private static int allocateSlot(Cache<?> owner) {
+      int slot;
+      synchronized (MemoizedValues.class) {
+        slot = usedSlots.nextClearBit(0);
+        usedSlots.set(slot);
+      }
+      CLEANER.register(owner, () -> releaseSlot(slot));
+      return slot;
+    }
+
+    private static synchronized void releaseSlot(int slot) {
+      usedSlots.clear(slot);
+    }
+
+    private static synchronized int slotCount() {
+      return usedSlots.length();
+    }
+
+    private volatile AtomicReferenceArray<Entry> entries;
+
+    private @Nullable JavacInvocationInstance invocation;
+
+    private MemoizedValues(Context context) {
+      context.put(MEMOIZED_VALUES_KEY, this);
+      this.entries = new AtomicReferenceArray<>(slotCount());
+    }
+
+    /**
+     * Drops the values of an earlier invocation in a reused context, which may refer to symbols
+     * from that invocation's sources.
+     */
+    private synchronized void resetIfNewInvocation(Context context) {
+      JavacInvocationInstance current = JavacInvocationInstance.instance(context);
+      if (current != invocation) {
+        if (invocation != null) {
+          this.entries = new AtomicReferenceArray<>(slotCount());
+        }
+        invocation = current;
+      }
+    }
+
+    @Nullable Object get(int slot, Cache<?> owner) {
+      AtomicReferenceArray<Entry> entries = this.entries;
+      if (slot >= entries.length()) {
+        return null;
+      }
+      Entry entry = entries.get(slot);
+      return entry != null && entry.owner == owner ? entry.value : null;
+    }
+
+    void put(int slot, Cache<?> owner, Object value) {
+      AtomicReferenceArray<Entry> entries = this.entries;
+      if (slot >= entries.length()) {
+        entries = grow(slot);
+      }
+      // If another thread grows the array concurrently this entry may be lost, in which case the
+      // value is just computed again.
+      entries.set(slot, new Entry(owner, value));
+    }
+
+    private synchronized AtomicReferenceArray<Entry> grow(int slot) {
+      AtomicReferenceArray<Entry> entries = this.entries;
+      if (slot >= entries.length()) {
+        AtomicReferenceArray<Entry> grown =
+            new AtomicReferenceArray<>(
+                Math.max(slot + 1, Math.max(slotCount(), 2 * entries.length())));
+        for (int i = 0; i < entries.length(); i++) {
+          grown.set(i, entries.get(i));
+        }
+        this.entries = entries = grown;
+      }
+      return entries;
+    }
+
+    private static final class Entry {
+      private final Cache<?> owner;
+      private final Object value;
+
+      Entry(Cache<?> owner, Object value) {
+        this.owner = owner;
+        this.value = value;
+      }
+    }
+  }
+
   /**
    * Produces a cache for a function that is expected to return the same result throughout a
    * compilation, but requires a {@link VisitorState} to compute that result.
@@ -722,7 +863,9 @@ public class VisitorState {
     private final ErrorProneTimings timings;
     private final Types types;
     private final TreeMaker treeMaker;
-    private final JavacInvocationInstance javacInvocationInstance;
+    private final SupertypeClosures supertypeClosures;
+    private final OverrideIndex overrideIndex;
+    private final MemoizedValues memoizedValues;
 
     private final DescriptionListener descriptionListener;
     private final StatisticsCollector statisticsCollector;
@@ -746,7 +889,9 @@ public class VisitorState {
       this.timings = ErrorProneTimings.instance(context);
       this.types = Types.instance(context);
       this.treeMaker = TreeMaker.instance(context);
-      this.javacInvocationInstance = JavacInvocationInstance.instance(context);
+      this.supertypeClosures = SupertypeClosures.instance(context);
+      this.overrideIndex = OverrideIndex.instance(context);
+      this.memoizedValues = MemoizedValues.instance(context);
 
       this.descriptionListener = descriptionListener;
       this.statisticsCollector = statisticsCollector;
@@ -29,7 +29,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Map;
-import java.util.TreeMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 
 /**
  * A {@link FileDestination} that writes a unix-patch file to {@code rootPath} containing the
@@ -43,8 +43,8 @@ public final class PatchFileDestination implements FileDestination {
 
   private final Path baseDir;
   private final Path rootPath;
-  // Path -> Unified Diff, sorted by path
-  private final Map<URI, String> diffByFile = new TreeMap<>();
+  // Path -> Unified Diff, sorted by path; written concurrently by DiffApplier's workers
+  private final Map<URI, String> diffByFile = new ConcurrentSkipListMap<>();
 
   public PatchFileDestination(Path baseDir, Path rootPath) {
     this.baseDir = baseDir;
@@ -20,6 +20,8 @@ import static com.google.common.collect.ImmutableSet.toImmutableSet;
 import static com.google.errorprone.util.ASTHelpers.getDeclaredSymbol;
 import static com.google.errorprone.util.ASTHelpers.getModifiers;
 import static com.google.errorprone.util.ASTHelpers.getStartPosition;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
 
 import com.google.common.collect.ImmutableRangeSet;
 import com.google.common.collect.Iterables;
@@ -36,6 +38,7 @@ import com.google.errorprone.matchers.Description;
 import com.google.errorprone.matchers.Suppressible;
 import com.google.errorprone.suppliers.Supplier;
 import com.google.errorprone.util.ASTHelpers;
+import com.sun.source.doctree.DocTree;
 import com.sun.source.tree.AnnotatedTypeTree;
 import com.sun.source.tree.AnnotationTree;
 import com.sun.source.tree.ArrayAccessTree;
@@ -98,6 +101,7 @@ import com.sun.source.tree.VariableTree;
 import com.sun.source.tree.WhileLoopTree;
 import com.sun.source.tree.WildcardTree;
 import com.sun.source.tree.YieldTree;
+import com.sun.source.util.DocTreePath;
 import com.sun.source.util.TreePath;
 import com.sun.source.util.TreePathScanner;
 import com.sun.source.util.TreeScanner;
@@ -107,12 +111,16 @@ import com.sun.tools.javac.util.JCDiagnostic.DiagnosticPosition;
 import com.sun.tools.javac.util.Name;
 import java.io.Serializable;
 import java.lang.annotation.Annotation;
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.function.BiPredicate;
+import org.jspecify.annotations.Nullable;
 
 /**
  * A base class for implementing bug checkers. The {@code BugChecker} supplies a Scanner
@@ -405,6 +413,60 @@ public abstract class BugChecker implements Suppressible, Serializable {
     Description matchCompilationUnit(CompilationUnitTree tree, VisitorState state);
   }
 
+  /**
+   * A matcher for checks which need to see the whole compilation unit before reporting anything.
+   *
+   * <p>Rather than scanning the compilation unit itself, as a {@link CompilationUnitTreeMatcher}
+   * would, such a check is handed each node as the scanner running all checks reaches it, so the
+   * compilation unit is only traversed once however many checks need to see all of it.
+   */
+  public interface CompilationUnitVisitorMatcher extends Suppressible {
+    /**
+     * Returns the visitor to pass the nodes of {@code tree} to, or {@code null} if there is nothing
+     * to look for in it.
+     */
+    @Nullable CompilationUnitVisitor visitCompilationUnit(
+        CompilationUnitTree tree, VisitorState state);
+  }
+
+  /**
+   * Receives the nodes of a single compilation unit in the order a {@link TreePathScanner} would
+   * visit them, except for synthetic constructors, which are skipped as they are for all matchers.
+   * See {@link CompilationUnitVisitorMatcher}.
+   *
+   * <p>Every node is visited regardless of whether the check is suppressed on it; visitors which
+   * care can test {@link BugChecker#isSuppressed(Tree, VisitorState)}, and skip the node's subtree.
+   */
+  public interface CompilationUnitVisitor {
+    /**
+     * Called before the descendants of {@code tree} are visited.
+     *
+     * @return whether to visit the descendants of {@code tree}, and then call {@link #exit} for it
+     */
+    default boolean enter(Tree tree, NodeState node) {
+      return true;
+    }
+
+    /** Called after the descendants of {@code tree} have been visited. */
+    default void exit(Tree tree, NodeState node) {}
+
+    /**
+     * Called once the whole compilation unit has been visited. The path of {@code state} is the
+     * compilation unit.
+     */
+    Description finish(VisitorState state);
+
+    /**
+     * The state of the node passed to {@link #enter} or {@link #exit}. Most visitors only look at a
+     * few kinds of nodes, so the {@link VisitorState} is only built if they ask for it. It may only
+     * be used during the call it was passed to.
+     */
+    interface NodeState {
+      /** Returns the state for the node, whose path has the node as its leaf. */
+      VisitorState state();
+    }
+  }
+
   public interface CompoundAssignmentTreeMatcher extends Suppressible {
     Description matchCompoundAssignment(CompoundAssignmentTree tree, VisitorState state);
   }
@@ -417,6 +479,24 @@ public abstract class BugChecker implements Suppressible, Serializable {
     Description matchContinue(ContinueTree tree, VisitorState state);
   }
 
+  /**
+   * Matches nodes of the Javadoc comments on classes, methods and variables.
+   *
+   * <p>Each comment is walked once for all of the {@code DocTreeMatcher}s, and each node is passed
+   * to the matchers which asked for its kind. Checks which need to see the whole comment at once
+   * can ask for {@link DocTree.Kind#DOC_COMMENT}, which is matched at the root of the comment.
+   */
+  public interface DocTreeMatcher extends Suppressible {
+    /** The kinds of {@link DocTree} to match. */
+    Set<DocTree.Kind> docTreeKinds();
+
+    /**
+     * Matches the {@link DocTree} at the leaf of {@code path}. The path of {@code state} is the
+     * class, method or variable which the comment documents.
+     */
+    Description matchDocTree(DocTreePath path, VisitorState state);
+  }
+
   public interface DoWhileLoopTreeMatcher extends Suppressible {
     Description matchDoWhileLoop(DoWhileLoopTree tree, VisitorState state);
   }
@@ -635,18 +715,55 @@ public abstract class BugChecker implements Suppressible, Serializable {
 
     @Override
     public R scan(Tree tree, P param) {
-      return suppressed(tree) ? null : super.scan(tree, param);
+      return isSuppressedDeclaration(tree, state) ? null : super.scan(tree, param);
     }
 
     @Override
     public R scan(TreePath treePath, P param) {
-      return suppressed(treePath.getLeaf()) ? null : super.scan(treePath, param);
+      return isSuppressedDeclaration(treePath.getLeaf(), state)
+          ? null
+          : super.scan(treePath, param);
     }
+  }
 
-    private boolean suppressed(Tree tree) {
-      boolean isSuppressible =
-          tree instanceof ClassTree || tree instanceof MethodTree || tree instanceof VariableTree;
-      return isSuppressible && isSuppressed(tree, state);
+  /**
+   * A {@link CompilationUnitVisitor} which, like {@link SuppressibleTreePathScanner}, skips trees
+   * which are suppressed for this check.
+   */
+  protected abstract class SuppressibleCompilationUnitVisitor implements CompilationUnitVisitor {
+    @Override
+    public final boolean enter(Tree tree, NodeState node) {
+      return !(isSuppressibleDeclaration(tree) && isSuppressed(tree, node.state()))
+          && visit(tree, node);
     }
+
+    /**
+     * Called for each tree which isn't suppressed, before its descendants are visited.
+     *
+     * @return whether to visit the descendants of {@code tree}
+     */
+    protected abstract boolean visit(Tree tree, NodeState node);
+  }
+
+  /**
+   * Declares that instances of a {@link BugChecker} hold no state between compilations, so that a
+   * single instance may be used for many compilations, including concurrent ones.
+   *
+   * <p>Long-lived processes which run many compilations, such as persistent build workers, can opt
+   * in to reusing the instances of checks with this annotation by setting {@code
+   * -XepOpt:ErrorProne:ReuseCheckers=true}. The annotation isn't inherited: each reusable class
+   * must be annotated.
+   */
+  @Documented
+  @Retention(RUNTIME)
+  @Target(TYPE)
+  public @interface Reusable {}
+
+  private boolean isSuppressedDeclaration(Tree tree, VisitorState state) {
+    return isSuppressibleDeclaration(tree) && isSuppressed(tree, state);
+  }
+
+  private static boolean isSuppressibleDeclaration(Tree tree) {
+    return tree instanceof ClassTree || tree instanceof MethodTree || tree instanceof VariableTree;
   }
 }
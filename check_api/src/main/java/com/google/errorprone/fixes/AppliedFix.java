@@ -99,9 +99,7 @@ public class AppliedFix {
 
     /** Get the replacements in an appropriate order to apply correctly. */
     private static ImmutableSet<Replacement> ascending(Set<Replacement> set) {
-      Replacements replacements = new Replacements();
-      set.forEach(replacements::add);
-      return replacements.ascending();
+      return Replacements.ascending(set, Replacements.CoalescePolicy.REJECT);
     }
 
     /**
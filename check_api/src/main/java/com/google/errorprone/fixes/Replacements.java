@@ -30,6 +30,7 @@ import java.util.LinkedHashSet;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.TreeSet;
+import org.jspecify.annotations.Nullable;
 
 /** A collection of {@link Replacement}s to be made to a source file. */
 public class Replacements {
@@ -140,23 +141,7 @@ public class Replacements {
   public Replacements add(Replacement replacement, CoalescePolicy coalescePolicy) {
     if (replacements.containsKey(replacement.range())) {
       Replacement existing = replacements.get(replacement.range());
-      if (replacement.range().isEmpty()) {
-        // The replacement is an insertion, and there's an existing insertion at the same point.
-        // First check whether it's a duplicate insert.
-        if (existing.equals(replacement)) {
-          replacement = coalescePolicy.handleDuplicateInsertion(replacement);
-        } else {
-          // Coalesce overlapping non-duplicate insertions together.
-          replacement =
-              replacement.withDifferentText(
-                  coalescePolicy.coalesce(replacement.replaceWith(), existing.replaceWith()));
-        }
-      } else if (existing.equals(replacement)) {
-        // Two copies of a non-insertion edit. Just ignore the new one since it's already done.
-      } else {
-        throw new IllegalArgumentException(
-            String.format("%s conflicts with existing replacement %s", replacement, existing));
-      }
+      replacement = merge(replacement, existing, coalescePolicy);
     } else {
       checkOverlaps(replacement);
     }
@@ -164,6 +149,27 @@ public class Replacements {
     return this;
   }
 
+  /** Merges {@code replacement} with an {@code existing} replacement of the same range. */
+  private static Replacement merge(
+      Replacement replacement, Replacement existing, CoalescePolicy coalescePolicy) {
+    if (replacement.range().isEmpty()) {
+      // The replacement is an insertion, and there's an existing insertion at the same point.
+      // First check whether it's a duplicate insert.
+      if (existing.equals(replacement)) {
+        return coalescePolicy.handleDuplicateInsertion(replacement);
+      }
+      // Coalesce overlapping non-duplicate insertions together.
+      return replacement.withDifferentText(
+          coalescePolicy.coalesce(replacement.replaceWith(), existing.replaceWith()));
+    }
+    if (existing.equals(replacement)) {
+      // Two copies of a non-insertion edit. Just ignore the new one since it's already done.
+      return replacement;
+    }
+    throw new IllegalArgumentException(
+        String.format("%s conflicts with existing replacement %s", replacement, existing));
+  }
+
   private void checkOverlaps(Replacement replacement) {
     Range<Integer> replacementRange = replacement.range();
     Collection<Replacement> overlap =
@@ -209,4 +215,119 @@ public class Replacements {
   public boolean isEmpty() {
     return replacements.isEmpty();
   }
+
+  /**
+   * Returns the result of {@linkplain #add adding} each of {@code input}, in iteration order, to a
+   * new {@link Replacements} and calling {@link #ascending}.
+   *
+   * <p>Instead of maintaining the range indices edit by edit, this sorts the edits' start and end
+   * positions once and then coalesces and checks them for overlaps in a single pass, which is much
+   * cheaper for large numbers of edits.
+   */
+  static ImmutableSet<Replacement> ascending(
+      Collection<Replacement> input, CoalescePolicy coalescePolicy) {
+    Replacement[] edits = input.toArray(new Replacement[0]);
+    int size = edits.length;
+    int[] starts = new int[size];
+    int[] ends = new int[size];
+    for (int i = 0; i < size; i++) {
+      starts[i] = edits[i].startPosition();
+      ends[i] = edits[i].endPosition();
+    }
+    int[] order = sortByPosition(starts, ends);
+
+    ImmutableSet.Builder<Replacement> result = ImmutableSet.builderWithExpectedSize(size);
+    // The edit at the current position, which later edits of the same range are merged into.
+    @Nullable Replacement current = null;
+    int currentStart = -1;
+    int currentEnd = -1;
+    // The non-empty edit that extends furthest to the right so far, for overlap checks.
+    int maxEnd = -1;
+    int maxEndIndex = -1;
+    for (int i : order) {
+      if (current != null && starts[i] == currentStart && ends[i] == currentEnd) {
+        current = merge(edits[i], current, coalescePolicy);
+        continue;
+      }
+      if (starts[i] < maxEnd) {
+        if (starts[i] < ends[i]) {
+          Replacement existing = edits[maxEndIndex];
+          Replacement replacement = edits[i];
+          if (i < maxEndIndex) {
+            replacement = existing;
+            existing = edits[i];
+          }
+          throw new IllegalArgumentException(
+              String.format("%s overlaps with existing replacements: %s", replacement, existing));
+        }
+        // An insertion inside an existing edit is only rejected if it was added first, when the
+        // surrounding edit is checked against the insertions; see checkOverlaps.
+        checkArgument(
+            maxEndIndex < i,
+            "%s overlaps with existing zero-length replacements: %s",
+            edits[maxEndIndex],
+            starts[i]);
+      }
+      if (current != null) {
+        result.add(current);
+      }
+      current = edits[i];
+      currentStart = starts[i];
+      currentEnd = ends[i];
+      if (currentStart < currentEnd && currentEnd > maxEnd) {
+        maxEnd = currentEnd;
+        maxEndIndex = i;
+      }
+    }
+    if (current != null) {
+      result.add(current);
+    }
+    return result.build();
+  }
+
+  /**
+   * Returns the indices of the given ranges, stably sorted by start and then end position. Edits
+   * usually arrive in source order, so an already sorted input is detected up front.
+   */
+  private static int[] sortByPosition(int[] starts, int[] ends) {
+    int size = starts.length;
+    int[] order = new int[size];
+    boolean sorted = true;
+    for (int i = 0; i < size; i++) {
+      order[i] = i;
+      if (i > 0 && comparePositions(starts, ends, i - 1, i) > 0) {
+        sorted = false;
+      }
+    }
+    if (sorted) {
+      return order;
+    }
+    // Bottom-up merge sort, which is stable.
+    int[] buffer = new int[size];
+    for (int width = 1; width < size; width *= 2) {
+      for (int lo = 0; lo < size; lo += 2 * width) {
+        int mid = Math.min(lo + width, size);
+        int hi = Math.min(lo + 2 * width, size);
+        int left = lo;
+        int right = mid;
+        for (int k = lo; k < hi; k++) {
+          if (left < mid
+              && (right >= hi || comparePositions(starts, ends, order[left], order[right]) <= 0)) {
+            buffer[k] = order[left++];
+          } else {
+            buffer[k] = order[right++];
+          }
+        }
+      }
+      int[] swap = order;
+      order = buffer;
+      buffer = swap;
+    }
+    return order;
+  }
+
+  private static int comparePositions(int[] starts, int[] ends, int a, int b) {
+    int result = Integer.compare(starts[a], starts[b]);
+    return result != 0 ? result : Integer.compare(ends[a], ends[b]);
+  }
 }
@@ -91,11 +91,11 @@ public abstract class SuggestedFix implements Fix {
       throw new IllegalArgumentException(
           "Cannot produce correct replacements without endPositions.");
     }
-    Replacements replacements = new Replacements();
+    List<Replacement> replacements = new ArrayList<>(fixes().size());
     for (FixOperation fix : fixes()) {
-      replacements.add(fix.getReplacement(endPositions), getCoalescePolicy());
+      replacements.add(fix.getReplacement(endPositions));
     }
-    return replacements.ascending();
+    return Replacements.ascending(replacements, getCoalescePolicy());
   }
 
   /** {@link Builder#replace(Tree, String)} */
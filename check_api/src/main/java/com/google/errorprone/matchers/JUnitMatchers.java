@@ -86,7 +86,7 @@ public final class JUnitMatchers {
     if (hasJUnitAttr(methodSym)) {
       return true;
     }
-    return streamSuperMethods(methodSym, state.getTypes()).anyMatch(JUnitMatchers::hasJUnitAttr);
+    return streamSuperMethods(methodSym, state).anyMatch(JUnitMatchers::hasJUnitAttr);
   }
 
   /** Checks if a method symbol has any attribute from the org.junit package. */
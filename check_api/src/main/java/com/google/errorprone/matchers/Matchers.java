@@ -92,6 +92,7 @@ import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.BiPredicate;
 import java.util.function.Predicate;
@@ -165,6 +166,13 @@ public class Matchers {
    * given matchers do.
    */
   public static <T extends Tree> Matcher<T> anyOf(Iterable<? extends Matcher<? super T>> matchers) {
+    // Groups of fluent method matchers are common, and are cheaper to check by method name.
+    Optional<Matcher<ExpressionTree>> byName = MethodMatchers.anyOfIndexedByName(matchers);
+    if (byName.isPresent()) {
+      @SuppressWarnings("unchecked") // every matcher accepts ExpressionTree, so T is one
+      Matcher<T> matcher = (Matcher<T>) byName.get();
+      return matcher;
+    }
     return (t, state) -> {
       for (Matcher<? super T> matcher : matchers) {
         if (matcher.matches(t, state)) {
@@ -805,7 +813,7 @@ public class Matchers {
       if (ASTHelpers.hasAnnotation(methodSym, annotationClass, state)) {
         return true;
       }
-      for (MethodSymbol method : ASTHelpers.findSuperMethods(methodSym, state.getTypes())) {
+      for (MethodSymbol method : ASTHelpers.findSuperMethods(methodSym, state)) {
         if (ASTHelpers.hasAnnotation(method, annotationClass, state)) {
           return true;
         }
@@ -17,12 +17,16 @@
 package com.google.errorprone.matchers.method;
 
 import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Comparator.naturalOrder;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableListMultimap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
 import com.google.errorprone.VisitorState;
+import com.google.errorprone.matchers.Matcher;
 import com.google.errorprone.matchers.method.MethodMatchers.AnyMethodMatcher;
 import com.google.errorprone.matchers.method.MethodMatchers.ConstructorClassMatcher;
 import com.google.errorprone.matchers.method.MethodMatchers.ConstructorMatcher;
@@ -38,11 +42,13 @@ import com.google.errorprone.suppliers.Supplier;
 import com.google.errorprone.suppliers.Suppliers;
 import com.google.errorprone.util.ASTHelpers;
 import com.sun.source.tree.ExpressionTree;
+import com.sun.tools.javac.code.Symbol.MethodSymbol;
 import com.sun.tools.javac.code.Type;
 import java.util.Iterator;
 import java.util.List;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
+import org.jspecify.annotations.Nullable;
 
 final class MethodMatcherImpl
     implements InstanceMethodMatcher,
@@ -64,36 +70,72 @@ final class MethodMatcherImpl
     boolean matches(MatchState m, VisitorState s);
   }
 
+  /**
+   * How expensive a {@link Constraint} is to check. Constraints are checked cheapest first,
+   * regardless of the order in which the chain declared them, so that e.g. a name mismatch rejects
+   * an invocation before any subtype check runs.
+   *
+   * <p>The order of these constants is the order in which constraints are checked.
+   */
+  private enum Cost {
+    /** Constraints on the method's name or static-ness, which only read the symbol. */
+    NAME,
+    /** Constraints on the method's signature, which compare parameter lists. */
+    SIGNATURE,
+    /** Constraints on the method's owner, which may need to resolve types or check subtyping. */
+    OWNER
+  }
+
   static final AnyMethodMatcher ANY_METHOD =
-      new MethodMatcherImpl(
-          BaseMethodMatcher.METHOD,
-          ImmutableList.of(
-              (m, s) -> {
-                // Handled by base matcher.
-                return true;
-              }));
+      new MethodMatcherImpl(BaseMethodMatcher.METHOD, ImmutableListMultimap.of(), null);
   static final ConstructorMatcher CONSTRUCTOR =
-      new MethodMatcherImpl(BaseMethodMatcher.CONSTRUCTOR, ImmutableList.of((m, s) -> true));
+      new MethodMatcherImpl(BaseMethodMatcher.CONSTRUCTOR, ImmutableListMultimap.of(), null);
   static final StaticMethodMatcher STATIC_METHOD =
       new MethodMatcherImpl(
-          BaseMethodMatcher.METHOD, ImmutableList.of((m, s) -> m.sym().isStatic()));
+          BaseMethodMatcher.METHOD,
+          ImmutableListMultimap.of(Cost.NAME, (m, s) -> m.sym().isStatic()),
+          null);
   static final InstanceMethodMatcher INSTANCE_METHOD =
       new MethodMatcherImpl(
-          BaseMethodMatcher.METHOD, ImmutableList.of((m, s) -> !m.sym().isStatic()));
+          BaseMethodMatcher.METHOD,
+          ImmutableListMultimap.of(Cost.NAME, (m, s) -> !m.sym().isStatic()),
+          null);
 
   private final BaseMethodMatcher baseMatcher;
 
-  private final ImmutableList<Constraint> constraints;
+  /** The constraints of this chain, keyed and iterated in {@link Cost} order. */
+  private final ImmutableListMultimap<Cost, Constraint> constraints;
+
+  /** The only method names this chain can match, or {@code null} if it isn't restricted by name. */
+  private final @Nullable ImmutableSet<String> names;
 
   // All constructors private: only static final instances are legal starting points for chains.
-  private MethodMatcherImpl(BaseMethodMatcher baseMatcher, ImmutableList<Constraint> matchers) {
+  private MethodMatcherImpl(
+      BaseMethodMatcher baseMatcher,
+      ImmutableListMultimap<Cost, Constraint> constraints,
+      @Nullable ImmutableSet<String> names) {
     this.baseMatcher = baseMatcher;
-    this.constraints = matchers;
+    this.constraints = constraints;
+    this.names = names;
+  }
+
+  private MethodMatcherImpl append(Cost cost, Constraint c) {
+    return new MethodMatcherImpl(baseMatcher, withConstraint(cost, c), names);
   }
 
-  private MethodMatcherImpl append(Constraint c) {
+  private MethodMatcherImpl appendNames(ImmutableSet<String> newNames, Constraint c) {
     return new MethodMatcherImpl(
-        baseMatcher, ImmutableList.<Constraint>builder().addAll(this.constraints).add(c).build());
+        baseMatcher,
+        withConstraint(Cost.NAME, c),
+        names == null ? newNames : Sets.intersection(names, newNames).immutableCopy());
+  }
+
+  private ImmutableListMultimap<Cost, Constraint> withConstraint(Cost cost, Constraint c) {
+    return ImmutableListMultimap.<Cost, Constraint>builder()
+        .orderKeysBy(naturalOrder())
+        .putAll(constraints)
+        .put(cost, c)
+        .build();
   }
 
   @Override
@@ -102,7 +144,7 @@ final class MethodMatcherImpl
     if (method == null) {
       return false;
     }
-    for (Constraint constraint : constraints) {
+    for (Constraint constraint : constraints.values()) {
       if (!constraint.matches(method, state)) {
         return false;
       }
@@ -110,15 +152,62 @@ final class MethodMatcherImpl
     return true;
   }
 
+  /**
+   * Returns a matcher equivalent to {@code anyOf(matchers)} which only tries the matchers that can
+   * match the invoked method's name, or {@code null} if any of the matchers isn't a fluent method
+   * matcher or none of them is restricted by name.
+   */
+  static @Nullable Matcher<ExpressionTree> anyOfByName(Iterable<?> matchers) {
+    ImmutableListMultimap.Builder<String, MethodMatcherImpl> byName =
+        ImmutableListMultimap.builder();
+    ImmutableList.Builder<MethodMatcherImpl> anyName = ImmutableList.builder();
+    int count = 0;
+    for (Object matcher : matchers) {
+      if (!(matcher instanceof MethodMatcherImpl methodMatcher)) {
+        return null;
+      }
+      count++;
+      if (methodMatcher.names == null) {
+        anyName.add(methodMatcher);
+      } else {
+        for (String name : methodMatcher.names) {
+          byName.put(name, methodMatcher);
+        }
+      }
+    }
+    ImmutableListMultimap<String, MethodMatcherImpl> index = byName.build();
+    if (count < 2 || index.isEmpty()) {
+      return null;
+    }
+    ImmutableList<MethodMatcherImpl> unindexed = anyName.build();
+    return (tree, state) -> {
+      // Every base matcher requires the tree to resolve to a method symbol.
+      if (!(ASTHelpers.getSymbol(tree) instanceof MethodSymbol sym)) {
+        return false;
+      }
+      for (MethodMatcherImpl matcher : index.get(sym.getSimpleName().toString())) {
+        if (matcher.matches(tree, state)) {
+          return true;
+        }
+      }
+      for (MethodMatcherImpl matcher : unindexed) {
+        if (matcher.matches(tree, state)) {
+          return true;
+        }
+      }
+      return false;
+    };
+  }
+
   @Override
   public MethodClassMatcher onClass(TypePredicate predicate) {
-    return append((m, s) -> predicate.apply(m.ownerType(), s));
+    return append(Cost.OWNER, (m, s) -> predicate.apply(m.ownerType(), s));
   }
 
   @Override
   public MethodClassMatcher onClass(String className) {
     TypePredicate pred = TypePredicates.isExactType(className);
-    return append((m, s) -> pred.apply(m.ownerType(), s));
+    return append(Cost.OWNER, (m, s) -> pred.apply(m.ownerType(), s));
   }
 
   @Override
@@ -129,7 +218,7 @@ final class MethodMatcherImpl
   @Override
   public MethodClassMatcher onClassAny(Iterable<String> classNames) {
     TypePredicate pred = TypePredicates.isExactTypeAny(classNames);
-    return append((m, s) -> pred.apply(m.ownerType(), s));
+    return append(Cost.OWNER, (m, s) -> pred.apply(m.ownerType(), s));
   }
 
   @Override
@@ -160,7 +249,7 @@ final class MethodMatcherImpl
   @Override
   public MethodClassMatcher onDescendantOf(String className) {
     TypePredicate pred = TypePredicates.isDescendantOf(className);
-    return append((m, s) -> pred.apply(m.ownerType(), s));
+    return append(Cost.OWNER, (m, s) -> pred.apply(m.ownerType(), s));
   }
 
   @Override
@@ -176,7 +265,7 @@ final class MethodMatcherImpl
   @Override
   public MethodClassMatcher onDescendantOfAny(Iterable<String> classTypes) {
     TypePredicate pred = TypePredicates.isDescendantOfAny(classTypes);
-    return append((m, s) -> pred.apply(m.ownerType(), s));
+    return append(Cost.OWNER, (m, s) -> pred.apply(m.ownerType(), s));
   }
 
   @Override
@@ -190,7 +279,8 @@ final class MethodMatcherImpl
         !name.contains("(") && !name.contains(")"),
         "method name (%s) cannot contain parentheses; use \"foo\" instead of \"foo()\"",
         name);
-    return append((m, s) -> m.sym().getSimpleName().contentEquals(name));
+    return appendNames(
+        ImmutableSet.of(name), (m, s) -> m.sym().getSimpleName().contentEquals(name));
   }
 
   @Override
@@ -201,7 +291,7 @@ final class MethodMatcherImpl
   @Override
   public MethodNameMatcher namedAnyOf(Iterable<String> names) {
     ImmutableSet<String> expected = ImmutableSet.copyOf(names);
-    return append((m, s) -> expected.contains(m.sym().getSimpleName().toString()));
+    return appendNames(expected, (m, s) -> expected.contains(m.sym().getSimpleName().toString()));
   }
 
   @Override
@@ -210,7 +300,7 @@ final class MethodMatcherImpl
   }
 
   private MethodNameMatcher stringConstraint(Predicate<String> constraint) {
-    return append((m, s) -> constraint.test(m.sym().getSimpleName().toString()));
+    return append(Cost.NAME, (m, s) -> constraint.test(m.sym().getSimpleName().toString()));
   }
 
   @Override
@@ -223,6 +313,7 @@ final class MethodMatcherImpl
     // TODO(cushon): build a way to match signatures (including varargs ones!) that doesn't
     // rely on MethodSymbol#toString().
     return append(
+        Cost.SIGNATURE,
         (m, s) ->
             m.sym().getSimpleName().contentEquals(signature)
                 || m.sym().toString().equals(signature));
@@ -246,6 +337,7 @@ final class MethodMatcherImpl
   @Override
   public ParameterMatcher withParametersOfType(Iterable<Supplier<Type>> expected) {
     return append(
+        Cost.SIGNATURE,
         (method, state) -> {
           List<Type> actual = method.paramTypes();
           if (actual.size() != Iterables.size(expected)) {
@@ -264,12 +356,14 @@ final class MethodMatcherImpl
 
   @Override
   public ConstructorClassMatcher forClass(TypePredicate predicate) {
-    return append((m, s) -> predicate.apply(m.ownerType(), s));
+    return append(Cost.OWNER, (m, s) -> predicate.apply(m.ownerType(), s));
   }
 
   @Override
   public ConstructorClassMatcher forClass(String className) {
-    return append((m, s) -> m.ownerType().asElement().getQualifiedName().contentEquals(className));
+    return append(
+        Cost.OWNER,
+        (m, s) -> m.ownerType().asElement().getQualifiedName().contentEquals(className));
   }
 
   @Override
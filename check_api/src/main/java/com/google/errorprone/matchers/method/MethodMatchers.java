@@ -21,6 +21,7 @@ import com.google.errorprone.predicates.TypePredicate;
 import com.google.errorprone.suppliers.Supplier;
 import com.sun.source.tree.ExpressionTree;
 import com.sun.tools.javac.code.Type;
+import java.util.Optional;
 import java.util.regex.Pattern;
 
 public final class MethodMatchers {
@@ -245,5 +246,15 @@ public final class MethodMatchers {
     return MethodMatcherImpl.CONSTRUCTOR;
   }
 
+  /**
+   * Returns a matcher equivalent to {@link com.google.errorprone.matchers.Matchers#anyOf} over
+   * {@code matchers}, which looks up the candidate matchers by the invoked method's name instead of
+   * trying each one in turn. Returns empty if any of {@code matchers} wasn't created by this class,
+   * or if none of them is restricted to particular method names.
+   */
+  public static Optional<Matcher<ExpressionTree>> anyOfIndexedByName(Iterable<?> matchers) {
+    return Optional.ofNullable(MethodMatcherImpl.anyOfByName(matchers));
+  }
+
   private MethodMatchers() {}
 }
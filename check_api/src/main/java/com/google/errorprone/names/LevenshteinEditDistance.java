@@ -16,6 +16,8 @@
 
 package com.google.errorprone.names;
 
+import static com.google.common.base.Preconditions.checkArgument;
+
 import com.google.common.base.Ascii;
 import com.google.common.primitives.Ints;
 
@@ -48,7 +50,7 @@ public class LevenshteinEditDistance {
 
   /**
    * Returns the edit distance between two strings. The algorithm used to calculate this distance
-   * has space requirements of len(source)*len(target).
+   * has space requirements of len(target).
    *
    * @param source The source string.
    * @param target The target string
@@ -57,53 +59,96 @@ public class LevenshteinEditDistance {
    * @see #getEditDistance(String, String)
    */
   public static int getEditDistance(String source, String target, boolean caseSensitive) {
-
-    // Levenshtein distance algorithm
-
     int sourceLength = isEmptyOrWhitespace(source) ? 0 : source.length();
     int targetLength = isEmptyOrWhitespace(target) ? 0 : target.length();
+    return getEditDistance(
+        source,
+        sourceLength,
+        target,
+        targetLength,
+        caseSensitive,
+        getWorstCaseEditDistance(sourceLength, targetLength));
+  }
 
-    if (sourceLength == 0) {
-      return targetLength;
-    }
-
-    if (targetLength == 0) {
-      return sourceLength;
-    }
+  /**
+   * Returns the edit distance between two strings if it is at most {@code maxDistance}, and {@code
+   * maxDistance + 1} otherwise. This is cheaper than computing the exact distance when only close
+   * matches are of interest, since the computation stops as soon as the bound is exceeded.
+   *
+   * @param source The source string.
+   * @param target The target string
+   * @param caseSensitive If true, case is used in comparisons and 'a' != 'A'.
+   * @param maxDistance The largest distance of interest, which must not be negative.
+   * @return The edit distance between the source and target strings, or {@code maxDistance + 1} if
+   *     it is larger than {@code maxDistance}.
+   */
+  public static int getEditDistance(
+      String source, String target, boolean caseSensitive, int maxDistance) {
+    checkArgument(maxDistance >= 0, "maxDistance must not be negative: %s", maxDistance);
+    int sourceLength = isEmptyOrWhitespace(source) ? 0 : source.length();
+    int targetLength = isEmptyOrWhitespace(target) ? 0 : target.length();
+    return getEditDistance(
+        source,
+        sourceLength,
+        target,
+        targetLength,
+        caseSensitive,
+        Math.min(maxDistance, getWorstCaseEditDistance(sourceLength, targetLength)));
+  }
 
-    if (!caseSensitive) {
-      source = Ascii.toLowerCase(source);
-      target = Ascii.toLowerCase(target);
+  /**
+   * Levenshtein distance algorithm, keeping a single row of the matrix. Returns {@code maxDistance
+   * + 1} as soon as every entry in a row exceeds {@code maxDistance}, since entries never decrease
+   * from one row to the next along any edit path.
+   */
+  private static int getEditDistance(
+      String source,
+      int sourceLength,
+      String target,
+      int targetLength,
+      boolean caseSensitive,
+      int maxDistance) {
+
+    if (sourceLength == 0 || targetLength == 0) {
+      return Math.min(Math.max(sourceLength, targetLength), maxDistance + 1);
     }
 
-    int[][] levMatrix = new int[sourceLength + 1][targetLength + 1];
-
-    for (int i = 0; i <= sourceLength; i++) {
-      levMatrix[i][0] = i;
+    if (Math.abs(sourceLength - targetLength) > maxDistance) {
+      return maxDistance + 1;
     }
 
-    for (int i = 0; i <= targetLength; i++) {
-      levMatrix[0][i] = i;
+    // row[j] is the distance between the first i characters of source and the first j characters
+    // of target, once the i-th row has been computed.
+    int[] row = new int[targetLength + 1];
+    for (int j = 0; j <= targetLength; j++) {
+      row[j] = j;
     }
 
     for (int i = 1; i <= sourceLength; i++) {
-
-      char sourceI = source.charAt(i - 1);
+      char sourceI = caseSensitive ? source.charAt(i - 1) : Ascii.toLowerCase(source.charAt(i - 1));
+      int diagonal = row[0];
+      row[0] = i;
+      int rowMinimum = i;
       for (int j = 1; j <= targetLength; j++) {
-        char targetJ = target.charAt(j - 1);
+        char targetJ =
+            caseSensitive ? target.charAt(j - 1) : Ascii.toLowerCase(target.charAt(j - 1));
 
         int cost = 0;
         if (sourceI != targetJ) {
           cost = 1;
         }
 
-        levMatrix[i][j] =
-            Ints.min(
-                cost + levMatrix[i - 1][j - 1], levMatrix[i - 1][j] + 1, levMatrix[i][j - 1] + 1);
+        int above = row[j];
+        row[j] = Ints.min(cost + diagonal, above + 1, row[j - 1] + 1);
+        diagonal = above;
+        rowMinimum = Math.min(rowMinimum, row[j]);
+      }
+      if (rowMinimum > maxDistance) {
+        return maxDistance + 1;
       }
     }
 
-    return levMatrix[sourceLength][targetLength];
+    return Math.min(row[targetLength], maxDistance + 1);
   }
 
   /** Calculate the worst case distance between two strings with the given lengths */
@@ -118,6 +163,18 @@ public class LevenshteinEditDistance {
    * @return True if the string is empty or contains only whitespace, false otherwise
    */
   private static boolean isEmptyOrWhitespace(String source) {
-    return source == null || source.matches("\\s*");
+    if (source == null) {
+      return true;
+    }
+    // Equivalent to source.matches("\\s*"), without compiling a regex on every call.
+    for (int i = 0; i < source.length(); i++) {
+      switch (source.charAt(i)) {
+        case ' ', '\t', '\n', '\u000B', '\f', '\r' -> {}
+        default -> {
+          return false;
+        }
+      }
+    }
+    return true;
   }
 }
@@ -18,7 +18,7 @@ package com.google.errorprone.names;
 import blogspot.software_and_algorithms.stern_library.optimization.HungarianAlgorithm;
 import com.google.common.collect.ImmutableList;
 import java.util.function.BiFunction;
-import java.util.stream.DoubleStream;
+import java.util.function.ToDoubleBiFunction;
 
 /**
  * A utility class for finding the distance between two identifiers. Each identifier is split into
@@ -27,8 +27,14 @@ import java.util.stream.DoubleStream;
  */
 public class TermEditDistance {
 
-  private final BiFunction<String, String, Double> editDistanceFn;
-  private final BiFunction<Integer, Integer, Double> maxDistanceFn;
+  private final ToDoubleBiFunction<String, String> editDistanceFn;
+  private final WorstCaseDistanceFunction maxDistanceFn;
+
+  /** Computes the worst case distance between two terms from their lengths. */
+  @FunctionalInterface
+  private interface WorstCaseDistanceFunction {
+    double apply(int sourceLength, int targetLength);
+  }
 
   /**
    * Creates a TermEditDistance Object
@@ -39,15 +45,20 @@ public class TermEditDistance {
   public TermEditDistance(
       BiFunction<String, String, Double> editDistanceFn,
       BiFunction<Integer, Integer, Double> maxDistanceFn) {
-    this.editDistanceFn = editDistanceFn;
-    this.maxDistanceFn = maxDistanceFn;
+    this(editDistanceFn::apply, (WorstCaseDistanceFunction) maxDistanceFn::apply);
   }
 
   public TermEditDistance() {
     this(
-        (s, t) ->
-            (double) LevenshteinEditDistance.getEditDistance(s, t, /* caseSensitive= */ false),
-        (s, t) -> (double) LevenshteinEditDistance.getWorstCaseEditDistance(s, t));
+        (String s, String t) ->
+            LevenshteinEditDistance.getEditDistance(s, t, /* caseSensitive= */ false),
+        (WorstCaseDistanceFunction) LevenshteinEditDistance::getWorstCaseEditDistance);
+  }
+
+  private TermEditDistance(
+      ToDoubleBiFunction<String, String> editDistanceFn, WorstCaseDistanceFunction maxDistanceFn) {
+    this.editDistanceFn = editDistanceFn;
+    this.maxDistanceFn = maxDistanceFn;
   }
 
   public double getNormalizedEditDistance(String source, String target) {
@@ -56,28 +67,24 @@ public class TermEditDistance {
     ImmutableList<String> targetTerms = NamingConventions.splitToLowercaseTerms(target);
 
     // costMatrix[s][t] is the edit distance between source term s and target term t
-    double[][] costMatrix =
-        sourceTerms.stream()
-            .map(s -> targetTerms.stream().mapToDouble(t -> editDistanceFn.apply(s, t)).toArray())
-            .toArray(double[][]::new);
-
     // worstCaseMatrix[s][t] is the worst case distance between source term s and target term t
-    double[][] worstCaseMatrix =
-        sourceTerms.stream()
-            .map(s -> s.length())
-            .map(
-                s ->
-                    targetTerms.stream()
-                        .map(t -> t.length())
-                        .mapToDouble(t -> maxDistanceFn.apply(s, t))
-                        .toArray())
-            .toArray(double[][]::new);
-
-    double[] sourceTermDeletionCosts =
-        sourceTerms.stream().mapToDouble(s -> maxDistanceFn.apply(s.length(), 0)).toArray();
-
-    double[] targetTermAdditionCosts =
-        targetTerms.stream().mapToDouble(s -> maxDistanceFn.apply(0, s.length())).toArray();
+    double[][] costMatrix = new double[sourceTerms.size()][targetTerms.size()];
+    double[][] worstCaseMatrix = new double[sourceTerms.size()][targetTerms.size()];
+    double[] sourceTermDeletionCosts = new double[sourceTerms.size()];
+    for (int s = 0; s < sourceTerms.size(); s++) {
+      String sourceTerm = sourceTerms.get(s);
+      for (int t = 0; t < targetTerms.size(); t++) {
+        String targetTerm = targetTerms.get(t);
+        costMatrix[s][t] = editDistanceFn.applyAsDouble(sourceTerm, targetTerm);
+        worstCaseMatrix[s][t] = maxDistanceFn.apply(sourceTerm.length(), targetTerm.length());
+      }
+      sourceTermDeletionCosts[s] = maxDistanceFn.apply(sourceTerm.length(), 0);
+    }
+
+    double[] targetTermAdditionCosts = new double[targetTerms.size()];
+    for (int t = 0; t < targetTerms.size(); t++) {
+      targetTermAdditionCosts[t] = maxDistanceFn.apply(0, targetTerms.get(t).length());
+    }
 
     // this is an array of assignments of source terms to target terms. If assignments[i] contains
     // the value j this means that source term i has been assigned to target term j
@@ -110,7 +117,10 @@ public class TermEditDistance {
 
     // Start with the total cost of _not_ using all the target terms, then when we use one we'll
     // remove it from this total.
-    double totalCost = DoubleStream.of(targetTermDeletionCosts).sum();
+    double totalCost = 0;
+    for (double targetTermDeletionCost : targetTermDeletionCosts) {
+      totalCost += targetTermDeletionCost;
+    }
     for (int sourceTermIndex = 0; sourceTermIndex < assignments.length; sourceTermIndex++) {
       int targetTermIndex = assignments[sourceTermIndex];
       if (targetTermIndex == -1) {
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2026 The Error Prone Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.errorprone.names;
+
+import com.google.common.collect.ImmutableList;
+import com.google.errorprone.JavacInvocationInstance;
+import com.sun.tools.javac.util.Context;
+import java.util.HashMap;
+import java.util.Map;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A compilation-scoped cache of the terms identifiers are split into by {@link
+ * NamingConventions#splitToLowercaseTerms}.
+ *
+ * <p>Checks which compare names, such as those looking for swapped arguments, split the same
+ * parameter and variable names many times over; the splitting is regex-based, so sharing the
+ * results for the whole compilation avoids most of that work.
+ */
+public final class TermSplitCache {
+
+  private static final Context.Key<TermSplitCache> TERM_SPLIT_CACHE_KEY = new Context.Key<>();
+
+  public static TermSplitCache instance(Context context) {
+    TermSplitCache instance = context.get(TERM_SPLIT_CACHE_KEY);
+    if (instance == null) {
+      instance = new TermSplitCache(context);
+    }
+    instance.resetIfNewInvocation(context);
+    return instance;
+  }
+
+  private final Map<String, ImmutableList<String>> lowercaseTerms = new HashMap<>();
+
+  private final Map<String, String> lowerUnderscore = new HashMap<>();
+
+  private @Nullable JavacInvocationInstance invocation;
+
+  private TermSplitCache(Context context) {
+    context.put(TERM_SPLIT_CACHE_KEY, this);
+  }
+
+  /**
+   * Drops the terms of an earlier invocation in a reused context, so that the cache doesn't grow
+   * with every invocation.
+   */
+  private void resetIfNewInvocation(Context context) {
+    JavacInvocationInstance current = JavacInvocationInstance.instance(context);
+    if (current != invocation) {
+      lowercaseTerms.clear();
+      lowerUnderscore.clear();
+      invocation = current;
+    }
+  }
+
+  /** See {@link NamingConventions#splitToLowercaseTerms}. */
+  public ImmutableList<String> splitToLowercaseTerms(String identifierName) {
+    ImmutableList<String> result = lowercaseTerms.get(identifierName);
+    if (result == null) {
+      result = NamingConventions.splitToLowercaseTerms(identifierName);
+      lowercaseTerms.put(identifierName, result);
+    }
+    return result;
+  }
+
+  /** See {@link NamingConventions#convertToLowerUnderscore}. */
+  public String convertToLowerUnderscore(String identifierName) {
+    String result = lowerUnderscore.get(identifierName);
+    if (result == null) {
+      result = String.join("_", splitToLowercaseTerms(identifierName));
+      lowerUnderscore.put(identifierName, result);
+    }
+    return result;
+  }
+}
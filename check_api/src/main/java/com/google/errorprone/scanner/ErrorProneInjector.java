@@ -21,14 +21,19 @@ import static java.util.Arrays.stream;
 import static java.util.stream.Collectors.joining;
 
 import com.google.common.collect.ClassToInstanceMap;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.MutableClassToInstanceMap;
 import com.google.errorprone.ErrorProneFlags;
 import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Predicate;
+import org.jspecify.annotations.Nullable;
 
 /**
  * An injector for ErrorProne.
@@ -71,30 +76,80 @@ public final class ErrorProneInjector {
       return instance;
     }
     path.add(clazz);
-    Constructor<T> constructor =
-        findConstructor(clazz)
-            .orElseThrow(
-                () ->
-                    new ProvisionException(
-                        "Failed to find an injectable constructor for "
-                            + clazz.getCanonicalName()
-                            + " requested by "
-                            + printPath(path)));
-
-    constructor.setAccessible(true);
-
-    Object[] args =
-        stream(constructor.getParameterTypes()).map(c -> getInstance(c, path)).toArray();
+    Factory factory = FACTORIES.get(clazz);
+    if (factory.constructor == null) {
+      throw new ProvisionException(
+          "Failed to find an injectable constructor for "
+              + clazz.getCanonicalName()
+              + " requested by "
+              + printPath(path));
+    }
+
+    Object[] args = new Object[factory.parameterTypes.size()];
+    for (int i = 0; i < args.length; i++) {
+      args[i] = getInstance(factory.parameterTypes.get(i), path);
+    }
     T newInstance;
     try {
-      newInstance = constructor.newInstance(args);
-    } catch (ReflectiveOperationException e) {
+      newInstance = clazz.cast(factory.constructor.invokeExact(args));
+    } catch (VirtualMachineError e) {
+      throw e;
+    } catch (Throwable e) {
+      // Like Constructor.newInstance, wrap linkage errors too, so they name the class.
       throw new ProvisionException("Failed to initialize " + clazz.getCanonicalName(), e);
     }
     instances.putInstance(clazz, newInstance);
     return newInstance;
   }
 
+  /**
+   * The injectable constructors of the classes which have been provisioned, so that each injector
+   * doesn't have to look for them again and invoke them reflectively.
+   */
+  private static final ClassValue<Factory> FACTORIES =
+      new ClassValue<>() {
+        @Override
+        protected Factory computeValue(Class<?> clazz) {
+          return Factory.create(clazz);
+        }
+      };
+
+  /** The injectable constructor of a class, resolved once for all injectors. */
+  private static final class Factory {
+    /**
+     * The constructor, as a {@link MethodHandle} which takes an {@code Object[]} of its arguments
+     * and returns an {@code Object}, or {@code null} if the class has no injectable constructor.
+     */
+    private final @Nullable MethodHandle constructor;
+
+    private final ImmutableList<Class<?>> parameterTypes;
+
+    private Factory(@Nullable MethodHandle constructor, ImmutableList<Class<?>> parameterTypes) {
+      this.constructor = constructor;
+      this.parameterTypes = parameterTypes;
+    }
+
+    static Factory create(Class<?> clazz) {
+      Optional<? extends Constructor<?>> maybeConstructor = findConstructor(clazz);
+      if (maybeConstructor.isEmpty()) {
+        return new Factory(null, ImmutableList.of());
+      }
+      Constructor<?> constructor = maybeConstructor.get();
+      constructor.setAccessible(true);
+      MethodHandle handle;
+      try {
+        handle = MethodHandles.lookup().unreflectConstructor(constructor);
+      } catch (IllegalAccessException e) {
+        throw new ProvisionException("Failed to access " + constructor, e);
+      }
+      return new Factory(
+          handle
+              .asSpreader(Object[].class, constructor.getParameterCount())
+              .asType(MethodType.methodType(Object.class, Object[].class)),
+          ImmutableList.copyOf(constructor.getParameterTypes()));
+    }
+  }
+
   public static <T> Optional<Constructor<T>> findConstructor(Class<T> clazz) {
     return findConstructorMatching(
             clazz,
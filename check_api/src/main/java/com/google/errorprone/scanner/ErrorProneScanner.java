@@ -22,6 +22,7 @@ import com.google.errorprone.BugPattern;
 import com.google.errorprone.BugPattern.SeverityLevel;
 import com.google.errorprone.ErrorProneError;
 import com.google.errorprone.ErrorProneOptions;
+import com.google.errorprone.ErrorProneTimings;
 import com.google.errorprone.SuppressionInfo.SuppressedState;
 import com.google.errorprone.VisitorState;
 import com.google.errorprone.bugpatterns.BugChecker;
@@ -39,10 +40,14 @@ import com.google.errorprone.bugpatterns.BugChecker.CaseTreeMatcher;
 import com.google.errorprone.bugpatterns.BugChecker.CatchTreeMatcher;
 import com.google.errorprone.bugpatterns.BugChecker.ClassTreeMatcher;
 import com.google.errorprone.bugpatterns.BugChecker.CompilationUnitTreeMatcher;
+import com.google.errorprone.bugpatterns.BugChecker.CompilationUnitVisitor;
+import com.google.errorprone.bugpatterns.BugChecker.CompilationUnitVisitor.NodeState;
+import com.google.errorprone.bugpatterns.BugChecker.CompilationUnitVisitorMatcher;
 import com.google.errorprone.bugpatterns.BugChecker.CompoundAssignmentTreeMatcher;
 import com.google.errorprone.bugpatterns.BugChecker.ConditionalExpressionTreeMatcher;
 import com.google.errorprone.bugpatterns.BugChecker.ContinueTreeMatcher;
 import com.google.errorprone.bugpatterns.BugChecker.DoWhileLoopTreeMatcher;
+import com.google.errorprone.bugpatterns.BugChecker.DocTreeMatcher;
 import com.google.errorprone.bugpatterns.BugChecker.EmptyStatementTreeMatcher;
 import com.google.errorprone.bugpatterns.BugChecker.EnhancedForLoopTreeMatcher;
 import com.google.errorprone.bugpatterns.BugChecker.ExportsTreeMatcher;
@@ -89,6 +94,8 @@ import com.google.errorprone.bugpatterns.BugChecker.YieldTreeMatcher;
 import com.google.errorprone.matchers.Description;
 import com.google.errorprone.matchers.Suppressible;
 import com.google.errorprone.util.ASTHelpers;
+import com.sun.source.doctree.DocCommentTree;
+import com.sun.source.doctree.DocTree;
 import com.sun.source.tree.AnnotatedTypeTree;
 import com.sun.source.tree.AnnotationTree;
 import com.sun.source.tree.ArrayAccessTree;
@@ -151,16 +158,23 @@ import com.sun.source.tree.VariableTree;
 import com.sun.source.tree.WhileLoopTree;
 import com.sun.source.tree.WildcardTree;
 import com.sun.source.tree.YieldTree;
+import com.sun.source.util.DocTreePath;
+import com.sun.source.util.DocTreePathScanner;
 import com.sun.source.util.TreePath;
+import com.sun.tools.javac.api.JavacTrees;
 import com.sun.tools.javac.code.Symbol.CompletionFailure;
 import com.sun.tools.javac.util.JCDiagnostic.DiagnosticPosition;
 import com.sun.tools.javac.util.Name;
 import java.lang.annotation.Annotation;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import org.jspecify.annotations.Nullable;
 
 /**
  * Scans the parsed AST, looking for violations of any of the enabled checks.
@@ -247,10 +261,14 @@ public class ErrorProneScanner extends Scanner {
   private final List<CatchTreeMatcher> catchMatchers = new ArrayList<>();
   private final List<ClassTreeMatcher> classMatchers = new ArrayList<>();
   private final List<CompilationUnitTreeMatcher> compilationUnitMatchers = new ArrayList<>();
+  private final List<CompilationUnitVisitorMatcher> compilationUnitVisitorMatchers =
+      new ArrayList<>();
   private final List<CompoundAssignmentTreeMatcher> compoundAssignmentMatchers = new ArrayList<>();
   private final List<ConditionalExpressionTreeMatcher> conditionalExpressionMatchers =
       new ArrayList<>();
   private final List<ContinueTreeMatcher> continueMatchers = new ArrayList<>();
+  private final Map<DocTree.Kind, List<DocTreeMatcher>> docTreeMatchers =
+      new EnumMap<>(DocTree.Kind.class);
   private final List<DoWhileLoopTreeMatcher> doWhileLoopMatchers = new ArrayList<>();
   private final List<EmptyStatementTreeMatcher> emptyStatementMatchers = new ArrayList<>();
   private final List<EnhancedForLoopTreeMatcher> enhancedForLoopMatchers = new ArrayList<>();
@@ -344,6 +362,9 @@ public class ErrorProneScanner extends Scanner {
     if (checker instanceof CompilationUnitTreeMatcher compilationUnitTreeMatcher) {
       compilationUnitMatchers.add(compilationUnitTreeMatcher);
     }
+    if (checker instanceof CompilationUnitVisitorMatcher compilationUnitVisitorMatcher) {
+      compilationUnitVisitorMatchers.add(compilationUnitVisitorMatcher);
+    }
     if (checker instanceof CompoundAssignmentTreeMatcher compoundAssignmentTreeMatcher) {
       compoundAssignmentMatchers.add(compoundAssignmentTreeMatcher);
     }
@@ -353,6 +374,11 @@ public class ErrorProneScanner extends Scanner {
     if (checker instanceof ContinueTreeMatcher continueTreeMatcher) {
       continueMatchers.add(continueTreeMatcher);
     }
+    if (checker instanceof DocTreeMatcher docTreeMatcher) {
+      for (DocTree.Kind kind : docTreeMatcher.docTreeKinds()) {
+        docTreeMatchers.computeIfAbsent(kind, k -> new ArrayList<>()).add(docTreeMatcher);
+      }
+    }
     if (checker instanceof DoWhileLoopTreeMatcher doWhileLoopTreeMatcher) {
       doWhileLoopMatchers.add(doWhileLoopTreeMatcher);
     }
@@ -516,6 +542,281 @@ public class ErrorProneScanner extends Scanner {
     return newState;
   }
 
+  /** A {@link CompilationUnitVisitor} running over the current compilation unit. */
+  private static final class ActiveVisitor {
+    final CompilationUnitVisitorMatcher matcher;
+    final CompilationUnitVisitor visitor;
+    final SuppressedState suppressed;
+
+    /** The tree whose descendants the visitor asked to skip, if any. */
+    @Nullable Tree skipping;
+
+    /** Whether the visitor has thrown, and so should not be called again. */
+    boolean failed;
+
+    /**
+     * The time spent in the visitor's {@code enter} and {@code exit}, and the bytes allocated, over
+     * the compilation unit. They are recorded in the {@link ErrorProneTimings} once the unit is
+     * done, rather than with a span per call.
+     */
+    long nanos;
+
+    long allocatedBytes;
+
+    ActiveVisitor(
+        CompilationUnitVisitorMatcher matcher,
+        CompilationUnitVisitor visitor,
+        SuppressedState suppressed) {
+      this.matcher = matcher;
+      this.visitor = visitor;
+      this.suppressed = suppressed;
+    }
+  }
+
+  /**
+   * The state of a node for the {@link CompilationUnitVisitor}s. Its path and {@link VisitorState}
+   * are only built if a visitor asks for them, and are then shared by the visitors.
+   */
+  private static final class LazyNodeState implements NodeState {
+    private Tree tree;
+    private TreePath parent;
+    private VisitorState parentState;
+    private @Nullable VisitorState state;
+
+    /** The suppression of the visitor that the node is being passed to. */
+    private SuppressedState suppressed;
+
+    void reset(Tree tree, TreePath parent, VisitorState parentState) {
+      this.tree = tree;
+      this.parent = parent;
+      this.parentState = parentState;
+      this.state = null;
+    }
+
+    @Override
+    public VisitorState state() {
+      if (state == null) {
+        state = parentState.withPath(new TreePath(parent, tree));
+      }
+      return state.withSuppression(suppressed);
+    }
+  }
+
+  /** Charges the time and allocations since the last reading to each visitor as it returns. */
+  private static final class VisitorClock {
+    private final ErrorProneTimings timings;
+    private long time;
+    private long allocated;
+
+    VisitorClock(ErrorProneTimings timings) {
+      this.timings = timings;
+    }
+
+    void start() {
+      time = System.nanoTime();
+      allocated = timings.currentThreadAllocatedBytes();
+    }
+
+    void charge(ActiveVisitor active) {
+      long now = System.nanoTime();
+      long allocatedNow = timings.currentThreadAllocatedBytes();
+      active.nanos += now - time;
+      active.allocatedBytes += allocatedNow - allocated;
+      time = now;
+      allocated = allocatedNow;
+    }
+  }
+
+  private List<ActiveVisitor> activeVisitors = new ArrayList<>();
+
+  private @Nullable VisitorClock visitorClock;
+
+  /**
+   * The node states of the trees being scanned, from the outermost. They are reused for each tree
+   * at the same depth, so that passing the nodes to the visitors doesn't allocate.
+   */
+  private final List<LazyNodeState> nodeStates = new ArrayList<>();
+
+  private int visitorDepth = 0;
+
+  private void startCompilationUnitVisitors(CompilationUnitTree tree, VisitorState state) {
+    activeVisitors = new ArrayList<>();
+    ErrorProneOptions errorProneOptions = state.errorProneOptions();
+    for (CompilationUnitVisitorMatcher matcher : compilationUnitVisitorMatchers) {
+      SuppressedState suppressed = isSuppressed(matcher, errorProneOptions, state);
+      if (suppressed == SuppressedState.UNSUPPRESSED
+          || errorProneOptions.isIgnoreSuppressionAnnotations()) {
+        try (AutoCloseable unused = state.timingSpan(matcher)) {
+          VisitorState stateWithSuppressionInformation = state.withSuppression(suppressed);
+          CompilationUnitVisitor visitor =
+              matcher.visitCompilationUnit(tree, stateWithSuppressionInformation);
+          if (visitor != null) {
+            activeVisitors.add(new ActiveVisitor(matcher, visitor, suppressed));
+          }
+        } catch (Exception | AssertionError t) {
+          handleError(matcher, t);
+        }
+      }
+    }
+    if (!activeVisitors.isEmpty()) {
+      visitorClock = new VisitorClock(ErrorProneTimings.instance(state.context));
+    }
+  }
+
+  private void finishCompilationUnitVisitors(VisitorState state) {
+    List<ActiveVisitor> finishing = activeVisitors;
+    activeVisitors = new ArrayList<>();
+    ErrorProneTimings timings = ErrorProneTimings.instance(state.context);
+    for (ActiveVisitor active : finishing) {
+      timings.record(active.matcher, active.nanos, active.allocatedBytes);
+      if (active.failed) {
+        continue;
+      }
+      try (AutoCloseable unused = state.timingSpan(active.matcher)) {
+        VisitorState stateWithSuppressionInformation = state.withSuppression(active.suppressed);
+        reportMatch(
+            active.visitor.finish(stateWithSuppressionInformation),
+            stateWithSuppressionInformation);
+      } catch (Exception | AssertionError t) {
+        handleError(active.matcher, t);
+      }
+    }
+  }
+
+  /**
+   * Passes each node below the compilation unit to the {@link CompilationUnitVisitor}s, before and
+   * after it is scanned. Like the matchers, the visitors don't see synthetic constructors.
+   */
+  @Override
+  public Void scan(Tree tree, VisitorState state) {
+    if (tree == null
+        || activeVisitors.isEmpty()
+        || (tree instanceof MethodTree methodTree
+            && ASTHelpers.isGeneratedConstructor(methodTree))) {
+      return super.scan(tree, state);
+    }
+    if (visitorDepth == nodeStates.size()) {
+      nodeStates.add(new LazyNodeState());
+    }
+    LazyNodeState node = nodeStates.get(visitorDepth);
+    node.reset(tree, getCurrentPath(), state);
+    VisitorClock clock = visitorClock;
+    clock.start();
+    for (ActiveVisitor active : activeVisitors) {
+      if (active.skipping != null || active.failed) {
+        continue;
+      }
+      node.suppressed = active.suppressed;
+      try {
+        if (!active.visitor.enter(tree, node)) {
+          active.skipping = tree;
+        }
+      } catch (Exception | AssertionError t) {
+        active.failed = true;
+        handleError(active.matcher, t);
+      }
+      clock.charge(active);
+    }
+    visitorDepth++;
+    try {
+      super.scan(tree, state);
+    } finally {
+      visitorDepth--;
+    }
+    clock.start();
+    for (ActiveVisitor active : activeVisitors) {
+      if (active.skipping == tree) {
+        active.skipping = null;
+        continue;
+      }
+      if (active.skipping != null || active.failed) {
+        continue;
+      }
+      node.suppressed = active.suppressed;
+      try {
+        active.visitor.exit(tree, node);
+      } catch (Exception | AssertionError t) {
+        active.failed = true;
+        handleError(active.matcher, t);
+      }
+      clock.charge(active);
+    }
+    return null;
+  }
+
+  /** Runs the {@link DocTreeMatcher}s over the Javadoc comment on the current declaration. */
+  private void processDocTreeMatchers(VisitorState state) {
+    if (docTreeMatchers.isEmpty()) {
+      return;
+    }
+    DocCommentTree docCommentTree =
+        JavacTrees.instance(state.context).getDocCommentTree(state.getPath());
+    if (docCommentTree != null) {
+      new DocTreeMatcherScanner(state).scan(new DocTreePath(state.getPath(), docCommentTree), null);
+    }
+  }
+
+  /**
+   * Walks a doc comment once, passing each node to the {@link DocTreeMatcher}s interested in its
+   * kind.
+   */
+  private final class DocTreeMatcherScanner extends DocTreePathScanner<Void, Void> {
+    private final VisitorState state;
+
+    /**
+     * The state to match with for each matcher, or empty if the matcher is suppressed on the
+     * documented declaration.
+     */
+    private final Map<DocTreeMatcher, Optional<VisitorState>> matcherStates = new HashMap<>();
+
+    private DocTreeMatcherScanner(VisitorState state) {
+      this.state = state;
+    }
+
+    @Override
+    public Void scan(DocTreePath path, Void unused) {
+      match(path);
+      return super.scan(path, null);
+    }
+
+    @Override
+    public Void scan(DocTree tree, Void unused) {
+      if (tree != null && docTreeMatchers.containsKey(tree.getKind())) {
+        match(new DocTreePath(getCurrentPath(), tree));
+      }
+      return super.scan(tree, null);
+    }
+
+    private void match(DocTreePath path) {
+      List<DocTreeMatcher> matchers = docTreeMatchers.get(path.getLeaf().getKind());
+      if (matchers == null) {
+        return;
+      }
+      for (DocTreeMatcher matcher : matchers) {
+        Optional<VisitorState> matcherState =
+            matcherStates.computeIfAbsent(matcher, this::stateFor);
+        if (matcherState.isEmpty()) {
+          continue;
+        }
+        try (AutoCloseable unused = state.timingSpan(matcher)) {
+          reportMatch(matcher.matchDocTree(path, matcherState.get()), matcherState.get());
+        } catch (Exception | AssertionError t) {
+          handleError(matcher, t);
+        }
+      }
+    }
+
+    private Optional<VisitorState> stateFor(DocTreeMatcher matcher) {
+      ErrorProneOptions errorProneOptions = state.errorProneOptions();
+      SuppressedState suppressed = isSuppressed(matcher, errorProneOptions, state);
+      if (suppressed == SuppressedState.UNSUPPRESSED
+          || errorProneOptions.isIgnoreSuppressionAnnotations()) {
+        return Optional.of(state.withSuppression(suppressed));
+      }
+      return Optional.empty();
+    }
+  }
+
   @Override
   public Void visitAnnotation(AnnotationTree tree, VisitorState visitorState) {
     VisitorState state =
@@ -616,6 +917,7 @@ public class ErrorProneScanner extends Scanner {
   public Void visitClass(ClassTree tree, VisitorState visitorState) {
     VisitorState state =
         processMatchers(classMatchers, tree, ClassTreeMatcher::matchClass, visitorState);
+    processDocTreeMatchers(state);
     return super.visitClass(tree, state);
   }
 
@@ -628,7 +930,10 @@ public class ErrorProneScanner extends Scanner {
             tree,
             CompilationUnitTreeMatcher::matchCompilationUnit,
             visitorState);
-    return super.visitCompilationUnit(tree, state);
+    startCompilationUnitVisitors(tree, state);
+    super.visitCompilationUnit(tree, state);
+    finishCompilationUnitVisitors(state);
+    return null;
   }
 
   @Override
@@ -815,6 +1120,7 @@ public class ErrorProneScanner extends Scanner {
 
     VisitorState state =
         processMatchers(methodMatchers, tree, MethodTreeMatcher::matchMethod, visitorState);
+    processDocTreeMatchers(state);
     return super.visitMethod(tree, state);
   }
 
@@ -1014,6 +1320,7 @@ public class ErrorProneScanner extends Scanner {
   public Void visitVariable(VariableTree tree, VisitorState visitorState) {
     VisitorState state =
         processMatchers(variableMatchers, tree, VariableTreeMatcher::matchVariable, visitorState);
+    processDocTreeMatchers(state);
     return super.visitVariable(tree, state);
   }
 
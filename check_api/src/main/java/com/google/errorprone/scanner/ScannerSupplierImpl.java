@@ -19,6 +19,9 @@ package com.google.errorprone.scanner;
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.collect.Iterables.getFirst;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.auto.value.AutoValue;
 import com.google.common.collect.ImmutableBiMap;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
@@ -66,15 +69,57 @@ class ScannerSupplierImpl extends ScannerSupplier implements Serializable {
     return injector.getInstance(checker.checkerClass());
   }
 
+  /** The flag which enables {@link #reusableCheckers}. */
+  static final String REUSE_CHECKERS_FLAG = "ErrorProne:ReuseCheckers";
+
+  /**
+   * The instances of the {@link BugChecker.Reusable} checks of recently used configurations, for
+   * long-lived processes which run many compilations with the same checks.
+   */
+  private static final Cache<ReusableCheckersKey, ImmutableMap<BugCheckerInfo, BugChecker>>
+      reusableCheckers = Caffeine.newBuilder().maximumSize(16).build();
+
+  @AutoValue
+  abstract static class ReusableCheckersKey {
+    abstract ImmutableSet<BugCheckerInfo> enabledChecks();
+
+    abstract ImmutableMap<String, SeverityLevel> severities();
+
+    abstract ImmutableMap<String, String> flags();
+  }
+
   @Override
   public ErrorProneScanner get() {
+    ImmutableSet<BugCheckerInfo> enabledChecks = getEnabledChecks();
+    ImmutableMap<BugCheckerInfo, BugChecker> reused =
+        flags.getBoolean(REUSE_CHECKERS_FLAG).orElse(false)
+            ? reusableCheckers.get(
+                new AutoValue_ScannerSupplierImpl_ReusableCheckersKey(
+                    enabledChecks, severities, flags.getFlagsMap()),
+                key -> instantiateReusableCheckers(enabledChecks))
+            : ImmutableMap.of();
     return new ErrorProneScanner(
-        getEnabledChecks().stream()
-            .map(this::instantiateChecker)
+        enabledChecks.stream()
+            .map(
+                checker -> {
+                  BugChecker instance = reused.get(checker);
+                  return instance != null ? instance : instantiateChecker(checker);
+                })
             .collect(ImmutableSet.toImmutableSet()),
         severities);
   }
 
+  private ImmutableMap<BugCheckerInfo, BugChecker> instantiateReusableCheckers(
+      ImmutableSet<BugCheckerInfo> enabledChecks) {
+    ImmutableMap.Builder<BugCheckerInfo, BugChecker> result = ImmutableMap.builder();
+    for (BugCheckerInfo checker : enabledChecks) {
+      if (checker.checkerClass().isAnnotationPresent(BugChecker.Reusable.class)) {
+        result.put(checker, instantiateChecker(checker));
+      }
+    }
+    return result.buildOrThrow();
+  }
+
   @Override
   public ImmutableBiMap<String, BugCheckerInfo> getAllChecks() {
     return checks;
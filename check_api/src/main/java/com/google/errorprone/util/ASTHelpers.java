@@ -340,7 +340,7 @@ public class ASTHelpers {
    */
   public static boolean canBeRemoved(Symbol symbol, VisitorState state) {
     if (symbol instanceof MethodSymbol
-        && !findSuperMethods((MethodSymbol) symbol, state.getTypes()).isEmpty()) {
+        && !findSuperMethods((MethodSymbol) symbol, state).isEmpty()) {
       return false;
     }
     return isEffectivelyPrivate(symbol);
@@ -706,11 +706,29 @@ public class ASTHelpers {
         .collect(toCollection(LinkedHashSet::new));
   }
 
+  /**
+   * Finds supermethods of {@code methodSymbol}, not including {@code methodSymbol} itself, and
+   * including interfaces.
+   *
+   * <p>Prefer this overload to {@link #findSuperMethods(MethodSymbol, Types)}: the result is cached
+   * for the rest of the compilation and shared with other checks.
+   */
+  public static ImmutableSet<MethodSymbol> findSuperMethods(
+      MethodSymbol methodSymbol, VisitorState state) {
+    return state.getOverrideIndex().superMethods(methodSymbol);
+  }
+
   /** See {@link #findSuperMethods(MethodSymbol, Types)}. */
   public static Stream<MethodSymbol> streamSuperMethods(MethodSymbol methodSymbol, Types types) {
     return findSuperMethods(methodSymbol, types, /* skipInterfaces= */ false);
   }
 
+  /** See {@link #findSuperMethods(MethodSymbol, VisitorState)}. */
+  public static Stream<MethodSymbol> streamSuperMethods(
+      MethodSymbol methodSymbol, VisitorState state) {
+    return findSuperMethods(methodSymbol, state).stream();
+  }
+
   private static Stream<MethodSymbol> findSuperMethods(
       MethodSymbol methodSymbol, Types types, boolean skipInterfaces) {
     TypeSymbol owner = (TypeSymbol) methodSymbol.owner;
@@ -731,6 +749,15 @@ public class ASTHelpers {
     return findSuperMethods(methodSymbol, types, /* skipInterfaces= */ true).findFirst();
   }
 
+  /**
+   * Finds (if it exists) first (in the class hierarchy) non-interface super method of given {@code
+   * method}, using the compilation's cached {@link OverrideIndex}.
+   */
+  public static Optional<MethodSymbol> findSuperMethod(
+      MethodSymbol methodSymbol, VisitorState state) {
+    return state.getOverrideIndex().superMethod(methodSymbol);
+  }
+
   /**
    * Finds all methods in any superclass of {@code startClass} with a certain {@code name} that
    * match the given {@code predicate}.
@@ -1315,6 +1342,9 @@ public class ASTHelpers {
     if (t == state.getSymtab().unknownType) {
       return false;
     }
+    if (SupertypeClosures.canCompare(s, t)) {
+      return state.getSupertypeClosures().isErasedSubtype(s, t);
+    }
     Types types = state.getTypes();
     return types.isSubtype(types.erasure(s), types.erasure(t));
   }
@@ -2516,7 +2546,7 @@ public class ASTHelpers {
     }
 
     // don't match overrides (even "effective overrides")
-    if (!findSuperMethods(method, state.getTypes()).isEmpty()) {
+    if (!findSuperMethods(method, state).isEmpty()) {
       return false;
     }
     return true;
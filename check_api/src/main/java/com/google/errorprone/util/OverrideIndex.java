@@ -0,0 +1,109 @@
+/*
+ * Copyright 2026 The Error Prone Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.errorprone.util;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.errorprone.JavacInvocationInstance;
+import com.sun.tools.javac.code.Symbol.MethodSymbol;
+import com.sun.tools.javac.code.Symbol.TypeSymbol;
+import com.sun.tools.javac.code.Type;
+import com.sun.tools.javac.code.Types;
+import com.sun.tools.javac.util.Context;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A compilation-scoped index from each method to the methods it overrides.
+ *
+ * <p>Entries are computed on first use and shared by every check in the compilation, so asking
+ * about the same method from several checks only scans its supertypes once.
+ */
+public final class OverrideIndex {
+
+  private static final Context.Key<OverrideIndex> OVERRIDE_INDEX_KEY = new Context.Key<>();
+
+  public static OverrideIndex instance(Context context) {
+    OverrideIndex instance = context.get(OVERRIDE_INDEX_KEY);
+    if (instance == null) {
+      instance = new OverrideIndex(context);
+    }
+    instance.resetIfNewInvocation(context);
+    return instance;
+  }
+
+  private final Types types;
+
+  private final Map<MethodSymbol, ImmutableSet<MethodSymbol>> superMethods = new HashMap<>();
+
+  private @Nullable JavacInvocationInstance invocation;
+
+  private OverrideIndex(Context context) {
+    context.put(OVERRIDE_INDEX_KEY, this);
+    this.types = Types.instance(context);
+  }
+
+  /**
+   * Drops the entries computed by an earlier invocation in a reused context, which may refer to
+   * symbols from that invocation's sources.
+   */
+  private void resetIfNewInvocation(Context context) {
+    JavacInvocationInstance current = JavacInvocationInstance.instance(context);
+    if (current != invocation) {
+      superMethods.clear();
+      invocation = current;
+    }
+  }
+
+  /**
+   * Returns the methods overridden by {@code methodSymbol}, not including {@code methodSymbol}
+   * itself, and including interfaces. See {@link ASTHelpers#findSuperMethods(MethodSymbol, Types)}.
+   */
+  public ImmutableSet<MethodSymbol> superMethods(MethodSymbol methodSymbol) {
+    ImmutableSet<MethodSymbol> result = superMethods.get(methodSymbol);
+    if (result == null) {
+      result = computeSuperMethods(methodSymbol);
+      superMethods.put(methodSymbol, result);
+    }
+    return result;
+  }
+
+  /**
+   * Returns the first (in the class hierarchy) non-interface method overridden by {@code
+   * methodSymbol}. See {@link ASTHelpers#findSuperMethod(MethodSymbol, Types)}.
+   */
+  public Optional<MethodSymbol> superMethod(MethodSymbol methodSymbol) {
+    return superMethods(methodSymbol).stream()
+        .filter(superMethod -> !superMethod.owner.isInterface())
+        .findFirst();
+  }
+
+  private ImmutableSet<MethodSymbol> computeSuperMethods(MethodSymbol methodSymbol) {
+    if (methodSymbol.isStatic()) {
+      return ImmutableSet.of();
+    }
+    ImmutableSet.Builder<MethodSymbol> result = ImmutableSet.builder();
+    for (Type type : types.closure(((TypeSymbol) methodSymbol.owner).type)) {
+      MethodSymbol superMethod = ASTHelpers.findSuperMethodInType(methodSymbol, type, types);
+      if (superMethod != null) {
+        result.add(superMethod);
+      }
+    }
+    return result.build();
+  }
+}
@@ -16,6 +16,10 @@
 
 package com.google.errorprone.util;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.google.auto.value.AutoValue;
 import com.google.common.base.CharMatcher;
 import com.google.common.collect.ImmutableMap;
 import java.util.Optional;
@@ -40,21 +44,77 @@ public final class Regexes {
 
   private static final CharMatcher UNESCAPED_CONSTRUCT = CharMatcher.anyOf("[].^$?*+{}()|");
 
+  /** The result of compiling a regex. */
+  @AutoValue
+  public abstract static class CompiledRegex {
+    /** The compiled pattern, if the regex is valid. */
+    public abstract Optional<Pattern> pattern();
+
+    /** The reason the regex is invalid, if it is. */
+    public abstract Optional<PatternSyntaxException> syntaxError();
+
+    /**
+     * The single string the regex matches, if it was compiled without flags and matches exactly one
+     * string. See {@link #convertRegexToLiteral}.
+     */
+    public abstract Optional<String> literal();
+  }
+
+  @AutoValue
+  abstract static class RegexKey {
+    abstract String regex();
+
+    abstract int flags();
+  }
+
+  /**
+   * Compiled regexes, shared by every compilation in the process. Checks see the same regex
+   * literals over and over again in large codebases, so most lookups are hits.
+   */
+  private static final LoadingCache<RegexKey, CompiledRegex> compiledRegexes =
+      Caffeine.newBuilder().maximumSize(10_000).recordStats().build(Regexes::compileUncached);
+
+  /**
+   * Compiles {@code regex} with {@link Pattern#compile(String, int)}, reusing the result of any
+   * previous compilation of the same regex with the same flags.
+   */
+  public static CompiledRegex compile(String regex, int flags) {
+    return compiledRegexes.get(new AutoValue_Regexes_RegexKey(regex, flags));
+  }
+
+  /** Returns the hit and miss counts of the cache used by {@link #compile}. */
+  public static CacheStats compileCacheStats() {
+    return compiledRegexes.stats();
+  }
+
+  private static CompiledRegex compileUncached(RegexKey key) {
+    Pattern pattern;
+    try {
+      pattern = Pattern.compile(key.regex(), key.flags());
+    } catch (PatternSyntaxException e) {
+      return new AutoValue_Regexes_CompiledRegex(
+          Optional.empty(), Optional.of(e), Optional.empty());
+    }
+    return new AutoValue_Regexes_CompiledRegex(
+        Optional.of(pattern),
+        Optional.empty(),
+        key.flags() == 0 ? literal(key.regex()) : Optional.empty());
+  }
+
   /**
    * If the given regexes matches exactly one string, returns that string. Otherwise returns {@code
    * null}. This can be used to identify arguments to e.g. {@code String.replaceAll} that don't need
    * to be regexes.
    */
   public static Optional<String> convertRegexToLiteral(String s) {
-    try {
-      Pattern.compile(s);
-    } catch (PatternSyntaxException e) {
-      /* The string is a malformed regular expression which will throw an error at runtime. We will
-       * preserve this behavior by not rewriting it.
-       */
-      return Optional.empty();
-    }
+    /* If the string is a malformed regular expression, it will throw an error at runtime. We will
+     * preserve this behavior by not rewriting it.
+     */
+    return compile(s, 0).literal();
+  }
 
+  /** Implements {@link #convertRegexToLiteral} for a well-formed regex. */
+  private static Optional<String> literal(String s) {
     boolean inQuote = false;
     StringBuilder result = new StringBuilder();
     int length = s.length();
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026 The Error Prone Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.errorprone.util;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.errorprone.JavacInvocationInstance;
+import com.sun.tools.javac.code.Symbol.TypeSymbol;
+import com.sun.tools.javac.code.Type;
+import com.sun.tools.javac.code.TypeTag;
+import com.sun.tools.javac.code.Types;
+import com.sun.tools.javac.util.Context;
+import java.util.HashMap;
+import java.util.Map;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A compilation-scoped cache of the erased supertype closure of each class.
+ *
+ * <p>Answering {@code erasure(s) <: erasure(t)} for two class types only requires knowing whether
+ * {@code t}'s class appears in the supertype closure of {@code s}'s class. The closure of a class
+ * doesn't change over the course of a compilation, so it is computed once and shared by every check
+ * that asks the question.
+ */
+public final class SupertypeClosures {
+
+  private static final Context.Key<SupertypeClosures> SUPERTYPE_CLOSURES_KEY = new Context.Key<>();
+
+  public static SupertypeClosures instance(Context context) {
+    SupertypeClosures instance = context.get(SUPERTYPE_CLOSURES_KEY);
+    if (instance == null) {
+      instance = new SupertypeClosures(context);
+    }
+    instance.resetIfNewInvocation(context);
+    return instance;
+  }
+
+  private final Types types;
+  private final Map<TypeSymbol, ImmutableSet<TypeSymbol>> closures = new HashMap<>();
+
+  private @Nullable JavacInvocationInstance invocation;
+
+  private SupertypeClosures(Context context) {
+    context.put(SUPERTYPE_CLOSURES_KEY, this);
+    this.types = Types.instance(context);
+  }
+
+  /**
+   * Drops the closures computed by an earlier invocation in a reused context, which may refer to
+   * symbols from that invocation's sources.
+   */
+  private void resetIfNewInvocation(Context context) {
+    JavacInvocationInstance current = JavacInvocationInstance.instance(context);
+    if (current != invocation) {
+      closures.clear();
+      invocation = current;
+    }
+  }
+
+  /**
+   * Returns true if {@code s} and {@code t} are both class types whose erasures can be compared by
+   * a closure lookup, i.e. if {@link #isErasedSubtype} may be used instead of {@link
+   * Types#isSubtype}.
+   */
+  static boolean canCompare(Type s, Type t) {
+    return s.hasTag(TypeTag.CLASS) && t.hasTag(TypeTag.CLASS) && !s.isCompound() && !t.isCompound();
+  }
+
+  /**
+   * Returns true if {@code erasure(s) <: erasure(t)}. Both types must satisfy {@link #canCompare}.
+   */
+  boolean isErasedSubtype(Type s, Type t) {
+    TypeSymbol sub = s.tsym;
+    TypeSymbol sup = t.tsym;
+    return sub == sup || closure(sub).contains(sup);
+  }
+
+  /** Returns the symbols of every class in the erased supertype closure of {@code sym}. */
+  public ImmutableSet<TypeSymbol> closure(TypeSymbol sym) {
+    ImmutableSet<TypeSymbol> closure = closures.get(sym);
+    if (closure == null) {
+      // Not computeIfAbsent: computing the closure may complete other classes, which can re-enter
+      // this cache through completion listeners.
+      ImmutableSet.Builder<TypeSymbol> builder = ImmutableSet.builder();
+      for (Type supertype : types.closure(sym.erasure(types))) {
+        builder.add(supertype.tsym);
+      }
+      closure = builder.build();
+      closures.put(sym, closure);
+    }
+    return closure;
+  }
+}
@@ -0,0 +1,251 @@
+/*
+ * Copyright 2026 The Error Prone Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.errorprone.util;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableListMultimap;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.errorprone.JavacInvocationInstance;
+import com.sun.source.tree.AssignmentTree;
+import com.sun.source.tree.ClassTree;
+import com.sun.source.tree.CompilationUnitTree;
+import com.sun.source.tree.CompoundAssignmentTree;
+import com.sun.source.tree.IdentifierTree;
+import com.sun.source.tree.MemberReferenceTree;
+import com.sun.source.tree.MemberSelectTree;
+import com.sun.source.tree.MethodTree;
+import com.sun.source.tree.NewClassTree;
+import com.sun.source.tree.ParenthesizedTree;
+import com.sun.source.tree.Tree;
+import com.sun.source.tree.UnaryTree;
+import com.sun.source.tree.VariableTree;
+import com.sun.source.util.TreePath;
+import com.sun.source.util.TreePathScanner;
+import com.sun.tools.javac.code.Symbol;
+import com.sun.tools.javac.code.Symbol.MethodSymbol;
+import com.sun.tools.javac.tree.JCTree.JCMemberReference;
+import com.sun.tools.javac.tree.JCTree.JCNewClass;
+import com.sun.tools.javac.util.Context;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * An index of the declarations of, and references to, symbols in a compilation unit.
+ *
+ * <p>The index is built with a single traversal the first time it is requested for a compilation
+ * unit, and is then shared by every check that analyzes that unit, so checks which would each have
+ * scanned the whole file for uses of a symbol can instead look them up.
+ *
+ * <p>References are the identifiers, member selects, member references and {@code new} expressions
+ * which resolve to a symbol. Each reference is also classified as a read, a write, or both (for
+ * compound assignments and increments).
+ */
+public final class SymbolUsageIndex {
+
+  private static final Context.Key<LastIndexed> SYMBOL_USAGE_INDEX_KEY = new Context.Key<>();
+
+  /** Holds the index of the most recently analyzed compilation unit. */
+  private static final class LastIndexed {
+    private @Nullable JavacInvocationInstance invocation;
+    private @Nullable CompilationUnitTree compilationUnit;
+    private @Nullable SymbolUsageIndex index;
+  }
+
+  /**
+   * Returns the index for {@code compilationUnit}. Only the most recently requested compilation
+   * unit's index is retained, since Error Prone analyzes one compilation unit at a time.
+   */
+  public static SymbolUsageIndex instance(CompilationUnitTree compilationUnit, Context context) {
+    LastIndexed lastIndexed = context.get(SYMBOL_USAGE_INDEX_KEY);
+    if (lastIndexed == null) {
+      lastIndexed = new LastIndexed();
+      context.put(SYMBOL_USAGE_INDEX_KEY, lastIndexed);
+    }
+    // A reused context may hold the index of a unit from an earlier invocation.
+    JavacInvocationInstance invocation = JavacInvocationInstance.instance(context);
+    if (lastIndexed.invocation != invocation
+        || lastIndexed.compilationUnit != compilationUnit
+        || lastIndexed.index == null) {
+      lastIndexed.invocation = invocation;
+      lastIndexed.compilationUnit = compilationUnit;
+      lastIndexed.index = new SymbolUsageIndex(compilationUnit);
+    }
+    return lastIndexed.index;
+  }
+
+  private final ImmutableMap<Symbol, TreePath> declarations;
+  private final ImmutableListMultimap<Symbol, TreePath> references;
+  private final ImmutableListMultimap<Symbol, TreePath> reads;
+  private final ImmutableListMultimap<Symbol, TreePath> writes;
+
+  private SymbolUsageIndex(CompilationUnitTree compilationUnit) {
+    Indexer indexer = new Indexer();
+    indexer.scan(new TreePath(compilationUnit), null);
+    this.declarations = ImmutableMap.copyOf(indexer.declarations);
+    this.references = indexer.references.build();
+    this.reads = indexer.reads.build();
+    this.writes = indexer.writes.build();
+  }
+
+  /**
+   * Returns the paths to the class, method and variable declarations in the compilation unit, in
+   * source order.
+   */
+  public ImmutableList<TreePath> declarations() {
+    return declarations.values().asList();
+  }
+
+  /** Returns the path to the declaration of {@code symbol}, if it's declared in this unit. */
+  public Optional<TreePath> declaration(Symbol symbol) {
+    return Optional.ofNullable(declarations.get(symbol));
+  }
+
+  /** Returns the symbols which are referenced at least once in the compilation unit. */
+  public ImmutableSet<Symbol> referencedSymbols() {
+    return references.keySet();
+  }
+
+  /** Returns the paths to every reference to {@code symbol}, in source order. */
+  public ImmutableList<TreePath> references(Symbol symbol) {
+    return references.get(symbol.baseSymbol());
+  }
+
+  /**
+   * Returns the paths to the references which read {@code symbol}: all of its references except the
+   * targets of plain assignments.
+   */
+  public ImmutableList<TreePath> reads(Symbol symbol) {
+    return reads.get(symbol.baseSymbol());
+  }
+
+  /**
+   * Returns the paths to the references which write {@code symbol}: the targets of assignments,
+   * compound assignments, and increment and decrement operators.
+   */
+  public ImmutableList<TreePath> writes(Symbol symbol) {
+    return writes.get(symbol.baseSymbol());
+  }
+
+  private static final class Indexer extends TreePathScanner<Void, Void> {
+    private final Map<Symbol, TreePath> declarations = new LinkedHashMap<>();
+    private final ImmutableListMultimap.Builder<Symbol, TreePath> references =
+        ImmutableListMultimap.builder();
+    private final ImmutableListMultimap.Builder<Symbol, TreePath> reads =
+        ImmutableListMultimap.builder();
+    private final ImmutableListMultimap.Builder<Symbol, TreePath> writes =
+        ImmutableListMultimap.builder();
+
+    @Override
+    public Void visitClass(ClassTree tree, Void unused) {
+      declare(ASTHelpers.getSymbol(tree));
+      return super.visitClass(tree, null);
+    }
+
+    @Override
+    public Void visitMethod(MethodTree tree, Void unused) {
+      declare(ASTHelpers.getSymbol(tree));
+      return super.visitMethod(tree, null);
+    }
+
+    @Override
+    public Void visitVariable(VariableTree tree, Void unused) {
+      declare(ASTHelpers.getSymbol(tree));
+      return super.visitVariable(tree, null);
+    }
+
+    @Override
+    public Void visitIdentifier(IdentifierTree tree, Void unused) {
+      reference(ASTHelpers.getSymbol(tree));
+      return super.visitIdentifier(tree, null);
+    }
+
+    @Override
+    public Void visitMemberSelect(MemberSelectTree tree, Void unused) {
+      reference(ASTHelpers.getSymbol(tree));
+      return super.visitMemberSelect(tree, null);
+    }
+
+    @Override
+    public Void visitMemberReference(MemberReferenceTree tree, Void unused) {
+      reference(((JCMemberReference) tree).sym);
+      return super.visitMemberReference(tree, null);
+    }
+
+    @Override
+    public Void visitNewClass(NewClassTree tree, Void unused) {
+      reference(((JCNewClass) tree).constructor);
+      return super.visitNewClass(tree, null);
+    }
+
+    private void declare(Symbol symbol) {
+      declarations.putIfAbsent(symbol, getCurrentPath());
+    }
+
+    private void reference(@Nullable Symbol symbol) {
+      if (symbol == null) {
+        return;
+      }
+      if (symbol instanceof MethodSymbol) {
+        symbol = symbol.baseSymbol();
+      }
+      TreePath path = getCurrentPath();
+      references.put(symbol, path);
+      switch (accessKind(path)) {
+        case READ -> reads.put(symbol, path);
+        case WRITE -> writes.put(symbol, path);
+        case READ_WRITE -> {
+          reads.put(symbol, path);
+          writes.put(symbol, path);
+        }
+      }
+    }
+
+    private enum AccessKind {
+      READ,
+      WRITE,
+      READ_WRITE
+    }
+
+    private static AccessKind accessKind(TreePath path) {
+      Tree leaf = path.getLeaf();
+      TreePath parentPath = path.getParentPath();
+      while (parentPath.getLeaf() instanceof ParenthesizedTree) {
+        leaf = parentPath.getLeaf();
+        parentPath = parentPath.getParentPath();
+      }
+      Tree parent = parentPath.getLeaf();
+      if (parent instanceof AssignmentTree assignment && assignment.getVariable() == leaf) {
+        return AccessKind.WRITE;
+      }
+      if (parent instanceof CompoundAssignmentTree compoundAssignment
+          && compoundAssignment.getVariable() == leaf) {
+        return AccessKind.READ_WRITE;
+      }
+      if (parent instanceof UnaryTree unary && unary.getExpression() == leaf) {
+        return switch (unary.getKind()) {
+          case PREFIX_INCREMENT, PREFIX_DECREMENT, POSTFIX_INCREMENT, POSTFIX_DECREMENT ->
+              AccessKind.READ_WRITE;
+          default -> AccessKind.READ;
+        };
+      }
+      return AccessKind.READ;
+    }
+  }
+}
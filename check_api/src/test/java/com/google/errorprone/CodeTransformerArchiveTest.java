@@ -0,0 +1,275 @@
+/*
+ * Copyright 2026 The Error Prone Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.errorprone;
+
+import static com.google.common.truth.Truth.assertThat;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertThrows;
+
+import com.google.common.collect.ImmutableClassToInstanceMap;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.sun.source.tree.CompilationUnitTree;
+import com.sun.source.util.JavacTask;
+import com.sun.source.util.TreePath;
+import com.sun.tools.javac.api.JavacTool;
+import com.sun.tools.javac.file.JavacFileManager;
+import com.sun.tools.javac.util.Context;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.lang.annotation.Annotation;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import javax.tools.SimpleJavaFileObject;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/** {@link CodeTransformerArchive}Test */
+@RunWith(JUnit4.class)
+public class CodeTransformerArchiveTest {
+
+  @Rule public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private static final List<String> loaded = new ArrayList<>();
+  private static final List<String> applied = new ArrayList<>();
+
+  private static final class RecordingTransformer implements CodeTransformer, Serializable {
+    private final String name;
+
+    RecordingTransformer(String name) {
+      this.name = name;
+    }
+
+    private Object readResolve() {
+      loaded.add(name);
+      return this;
+    }
+
+    @Override
+    public void apply(TreePath path, Context context, DescriptionListener listener) {
+      applied.add(name);
+    }
+
+    @Override
+    public ImmutableClassToInstanceMap<Annotation> annotations() {
+      return ImmutableClassToInstanceMap.of();
+    }
+  }
+
+  /** Fails to deserialize like a transformer whose class has changed since it was written. */
+  private static final class IncompatibleTransformer implements CodeTransformer, Serializable {
+    private void readObject(ObjectInputStream in) throws InvalidClassException {
+      throw new InvalidClassException(getClass().getName(), "local class incompatible");
+    }
+
+    @Override
+    public void apply(TreePath path, Context context, DescriptionListener listener) {}
+
+    @Override
+    public ImmutableClassToInstanceMap<Annotation> annotations() {
+      return ImmutableClassToInstanceMap.of();
+    }
+  }
+
+  @Before
+  public void setUp() {
+    loaded.clear();
+    applied.clear();
+  }
+
+  @Test
+  public void loadsOnlyTransformersThatMightMatch() throws IOException {
+    Path archive =
+        write(
+            entry("always"),
+            entry("digest", ImmutableSet.of("digest", "getBytes")),
+            entry("signum", ImmutableSet.of("signum")),
+            entry("either", ImmutableSet.of("foo"), ImmutableSet.of("getBytes")));
+    CodeTransformer transformer = CodeTransformerArchive.read(archive);
+    assertThat(loaded).isEmpty();
+
+    apply(transformer, "class A { byte[] f(String s) { return s.getBytes(); } }");
+    assertThat(loaded).containsExactly("always", "either").inOrder();
+    assertThat(applied).containsExactly("always", "either").inOrder();
+
+    applied.clear();
+    apply(transformer, "class B { int f(Integer i) { return Integer.signum(i); } }");
+    assertThat(loaded).containsExactly("always", "either", "signum").inOrder();
+    // Transformers loaded for earlier compilation units are still applied, in their original order.
+    assertThat(applied).containsExactly("always", "signum", "either").inOrder();
+  }
+
+  @Test
+  public void isArchive() throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    CodeTransformerArchive.write(ImmutableList.of(entry("always")), bytes);
+    ByteArrayInputStream in = new ByteArrayInputStream(bytes.toByteArray());
+    assertThat(CodeTransformerArchive.isArchive(in)).isTrue();
+    assertThat(in.available()).isEqualTo(bytes.size());
+
+    assertThat(CodeTransformerArchive.isArchive(new ByteArrayInputStream(new byte[] {1, 2})))
+        .isFalse();
+  }
+
+  @Test
+  public void rejectsOtherVersions() throws IOException {
+    Path archive = write(entry("always"));
+    byte[] bytes = Files.readAllBytes(archive);
+    bytes[7]++;
+    Files.write(archive, bytes);
+    IOException e = assertThrows(IOException.class, () -> CodeTransformerArchive.read(archive));
+    assertThat(e).hasMessageThat().contains("has version 4; expected version 3");
+  }
+
+  @Test
+  public void rejectsOtherErrorProneVersions() throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    DataOutputStream output = new DataOutputStream(bytes);
+    output.writeInt(0x45505254);
+    output.writeInt(3);
+    output.writeUTF("2.10.0");
+    output.writeInt(0);
+    output.writeInt(0);
+    Path archive = temporaryFolder.newFile("rules.refaster").toPath();
+    Files.write(archive, bytes.toByteArray());
+
+    IOException e =
+        assertThrows(IOException.class, () -> CodeTransformerArchive.read(archive, "2.11.0"));
+    assertThat(e)
+        .hasMessageThat()
+        .contains(
+            "was compiled by Error Prone 2.10.0, but this is Error Prone 2.11.0; recompile the"
+                + " rules with this version of Error Prone");
+    assertThat(CodeTransformerArchive.read(archive, "2.10.0")).isNotNull();
+  }
+
+  @Test
+  public void rejectsIncompatibleTransformers() throws IOException {
+    Path archive =
+        write(
+            CodeTransformerArchive.Entry.create(new IncompatibleTransformer(), ImmutableList.of()));
+    CodeTransformer transformer = CodeTransformerArchive.read(archive);
+
+    IllegalStateException e =
+        assertThrows(IllegalStateException.class, () -> apply(transformer, "class A {}"));
+    assertThat(e)
+        .hasMessageThat()
+        .contains(
+            "compiled by a different version of Error Prone; recompile the rules with this"
+                + " version of Error Prone");
+  }
+
+  @Test
+  public void writesEachClassDescriptorOnce() throws IOException {
+    int empty = size();
+    int one = size(entry("a"));
+    int two = size(entry("a"), entry("b"));
+    // The second transformer only adds its field values, not the descriptor of its class.
+    assertThat(two - one).isLessThan((one - empty) / 2);
+
+    CodeTransformer transformer =
+        CodeTransformerArchive.read(write(entry("a"), entry("b", ImmutableSet.of("b"))));
+    apply(transformer, "class A { int f(int b) { return b; } }");
+    assertThat(loaded).containsExactly("a", "b").inOrder();
+  }
+
+  @Test
+  public void identifiersInComputedOncePerUnit() throws IOException {
+    Context context = new Context();
+    CompilationUnitTree a = parse("class A { int f(String s) { return s.length(); } }");
+    CompilationUnitTree b = parse("class B {}");
+
+    ImmutableSet<String> identifiers = CodeTransformerArchive.identifiersIn(a, context);
+    assertThat(identifiers).containsAtLeast("String", "s", "length");
+    assertThat(CodeTransformerArchive.identifiersIn(a, context)).isSameInstanceAs(identifiers);
+    assertThat(CodeTransformerArchive.identifiersIn(b, context)).doesNotContain("length");
+  }
+
+  @Test
+  public void identifiersIn() throws IOException {
+    assertThat(
+            CodeTransformerArchive.identifiersIn(
+                parse("class A { int f(java.util.List<String> xs) { return xs.size(); } }")))
+        .containsAtLeast("java", "util", "List", "String", "xs", "size");
+  }
+
+  @SafeVarargs
+  private static CodeTransformerArchive.Entry entry(String name, ImmutableSet<String>... required) {
+    return CodeTransformerArchive.Entry.create(
+        new RecordingTransformer(name), ImmutableList.copyOf(required));
+  }
+
+  private static int size(CodeTransformerArchive.Entry... entries) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    CodeTransformerArchive.write(ImmutableList.copyOf(entries), bytes);
+    return bytes.size();
+  }
+
+  private Path write(CodeTransformerArchive.Entry... entries) throws IOException {
+    Path path = temporaryFolder.newFile("rules.refaster").toPath();
+    try (OutputStream out = Files.newOutputStream(path)) {
+      CodeTransformerArchive.write(ImmutableList.copyOf(entries), out);
+    }
+    return path;
+  }
+
+  private static void apply(CodeTransformer transformer, String source) throws IOException {
+    CompilationUnitTree unit = parse(source);
+    transformer.apply(new TreePath(unit), new Context(), description -> {});
+  }
+
+  private static CompilationUnitTree parse(String source) throws IOException {
+    JavacFileManager fileManager = new JavacFileManager(new Context(), false, UTF_8);
+    JavacTask task =
+        JavacTool.create()
+            .getTask(
+                /* out= */ null,
+                fileManager,
+                /* diagnosticListener= */ null,
+                /* options= */ ImmutableList.of(),
+                /* classes= */ ImmutableList.of(),
+                ImmutableList.of(new SourceFile(source)));
+    return task.parse().iterator().next();
+  }
+
+  private static final class SourceFile extends SimpleJavaFileObject {
+    private final String source;
+
+    SourceFile(String source) {
+      super(URI.create("string:///Test.java"), Kind.SOURCE);
+      this.source = source;
+    }
+
+    @Override
+    public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+      return source;
+    }
+  }
+}
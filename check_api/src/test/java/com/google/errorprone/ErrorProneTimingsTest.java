@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026 The Error Prone Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.errorprone;
+
+import static com.google.common.truth.Truth.assertThat;
+import static com.google.errorprone.BugPattern.SeverityLevel.WARNING;
+
+import com.google.errorprone.bugpatterns.BugChecker;
+import com.sun.tools.javac.util.Context;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public class ErrorProneTimingsTest {
+
+  @BugPattern(summary = "Allocates", severity = WARNING)
+  public static class Allocating extends BugChecker {}
+
+  private static final List<Object> sink = new ArrayList<>();
+
+  @Test
+  public void allocationsNotTrackedByDefault() throws Exception {
+    ErrorProneTimings timings = timings();
+    try (AutoCloseable unused = timings.span(new Allocating())) {
+      sink.add(new byte[1 << 20]);
+    }
+    sink.clear();
+
+    assertThat(timings.timings()).containsKey("Allocating");
+    assertThat(timings.allocations()).isEmpty();
+  }
+
+  @Test
+  public void allocationsTracked() throws Exception {
+    ErrorProneTimings timings =
+        timings("-XepOpt:" + ErrorProneTimings.TRACK_ALLOCATIONS_FLAG + "=true");
+    Allocating checker = new Allocating();
+    for (int i = 0; i < 2; i++) {
+      try (AutoCloseable unused = timings.span(checker)) {
+        sink.add(new byte[1 << 20]);
+      }
+    }
+    sink.clear();
+
+    assertThat(timings.timings()).containsKey("Allocating");
+    assertThat(timings.allocations().get("Allocating")).isAtLeast(2L << 20);
+  }
+
+  @Test
+  public void recordedTimeAddedToSpans() throws Exception {
+    ErrorProneTimings timings =
+        timings("-XepOpt:" + ErrorProneTimings.TRACK_ALLOCATIONS_FLAG + "=true");
+    Allocating checker = new Allocating();
+    try (AutoCloseable unused = timings.span(checker)) {
+      sink.add(new byte[1 << 20]);
+    }
+    sink.clear();
+    Duration spanned = timings.timings().get("Allocating");
+    long allocated = timings.allocations().get("Allocating");
+
+    timings.record(checker, Duration.ofSeconds(1).toNanos(), 42);
+
+    assertThat(timings.timings()).containsExactly("Allocating", spanned.plusSeconds(1));
+    assertThat(timings.allocations()).containsExactly("Allocating", allocated + 42);
+  }
+
+  private static ErrorProneTimings timings(String... args) {
+    ErrorProneTimings timings = ErrorProneTimings.instance(new Context());
+    timings.configure(ErrorProneOptions.processArgs(args));
+    return timings;
+  }
+}
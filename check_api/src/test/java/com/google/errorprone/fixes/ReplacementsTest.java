@@ -21,9 +21,13 @@ import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.fail;
 
 import com.google.common.base.Function;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Range;
 import com.google.errorprone.fixes.Replacements.CoalescePolicy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
@@ -183,4 +187,80 @@ public class ReplacementsTest {
     Replacement around = Replacement.create(0, 2, "Around");
     assertThrows(IllegalArgumentException.class, () -> replacements.add(around));
   }
+
+  @Test
+  public void batch_ascending() {
+    Replacement a = Replacement.create(0, 1, "a");
+    Replacement b = Replacement.create(1, 1, "b");
+    Replacement c = Replacement.create(1, 3, "c");
+    Replacement d = Replacement.create(5, 7, "d");
+    assertThat(Replacements.ascending(ImmutableList.of(d, c, a, b), CoalescePolicy.REJECT))
+        .containsExactly(a, b, c, d)
+        .inOrder();
+  }
+
+  @Test
+  public void batch_coalescesInAddOrder() {
+    assertThat(
+            Replacements.ascending(
+                ImmutableList.of(
+                    Replacement.create(42, 42, "a"),
+                    Replacement.create(9, 9, "z"),
+                    Replacement.create(42, 42, "b"),
+                    Replacement.create(9, 9, "z"),
+                    Replacement.create(42, 42, "c")),
+                CoalescePolicy.EXISTING_FIRST))
+        .containsExactly(Replacement.create(9, 9, "z"), Replacement.create(42, 42, "abc"))
+        .inOrder();
+  }
+
+  @Test
+  public void batch_overlap() {
+    Replacement hello = Replacement.create(2, 4, "hello");
+    Replacement goodbye = Replacement.create(3, 5, "goodbye");
+    IllegalArgumentException e =
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> Replacements.ascending(ImmutableList.of(goodbye, hello), CoalescePolicy.REJECT));
+    assertThat(e)
+        .hasMessageThat()
+        .isEqualTo(String.format("%s overlaps with existing replacements: %s", hello, goodbye));
+  }
+
+  @Test
+  public void batch_zeroLengthRangeOverlaps() {
+    Replacement insertion = Replacement.create(1, 1, "Something");
+    Replacement around = Replacement.create(0, 2, "Around");
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> Replacements.ascending(ImmutableList.of(insertion, around), CoalescePolicy.REJECT));
+    assertThat(Replacements.ascending(ImmutableList.of(around, insertion), CoalescePolicy.REJECT))
+        .containsExactly(around, insertion)
+        .inOrder();
+  }
+
+  @Test
+  public void batch_agreesWithIncremental() {
+    Random random = new Random(42);
+    for (int i = 0; i < 1000; i++) {
+      List<Replacement> input = new ArrayList<>();
+      for (int j = random.nextInt(8); j > 0; j--) {
+        int start = random.nextInt(20);
+        int end = start + (random.nextBoolean() ? 0 : random.nextInt(3));
+        input.add(Replacement.create(start, end, String.valueOf((char) ('a' + random.nextInt(3)))));
+      }
+      for (CoalescePolicy policy : CoalescePolicy.values()) {
+        Replacements replacements = new Replacements();
+        try {
+          input.forEach(r -> replacements.add(r, policy));
+        } catch (IllegalArgumentException e) {
+          assertThrows(IllegalArgumentException.class, () -> Replacements.ascending(input, policy));
+          continue;
+        }
+        assertThat(Replacements.ascending(input, policy))
+            .containsExactlyElementsIn(replacements.ascending())
+            .inOrder();
+      }
+    }
+  }
 }
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2026 The Error Prone Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.errorprone.names;
+
+import static com.google.common.truth.Truth.assertThat;
+import static com.google.common.truth.Truth.assertWithMessage;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/** Tests for LevenshteinEditDistance */
+@RunWith(JUnit4.class)
+public class LevenshteinEditDistanceTest {
+
+  private static final ImmutableList<String> WORDS =
+      ImmutableList.of(
+          "",
+          " ",
+          "a",
+          "A",
+          "ab",
+          "ba",
+          "kitten",
+          "sitting",
+          "Saturday",
+          "sunday",
+          "fooBar",
+          "bazQux",
+          "expected",
+          "actual",
+          "parameterName",
+          "paramName");
+
+  @Test
+  public void getEditDistance_returnsKnownDistances() {
+    assertThat(LevenshteinEditDistance.getEditDistance("kitten", "sitting")).isEqualTo(3);
+    assertThat(LevenshteinEditDistance.getEditDistance("Saturday", "Sunday")).isEqualTo(3);
+    assertThat(LevenshteinEditDistance.getEditDistance("foo", "FOO")).isEqualTo(3);
+    assertThat(LevenshteinEditDistance.getEditDistance("foo", "FOO", /* caseSensitive= */ false))
+        .isEqualTo(0);
+    assertThat(LevenshteinEditDistance.getEditDistance("  ", "abc")).isEqualTo(3);
+  }
+
+  @Test
+  public void getEditDistance_matchesFullMatrix() {
+    for (String source : WORDS) {
+      for (String target : WORDS) {
+        for (boolean caseSensitive : new boolean[] {true, false}) {
+          assertWithMessage("%s -> %s", source, target)
+              .that(LevenshteinEditDistance.getEditDistance(source, target, caseSensitive))
+              .isEqualTo(fullMatrixEditDistance(source, target, caseSensitive));
+        }
+      }
+    }
+  }
+
+  @Test
+  public void getEditDistance_withMaxDistance_cutsOffAboveBound() {
+    for (String source : WORDS) {
+      for (String target : WORDS) {
+        int distance = fullMatrixEditDistance(source, target, /* caseSensitive= */ true);
+        for (int maxDistance = 0; maxDistance <= 15; maxDistance++) {
+          assertWithMessage("%s -> %s within %s", source, target, maxDistance)
+              .that(
+                  LevenshteinEditDistance.getEditDistance(
+                      source, target, /* caseSensitive= */ true, maxDistance))
+              .isEqualTo(Math.min(distance, maxDistance + 1));
+        }
+      }
+    }
+  }
+
+  /** The textbook algorithm, for comparison. */
+  private static int fullMatrixEditDistance(String source, String target, boolean caseSensitive) {
+    if (source.isBlank()) {
+      source = "";
+    }
+    if (target.isBlank()) {
+      target = "";
+    }
+    if (!caseSensitive) {
+      source = source.toLowerCase();
+      target = target.toLowerCase();
+    }
+    int[][] matrix = new int[source.length() + 1][target.length() + 1];
+    for (int i = 0; i <= source.length(); i++) {
+      matrix[i][0] = i;
+    }
+    for (int j = 0; j <= target.length(); j++) {
+      matrix[0][j] = j;
+    }
+    for (int i = 1; i <= source.length(); i++) {
+      for (int j = 1; j <= target.length(); j++) {
+        int cost = source.charAt(i - 1) == target.charAt(j - 1) ? 0 : 1;
+        matrix[i][j] =
+            Math.min(matrix[i - 1][j - 1] + cost, Math.min(matrix[i - 1][j], matrix[i][j - 1]) + 1);
+      }
+    }
+    return matrix[source.length()][target.length()];
+  }
+}
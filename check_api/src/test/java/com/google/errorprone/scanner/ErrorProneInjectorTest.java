@@ -81,8 +81,55 @@ public final class ErrorProneInjectorTest {
     assertThat(e).hasMessageThat().contains("Integer <- InjectConstructorAndZeroArgConstructor");
   }
 
+  @Test
+  public void instancesNotSharedBetweenInjectors() {
+    var first = ErrorProneInjector.create().getInstance(InjectConstructor.class);
+    var second = ErrorProneInjector.create().getInstance(InjectConstructor.class);
+
+    assertThat(first).isNotSameInstanceAs(second);
+  }
+
+  @Test
+  public void exceptionInConstructor() {
+    var injector = ErrorProneInjector.create();
+
+    var e =
+        assertThrows(
+            ProvisionException.class, () -> injector.getInstance(ThrowingConstructor.class));
+
+    assertThat(e).hasMessageThat().contains("Failed to initialize");
+    assertThat(e).hasCauseThat().isInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  public void linkageErrorInConstructor() {
+    var injector = ErrorProneInjector.create();
+
+    var e =
+        assertThrows(
+            ProvisionException.class, () -> injector.getInstance(LinkageErrorConstructor.class));
+
+    assertThat(e).hasMessageThat().contains("Failed to initialize");
+    assertThat(e).hasMessageThat().contains("LinkageErrorConstructor");
+    assertThat(e).hasCauseThat().isInstanceOf(NoClassDefFoundError.class);
+  }
+
   public static final class NoConstructor {}
 
+  public static final class ThrowingConstructor {
+    @Inject
+    ThrowingConstructor() {
+      throw new IllegalStateException();
+    }
+  }
+
+  public static final class LinkageErrorConstructor {
+    @Inject
+    LinkageErrorConstructor() {
+      throw new NoClassDefFoundError("com/example/Missing");
+    }
+  }
+
   public static final class InjectConstructor {
     @Inject
     InjectConstructor() {}
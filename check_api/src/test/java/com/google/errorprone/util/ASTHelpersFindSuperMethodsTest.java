@@ -162,6 +162,17 @@ public final class ASTHelpersFindSuperMethodsTest extends CompilerBasedAbstractT
     assertThat(findSuperMethod(fooOfNorf)).isEqualTo(Optional.of(fooOfBaz));
   }
 
+  @Test
+  public void findSuperMethods_visitorStateOverloadAgreesWithTypes() {
+    for (MethodSymbol method : scanner.getMethods()) {
+      assertThat(ASTHelpers.findSuperMethods(method, scanner.getState()))
+          .containsExactlyElementsIn(findSuperMethods(method))
+          .inOrder();
+      assertThat(ASTHelpers.findSuperMethod(method, scanner.getState()))
+          .isEqualTo(findSuperMethod(method));
+    }
+  }
+
   private ImmutableList<MethodSymbol> findSuperMethods(MethodSymbol method) {
     return ImmutableList.copyOf(ASTHelpers.findSuperMethods(method, getTypes()));
   }
@@ -203,6 +214,10 @@ public final class ASTHelpersFindSuperMethodsTest extends CompilerBasedAbstractT
       return methods.get(className, methodName);
     }
 
+    public ImmutableList<MethodSymbol> getMethods() {
+      return ImmutableList.copyOf(methods.values());
+    }
+
     public VisitorState getState() {
       return state;
     }
@@ -89,6 +89,7 @@ import com.sun.tools.javac.code.Symbol.PackageSymbol;
 import com.sun.tools.javac.code.Symbol.VarSymbol;
 import com.sun.tools.javac.code.Type;
 import com.sun.tools.javac.code.Type.TypeVar;
+import com.sun.tools.javac.code.Types;
 import com.sun.tools.javac.main.Main.Result;
 import com.sun.tools.javac.model.JavacElements;
 import com.sun.tools.javac.tree.JCTree.JCLiteral;
@@ -647,6 +648,59 @@ public class ASTHelpersTest extends CompilerBasedAbstractTest {
     assertCompiles(scanner);
   }
 
+  /* Tests for ASTHelpers#isSubtype */
+
+  @Test
+  public void isSubtype_agreesWithJavac() {
+    writeFile(
+        "A.java",
+        """
+        import java.io.Serializable;
+        import java.util.ArrayList;
+        import java.util.Collection;
+        import java.util.List;
+        public class A {
+          interface I {}
+          interface J extends I {}
+          static class B implements J, Serializable {}
+          static class C<T> extends B {}
+          Object o;
+          I i;
+          J j;
+          B b;
+          C<String> c;
+          Runnable r;
+          List<String> list;
+          ArrayList<Integer> arrayList;
+          Collection<?> collection;
+          Serializable serializable;
+        }
+        """);
+    List<Type> types = new ArrayList<>();
+    TestScanner scanner =
+        new TestScanner() {
+          @Override
+          public Void visitVariable(VariableTree tree, VisitorState state) {
+            types.add(ASTHelpers.getType(tree));
+            if (types.size() == 10) {
+              setAssertionsComplete();
+              Types javacTypes = state.getTypes();
+              for (Type s : types) {
+                for (Type t : types) {
+                  assertWithMessage("%s <: %s", s, t)
+                      .that(ASTHelpers.isSubtype(s, t, state))
+                      .isEqualTo(
+                          javacTypes.isSubtype(javacTypes.erasure(s), javacTypes.erasure(t)));
+                }
+              }
+            }
+            return super.visitVariable(tree, state);
+          }
+        };
+    tests.add(scanner);
+    assertCompiles(scanner);
+  }
+
   /* Tests for ASTHelpers#getUpperBound */
 
   private TestScanner getUpperBoundScanner(String expectedBound) {
@@ -18,6 +18,7 @@ package com.google.errorprone.util;
 
 import static com.google.common.truth.Truth.assertThat;
 
+import java.util.regex.Pattern;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
@@ -37,4 +38,34 @@ public final class RegexesTest {
   public void negative() {
     assertThat(Regexes.convertRegexToLiteral("[a-z]+")).isEmpty();
   }
+
+  @Test
+  public void compile() {
+    Regexes.CompiledRegex compiled = Regexes.compile("a+b", 0);
+    assertThat(compiled.pattern().get().matcher("aab").matches()).isTrue();
+    assertThat(compiled.syntaxError()).isEmpty();
+    assertThat(compiled.literal()).isEmpty();
+
+    assertThat(Regexes.compile("a.b", Pattern.LITERAL).literal()).isEmpty();
+    assertThat(Regexes.compile("a.b", Pattern.LITERAL).pattern().get().matcher("a.b").matches())
+        .isTrue();
+  }
+
+  @Test
+  public void compile_syntaxError() {
+    Regexes.CompiledRegex compiled = Regexes.compile("(", 0);
+    assertThat(compiled.pattern()).isEmpty();
+    assertThat(compiled.syntaxError().get()).hasMessageThat().contains("Unclosed group");
+    assertThat(compiled.literal()).isEmpty();
+  }
+
+  @Test
+  public void compile_isCached() {
+    String regex = "cached[0-9]+";
+    long hits = Regexes.compileCacheStats().hitCount();
+    Regexes.CompiledRegex first = Regexes.compile(regex, Pattern.CASE_INSENSITIVE);
+    assertThat(Regexes.compile(regex, Pattern.CASE_INSENSITIVE)).isSameInstanceAs(first);
+    assertThat(Regexes.compileCacheStats().hitCount()).isAtLeast(hits + 1);
+    assertThat(Regexes.compile(regex, 0)).isNotSameInstanceAs(first);
+  }
 }
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2026 The Error Prone Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.errorprone.util;
+
+import com.google.errorprone.BugPattern;
+import com.google.errorprone.BugPattern.SeverityLevel;
+import com.google.errorprone.CompilationTestHelper;
+import com.google.errorprone.VisitorState;
+import com.google.errorprone.bugpatterns.BugChecker;
+import com.google.errorprone.bugpatterns.BugChecker.MethodTreeMatcher;
+import com.google.errorprone.bugpatterns.BugChecker.VariableTreeMatcher;
+import com.google.errorprone.matchers.Description;
+import com.sun.source.tree.MethodTree;
+import com.sun.source.tree.Tree;
+import com.sun.source.tree.VariableTree;
+import com.sun.tools.javac.code.Symbol;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/** Tests for {@link SymbolUsageIndex}. */
+@RunWith(JUnit4.class)
+public class SymbolUsageIndexTest {
+
+  /** A {@link BugChecker} that prints how each variable and method is used. */
+  @BugPattern(
+      severity = SeverityLevel.ERROR,
+      summary = "Prints the references to each variable and method")
+  public static class PrintUsages extends BugChecker
+      implements VariableTreeMatcher, MethodTreeMatcher {
+    @Override
+    public Description matchVariable(VariableTree tree, VisitorState state) {
+      return describe(tree, ASTHelpers.getSymbol(tree), state);
+    }
+
+    @Override
+    public Description matchMethod(MethodTree tree, VisitorState state) {
+      return describe(tree, ASTHelpers.getSymbol(tree), state);
+    }
+
+    private Description describe(Tree tree, Symbol symbol, VisitorState state) {
+      SymbolUsageIndex index = state.getSymbolUsageIndex();
+      if (index.declaration(symbol).map(p -> p.getLeaf() != tree).orElse(true)) {
+        return buildDescription(tree).setMessage("declaration not indexed").build();
+      }
+      return buildDescription(tree)
+          .setMessage(
+              String.format(
+                  "references=%d reads=%d writes=%d",
+                  index.references(symbol).size(),
+                  index.reads(symbol).size(),
+                  index.writes(symbol).size()))
+          .build();
+    }
+  }
+
+  @Test
+  public void readsAndWrites() {
+    CompilationTestHelper.newInstance(PrintUsages.class, getClass())
+        .addSourceLines(
+            "Test.java",
+            """
+            class Test {
+              // BUG: Diagnostic contains: references=5 reads=3 writes=4
+              private int x;
+
+              // BUG: Diagnostic contains: references=2 reads=2 writes=0
+              int f() {
+                x = 1;
+                (x) = 2;
+                x += f();
+                x++;
+                return this.x + f();
+              }
+            }
+            """)
+        .doTest();
+  }
+
+  @Test
+  public void methodReferencesAndConstructors() {
+    CompilationTestHelper.newInstance(PrintUsages.class, getClass())
+        .addSourceLines(
+            "Test.java",
+            """
+            import java.util.function.Supplier;
+
+            class Test {
+              // BUG: Diagnostic contains: references=2 reads=2 writes=0
+              Test() {}
+
+              // BUG: Diagnostic contains: references=0 reads=0 writes=0
+              Supplier<Test> s() {
+                new Test();
+                return Test::new;
+              }
+            }
+            """)
+        .doTest();
+  }
+}
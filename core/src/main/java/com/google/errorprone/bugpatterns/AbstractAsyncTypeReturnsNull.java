@@ -55,7 +55,7 @@ abstract class AbstractAsyncTypeReturnsNull extends AbstractMethodReturnsNull {
       @Override
       public boolean matches(MethodTree tree, VisitorState state) {
         MethodSymbol symbol = getSymbol(tree);
-        for (MethodSymbol superMethod : findSuperMethods(symbol, state.getTypes())) {
+        for (MethodSymbol superMethod : findSuperMethods(symbol, state)) {
           if (superMethod.owner != null
               && superMethod.owner.getQualifiedName().contentEquals(clazz.getName())) {
             return true;
@@ -248,7 +248,7 @@ public class AutoValueBoxedValues extends BugChecker implements ClassTreeMatcher
 
   /** Returns true if the method overrides another method. */
   private static boolean isOverride(MethodTree methodTree, VisitorState state) {
-    return !findSuperMethods(getSymbol(methodTree), state.getTypes()).isEmpty();
+    return !findSuperMethods(getSymbol(methodTree), state).isEmpty();
   }
 
   /** Returns the primitive type corresponding to a boxed type. */
@@ -175,7 +175,7 @@ public class CompileTimeConstantChecker extends BugChecker
         node,
         state,
         compileTimeConstantAnnotationIndexes,
-        ASTHelpers.findSuperMethods(method, state.getTypes()));
+        ASTHelpers.findSuperMethods(method, state));
   }
 
   @Override
@@ -257,7 +257,7 @@ public class CompileTimeConstantChecker extends BugChecker
         (MethodSymbol) state.getTypes().findDescriptorSymbol(ASTHelpers.getType(node).tsym);
     ImmutableSet.Builder<Symbol.MethodSymbol> methods = ImmutableSet.builder();
     methods.add(descriptorSymbol);
-    methods.addAll(ASTHelpers.findSuperMethods(descriptorSymbol, state.getTypes()));
+    methods.addAll(ASTHelpers.findSuperMethods(descriptorSymbol, state));
     return checkSuperMethods(node, state, compileTimeConstantAnnotationIndexes, methods.build());
   }
 
@@ -32,7 +32,8 @@ import com.google.common.collect.PeekingIterator;
 import com.google.errorprone.BugPattern;
 import com.google.errorprone.ErrorProneFlags;
 import com.google.errorprone.VisitorState;
-import com.google.errorprone.bugpatterns.BugChecker.CompilationUnitTreeMatcher;
+import com.google.errorprone.bugpatterns.BugChecker.CompilationUnitVisitor;
+import com.google.errorprone.bugpatterns.BugChecker.CompilationUnitVisitorMatcher;
 import com.google.errorprone.fixes.Fix;
 import com.google.errorprone.fixes.SuggestedFix;
 import com.google.errorprone.matchers.Description;
@@ -58,7 +59,7 @@ import javax.inject.Inject;
 @BugPattern(
     summary = "Very deeply nested code may lead to StackOverflowErrors during compilation",
     severity = WARNING)
-public class DeeplyNested extends BugChecker implements CompilationUnitTreeMatcher {
+public class DeeplyNested extends BugChecker implements CompilationUnitVisitorMatcher {
 
   private final int maxDepth;
 
@@ -68,27 +69,39 @@ public class DeeplyNested extends BugChecker implements CompilationUnitTreeMatch
   }
 
   @Override
-  public Description matchCompilationUnit(CompilationUnitTree tree, VisitorState state) {
-    TreePath result =
-        new SuppressibleTreePathScanner<TreePath, Integer>(state) {
-
-          @Override
-          public TreePath scan(Tree tree, Integer depth) {
-            if (depth > maxDepth) {
-              return getCurrentPath();
-            }
-            return super.scan(tree, depth + 1);
-          }
-
-          @Override
-          public TreePath reduce(TreePath r1, TreePath r2) {
-            return r1 != null ? r1 : r2;
-          }
-        }.scan(state.getPath(), 0);
-    if (result != null) {
-      return describeMatch(result.getLeaf(), buildFix(result, state));
-    }
-    return NO_MATCH;
+  public CompilationUnitVisitor visitCompilationUnit(CompilationUnitTree tree, VisitorState state) {
+    return new SuppressibleCompilationUnitVisitor() {
+      /** The number of ancestors of the tree being visited, not counting the compilation unit. */
+      private int depth = 0;
+
+      private TreePath result;
+
+      @Override
+      protected boolean visit(Tree tree, NodeState node) {
+        if (result != null) {
+          return false;
+        }
+        if (depth > maxDepth) {
+          result = node.state().getPath().getParentPath();
+          return false;
+        }
+        depth++;
+        return true;
+      }
+
+      @Override
+      public void exit(Tree tree, NodeState node) {
+        depth--;
+      }
+
+      @Override
+      public Description finish(VisitorState state) {
+        if (result != null) {
+          return describeMatch(result.getLeaf(), buildFix(result, state));
+        }
+        return NO_MATCH;
+      }
+    };
   }
 
   private static Fix buildFix(TreePath path, VisitorState state) {
@@ -162,7 +162,7 @@ public class DoNotCallSuggester extends BugChecker implements MethodTreeMatcher
     }
 
     // if the method is an "effective override" (they forgot to add @Override), exit
-    if (!findSuperMethods(symbol, state.getTypes()).isEmpty()) {
+    if (!findSuperMethods(symbol, state).isEmpty()) {
       return NO_MATCH;
     }
 
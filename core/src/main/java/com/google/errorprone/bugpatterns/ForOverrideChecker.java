@@ -198,7 +198,7 @@ public class ForOverrideChecker extends BugChecker
           "getOverriddenMethods may not be called on a static method");
     }
 
-    return concat(Stream.of(method), streamSuperMethods(method, state.getTypes()))
+    return concat(Stream.of(method), streamSuperMethods(method, state))
         .filter(member -> hasAnnotation(member, FOR_OVERRIDE, state))
         .collect(toImmutableList());
   }
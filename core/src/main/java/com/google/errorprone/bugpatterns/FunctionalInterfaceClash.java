@@ -130,10 +130,10 @@ public class FunctionalInterfaceClash extends BugChecker implements ClassTreeMat
 
       if (!clash.isEmpty()) {
         // ignore if there are overridden clashing methodsBySignature in class
-        if (ASTHelpers.findSuperMethod(msym, types).isPresent()
+        if (ASTHelpers.findSuperMethod(msym, state).isPresent()
             && clash.stream()
                 .anyMatch(
-                    methodSymbol -> ASTHelpers.findSuperMethod(methodSymbol, types).isPresent())) {
+                    methodSymbol -> ASTHelpers.findSuperMethod(methodSymbol, state).isPresent())) {
           continue;
         }
 
@@ -107,7 +107,7 @@ public final class FutureReturnValueIgnored extends AbstractReturnValueIgnored
           if (hasAnnotation(sym, CAN_IGNORE_RETURN_VALUE_ANNOTATION, state)) {
             return false;
           }
-          for (MethodSymbol superSym : ASTHelpers.findSuperMethods(sym, state.getTypes())) {
+          for (MethodSymbol superSym : ASTHelpers.findSuperMethods(sym, state)) {
             // There are interfaces annotated with @CanIgnoreReturnValue (like Guava's Function)
             // whose return value really shouldn't be ignored - as a heuristic, check if the super's
             // method is returning a future subtype.
@@ -148,7 +148,7 @@ public final class IdentifierName extends BugChecker
     if (hasAnnotation(symbol, "org.junit.Ignore", state)) {
       return NO_MATCH;
     }
-    if (!findSuperMethods(symbol, state.getTypes()).isEmpty()) {
+    if (!findSuperMethods(symbol, state).isEmpty()) {
       return NO_MATCH;
     }
     if (tree.getModifiers().getFlags().contains(Modifier.NATIVE)) {
@@ -195,7 +195,7 @@ public final class IdentifierName extends BugChecker
         && symbol.getKind() == ElementKind.PARAMETER
         && state.getPath().getParentPath().getLeaf().getKind() != Kind.LAMBDA_EXPRESSION) {
       int index = methodSymbol.getParameters().indexOf(symbol);
-      var maybeSuper = ASTHelpers.streamSuperMethods(methodSymbol, state.getTypes()).findFirst();
+      var maybeSuper = ASTHelpers.streamSuperMethods(methodSymbol, state).findFirst();
       if (maybeSuper.isPresent()) {
         var superMethod = maybeSuper.get();
         if (NamedParameterComment.containsSyntheticParameterName(superMethod)) {
@@ -22,9 +22,8 @@ import static com.google.errorprone.matchers.Description.NO_MATCH;
 import com.google.errorprone.BugPattern;
 import com.google.errorprone.VisitorState;
 import com.google.errorprone.matchers.Description;
+import com.google.errorprone.util.Regexes;
 import com.sun.source.tree.MethodInvocationTree;
-import java.util.regex.Pattern;
-import java.util.regex.PatternSyntaxException;
 
 /**
  * @author mdempsky@google.com (Matthew Dempsky)
@@ -37,11 +36,9 @@ public class InvalidPatternSyntax extends AbstractPatternSyntaxChecker {
   @Override
   protected final Description matchRegexLiteral(
       MethodInvocationTree tree, VisitorState state, String pattern, int flags) {
-    try {
-      Pattern.compile(pattern, flags);
-      return NO_MATCH;
-    } catch (PatternSyntaxException e) {
-      return buildDescription(tree).setMessage(MESSAGE_BASE + e.getMessage()).build();
-    }
+    return Regexes.compile(pattern, flags)
+        .syntaxError()
+        .map(e -> buildDescription(tree).setMessage(MESSAGE_BASE + e.getMessage()).build())
+        .orElse(NO_MATCH);
   }
 }
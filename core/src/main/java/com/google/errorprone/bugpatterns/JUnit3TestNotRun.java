@@ -134,7 +134,7 @@ public final class JUnit3TestNotRun extends BugChecker implements CompilationUni
     if (!LOOKS_LIKE_TEST_CASE.matches(methodTree, state)) {
       return Optional.empty();
     }
-    if (!findSuperMethods(getSymbol(methodTree), state.getTypes()).isEmpty()) {
+    if (!findSuperMethods(getSymbol(methodTree), state).isEmpty()) {
       return Optional.empty();
     }
 
@@ -33,7 +33,8 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import com.google.errorprone.BugPattern;
 import com.google.errorprone.VisitorState;
-import com.google.errorprone.bugpatterns.BugChecker.CompilationUnitTreeMatcher;
+import com.google.errorprone.bugpatterns.BugChecker.CompilationUnitVisitor;
+import com.google.errorprone.bugpatterns.BugChecker.CompilationUnitVisitorMatcher;
 import com.google.errorprone.fixes.SuggestedFix;
 import com.google.errorprone.fixes.SuggestedFixes;
 import com.google.errorprone.matchers.Description;
@@ -43,9 +44,10 @@ import com.sun.source.tree.ClassTree;
 import com.sun.source.tree.CompilationUnitTree;
 import com.sun.source.tree.MethodTree;
 import com.sun.source.tree.Tree;
-import com.sun.source.util.TreePathScanner;
 import com.sun.tools.javac.code.Type;
 import com.sun.tools.javac.code.Type.ClassType;
+import java.util.ArrayList;
+import java.util.List;
 
 /** Finds tests that won't run due to the enclosing runner. */
 @BugPattern(
@@ -54,7 +56,7 @@ import com.sun.tools.javac.code.Type.ClassType;
             + " will not run.",
     severity = ERROR)
 public final class JUnit4TestsNotRunWithinEnclosed extends BugChecker
-    implements CompilationUnitTreeMatcher {
+    implements CompilationUnitVisitorMatcher {
   private static final MultiMatcher<ClassTree, AnnotationTree> ENCLOSED =
       annotations(
           AT_LEAST_ONE,
@@ -66,54 +68,55 @@ public final class JUnit4TestsNotRunWithinEnclosed extends BugChecker
                       ImmutableSet.of("org.junit.experimental.runners.Enclosed")))));
 
   @Override
-  public Description matchCompilationUnit(CompilationUnitTree tree, VisitorState state) {
-    ImmutableSet<Type> extendedTypes = getExtendedTypes(state);
+  public CompilationUnitVisitor visitCompilationUnit(CompilationUnitTree tree, VisitorState state) {
+    ImmutableSet.Builder<Type> extendedTypes = ImmutableSet.builder();
+    List<ClassTree> enclosedClasses = new ArrayList<>();
 
-    new TreePathScanner<Void, Void>() {
+    return new CompilationUnitVisitor() {
       @Override
-      public Void visitClass(ClassTree classTree, Void unused) {
-        if (!ENCLOSED.matches(classTree, state)) {
-          return super.visitClass(classTree, null);
-        }
-        ClassType classType = getType(classTree);
-        if (extendedTypes.stream().anyMatch(t -> isSameType(t, classType, state))) {
-          return super.visitClass(classTree, null);
-        }
-        for (Tree member : classTree.getMembers()) {
-          if (member instanceof MethodTree && TEST_CASE.matches((MethodTree) member, state)) {
-            SuggestedFix.Builder fix = SuggestedFix.builder();
-            String junit4 = SuggestedFixes.qualifyType(state, fix, "org.junit.runners.JUnit4");
-            state.reportMatch(
-                describeMatch(
-                    member,
-                    fix.merge(
-                            updateAnnotationArgumentValues(
-                                getAnnotationWithSimpleName(
-                                    classTree.getModifiers().getAnnotations(), "RunWith"),
-                                state,
-                                "value",
-                                ImmutableList.of(junit4 + ".class")))
-                        .build()));
+      public boolean enter(Tree tree, NodeState node) {
+        if (tree instanceof ClassTree classTree) {
+          if (classTree.getExtendsClause() != null) {
+            extendedTypes.add(getType(classTree.getExtendsClause()));
+          }
+          if (ENCLOSED.matches(classTree, node.state())) {
+            enclosedClasses.add(classTree);
           }
         }
-        return super.visitClass(classTree, null);
+        return true;
       }
-    }.scan(tree, null);
-    return Description.NO_MATCH;
-  }
-
-  private static ImmutableSet<Type> getExtendedTypes(VisitorState state) {
-    ImmutableSet.Builder<Type> extendedTypes = ImmutableSet.builder();
-    new TreePathScanner<Void, Void>() {
 
       @Override
-      public Void visitClass(ClassTree classTree, Void unused) {
-        if (classTree.getExtendsClause() != null) {
-          extendedTypes.add(getType(classTree.getExtendsClause()));
+      public Description finish(VisitorState state) {
+        ImmutableSet<Type> extended = extendedTypes.build();
+        for (ClassTree classTree : enclosedClasses) {
+          ClassType classType = getType(classTree);
+          if (extended.stream().noneMatch(t -> isSameType(t, classType, state))) {
+            reportTestsNotRun(classTree, state);
+          }
         }
-        return super.visitClass(classTree, null);
+        return Description.NO_MATCH;
+      }
+    };
+  }
+
+  private void reportTestsNotRun(ClassTree classTree, VisitorState state) {
+    for (Tree member : classTree.getMembers()) {
+      if (member instanceof MethodTree && TEST_CASE.matches((MethodTree) member, state)) {
+        SuggestedFix.Builder fix = SuggestedFix.builder();
+        String junit4 = SuggestedFixes.qualifyType(state, fix, "org.junit.runners.JUnit4");
+        state.reportMatch(
+            describeMatch(
+                member,
+                fix.merge(
+                        updateAnnotationArgumentValues(
+                            getAnnotationWithSimpleName(
+                                classTree.getModifiers().getAnnotations(), "RunWith"),
+                            state,
+                            "value",
+                            ImmutableList.of(junit4 + ".class")))
+                    .build()));
       }
-    }.scan(state.getPath().getCompilationUnit(), null);
-    return extendedTypes.build();
+    }
   }
 }
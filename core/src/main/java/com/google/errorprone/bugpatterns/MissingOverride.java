@@ -86,7 +86,7 @@ public class MissingOverride extends BugChecker implements MethodTreeMatcher {
             .build();
       }
     }
-    return streamSuperMethods(sym, state.getTypes())
+    return streamSuperMethods(sym, state)
         .findFirst()
         .filter(unused -> ASTHelpers.getGeneratedBy(state).isEmpty())
         // to allow deprecated methods to be removed non-atomically, we permit overrides of
@@ -136,7 +136,7 @@ public class MissingSuperCall extends BugChecker
 
     String annotatedSuperMethod = null;
     String matchedAnnotationSimpleName = null;
-    for (MethodSymbol method : ASTHelpers.findSuperMethods(methodSym, state.getTypes())) {
+    for (MethodSymbol method : ASTHelpers.findSuperMethods(methodSym, state)) {
       for (AnnotationType annotationType : AnnotationType.values()) {
         if (ASTHelpers.hasAnnotation(method, annotationType.fullyQualifiedName(), state)) {
           annotatedSuperMethod = getMethodName(method);
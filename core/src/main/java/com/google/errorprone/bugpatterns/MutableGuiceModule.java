@@ -25,6 +25,7 @@ import static com.google.errorprone.util.ASTHelpers.getType;
 
 import com.google.errorprone.BugPattern;
 import com.google.errorprone.VisitorState;
+import com.google.errorprone.bugpatterns.BugChecker.Reusable;
 import com.google.errorprone.bugpatterns.BugChecker.VariableTreeMatcher;
 import com.google.errorprone.bugpatterns.threadsafety.WellKnownMutability;
 import com.google.errorprone.fixes.SuggestedFixes;
@@ -40,6 +41,7 @@ import javax.lang.model.element.Modifier;
 
 /** A {@link BugChecker}; see the associated {@link BugPattern} annotation for details. */
 @BugPattern(summary = "Fields in Guice modules should be final", severity = WARNING)
+@Reusable
 public class MutableGuiceModule extends BugChecker implements VariableTreeMatcher {
 
   private final WellKnownMutability wellKnownMutability;
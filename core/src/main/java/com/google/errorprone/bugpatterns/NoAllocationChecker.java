@@ -393,7 +393,7 @@ public class NoAllocationChecker extends BugChecker
       return NO_MATCH;
     }
     MethodSymbol symbol = ASTHelpers.getSymbol(tree);
-    return streamSuperMethods(symbol, state.getTypes())
+    return streamSuperMethods(symbol, state)
         .filter(s -> ASTHelpers.hasAnnotation(s, NoAllocation.class.getName(), state))
         .findAny()
         .map(
@@ -48,7 +48,7 @@ public class Overrides extends BugChecker implements MethodTreeMatcher {
     MethodSymbol methodSymbol = ASTHelpers.getSymbol(methodTree);
     boolean isVarargs = methodSymbol.isVarArgs();
 
-    Set<MethodSymbol> superMethods = ASTHelpers.findSuperMethods(methodSymbol, state.getTypes());
+    Set<MethodSymbol> superMethods = ASTHelpers.findSuperMethods(methodSymbol, state);
 
     // If there are no super methods, we're fine:
     if (superMethods.isEmpty()) {
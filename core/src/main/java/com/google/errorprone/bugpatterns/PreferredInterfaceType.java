@@ -281,7 +281,7 @@ public final class PreferredInterfaceType extends BugChecker implements Compilat
             ? IMMUTABLE_MESSAGE
             : NON_IMMUTABLE_MESSAGE;
     if (symbol instanceof MethodSymbol methodSymbol) {
-      if (!findSuperMethods(methodSymbol, state.getTypes()).isEmpty()) {
+      if (!findSuperMethods(methodSymbol, state).isEmpty()) {
         return "Method return" + messageBase + OVERRIDE_NOTE;
       } else {
         return "Method return" + messageBase;
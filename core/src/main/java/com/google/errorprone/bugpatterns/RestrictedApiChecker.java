@@ -39,6 +39,8 @@ import com.google.errorprone.matchers.Matcher;
 import com.google.errorprone.matchers.Matchers;
 import com.google.errorprone.util.ASTHelpers;
 import com.google.errorprone.util.MoreAnnotations;
+import com.google.errorprone.util.Regexes;
+import com.google.errorprone.util.Regexes.CompiledRegex;
 import com.sun.source.tree.AnnotationTree;
 import com.sun.source.tree.AssignmentTree;
 import com.sun.source.tree.ExpressionTree;
@@ -58,8 +60,6 @@ import com.sun.tools.javac.tree.JCTree;
 import com.sun.tools.javac.tree.JCTree.JCCompilationUnit;
 import java.util.List;
 import java.util.Optional;
-import java.util.regex.Pattern;
-import java.util.regex.PatternSyntaxException;
 import java.util.stream.Stream;
 import org.jspecify.annotations.Nullable;
 
@@ -186,7 +186,7 @@ public class RestrictedApiChecker extends BugChecker
     }
 
     // Try each super method for @RestrictedApi
-    return streamSuperMethods(method, state.getTypes())
+    return streamSuperMethods(method, state)
         .filter((t) -> hasAnnotation(t, RESTRICTED_API_ANNOTATION, state))
         .findFirst()
         .map(
@@ -217,16 +217,15 @@ public class RestrictedApiChecker extends BugChecker
     if (!restriction.allowedOnPath().isEmpty()) {
       JCCompilationUnit compilationUnit = (JCCompilationUnit) state.getPath().getCompilationUnit();
       String path = compilationUnit.getSourceFile().toUri().toString();
-      try {
-        if (Pattern.matches(restriction.allowedOnPath(), path)) {
-          return NO_MATCH;
-        }
-
-      } catch (PatternSyntaxException e) {
+      CompiledRegex allowedOnPath = Regexes.compile(restriction.allowedOnPath(), 0);
+      if (allowedOnPath.syntaxError().isPresent()) {
         throw new IllegalArgumentException(
             String.format(
                 "Invalid regex for RestrictedApi annotation of %s", state.getSourceForNode(where)),
-            e);
+            allowedOnPath.syntaxError().get());
+      }
+      if (allowedOnPath.pattern().get().matcher(path).matches()) {
+        return NO_MATCH;
       }
     }
     boolean warn = Matchers.enclosingNode(shouldAllowWithWarning(attribute)).matches(where, state);
@@ -70,7 +70,7 @@ public final class RxReturnValueIgnored extends AbstractReturnValueIgnored {
     // if the super-type returned the exact same type. This lets us catch issues where a
     // superclass was annotated with @CanIgnoreReturnValue but the parent did not intend to
     // return an Rx type
-    return streamSuperMethods(sym, state.getTypes())
+    return streamSuperMethods(sym, state)
         .anyMatch(
             superSym ->
                 hasAnnotation(superSym, CAN_IGNORE_RETURN_VALUE_ANNOTATION, state)
@@ -31,7 +31,8 @@ import com.google.common.collect.RangeSet;
 import com.google.common.collect.TreeRangeSet;
 import com.google.errorprone.BugPattern;
 import com.google.errorprone.VisitorState;
-import com.google.errorprone.bugpatterns.BugChecker.CompilationUnitTreeMatcher;
+import com.google.errorprone.bugpatterns.BugChecker.CompilationUnitVisitor;
+import com.google.errorprone.bugpatterns.BugChecker.CompilationUnitVisitorMatcher;
 import com.google.errorprone.fixes.SuggestedFix;
 import com.google.errorprone.matchers.Description;
 import com.google.errorprone.matchers.Matcher;
@@ -43,6 +44,7 @@ import com.sun.source.tree.AnnotationTree;
 import com.sun.source.tree.CompilationUnitTree;
 import com.sun.source.tree.LineMap;
 import com.sun.source.tree.Tree;
+import org.jspecify.annotations.Nullable;
 
 /**
  * Finds occurrences of {@code @SuppressWarnings} where there is definitely no explanation for why
@@ -60,7 +62,7 @@ import com.sun.source.tree.Tree;
     linkType = CUSTOM,
     link = "https://google.github.io/styleguide/javaguide.html#s8.4.2-how-to-handle-a-warning")
 public final class SuppressWarningsWithoutExplanation extends BugChecker
-    implements CompilationUnitTreeMatcher {
+    implements CompilationUnitVisitorMatcher {
   private static final Matcher<AnnotationTree> SUPPRESS_WARNINGS =
       allOf(
           isSameType(SuppressWarnings.class),
@@ -77,20 +79,24 @@ public final class SuppressWarningsWithoutExplanation extends BugChecker
   }
 
   @Override
-  public Description matchCompilationUnit(CompilationUnitTree tree, VisitorState state) {
+  public @Nullable CompilationUnitVisitor visitCompilationUnit(
+      CompilationUnitTree tree, VisitorState state) {
     if (!ASTHelpers.getGeneratedBy(state).isEmpty()) {
-      return NO_MATCH;
+      return null;
     }
     ImmutableRangeSet<Long> linesWithComments = linesWithComments(state);
-    new SuppressibleTreePathScanner<Void, Void>(state) {
+    LineMap lineMap = tree.getLineMap();
+    return new SuppressibleCompilationUnitVisitor() {
       @Override
-      public Void visitAnnotation(AnnotationTree annotationTree, Void unused) {
+      protected boolean visit(Tree tree, NodeState node) {
+        if (!(tree instanceof AnnotationTree annotationTree)) {
+          return true;
+        }
+        VisitorState state = node.state();
         if (!SUPPRESS_WARNINGS.matches(annotationTree, state)) {
-          return super.visitAnnotation(annotationTree, null);
+          return true;
         }
-        LineMap lineMap = state.getPath().getCompilationUnit().getLineMap();
-
-        Tree parent = getCurrentPath().getParentPath().getLeaf();
+        Tree parent = state.getPath().getParentPath().getLeaf();
         // Expand by +/- one to accept comments either before or after the suppression.
         Range<Long> linesCovered =
             Range.closed(
@@ -104,10 +110,14 @@ public final class SuppressWarningsWithoutExplanation extends BugChecker
                       ? SuggestedFix.postfixWith(annotationTree, " // Safe because...")
                       : SuggestedFix.emptyFix()));
         }
-        return super.visitAnnotation(annotationTree, null);
+        return true;
+      }
+
+      @Override
+      public Description finish(VisitorState state) {
+        return NO_MATCH;
       }
-    }.scan(tree, null);
-    return NO_MATCH;
+    };
   }
 
   private static ImmutableRangeSet<Long> linesWithComments(VisitorState state) {
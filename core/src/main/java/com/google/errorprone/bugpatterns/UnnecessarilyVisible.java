@@ -84,7 +84,7 @@ public final class UnnecessarilyVisible extends BugChecker implements MethodTree
     if (annotationsAmong(symbol, FRAMEWORK_ANNOTATIONS.get(state), state).isEmpty()) {
       return NO_MATCH;
     }
-    if (findSuperMethod(symbol, state.getTypes()).isPresent()) {
+    if (findSuperMethod(symbol, state).isPresent()) {
       return NO_MATCH;
     }
 
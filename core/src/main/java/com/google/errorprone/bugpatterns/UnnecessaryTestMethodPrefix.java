@@ -25,7 +25,8 @@ import static com.google.errorprone.matchers.Matchers.hasAnnotation;
 import com.google.errorprone.BugPattern;
 import com.google.errorprone.BugPattern.SeverityLevel;
 import com.google.errorprone.VisitorState;
-import com.google.errorprone.bugpatterns.BugChecker.CompilationUnitTreeMatcher;
+import com.google.errorprone.bugpatterns.BugChecker.CompilationUnitVisitor;
+import com.google.errorprone.bugpatterns.BugChecker.CompilationUnitVisitorMatcher;
 import com.google.errorprone.fixes.SuggestedFix;
 import com.google.errorprone.matchers.Description;
 import com.google.errorprone.matchers.Matcher;
@@ -41,35 +42,41 @@ import java.util.HashSet;
         "A `test` prefix for a JUnit4 test is redundant, and a holdover from JUnit3. The `@Test`"
             + " annotation makes it clear it's a test.")
 public final class UnnecessaryTestMethodPrefix extends BugChecker
-    implements CompilationUnitTreeMatcher {
+    implements CompilationUnitVisitorMatcher {
   @Override
-  public Description matchCompilationUnit(CompilationUnitTree tree, VisitorState state) {
+  public CompilationUnitVisitor visitCompilationUnit(CompilationUnitTree tree, VisitorState state) {
     var fixBuilder = SuggestedFix.builder();
     var sites = new HashSet<Tree>();
 
-    new SuppressibleTreePathScanner<Void, Void>(state) {
+    return new SuppressibleCompilationUnitVisitor() {
       @Override
-      public Void visitMethod(MethodTree tree, Void unused) {
-        if (!TEST.matches(tree, state)) {
-          return super.visitMethod(tree, null);
+      protected boolean visit(Tree tree, NodeState node) {
+        if (!(tree instanceof MethodTree methodTree)) {
+          return true;
         }
-        String name = tree.getName().toString();
+        VisitorState state = node.state();
+        if (!TEST.matches(methodTree, state)) {
+          return true;
+        }
+        String name = methodTree.getName().toString();
         if (!name.startsWith("test") || name.equals("test")) {
-          return super.visitMethod(tree, null);
+          return true;
         }
         var newName = toLowerCase(name.charAt(4)) + name.substring(5);
-        fixBuilder.merge(renameMethod(tree, newName, state));
-        sites.add(tree);
-        return super.visitMethod(tree, null);
+        fixBuilder.merge(renameMethod(methodTree, newName, state));
+        sites.add(methodTree);
+        return true;
       }
-    }.scan(state.getPath(), null);
-
-    var fix = fixBuilder.build();
-    for (Tree site : sites) {
-      state.reportMatch(describeMatch(site, fix));
-    }
 
-    return NO_MATCH;
+      @Override
+      public Description finish(VisitorState state) {
+        var fix = fixBuilder.build();
+        for (Tree site : sites) {
+          state.reportMatch(describeMatch(site, fix));
+        }
+        return NO_MATCH;
+      }
+    };
   }
 
   private static final Matcher<Tree> TEST = hasAnnotation(JUNIT4_TEST_ANNOTATION);
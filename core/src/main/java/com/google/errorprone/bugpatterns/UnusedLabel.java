@@ -22,53 +22,53 @@ import static com.google.errorprone.util.ASTHelpers.getStartPosition;
 import com.google.errorprone.BugPattern;
 import com.google.errorprone.BugPattern.SeverityLevel;
 import com.google.errorprone.VisitorState;
-import com.google.errorprone.bugpatterns.BugChecker.CompilationUnitTreeMatcher;
+import com.google.errorprone.bugpatterns.BugChecker.CompilationUnitVisitor;
+import com.google.errorprone.bugpatterns.BugChecker.CompilationUnitVisitorMatcher;
 import com.google.errorprone.fixes.SuggestedFix;
 import com.google.errorprone.matchers.Description;
 import com.sun.source.tree.BreakTree;
 import com.sun.source.tree.CompilationUnitTree;
 import com.sun.source.tree.ContinueTree;
 import com.sun.source.tree.LabeledStatementTree;
-import com.sun.source.util.TreeScanner;
+import com.sun.source.tree.Tree;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 import javax.lang.model.element.Name;
 
 /** A BugPattern; see the summary. */
 @BugPattern(summary = "This label is unused.", severity = SeverityLevel.WARNING)
-public final class UnusedLabel extends BugChecker implements CompilationUnitTreeMatcher {
+public final class UnusedLabel extends BugChecker implements CompilationUnitVisitorMatcher {
   @Override
-  public Description matchCompilationUnit(CompilationUnitTree tree, VisitorState state) {
+  public CompilationUnitVisitor visitCompilationUnit(CompilationUnitTree tree, VisitorState state) {
     Map<Name, LabeledStatementTree> labels = new HashMap<>();
-    new SuppressibleTreePathScanner<Void, Void>(state) {
+    Set<Name> usedLabels = new HashSet<>();
+    return new SuppressibleCompilationUnitVisitor() {
       @Override
-      public Void visitLabeledStatement(LabeledStatementTree tree, Void unused) {
-        labels.put(tree.getLabel(), tree);
-        return super.visitLabeledStatement(tree, null);
+      protected boolean visit(Tree tree, NodeState node) {
+        if (tree instanceof LabeledStatementTree labeledStatementTree) {
+          labels.put(labeledStatementTree.getLabel(), labeledStatementTree);
+        } else if (tree instanceof BreakTree breakTree) {
+          usedLabels.add(breakTree.getLabel());
+        } else if (tree instanceof ContinueTree continueTree) {
+          usedLabels.add(continueTree.getLabel());
+        }
+        return true;
       }
-    }.scan(state.getPath(), null);
 
-    new TreeScanner<Void, Void>() {
       @Override
-      public Void visitBreak(BreakTree tree, Void unused) {
-        labels.remove(tree.getLabel());
-        return super.visitBreak(tree, null);
+      public Description finish(VisitorState state) {
+        labels.keySet().removeAll(usedLabels);
+        for (LabeledStatementTree label : labels.values()) {
+          state.reportMatch(
+              describeMatch(
+                  label,
+                  SuggestedFix.replace(
+                      getStartPosition(label), getStartPosition(label.getStatement()), "")));
+        }
+        return NO_MATCH;
       }
-
-      @Override
-      public Void visitContinue(ContinueTree tree, Void unused) {
-        labels.remove(tree.getLabel());
-        return super.visitContinue(tree, null);
-      }
-    }.scan(tree, null);
-
-    for (LabeledStatementTree label : labels.values()) {
-      state.reportMatch(
-          describeMatch(
-              label,
-              SuggestedFix.replace(
-                  getStartPosition(label), getStartPosition(label.getStatement()), "")));
-    }
-    return NO_MATCH;
+    };
   }
 }
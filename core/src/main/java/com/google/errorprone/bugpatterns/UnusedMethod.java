@@ -29,6 +29,7 @@ import static com.google.errorprone.fixes.SuggestedFixes.replaceIncludingComment
 import static com.google.errorprone.matchers.Matchers.SERIALIZATION_METHODS;
 import static com.google.errorprone.suppliers.Suppliers.typeFromString;
 import static com.google.errorprone.util.ASTHelpers.canBeRemoved;
+import static com.google.errorprone.util.ASTHelpers.findEnclosingNode;
 import static com.google.errorprone.util.ASTHelpers.getSymbol;
 import static com.google.errorprone.util.ASTHelpers.getType;
 import static com.google.errorprone.util.ASTHelpers.hasAnnotation;
@@ -53,21 +54,15 @@ import com.google.errorprone.bugpatterns.BugChecker.CompilationUnitTreeMatcher;
 import com.google.errorprone.fixes.SuggestedFix;
 import com.google.errorprone.matchers.Description;
 import com.google.errorprone.suppliers.Supplier;
+import com.google.errorprone.util.SymbolUsageIndex;
 import com.sun.source.tree.AnnotationTree;
-import com.sun.source.tree.AssignmentTree;
 import com.sun.source.tree.ClassTree;
 import com.sun.source.tree.CompilationUnitTree;
 import com.sun.source.tree.IdentifierTree;
-import com.sun.source.tree.MemberReferenceTree;
-import com.sun.source.tree.MemberSelectTree;
-import com.sun.source.tree.MethodInvocationTree;
 import com.sun.source.tree.MethodTree;
-import com.sun.source.tree.NewClassTree;
 import com.sun.source.tree.Tree;
 import com.sun.source.tree.Tree.Kind;
 import com.sun.source.util.TreePath;
-import com.sun.source.util.TreePathScanner;
-import com.sun.source.util.TreeScanner;
 import com.sun.tools.javac.code.Symbol;
 import com.sun.tools.javac.code.Symbol.ClassSymbol;
 import com.sun.tools.javac.code.Symbol.MethodSymbol;
@@ -203,13 +198,13 @@ public final class UnusedMethod extends BugChecker implements CompilationUnitTre
     Map<Symbol, TreePath> unusedMethods = new HashMap<>();
 
     // We will skip reporting on the whole compilation if there are any native methods found.
-    // Use a TreeScanner to find all local variables and fields.
-    if (hasNativeMethods(tree)) {
+    SymbolUsageIndex symbolUsageIndex = state.getSymbolUsageIndex();
+    if (hasNativeMethods(symbolUsageIndex)) {
       return Description.NO_MATCH;
     }
     AtomicBoolean ignoreUnusedMethods = new AtomicBoolean(false);
 
-    ImmutableSet<ClassSymbol> classesMadeVisible = getVisibleClasses(tree);
+    ImmutableSet<ClassSymbol> classesMadeVisible = getVisibleClasses(symbolUsageIndex);
 
     class MethodFinder extends SuppressibleTreePathScanner<Void, Void> {
       MethodFinder(VisitorState state) {
@@ -328,86 +323,15 @@ public final class UnusedMethod extends BugChecker implements CompilationUnitTre
     }
     new MethodFinder(state).scan(state.getPath(), null);
 
-    class FilterUsedMethods extends TreePathScanner<Void, Void> {
-      @Override
-      public Void visitMemberSelect(MemberSelectTree memberSelectTree, Void unused) {
-        Symbol symbol = getSymbol(memberSelectTree);
-        unusedMethods.remove(symbol);
-        return super.visitMemberSelect(memberSelectTree, null);
-      }
-
-      @Override
-      public Void visitMemberReference(MemberReferenceTree tree, Void unused) {
-        super.visitMemberReference(tree, null);
-        MethodSymbol symbol = getSymbol(tree);
-        unusedMethods.remove(symbol);
-        symbol.getParameters().forEach(unusedMethods::remove);
-        return null;
-      }
-
-      @Override
-      public Void visitMethodInvocation(MethodInvocationTree tree, Void unused) {
-        handle(getSymbol(tree));
-        return super.visitMethodInvocation(tree, null);
-      }
-
-      @Override
-      public Void visitNewClass(NewClassTree tree, Void unused) {
-        handle(getSymbol(tree));
-        return super.visitNewClass(tree, null);
-      }
-
-      @Override
-      public Void visitAssignment(AssignmentTree tree, Void unused) {
-        handle(getSymbol(tree.getVariable()));
-        return super.visitAssignment(tree, null);
-      }
-
-      private void handle(Symbol symbol) {
-        if (symbol instanceof MethodSymbol) {
-          unusedMethods.remove(symbol);
-        }
-      }
-
-      @Override
-      public Void visitMethod(MethodTree tree, Void unused) {
-        handleMethodSource(tree);
-        return super.visitMethod(tree, null);
-      }
-
-      /**
-       * If a method is annotated with @MethodSource, the annotation value refers to another method
-       * that is used reflectively to supply test parameters, so that method should not be
-       * considered unused.
-       */
-      private void handleMethodSource(MethodTree tree) {
-        MethodSymbol sym = getSymbol(tree);
-        Name name = ORG_JUNIT_JUPITER_PARAMS_PROVIDER_METHODSOURCE.get(state);
-        sym.getRawAttributes().stream()
-            .filter(a -> a.type.tsym.getQualifiedName().equals(name))
-            .findAny()
-            // get the annotation value array as a set of Names
-            .flatMap(a -> getAnnotationValue(a, "value"))
-            .map(
-                y -> asStrings(y).map(state::getName).map(Name::toString).collect(toImmutableSet()))
-            // remove all potentially unused methods referenced by the @MethodSource
-            .ifPresent(
-                referencedNames ->
-                    unusedMethods
-                        .entrySet()
-                        .removeIf(
-                            e -> {
-                              Symbol unusedSym = e.getKey();
-                              String simpleName = unusedSym.getSimpleName().toString();
-                              return referencedNames.contains(simpleName)
-                                  || referencedNames.contains(
-                                      unusedSym.owner.getQualifiedName() + "#" + simpleName);
-                            }));
+    // Methods are used if they're referenced anywhere in the compilation unit: by invocations,
+    // member selects, method references, instance creations, or annotation element assignments.
+    unusedMethods.keySet().removeIf(m -> !symbolUsageIndex.references(m).isEmpty());
+    for (TreePath declaration : symbolUsageIndex.declarations()) {
+      if (declaration.getLeaf() instanceof MethodTree methodTree) {
+        handleMethodSource(methodTree, unusedMethods, state);
       }
     }
 
-    new FilterUsedMethods().scan(state.getPath(), null);
-
     if (ignoreUnusedMethods.get()) {
       return Description.NO_MATCH;
     }
@@ -430,18 +354,45 @@ public final class UnusedMethod extends BugChecker implements CompilationUnitTre
     return Description.NO_MATCH;
   }
 
-  private ImmutableSet<ClassSymbol> getVisibleClasses(CompilationUnitTree tree) {
+  /**
+   * If a method is annotated with @MethodSource, the annotation value refers to another method that
+   * is used reflectively to supply test parameters, so that method should not be considered unused.
+   */
+  private static void handleMethodSource(
+      MethodTree tree, Map<Symbol, TreePath> unusedMethods, VisitorState state) {
+    MethodSymbol sym = getSymbol(tree);
+    Name name = ORG_JUNIT_JUPITER_PARAMS_PROVIDER_METHODSOURCE.get(state);
+    sym.getRawAttributes().stream()
+        .filter(a -> a.type.tsym.getQualifiedName().equals(name))
+        .findAny()
+        // get the annotation value array as a set of Names
+        .flatMap(a -> getAnnotationValue(a, "value"))
+        .map(y -> asStrings(y).map(state::getName).map(Name::toString).collect(toImmutableSet()))
+        // remove all potentially unused methods referenced by the @MethodSource
+        .ifPresent(
+            referencedNames ->
+                unusedMethods
+                    .entrySet()
+                    .removeIf(
+                        e -> {
+                          Symbol unusedSym = e.getKey();
+                          String simpleName = unusedSym.getSimpleName().toString();
+                          return referencedNames.contains(simpleName)
+                              || referencedNames.contains(
+                                  unusedSym.owner.getQualifiedName() + "#" + simpleName);
+                        }));
+  }
+
+  private static ImmutableSet<ClassSymbol> getVisibleClasses(SymbolUsageIndex symbolUsageIndex) {
     ImmutableSet.Builder<ClassSymbol> classesMadeVisible = ImmutableSet.builder();
-    new TreePathScanner<Void, Void>() {
-      @Override
-      public Void visitClass(ClassTree tree, Void unused) {
-        var symbol = getSymbol(tree);
+    for (TreePath declaration : symbolUsageIndex.declarations()) {
+      if (declaration.getLeaf() instanceof ClassTree classTree) {
+        var symbol = getSymbol(classTree);
         if (!canBeRemoved(symbol)) {
           classesMadeVisible.add(symbol);
         }
-        return super.visitClass(tree, null);
       }
-    }.scan(tree, null);
+    }
     return classesMadeVisible.build();
   }
 
@@ -491,18 +442,17 @@ public final class UnusedMethod extends BugChecker implements CompilationUnitTre
     }
   }
 
-  private static boolean hasNativeMethods(CompilationUnitTree tree) {
-    AtomicBoolean hasAnyNativeMethods = new AtomicBoolean(false);
-    new TreeScanner<Void, Void>() {
-      @Override
-      public Void visitMethod(MethodTree tree, Void unused) {
-        if (tree.getModifiers().getFlags().contains(Modifier.NATIVE)) {
-          hasAnyNativeMethods.set(true);
-        }
-        return null;
-      }
-    }.scan(tree, null);
-    return hasAnyNativeMethods.get();
+  /**
+   * Returns whether the compilation unit declares any native methods, other than in classes local
+   * to a method.
+   */
+  private static boolean hasNativeMethods(SymbolUsageIndex symbolUsageIndex) {
+    return symbolUsageIndex.declarations().stream()
+        .anyMatch(
+            path ->
+                path.getLeaf() instanceof MethodTree methodTree
+                    && methodTree.getModifiers().getFlags().contains(Modifier.NATIVE)
+                    && findEnclosingNode(path.getParentPath(), MethodTree.class) == null);
   }
 
   /**
@@ -26,16 +26,16 @@ import static com.google.errorprone.util.ASTHelpers.shouldKeep;
 
 import com.google.errorprone.BugPattern;
 import com.google.errorprone.VisitorState;
-import com.google.errorprone.bugpatterns.BugChecker.CompilationUnitTreeMatcher;
+import com.google.errorprone.bugpatterns.BugChecker.CompilationUnitVisitor;
+import com.google.errorprone.bugpatterns.BugChecker.CompilationUnitVisitorMatcher;
 import com.google.errorprone.fixes.SuggestedFixes;
 import com.google.errorprone.matchers.Description;
+import com.google.errorprone.util.SymbolUsageIndex;
 import com.sun.source.tree.ClassTree;
 import com.sun.source.tree.CompilationUnitTree;
-import com.sun.source.tree.IdentifierTree;
-import com.sun.source.tree.MemberSelectTree;
 import com.sun.source.tree.Tree;
+import com.sun.source.tree.Tree.Kind;
 import com.sun.source.util.TreePath;
-import com.sun.source.util.TreePathScanner;
 import com.sun.tools.javac.code.Symbol;
 import com.sun.tools.javac.code.Symbol.ClassSymbol;
 import com.sun.tools.javac.code.Symbol.MethodSymbol;
@@ -50,45 +50,42 @@ import java.util.Set;
     summary = "This nested class is unused, and can be removed.",
     severity = WARNING,
     documentSuppression = false)
-public final class UnusedNestedClass extends BugChecker implements CompilationUnitTreeMatcher {
+public final class UnusedNestedClass extends BugChecker implements CompilationUnitVisitorMatcher {
 
   @Override
-  public Description matchCompilationUnit(CompilationUnitTree tree, VisitorState state) {
-    PrivateNestedClassScanner privateNestedClassScanner = new PrivateNestedClassScanner(state);
-    privateNestedClassScanner.scan(state.getPath(), null);
-
-    Map<ClassSymbol, TreePath> privateNestedClasses = privateNestedClassScanner.classes;
-
-    ClassUsageScanner classUsageScanner = new ClassUsageScanner();
-    classUsageScanner.scan(state.getPath(), null);
-    privateNestedClasses.keySet().removeAll(classUsageScanner.usedClasses);
-    for (TreePath path : privateNestedClasses.values()) {
-      state.reportMatch(
-          describeMatch(path.getLeaf(), SuggestedFixes.replaceIncludingComments(path, "", state)));
-    }
-    return NO_MATCH;
+  public CompilationUnitVisitor visitCompilationUnit(CompilationUnitTree tree, VisitorState state) {
+    return new PrivateNestedClassVisitor();
   }
 
-  private final class PrivateNestedClassScanner extends TreePathScanner<Void, Void> {
+  private final class PrivateNestedClassVisitor implements CompilationUnitVisitor {
     private final Map<ClassSymbol, TreePath> classes = new HashMap<>();
 
-    private final VisitorState state;
-
-    private PrivateNestedClassScanner(VisitorState state) {
-      this.state = state;
-    }
-
     @Override
-    public Void visitClass(ClassTree classTree, Void unused) {
+    public boolean enter(Tree tree, NodeState node) {
+      if (!(tree instanceof ClassTree classTree)) {
+        return true;
+      }
+      VisitorState state = node.state();
       if (ignoreUnusedClass(classTree, state)) {
-        return null;
+        return false;
       }
       ClassSymbol symbol = getSymbol(classTree);
       boolean isAnonymous = classTree.getSimpleName().length() == 0;
       if (!isAnonymous && (canBeRemoved(symbol) || symbol.owner instanceof MethodSymbol)) {
-        classes.put(symbol, getCurrentPath());
+        classes.put(symbol, state.getPath());
+      }
+      return true;
+    }
+
+    @Override
+    public Description finish(VisitorState state) {
+      classes.keySet().removeAll(usedClasses(state.getSymbolUsageIndex()));
+      for (TreePath path : classes.values()) {
+        state.reportMatch(
+            describeMatch(
+                path.getLeaf(), SuggestedFixes.replaceIncludingComments(path, "", state)));
       }
-      return super.visitClass(classTree, null);
+      return NO_MATCH;
     }
 
     private boolean ignoreUnusedClass(ClassTree classTree, VisitorState state) {
@@ -98,37 +95,33 @@ public final class UnusedNestedClass extends BugChecker implements CompilationUn
     }
   }
 
-  private static final class ClassUsageScanner extends TreePathScanner<Void, Void> {
-    private final Set<ClassSymbol> withinClasses = new HashSet<>();
-    private final Set<ClassSymbol> usedClasses = new HashSet<>();
-
-    @Override
-    public Void visitClass(ClassTree classTree, Void unused) {
-      ClassSymbol symbol = getSymbol(classTree);
-      withinClasses.add(symbol);
-      super.visitClass(classTree, null);
-      withinClasses.remove(symbol);
-      return null;
-    }
-
-    @Override
-    public Void visitMemberSelect(MemberSelectTree memberSelectTree, Void unused) {
-      handle(memberSelectTree);
-      return super.visitMemberSelect(memberSelectTree, null);
-    }
-
-    @Override
-    public Void visitIdentifier(IdentifierTree identifierTree, Void unused) {
-      handle(identifierTree);
-      return super.visitIdentifier(identifierTree, null);
-    }
-
-    private void handle(Tree node) {
-      for (Symbol symbol = getSymbol(node); symbol != null; symbol = enclosingClass(symbol)) {
-        if (symbol instanceof ClassSymbol classSymbol && !withinClasses.contains(symbol)) {
-          usedClasses.add(classSymbol);
+  /**
+   * Returns the classes which are referenced, directly or through one of their members, by an
+   * identifier or member select outside of the class itself.
+   */
+  private static Set<ClassSymbol> usedClasses(SymbolUsageIndex symbolUsageIndex) {
+    Set<ClassSymbol> usedClasses = new HashSet<>();
+    for (Symbol referenced : symbolUsageIndex.referencedSymbols()) {
+      for (TreePath reference : symbolUsageIndex.references(referenced)) {
+        Kind kind = reference.getLeaf().getKind();
+        if (kind != Kind.IDENTIFIER && kind != Kind.MEMBER_SELECT) {
+          continue;
+        }
+        Set<ClassSymbol> withinClasses = new HashSet<>();
+        for (Tree enclosing : reference) {
+          if (enclosing instanceof ClassTree classTree) {
+            withinClasses.add(getSymbol(classTree));
+          }
+        }
+        for (Symbol symbol = getSymbol(reference.getLeaf());
+            symbol != null;
+            symbol = enclosingClass(symbol)) {
+          if (symbol instanceof ClassSymbol classSymbol && !withinClasses.contains(symbol)) {
+            usedClasses.add(classSymbol);
+          }
         }
       }
     }
+    return usedClasses;
   }
 }
@@ -25,6 +25,7 @@ import static com.google.common.collect.Iterables.getOnlyElement;
 import static com.google.errorprone.BugPattern.SeverityLevel.WARNING;
 import static com.google.errorprone.matchers.Matchers.SERIALIZATION_METHODS;
 import static com.google.errorprone.util.ASTHelpers.canBeRemoved;
+import static com.google.errorprone.util.ASTHelpers.findEnclosingNode;
 import static com.google.errorprone.util.ASTHelpers.findSuperMethods;
 import static com.google.errorprone.util.ASTHelpers.getStartPosition;
 import static com.google.errorprone.util.ASTHelpers.getSymbol;
@@ -66,6 +67,7 @@ import com.google.errorprone.matchers.Description;
 import com.google.errorprone.suppliers.Supplier;
 import com.google.errorprone.suppliers.Suppliers;
 import com.google.errorprone.util.ASTHelpers;
+import com.google.errorprone.util.SymbolUsageIndex;
 import com.sun.source.tree.AnnotationTree;
 import com.sun.source.tree.ArrayAccessTree;
 import com.sun.source.tree.AssignmentTree;
@@ -96,7 +98,6 @@ import com.sun.source.tree.WhileLoopTree;
 import com.sun.source.util.SimpleTreeVisitor;
 import com.sun.source.util.TreePath;
 import com.sun.source.util.TreePathScanner;
-import com.sun.source.util.TreeScanner;
 import com.sun.tools.javac.code.Symbol;
 import com.sun.tools.javac.code.Symbol.ClassSymbol;
 import com.sun.tools.javac.code.Symbol.MethodSymbol;
@@ -115,7 +116,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
 import javax.inject.Inject;
 import javax.lang.model.element.ElementKind;
 import javax.lang.model.element.Modifier;
@@ -217,12 +218,13 @@ public final class UnusedVariable extends BugChecker implements CompilationUnitT
   public Description matchCompilationUnit(CompilationUnitTree tree, VisitorState state) {
     // We will skip reporting on the whole compilation if there are any native methods found.
     // Use a TreeScanner to find all local variables and fields.
-    if (hasNativeMethods(tree)) {
+    SymbolUsageIndex symbolUsageIndex = state.getSymbolUsageIndex();
+    if (hasNativeMethods(symbolUsageIndex)) {
       return Description.NO_MATCH;
     }
 
     ImmutableMultimap<MethodSymbol, MethodSymbol> superMethodsToOverrides =
-        getSuperMethodsToOverrides(tree, state);
+        getSuperMethodsToOverrides(tree, symbolUsageIndex, state);
 
     VariableFinder variableFinder = new VariableFinder(state, superMethodsToOverrides);
     variableFinder.scan(state.getPath(), null);
@@ -346,37 +348,40 @@ public final class UnusedVariable extends BugChecker implements CompilationUnitT
     };
   }
 
-  private static boolean hasNativeMethods(CompilationUnitTree tree) {
-    AtomicBoolean hasAnyNativeMethods = new AtomicBoolean(false);
-    new TreeScanner<Void, Void>() {
-      @Override
-      public Void visitMethod(MethodTree tree, Void unused) {
-        if (tree.getModifiers().getFlags().contains(Modifier.NATIVE)) {
-          hasAnyNativeMethods.set(true);
-        }
-        return null;
-      }
-    }.scan(tree, null);
-    return hasAnyNativeMethods.get();
+  /**
+   * Returns whether the compilation unit declares any native methods, other than in classes local
+   * to a method.
+   */
+  private static boolean hasNativeMethods(SymbolUsageIndex symbolUsageIndex) {
+    return topLevelMethods(symbolUsageIndex)
+        .anyMatch(tree -> tree.getModifiers().getFlags().contains(Modifier.NATIVE));
   }
 
   private static ImmutableMultimap<MethodSymbol, MethodSymbol> getSuperMethodsToOverrides(
-      CompilationUnitTree tree, VisitorState state) {
+      CompilationUnitTree tree, SymbolUsageIndex symbolUsageIndex, VisitorState state) {
     ImmutableMultimap.Builder<MethodSymbol, MethodSymbol> overrides = ImmutableMultimap.builder();
     JavaFileObject sourceFile = tree.getSourceFile();
-    new TreeScanner<Void, Void>() {
-      @Override
-      public Void visitMethod(MethodTree tree, Void unused) {
-        MethodSymbol sym = getSymbol(tree);
-        findSuperMethods(getSymbol(tree), state.getTypes()).stream()
-            .filter(m -> sourceFile.equals(m.enclClass().sourcefile))
-            .forEach(m -> overrides.put(m, sym));
-        return null;
-      }
-    }.scan(tree, null);
+    topLevelMethods(symbolUsageIndex)
+        .forEach(
+            method -> {
+              MethodSymbol sym = getSymbol(method);
+              findSuperMethods(sym, state).stream()
+                  .filter(m -> sourceFile.equals(m.enclClass().sourcefile))
+                  .forEach(m -> overrides.put(m, sym));
+            });
     return overrides.build();
   }
 
+  /** The methods declared in the compilation unit, other than in classes local to a method. */
+  private static Stream<MethodTree> topLevelMethods(SymbolUsageIndex symbolUsageIndex) {
+    return symbolUsageIndex.declarations().stream()
+        .filter(
+            path ->
+                path.getLeaf() instanceof MethodTree
+                    && findEnclosingNode(path.getParentPath(), MethodTree.class) == null)
+        .map(path -> (MethodTree) path.getLeaf());
+  }
+
   // https://docs.oracle.com/javase/specs/jls/se11/html/jls-14.html#jls-ExpressionStatement
   private static final ImmutableSet<Tree.Kind> TOP_LEVEL_EXPRESSIONS =
       ImmutableSet.of(
@@ -529,61 +534,66 @@ public final class UnusedVariable extends BugChecker implements CompilationUnitT
       deletions.add(
           Range.closed(getStartPosition(path.getLeaf()), state.getEndPosition(path.getLeaf())));
     }
-    new TreePathScanner<Void, Void>() {
-      @Override
-      public Void visitMethodInvocation(MethodInvocationTree tree, Void unused) {
-        if (getSymbol(tree).equals(methodSymbol)) {
-          removeByIndex(tree.getArguments());
-        }
-        return super.visitMethodInvocation(tree, null);
-      }
-
-      @Override
-      public Void visitMethod(MethodTree tree, Void unused) {
-        if (getSymbol(tree).equals(methodSymbol)) {
-          removeByIndex(tree.getParameters());
-        }
-        return super.visitMethod(tree, null);
-      }
-
-      private void removeByIndex(List<? extends Tree> trees) {
-        if (index >= trees.size()) {
-          // possible when removing a varargs parameter with no corresponding formal parameters
-          return;
-        }
-        if (trees.size() == 1) {
-          Tree tree = getOnlyElement(trees);
-          if (!hasExplicitSource(tree, state)) {
-            // TODO(b/118437729): handle bogus source positions in enum declarations
-            return;
-          }
-          deletions.add(Range.closed(getStartPosition(tree), state.getEndPosition(tree)));
-          return;
-        }
-        int startPos;
-        int endPos;
-        if (index >= 1) {
-          startPos = state.getEndPosition(trees.get(index - 1));
-          endPos = state.getEndPosition(trees.get(index));
-        } else {
-          startPos = getStartPosition(trees.get(index));
-          endPos = getStartPosition(trees.get(index + 1));
-        }
-        if (index == methodSymbol.params().size() - 1 && methodSymbol.isVarArgs()) {
-          endPos = state.getEndPosition(getLast(trees));
-        }
-        if (startPos == Position.NOPOS || endPos == Position.NOPOS) {
-          // TODO(b/118437729): handle bogus source positions in enum declarations
-          return;
-        }
-        deletions.add(Range.closed(startPos, endPos));
+    SymbolUsageIndex symbolUsageIndex = state.getSymbolUsageIndex();
+    for (TreePath reference : symbolUsageIndex.references(methodSymbol)) {
+      if (reference.getParentPath().getLeaf() instanceof MethodInvocationTree invocation
+          && invocation.getMethodSelect() == reference.getLeaf()) {
+        removeByIndex(invocation.getArguments(), methodSymbol, index, deletions, state);
       }
-    }.scan(state.getPath().getCompilationUnit(), null);
+    }
+    symbolUsageIndex
+        .declaration(methodSymbol)
+        .ifPresent(
+            declaration ->
+                removeByIndex(
+                    ((MethodTree) declaration.getLeaf()).getParameters(),
+                    methodSymbol,
+                    index,
+                    deletions,
+                    state));
     SuggestedFix.Builder fix = SuggestedFix.builder();
     deletions.asRanges().forEach(x -> fix.replace(x.lowerEndpoint(), x.upperEndpoint(), ""));
     return ImmutableList.of(fix.build());
   }
 
+  private static void removeByIndex(
+      List<? extends Tree> trees,
+      MethodSymbol methodSymbol,
+      int index,
+      RangeSet<Integer> deletions,
+      VisitorState state) {
+    if (index >= trees.size()) {
+      // possible when removing a varargs parameter with no corresponding formal parameters
+      return;
+    }
+    if (trees.size() == 1) {
+      Tree tree = getOnlyElement(trees);
+      if (!hasExplicitSource(tree, state)) {
+        // TODO(b/118437729): handle bogus source positions in enum declarations
+        return;
+      }
+      deletions.add(Range.closed(getStartPosition(tree), state.getEndPosition(tree)));
+      return;
+    }
+    int startPos;
+    int endPos;
+    if (index >= 1) {
+      startPos = state.getEndPosition(trees.get(index - 1));
+      endPos = state.getEndPosition(trees.get(index));
+    } else {
+      startPos = getStartPosition(trees.get(index));
+      endPos = getStartPosition(trees.get(index + 1));
+    }
+    if (index == methodSymbol.params().size() - 1 && methodSymbol.isVarArgs()) {
+      endPos = state.getEndPosition(getLast(trees));
+    }
+    if (startPos == Position.NOPOS || endPos == Position.NOPOS) {
+      // TODO(b/118437729): handle bogus source positions in enum declarations
+      return;
+    }
+    deletions.add(Range.closed(startPos, endPos));
+  }
+
   private static boolean isEnhancedForLoopVar(TreePath variablePath) {
     Tree tree = variablePath.getLeaf();
     Tree parent = variablePath.getParentPath().getLeaf();
@@ -23,6 +23,7 @@ import com.google.common.collect.ImmutableSetMultimap;
 import com.google.common.io.Resources;
 import com.google.errorprone.BugPattern;
 import com.google.errorprone.ErrorProneFlags;
+import com.google.errorprone.bugpatterns.BugChecker.Reusable;
 import com.google.errorprone.bugpatterns.apidiff.ApiDiff.ClassMemberKey;
 import com.google.protobuf.ExtensionRegistry;
 import java.io.IOException;
@@ -39,6 +40,7 @@ import javax.inject.Inject;
         "Code that needs to be compatible with Java 8 cannot use types or members"
             + " that are only present in newer class libraries",
     severity = ERROR)
+@Reusable
 public class Java8ApiChecker extends ApiDiffChecker {
 
   private static ApiDiff loadApiDiff(ErrorProneFlags errorProneFlags) {
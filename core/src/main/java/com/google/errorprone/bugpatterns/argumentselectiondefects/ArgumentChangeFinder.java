@@ -18,8 +18,8 @@ package com.google.errorprone.bugpatterns.argumentselectiondefects;
 
 import com.google.auto.value.AutoValue;
 import com.google.common.collect.ImmutableList;
+import com.google.errorprone.VisitorState;
 import com.google.errorprone.annotations.CanIgnoreReturnValue;
-import java.util.function.Function;
 
 /**
  * Instances of this class are used to find whether there should be argument swaps on a method
@@ -37,7 +37,13 @@ abstract class ArgumentChangeFinder {
    * The distance function to use when comparing formal and actual parameters. The function should
    * return 0 for highly similar names and larger positive values as names are more different.
    */
-  abstract Function<ParameterPair, Double> distanceFunction();
+  abstract DistanceFunction distanceFunction();
+
+  /** Computes the distance between a formal and an actual parameter. */
+  @FunctionalInterface
+  interface DistanceFunction {
+    double distance(ParameterPair pair, VisitorState state);
+  }
 
   /** List of heuristics to apply to eliminate spurious suggestions. */
   abstract ImmutableList<Heuristic> heuristics();
@@ -50,7 +56,7 @@ abstract class ArgumentChangeFinder {
   abstract static class Builder {
 
     /** Set the distance function that {@link ArgumentChangeFinder} should use. */
-    abstract Builder setDistanceFunction(Function<ParameterPair, Double> distanceFunction);
+    abstract Builder setDistanceFunction(DistanceFunction distanceFunction);
 
     abstract ImmutableList.Builder<Heuristic> heuristicsBuilder();
 
@@ -106,7 +112,9 @@ abstract class ArgumentChangeFinder {
     }
 
     /* Set the lexical distance between pairs */
-    costs.viablePairs().forEach(p -> costs.updatePair(p, distanceFunction().apply(p)));
+    costs
+        .viablePairs()
+        .forEach(p -> costs.updatePair(p, distanceFunction().distance(p, invocationInfo.state())));
 
     Changes changes = costs.computeAssignments();
 
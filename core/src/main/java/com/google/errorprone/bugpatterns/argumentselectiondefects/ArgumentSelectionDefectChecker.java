@@ -25,8 +25,8 @@ import com.google.errorprone.bugpatterns.BugChecker;
 import com.google.errorprone.bugpatterns.BugChecker.MethodInvocationTreeMatcher;
 import com.google.errorprone.bugpatterns.BugChecker.NewClassTreeMatcher;
 import com.google.errorprone.matchers.Description;
-import com.google.errorprone.names.NamingConventions;
 import com.google.errorprone.names.NeedlemanWunschEditDistance;
+import com.google.errorprone.names.TermSplitCache;
 import com.google.errorprone.util.ASTHelpers;
 import com.sun.source.tree.MethodInvocationTree;
 import com.sun.source.tree.NewClassTree;
@@ -122,14 +122,15 @@ public class ArgumentSelectionDefectChecker extends BugChecker
    * normalised NeedlemanWunschEditDistance. Otherwise, one of the names is unknown and so we return
    * 0 distance between it and its original parameter and infinite distance between all others.
    */
-  private static double defaultDistanceFunction(ParameterPair pair) {
+  private static double defaultDistanceFunction(ParameterPair pair, VisitorState state) {
     if (pair.formal().isNullLiteral() || pair.actual().isNullLiteral()) {
       return 0.0;
     }
 
     if (!pair.formal().isUnknownName() && !pair.actual().isUnknownName()) {
-      String normalizedSource = NamingConventions.convertToLowerUnderscore(pair.formal().name());
-      String normalizedTarget = NamingConventions.convertToLowerUnderscore(pair.actual().name());
+      TermSplitCache termSplitCache = TermSplitCache.instance(state.context);
+      String normalizedSource = termSplitCache.convertToLowerUnderscore(pair.formal().name());
+      String normalizedTarget = termSplitCache.convertToLowerUnderscore(pair.actual().name());
       return NeedlemanWunschEditDistance.getNormalizedEditDistance(
           /* source= */ normalizedSource,
           /* target= */ normalizedTarget,
@@ -22,13 +22,13 @@ import com.google.errorprone.BugPattern;
 import com.google.errorprone.VisitorState;
 import com.google.errorprone.bugpatterns.BugChecker;
 import com.google.errorprone.bugpatterns.BugChecker.MethodInvocationTreeMatcher;
+import com.google.errorprone.bugpatterns.argumentselectiondefects.ArgumentChangeFinder.DistanceFunction;
 import com.google.errorprone.matchers.Description;
 import com.google.errorprone.util.ASTHelpers;
 import com.sun.source.tree.MethodInvocationTree;
 import com.sun.source.tree.Tree;
 import com.sun.tools.javac.code.Symbol.MethodSymbol;
 import com.sun.tools.javac.code.Symbol.TypeSymbol;
-import java.util.function.Function;
 import javax.lang.model.element.ElementKind;
 
 /**
@@ -83,11 +83,11 @@ public final class AssertEqualsArgumentOrderChecker extends BugChecker
    * the actual parameter name starts with expected or actual respectively then we consider it a
    * perfect match otherwise we return a distance of 1.
    */
-  private static Function<ParameterPair, Double> buildDistanceFunction() {
-    return new Function<ParameterPair, Double>() {
+  private static DistanceFunction buildDistanceFunction() {
+    return new DistanceFunction() {
 
       @Override
-      public Double apply(ParameterPair parameterPair) {
+      public double distance(ParameterPair parameterPair, VisitorState state) {
         Parameter formal = parameterPair.formal();
         Parameter actual = parameterPair.actual();
         String formalName = formal.name();
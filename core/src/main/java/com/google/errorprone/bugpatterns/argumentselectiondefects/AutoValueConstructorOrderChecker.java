@@ -22,12 +22,12 @@ import com.google.errorprone.BugPattern;
 import com.google.errorprone.VisitorState;
 import com.google.errorprone.bugpatterns.BugChecker;
 import com.google.errorprone.bugpatterns.BugChecker.NewClassTreeMatcher;
+import com.google.errorprone.bugpatterns.argumentselectiondefects.ArgumentChangeFinder.DistanceFunction;
 import com.google.errorprone.matchers.Description;
 import com.google.errorprone.util.ASTHelpers;
 import com.sun.source.tree.NewClassTree;
 import com.sun.source.tree.Tree;
 import com.sun.tools.javac.code.Symbol;
-import java.util.function.Function;
 
 /**
  * Checker to make sure that constructors for AutoValue types are invoked with arguments in the
@@ -69,10 +69,10 @@ public final class AutoValueConstructorOrderChecker extends BugChecker
     return describeMatch(invocationInfo.tree(), changes.buildPermuteArgumentsFix(invocationInfo));
   }
 
-  private static Function<ParameterPair, Double> buildDistanceFunction() {
-    return new Function<ParameterPair, Double>() {
+  private static DistanceFunction buildDistanceFunction() {
+    return new DistanceFunction() {
       @Override
-      public Double apply(ParameterPair parameterPair) {
+      public double distance(ParameterPair parameterPair, VisitorState state) {
         Parameter formal = parameterPair.formal();
         Parameter actual = parameterPair.actual();
         if (formal.isUnknownName() || actual.isUnknownName()) {
@@ -17,11 +17,11 @@
 package com.google.errorprone.bugpatterns.argumentselectiondefects;
 
 import static com.google.common.collect.Streams.stream;
-import static com.google.errorprone.names.NamingConventions.splitToLowercaseTerms;
 import static java.util.Collections.disjoint;
 
 import com.google.common.collect.ImmutableSet;
 import com.google.errorprone.VisitorState;
+import com.google.errorprone.names.TermSplitCache;
 import com.sun.source.tree.ClassTree;
 import com.sun.source.tree.MethodTree;
 import com.sun.source.tree.Tree;
@@ -79,9 +79,10 @@ final class EnclosedByReverseHeuristic implements Heuristic {
   }
 
   private @Nullable String findReverseWordsMatchInParentNodes(VisitorState state) {
+    TermSplitCache termSplitCache = TermSplitCache.instance(state.context);
     return stream(state.getPath())
         .flatMap(t -> getName(t).stream())
-        .filter(n -> !disjoint(splitToLowercaseTerms(n), reverseWordsTerms))
+        .filter(n -> !disjoint(termSplitCache.splitToLowercaseTerms(n), reverseWordsTerms))
         .findFirst()
         .orElse(null);
   }
@@ -112,7 +112,7 @@ public final class AutoValueRules {
        *
        * To handle this, we walk up the type hierarchy.
        */
-      return concat(Stream.of(method), streamSuperMethods(method, state.getTypes()))
+      return concat(Stream.of(method), streamSuperMethods(method, state))
           .filter(
               m -> isAbstract(m) && hasAnnotation(enclosingClass(m), qualifiedAnnotation, state))
           .findFirst()
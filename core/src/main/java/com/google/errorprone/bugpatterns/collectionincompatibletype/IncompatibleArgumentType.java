@@ -99,12 +99,10 @@ public class IncompatibleArgumentType extends BugChecker implements MethodInvoca
     List<RequiredType> requiredTypesAtCallSite =
         new ArrayList<>(Collections.nCopies(arguments.size(), null));
 
-    Types types = state.getTypes();
-
     if (!populateTypesToEnforce(
         declaredMethod, calledMethodType, calledClazzType, requiredTypesAtCallSite, state)) {
       // No annotations on this method, try the supers;
-      for (MethodSymbol method : ASTHelpers.findSuperMethods(declaredMethod, types)) {
+      for (MethodSymbol method : ASTHelpers.findSuperMethods(declaredMethod, state)) {
         if (populateTypesToEnforce(
             method, calledMethodType, calledClazzType, requiredTypesAtCallSite, state)) {
           break;
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2026 The Error Prone Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.errorprone.bugpatterns.formatstring;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.OptionalInt;
+
+/**
+ * A parser for {@link java.util.Formatter} format strings, which recognizes valid uses of the
+ * common conversions without formatting anything.
+ *
+ * <p>The parser is deliberately conservative: it only accepts format strings which it can show will
+ * format the given arguments successfully. Anything else, including every invalid format string, is
+ * left to {@link FormatStringValidation} to diagnose with {@link String#format}, so that the error
+ * messages are exactly those the formatter produces.
+ */
+final class FormatStringParser {
+
+  /** The characters {@link java.util.Formatter} accepts as flags, or as a relative index. */
+  private static final String FLAGS = "-#+ 0,(<";
+
+  /**
+   * Returns the number of leading {@code arguments} that {@code formatString} uses, if formatting
+   * {@code arguments} with it is known to succeed.
+   *
+   * <p>Returns empty if formatting might fail, or if the format string uses a feature this parser
+   * doesn't model: flags other than {@code -}, relative indices, and date/time, hexadecimal
+   * floating point and code point conversions of anything but characters.
+   */
+  static OptionalInt argumentsUsed(String formatString, Object[] arguments) {
+    int used = 0;
+    int ordinaryIndex = 0;
+    int length = formatString.length();
+    int i = formatString.indexOf('%');
+    while (i != -1) {
+      i++;
+      int explicitIndex = -1;
+      int digitsEnd = skipDigits(formatString, i);
+      if (digitsEnd > i && digitsEnd < length && formatString.charAt(digitsEnd) == '$') {
+        explicitIndex = parseInt(formatString, i, digitsEnd);
+        if (explicitIndex < 1) {
+          return OptionalInt.empty();
+        }
+        i = digitsEnd + 1;
+      }
+      boolean leftJustify = false;
+      while (i < length && FLAGS.indexOf(formatString.charAt(i)) != -1) {
+        if (formatString.charAt(i) != '-' || leftJustify) {
+          return OptionalInt.empty();
+        }
+        leftJustify = true;
+        i++;
+      }
+      digitsEnd = skipDigits(formatString, i);
+      boolean hasWidth = digitsEnd > i;
+      if (hasWidth) {
+        if (parseInt(formatString, i, digitsEnd) < 0) {
+          return OptionalInt.empty();
+        }
+        i = digitsEnd;
+      }
+      boolean hasPrecision = i < length && formatString.charAt(i) == '.';
+      if (hasPrecision) {
+        digitsEnd = skipDigits(formatString, i + 1);
+        if (parseInt(formatString, i + 1, digitsEnd) < 0) {
+          return OptionalInt.empty();
+        }
+        i = digitsEnd;
+      }
+      if (i >= length || (leftJustify && !hasWidth)) {
+        return OptionalInt.empty();
+      }
+      char conversion = formatString.charAt(i++);
+      if (conversion == '%' || conversion == 'n') {
+        // These don't take an argument, and only "%%" and "%n" are certain to be valid.
+        if (explicitIndex != -1 || leftJustify || hasWidth || hasPrecision) {
+          return OptionalInt.empty();
+        }
+      } else {
+        int position = explicitIndex != -1 ? explicitIndex : ++ordinaryIndex;
+        if (position > arguments.length
+            || !accepts(conversion, hasPrecision, arguments[position - 1])) {
+          return OptionalInt.empty();
+        }
+        used = Math.max(used, position);
+      }
+      i = formatString.indexOf('%', i);
+    }
+    return OptionalInt.of(used);
+  }
+
+  /** Returns true if {@code argument} can certainly be formatted with {@code conversion}. */
+  private static boolean accepts(char conversion, boolean hasPrecision, Object argument) {
+    return switch (conversion) {
+      case 'b', 'B', 'h', 'H', 's', 'S' -> true;
+      case 'c', 'C' -> !hasPrecision && (argument == null || argument instanceof Character);
+      case 'd', 'o', 'x', 'X' -> !hasPrecision && isIntegral(argument);
+      case 'e', 'E', 'f', 'g', 'G' ->
+          argument == null
+              || argument instanceof Float
+              || argument instanceof Double
+              || argument instanceof BigDecimal;
+      default -> false;
+    };
+  }
+
+  private static boolean isIntegral(Object argument) {
+    return argument == null
+        || argument instanceof Byte
+        || argument instanceof Short
+        || argument instanceof Integer
+        || argument instanceof Long
+        || argument instanceof BigInteger;
+  }
+
+  private static int skipDigits(String s, int start) {
+    int i = start;
+    while (i < s.length() && s.charAt(i) >= '0' && s.charAt(i) <= '9') {
+      i++;
+    }
+    return i;
+  }
+
+  /**
+   * Parses the digits in {@code [start, end)}, or returns -1 if there are none or there are too
+   * many to be sure the formatter can parse them.
+   */
+  private static int parseInt(String s, int start, int end) {
+    if (start == end || end - start > 9) {
+      return -1;
+    }
+    return Integer.parseInt(s, start, end, 10);
+  }
+
+  private FormatStringParser() {}
+}
@@ -23,6 +23,7 @@ import static java.util.Arrays.asList;
 import com.google.auto.value.AutoValue;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.Iterables;
+import com.google.errorprone.JavacInvocationInstance;
 import com.google.errorprone.VisitorState;
 import com.google.errorprone.suppliers.Supplier;
 import com.google.errorprone.util.ASTHelpers;
@@ -33,6 +34,7 @@ import com.sun.source.util.SimpleTreeVisitor;
 import com.sun.tools.javac.code.Symbol.MethodSymbol;
 import com.sun.tools.javac.code.Type;
 import com.sun.tools.javac.code.Types;
+import com.sun.tools.javac.util.Context;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.time.Instant;
@@ -47,6 +49,7 @@ import java.util.Deque;
 import java.util.DuplicateFormatFlagsException;
 import java.util.FormatFlagsConversionMismatchException;
 import java.util.GregorianCalendar;
+import java.util.HashMap;
 import java.util.IllegalFormatCodePointException;
 import java.util.IllegalFormatConversionException;
 import java.util.IllegalFormatException;
@@ -54,8 +57,11 @@ import java.util.IllegalFormatFlagsException;
 import java.util.IllegalFormatPrecisionException;
 import java.util.IllegalFormatWidthException;
 import java.util.List;
+import java.util.Map;
 import java.util.MissingFormatArgumentException;
 import java.util.MissingFormatWidthException;
+import java.util.Optional;
+import java.util.OptionalInt;
 import java.util.UnknownFormatConversionException;
 import java.util.UnknownFormatFlagsException;
 import java.util.stream.IntStream;
@@ -137,7 +143,7 @@ public final class FormatStringValidation {
             .toArray();
 
     return formatStrings
-        .map(formatString -> validate(formatString, instances))
+        .map(formatString -> validate(formatString, instances, state))
         .filter(x -> x != null)
         .findFirst()
         .orElse(null);
@@ -221,7 +227,81 @@ public final class FormatStringValidation {
     return s != null && types.isSubtype(t, s);
   }
 
-  private static ValidationResult validate(String formatString, Object[] arguments) {
+  private static final Context.Key<ValidationResults> RESULTS_KEY = new Context.Key<>();
+
+  /** The validation results of the current invocation of javac. */
+  private static final class ValidationResults {
+    private @Nullable JavacInvocationInstance invocation;
+    private final Map<ValidationKey, Optional<ValidationResult>> results = new HashMap<>();
+
+    /**
+     * Returns the results of {@code invocation}, dropping those of an earlier invocation in a
+     * reused context rather than accumulating them across invocations.
+     */
+    Map<ValidationKey, Optional<ValidationResult>> resultsFor(JavacInvocationInstance invocation) {
+      if (this.invocation != invocation) {
+        results.clear();
+        this.invocation = invocation;
+      }
+      return results;
+    }
+  }
+
+  /**
+   * The key of a cached validation result.
+   *
+   * <p>Arguments are keyed by value if they're strings or boxed primitives, which may be compile
+   * time constants and whose values matter to some conversions (e.g. {@code %c} of an {@code int}),
+   * and by class otherwise.
+   */
+  @AutoValue
+  abstract static class ValidationKey {
+    abstract String formatString();
+
+    abstract List<Object> arguments();
+
+    static ValidationKey create(String formatString, Object[] arguments) {
+      Object[] keys = new Object[arguments.length];
+      for (int i = 0; i < arguments.length; i++) {
+        Object argument = arguments[i];
+        keys[i] =
+            argument == null
+                    || argument instanceof String
+                    || argument instanceof Number
+                    || argument instanceof Character
+                    || argument instanceof Boolean
+                ? argument
+                : argument.getClass();
+      }
+      return new AutoValue_FormatStringValidation_ValidationKey(formatString, asList(keys));
+    }
+  }
+
+  /**
+   * Validates {@code formatString} against {@code arguments}, sharing the result with every other
+   * call in the compilation which has the same format string and argument types.
+   */
+  private static @Nullable ValidationResult validate(
+      String formatString, Object[] arguments, VisitorState state) {
+    ValidationResults results = state.context.get(RESULTS_KEY);
+    if (results == null) {
+      results = new ValidationResults();
+      state.context.put(RESULTS_KEY, results);
+    }
+    return results
+        .resultsFor(JavacInvocationInstance.instance(state.context))
+        .computeIfAbsent(
+            ValidationKey.create(formatString, arguments),
+            k -> Optional.ofNullable(validate(formatString, arguments)))
+        .orElse(null);
+  }
+
+  private static @Nullable ValidationResult validate(String formatString, Object[] arguments) {
+    // Most format strings are valid, so first try to show that without formatting anything.
+    OptionalInt used = FormatStringParser.argumentsUsed(formatString, arguments);
+    if (used.isPresent()) {
+      return extraFormatArguments(used.getAsInt(), arguments.length);
+    }
     try {
       String unused = String.format(formatString, arguments);
     } catch (DuplicateFormatFlagsException e) {
@@ -272,11 +352,15 @@ public final class FormatStringValidation {
             .filter(i -> doesItFormat(formatString, arguments.subList(0, i)))
             .findFirst()
             .orElse(0);
-    if (used == arguments.size()) {
+    return extraFormatArguments(used, arguments.size());
+  }
+
+  private static @Nullable ValidationResult extraFormatArguments(int used, int provided) {
+    if (used == provided) {
       return null;
     }
     return ValidationResult.create(
-        String.format("extra format arguments: used %d, provided %d", used, arguments.size()));
+        String.format("extra format arguments: used %d, provided %d", used, provided));
   }
 
   private static boolean doesItFormat(String formatString, List<Object> arguments) {
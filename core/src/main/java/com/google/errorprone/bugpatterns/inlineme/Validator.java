@@ -90,7 +90,7 @@ public final class Validator extends BugChecker implements MethodTreeMatcher {
     return hasDirectAnnotationWithSimpleName(tree, "InlineMe")
         && !shouldKeep(tree)
         && !hasAnnotation(tree, "java.lang.Override", state)
-        && findSuperMethods(getSymbol(tree), state.getTypes()).isEmpty();
+        && findSuperMethods(getSymbol(tree), state).isEmpty();
   }
 
   private Description match(InlineMeData existingAnnotation, MethodTree tree, VisitorState state) {
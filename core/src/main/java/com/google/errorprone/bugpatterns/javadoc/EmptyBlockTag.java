@@ -23,23 +23,18 @@ import static com.google.errorprone.bugpatterns.javadoc.Utils.diagnosticPosition
 import com.google.errorprone.BugPattern;
 import com.google.errorprone.VisitorState;
 import com.google.errorprone.bugpatterns.BugChecker;
-import com.google.errorprone.bugpatterns.BugChecker.ClassTreeMatcher;
-import com.google.errorprone.bugpatterns.BugChecker.MethodTreeMatcher;
-import com.google.errorprone.bugpatterns.BugChecker.VariableTreeMatcher;
+import com.google.errorprone.bugpatterns.BugChecker.DocTreeMatcher;
 import com.google.errorprone.fixes.SuggestedFix;
 import com.google.errorprone.matchers.Description;
-import com.sun.source.doctree.BlockTagTree;
 import com.sun.source.doctree.DeprecatedTree;
 import com.sun.source.doctree.DocTree;
 import com.sun.source.doctree.ParamTree;
 import com.sun.source.doctree.ReturnTree;
 import com.sun.source.doctree.ThrowsTree;
-import com.sun.source.tree.ClassTree;
-import com.sun.source.tree.MethodTree;
-import com.sun.source.tree.VariableTree;
 import com.sun.source.util.DocTreePath;
-import com.sun.source.util.DocTreePathScanner;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Matches block tags ({@literal @}param, {@literal @}return, {@literal @}throws,
@@ -56,77 +51,43 @@ import java.util.List;
     linkType = CUSTOM,
     link = "https://google.github.io/styleguide/javaguide.html#s7.1.3-javadoc-block-tags",
     documentSuppression = false)
-public final class EmptyBlockTag extends BugChecker
-    implements ClassTreeMatcher, MethodTreeMatcher, VariableTreeMatcher {
+public final class EmptyBlockTag extends BugChecker implements DocTreeMatcher {
 
   @Override
-  public Description matchClass(ClassTree classTree, VisitorState state) {
-    checkForEmptyBlockTags(state);
-    return Description.NO_MATCH;
+  public Set<DocTree.Kind> docTreeKinds() {
+    return EnumSet.of(
+        DocTree.Kind.PARAM,
+        DocTree.Kind.RETURN,
+        DocTree.Kind.THROWS,
+        DocTree.Kind.EXCEPTION,
+        DocTree.Kind.DEPRECATED);
   }
 
   @Override
-  public Description matchMethod(MethodTree methodTree, VisitorState state) {
-    checkForEmptyBlockTags(state);
-    return Description.NO_MATCH;
-  }
-
-  @Override
-  public Description matchVariable(VariableTree variableTree, VisitorState state) {
-    checkForEmptyBlockTags(state);
-    return Description.NO_MATCH;
-  }
-
-  private void checkForEmptyBlockTags(VisitorState state) {
-    DocTreePath path = Utils.getDocTreePath(state);
-    if (path != null) {
-      new EmptyBlockTagChecker(state).scan(path, null);
+  public Description matchDocTree(DocTreePath path, VisitorState state) {
+    DocTree docTree = path.getLeaf();
+    if (!getDescription(docTree).isEmpty()) {
+      return Description.NO_MATCH;
     }
+    return describeMatch(
+        diagnosticPosition(path, state),
+        // Don't generate a fix for deprecated; this will be annoying in conjunction with the check
+        // which requires a @deprecated tag for @Deprecated elements.
+        docTree.getKind() == DocTree.Kind.DEPRECATED
+            ? SuggestedFix.emptyFix()
+            : Utils.replace(docTree, "", state));
   }
 
-  private final class EmptyBlockTagChecker extends DocTreePathScanner<Void, Void> {
-    private final VisitorState state;
-
-    private EmptyBlockTagChecker(VisitorState state) {
-      this.state = state;
-    }
-
-    @Override
-    public Void visitParam(ParamTree paramTree, Void unused) {
-      reportMatchIfEmpty(paramTree, paramTree.getDescription());
-      return super.visitParam(paramTree, null);
-    }
-
-    @Override
-    public Void visitReturn(ReturnTree returnTree, Void unused) {
-      reportMatchIfEmpty(returnTree, returnTree.getDescription());
-      return super.visitReturn(returnTree, null);
+  private static List<? extends DocTree> getDescription(DocTree docTree) {
+    if (docTree instanceof ParamTree paramTree) {
+      return paramTree.getDescription();
     }
-
-    @Override
-    public Void visitThrows(ThrowsTree throwsTree, Void unused) {
-      reportMatchIfEmpty(throwsTree, throwsTree.getDescription());
-      return super.visitThrows(throwsTree, null);
+    if (docTree instanceof ReturnTree returnTree) {
+      return returnTree.getDescription();
     }
-
-    @Override
-    public Void visitDeprecated(DeprecatedTree deprecatedTree, Void unused) {
-      reportMatchIfEmpty(deprecatedTree, deprecatedTree.getBody());
-      return super.visitDeprecated(deprecatedTree, null);
-    }
-
-    private void reportMatchIfEmpty(
-        BlockTagTree blockTagTree, List<? extends DocTree> description) {
-      if (description.isEmpty()) {
-        state.reportMatch(
-            describeMatch(
-                diagnosticPosition(getCurrentPath(), state),
-                // Don't generate a fix for deprecated; this will be annoying in conjunction with
-                // the check which requires a @deprecated tag for @Deprecated elements.
-                blockTagTree.getTagName().equals("deprecated")
-                    ? SuggestedFix.emptyFix()
-                    : Utils.replace(blockTagTree, "", state)));
-      }
+    if (docTree instanceof ThrowsTree throwsTree) {
+      return throwsTree.getDescription();
     }
+    return ((DeprecatedTree) docTree).getBody();
   }
 }
@@ -18,25 +18,20 @@ package com.google.errorprone.bugpatterns.javadoc;
 
 import static com.google.errorprone.BugPattern.SeverityLevel.WARNING;
 import static com.google.errorprone.bugpatterns.javadoc.Utils.diagnosticPosition;
-import static com.google.errorprone.bugpatterns.javadoc.Utils.getDocTreePath;
 import static com.google.errorprone.matchers.Description.NO_MATCH;
 
 import com.google.errorprone.BugPattern;
 import com.google.errorprone.VisitorState;
 import com.google.errorprone.bugpatterns.BugChecker;
-import com.google.errorprone.bugpatterns.BugChecker.ClassTreeMatcher;
-import com.google.errorprone.bugpatterns.BugChecker.MethodTreeMatcher;
-import com.google.errorprone.bugpatterns.BugChecker.VariableTreeMatcher;
+import com.google.errorprone.bugpatterns.BugChecker.DocTreeMatcher;
 import com.google.errorprone.matchers.Description;
+import com.sun.source.doctree.DocTree;
 import com.sun.source.doctree.LiteralTree;
-import com.sun.source.tree.ClassTree;
-import com.sun.source.tree.MethodTree;
-import com.sun.source.tree.VariableTree;
 import com.sun.source.util.DocTreePath;
-import com.sun.source.util.DocTreePathScanner;
+import java.util.EnumSet;
+import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import org.jspecify.annotations.Nullable;
 
 /**
  * Finds unescaped entities in Javadocs.
@@ -47,49 +42,23 @@ import org.jspecify.annotations.Nullable;
     summary = "HTML entities in @code/@literal tags will appear literally in the rendered javadoc.",
     severity = WARNING,
     documentSuppression = false)
-public final class EscapedEntity extends BugChecker
-    implements ClassTreeMatcher, MethodTreeMatcher, VariableTreeMatcher {
+public final class EscapedEntity extends BugChecker implements DocTreeMatcher {
 
   private static final Pattern HTML_ENTITY =
       Pattern.compile("&[a-z0-9]+;|&#[0-9]+;|&#x[0-9a-f]+;", Pattern.CASE_INSENSITIVE);
 
   @Override
-  public Description matchClass(ClassTree classTree, VisitorState state) {
-    return handle(getDocTreePath(state), state);
+  public Set<DocTree.Kind> docTreeKinds() {
+    return EnumSet.of(DocTree.Kind.CODE, DocTree.Kind.LITERAL);
   }
 
   @Override
-  public Description matchMethod(MethodTree methodTree, VisitorState state) {
-    return handle(getDocTreePath(state), state);
-  }
-
-  @Override
-  public Description matchVariable(VariableTree variableTree, VisitorState state) {
-    return handle(getDocTreePath(state), state);
-  }
-
-  private Description handle(@Nullable DocTreePath path, VisitorState state) {
-    if (path == null) {
+  public Description matchDocTree(DocTreePath path, VisitorState state) {
+    LiteralTree node = (LiteralTree) path.getLeaf();
+    Matcher matcher = HTML_ENTITY.matcher(node.getBody().getBody());
+    if (!matcher.find()) {
       return NO_MATCH;
     }
-    new Scanner(state).scan(path, null);
-    return NO_MATCH;
-  }
-
-  private final class Scanner extends DocTreePathScanner<Void, Void> {
-    private final VisitorState state;
-
-    private Scanner(VisitorState state) {
-      this.state = state;
-    }
-
-    @Override
-    public Void visitLiteral(LiteralTree node, Void unused) {
-      Matcher matcher = HTML_ENTITY.matcher(node.getBody().getBody());
-      if (matcher.find()) {
-        state.reportMatch(buildDescription(diagnosticPosition(getCurrentPath(), state)).build());
-      }
-      return super.visitLiteral(node, null);
-    }
+    return buildDescription(diagnosticPosition(path, state)).build();
   }
 }
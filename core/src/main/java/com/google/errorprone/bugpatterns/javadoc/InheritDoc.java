@@ -25,18 +25,17 @@ import com.google.errorprone.BugPattern;
 import com.google.errorprone.BugPattern.StandardTags;
 import com.google.errorprone.VisitorState;
 import com.google.errorprone.bugpatterns.BugChecker;
-import com.google.errorprone.bugpatterns.BugChecker.ClassTreeMatcher;
-import com.google.errorprone.bugpatterns.BugChecker.MethodTreeMatcher;
-import com.google.errorprone.bugpatterns.BugChecker.VariableTreeMatcher;
+import com.google.errorprone.bugpatterns.BugChecker.DocTreeMatcher;
 import com.google.errorprone.matchers.Description;
-import com.sun.source.doctree.InheritDocTree;
+import com.sun.source.doctree.DocTree;
 import com.sun.source.tree.ClassTree;
 import com.sun.source.tree.MethodTree;
 import com.sun.source.tree.VariableTree;
 import com.sun.source.util.DocTreePath;
-import com.sun.source.util.DocTreePathScanner;
 import com.sun.source.util.SimpleTreeVisitor;
 import com.sun.tools.javac.code.Symbol.MethodSymbol;
+import java.util.EnumSet;
+import java.util.Set;
 
 /**
  * Matches invalid usage of {@literal @inheritDoc}.
@@ -48,80 +47,47 @@ import com.sun.tools.javac.code.Symbol.MethodSymbol;
     severity = WARNING,
     tags = StandardTags.STYLE,
     documentSuppression = false)
-public final class InheritDoc extends BugChecker
-    implements ClassTreeMatcher, MethodTreeMatcher, VariableTreeMatcher {
+public final class InheritDoc extends BugChecker implements DocTreeMatcher {
 
   @Override
-  public Description matchClass(ClassTree classTree, VisitorState state) {
-    return handle(state);
+  public Set<DocTree.Kind> docTreeKinds() {
+    return EnumSet.of(DocTree.Kind.INHERIT_DOC);
   }
 
   @Override
-  public Description matchMethod(MethodTree methodTree, VisitorState state) {
-    return handle(state);
-  }
-
-  @Override
-  public Description matchVariable(VariableTree variableTree, VisitorState state) {
-    return handle(state);
-  }
-
-  private Description handle(VisitorState state) {
-    DocTreePath path = Utils.getDocTreePath(state);
-    if (path != null) {
-      new InheritDocChecker(state).scan(path, null);
-    }
-    return Description.NO_MATCH;
-  }
-
-  private final class InheritDocChecker extends DocTreePathScanner<Void, Void> {
-    private final VisitorState state;
-
-    private InheritDocChecker(VisitorState state) {
-      this.state = state;
-    }
-
-    @Override
-    public Void visitInheritDoc(InheritDocTree inheritDocTree, Void unused) {
-      new SimpleTreeVisitor<Void, Void>() {
-        @Override
-        public Void visitVariable(VariableTree variableTree, Void unused) {
-          state.reportMatch(
-              buildDescription(diagnosticPosition(getCurrentPath(), state))
-                  .setMessage(
-                      "@inheritDoc doesn't make sense on variables as "
-                          + "they cannot override a super element.")
-                  .build());
-          return null;
-        }
+  public Description matchDocTree(DocTreePath path, VisitorState state) {
+    return new SimpleTreeVisitor<Description, Void>(Description.NO_MATCH) {
+      @Override
+      public Description visitVariable(VariableTree variableTree, Void unused) {
+        return buildDescription(diagnosticPosition(path, state))
+            .setMessage(
+                "@inheritDoc doesn't make sense on variables as "
+                    + "they cannot override a super element.")
+            .build();
+      }
 
-        @Override
-        public Void visitMethod(MethodTree methodTree, Void unused) {
-          MethodSymbol methodSymbol = getSymbol(methodTree);
-          if (findSuperMethods(methodSymbol, state.getTypes()).isEmpty()) {
-            state.reportMatch(
-                buildDescription(diagnosticPosition(getCurrentPath(), state))
-                    .setMessage(
-                        "This method does not override anything to inherit documentation from.")
-                    .build());
-          }
-          return null;
+      @Override
+      public Description visitMethod(MethodTree methodTree, Void unused) {
+        MethodSymbol methodSymbol = getSymbol(methodTree);
+        if (!findSuperMethods(methodSymbol, state).isEmpty()) {
+          return Description.NO_MATCH;
         }
+        return buildDescription(diagnosticPosition(path, state))
+            .setMessage("This method does not override anything to inherit documentation from.")
+            .build();
+      }
 
-        @Override
-        public Void visitClass(ClassTree classTree, Void unused) {
-          if (classTree.getExtendsClause() == null && classTree.getImplementsClause().isEmpty()) {
-            state.reportMatch(
-                buildDescription(diagnosticPosition(getCurrentPath(), state))
-                    .setMessage(
-                        "This class does not extend or implement anything to inherit "
-                            + "documentation from.")
-                    .build());
-          }
-          return null;
+      @Override
+      public Description visitClass(ClassTree classTree, Void unused) {
+        if (classTree.getExtendsClause() != null || !classTree.getImplementsClause().isEmpty()) {
+          return Description.NO_MATCH;
         }
-      }.visit(getCurrentPath().getTreePath().getLeaf(), null);
-      return super.visitInheritDoc(inheritDocTree, null);
-    }
+        return buildDescription(diagnosticPosition(path, state))
+            .setMessage(
+                "This class does not extend or implement anything to inherit "
+                    + "documentation from.")
+            .build();
+      }
+    }.visit(path.getTreePath().getLeaf(), null);
   }
 }
@@ -27,9 +27,7 @@ import com.google.common.collect.ImmutableSet;
 import com.google.errorprone.BugPattern;
 import com.google.errorprone.VisitorState;
 import com.google.errorprone.bugpatterns.BugChecker;
-import com.google.errorprone.bugpatterns.BugChecker.ClassTreeMatcher;
-import com.google.errorprone.bugpatterns.BugChecker.MethodTreeMatcher;
-import com.google.errorprone.bugpatterns.BugChecker.VariableTreeMatcher;
+import com.google.errorprone.bugpatterns.BugChecker.DocTreeMatcher;
 import com.google.errorprone.fixes.SuggestedFix;
 import com.google.errorprone.matchers.Description;
 import com.sun.source.doctree.DocTree;
@@ -39,13 +37,14 @@ import com.sun.source.doctree.StartElementTree;
 import com.sun.source.doctree.UnknownBlockTagTree;
 import com.sun.source.tree.ClassTree;
 import com.sun.source.tree.MethodTree;
-import com.sun.source.tree.VariableTree;
+import com.sun.source.tree.Tree;
 import com.sun.source.util.DocTreePath;
 import com.sun.source.util.DocTreePathScanner;
 import com.sun.tools.javac.tree.DCTree.DCBlockTag;
 import com.sun.tools.javac.tree.DCTree.DCDocComment;
 import com.sun.tools.javac.tree.DCTree.DCErroneous;
 import com.sun.tools.javac.util.JCDiagnostic;
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.Optional;
 import java.util.Set;
@@ -56,8 +55,7 @@ import java.util.Set;
  * @author ghm@google.com (Graeme Morgan)
  */
 @BugPattern(summary = "This tag is invalid.", severity = WARNING, documentSuppression = false)
-public final class InvalidBlockTag extends BugChecker
-    implements ClassTreeMatcher, MethodTreeMatcher, VariableTreeMatcher {
+public final class InvalidBlockTag extends BugChecker implements DocTreeMatcher {
 
   /**
    * HTML tags which imply we're showing code, and should therefore probably escape unknown block
@@ -66,34 +64,26 @@ public final class InvalidBlockTag extends BugChecker
   private static final ImmutableSet<String> CODE_TAGS = ImmutableSet.of("code", "pre");
 
   @Override
-  public Description matchClass(ClassTree classTree, VisitorState state) {
-    DocTreePath path = Utils.getDocTreePath(state);
-    if (path != null) {
-      ImmutableSet<String> parameters = ImmutableSet.of();
-      new InvalidTagChecker(state, JavadocTag.VALID_CLASS_TAGS, parameters).scan(path, null);
-    }
-    return Description.NO_MATCH;
+  public Set<DocTree.Kind> docTreeKinds() {
+    return EnumSet.of(DocTree.Kind.DOC_COMMENT);
   }
 
   @Override
-  public Description matchMethod(MethodTree methodTree, VisitorState state) {
-    DocTreePath path = Utils.getDocTreePath(state);
-    if (path != null) {
+  public Description matchDocTree(DocTreePath path, VisitorState state) {
+    Tree tree = state.getPath().getLeaf();
+    if (tree instanceof MethodTree methodTree) {
       ImmutableSet<String> parameters =
           methodTree.getParameters().stream()
               .map(v -> v.getName().toString())
               .collect(toImmutableSet());
       new InvalidTagChecker(state, JavadocTag.VALID_METHOD_TAGS, parameters).scan(path, null);
-    }
-    return Description.NO_MATCH;
-  }
-
-  @Override
-  public Description matchVariable(VariableTree variableTree, VisitorState state) {
-    DocTreePath path = Utils.getDocTreePath(state);
-    if (path != null) {
+    } else {
       new InvalidTagChecker(
-              state, JavadocTag.VALID_VARIABLE_TAGS, /* parameters= */ ImmutableSet.of())
+              state,
+              tree instanceof ClassTree
+                  ? JavadocTag.VALID_CLASS_TAGS
+                  : JavadocTag.VALID_VARIABLE_TAGS,
+              /* parameters= */ ImmutableSet.of())
           .scan(path, null);
     }
     return Description.NO_MATCH;
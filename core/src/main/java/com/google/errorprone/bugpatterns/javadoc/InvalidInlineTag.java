@@ -29,9 +29,7 @@ import com.google.common.collect.ImmutableSet;
 import com.google.errorprone.BugPattern;
 import com.google.errorprone.VisitorState;
 import com.google.errorprone.bugpatterns.BugChecker;
-import com.google.errorprone.bugpatterns.BugChecker.ClassTreeMatcher;
-import com.google.errorprone.bugpatterns.BugChecker.MethodTreeMatcher;
-import com.google.errorprone.bugpatterns.BugChecker.VariableTreeMatcher;
+import com.google.errorprone.bugpatterns.BugChecker.DocTreeMatcher;
 import com.google.errorprone.bugpatterns.javadoc.JavadocTag.TagType;
 import com.google.errorprone.fixes.SuggestedFix;
 import com.google.errorprone.matchers.Description;
@@ -42,9 +40,8 @@ import com.sun.source.doctree.TextTree;
 import com.sun.source.doctree.UnknownInlineTagTree;
 import com.sun.source.tree.ClassTree;
 import com.sun.source.tree.MethodTree;
-import com.sun.source.tree.VariableTree;
+import com.sun.source.tree.Tree;
 import com.sun.source.util.DocTreePath;
-import com.sun.source.util.DocTreePathScanner;
 import com.sun.tools.javac.code.Kinds.KindSelector;
 import com.sun.tools.javac.code.Symbol;
 import com.sun.tools.javac.code.Symbol.TypeSymbol;
@@ -52,7 +49,7 @@ import com.sun.tools.javac.parser.Tokens.Comment;
 import com.sun.tools.javac.tree.DCTree.DCDocComment;
 import com.sun.tools.javac.tree.DCTree.DCInlineTag;
 import com.sun.tools.javac.tree.DCTree.DCText;
-import java.util.HashSet;
+import java.util.EnumSet;
 import java.util.Optional;
 import java.util.Set;
 import java.util.regex.Matcher;
@@ -64,8 +61,7 @@ import java.util.regex.Pattern;
  * @author ghm@google.com (Graeme Morgan)
  */
 @BugPattern(summary = "This tag is invalid.", severity = WARNING, documentSuppression = false)
-public final class InvalidInlineTag extends BugChecker
-    implements ClassTreeMatcher, MethodTreeMatcher, VariableTreeMatcher {
+public final class InvalidInlineTag extends BugChecker implements DocTreeMatcher {
 
   private static final Pattern PARAM_MATCHER = Pattern.compile("\\{?@param ([a-zA-Z0-9]+)}?");
 
@@ -74,11 +70,6 @@ public final class InvalidInlineTag extends BugChecker
 
   private static final Splitter DOT_SPLITTER = Splitter.on('.');
 
-  private void scanTags(
-      VisitorState state, Context context, ImmutableSet<String> parameters, DocTreePath path) {
-    new InvalidTagChecker(state, context, parameters).scan(path, null);
-  }
-
   private enum Context {
     CLASS(JavadocTag.VALID_CLASS_TAGS),
     METHOD(JavadocTag.VALID_METHOD_TAGS),
@@ -101,35 +92,44 @@ public final class InvalidInlineTag extends BugChecker
   }
 
   @Override
-  public Description matchClass(ClassTree classTree, VisitorState state) {
-    DocTreePath path = Utils.getDocTreePath(state);
-    if (path != null) {
-      ImmutableSet<String> parameters = ImmutableSet.of();
-      scanTags(state, Context.CLASS, parameters, path);
-    }
-    return Description.NO_MATCH;
+  public Set<DocTree.Kind> docTreeKinds() {
+    // Any inline tag can be one which isn't allowed on the documented element.
+    return EnumSet.allOf(DocTree.Kind.class);
   }
 
   @Override
-  public Description matchMethod(MethodTree methodTree, VisitorState state) {
-    DocTreePath path = Utils.getDocTreePath(state);
-    if (path != null) {
-      ImmutableSet<String> parameters =
-          methodTree.getParameters().stream()
-              .map(v -> v.getName().toString())
-              .collect(toImmutableSet());
-      scanTags(state, Context.METHOD, parameters, path);
+  public Description matchDocTree(DocTreePath path, VisitorState state) {
+    Tree tree = state.getPath().getLeaf();
+    Context context =
+        tree instanceof ClassTree
+            ? Context.CLASS
+            : tree instanceof MethodTree ? Context.METHOD : Context.VARIABLE;
+    DocTree docTree = path.getLeaf();
+    if (docTree instanceof ErroneousTree erroneousTree) {
+      return matchErroneous(erroneousTree, path, state);
     }
-    return Description.NO_MATCH;
-  }
-
-  @Override
-  public Description matchVariable(VariableTree variableTree, VisitorState state) {
-    DocTreePath path = Utils.getDocTreePath(state);
-    if (path != null) {
-      scanTags(state, Context.VARIABLE, /* parameters= */ ImmutableSet.of(), path);
+    if (docTree instanceof TextTree textTree) {
+      handleMalformedTags(textTree, path, context, state);
+      handleIncorrectParens(textTree, path, context, state);
+      handleDanglingParams(textTree, path, state);
+      return Description.NO_MATCH;
+    }
+    if (docTree instanceof UnknownInlineTagTree unknownInlineTagTree) {
+      return matchUnknownInlineTag(unknownInlineTagTree, path, context, state);
+    }
+    if (!(docTree instanceof DCInlineTag)) {
+      return Description.NO_MATCH;
     }
-    return Description.NO_MATCH;
+    JavadocTag tag = inlineTag(((DCInlineTag) docTree).getTagName());
+    if (context.validTags.contains(tag) || JavadocTag.KNOWN_OTHER_TAGS.contains(tag)) {
+      return Description.NO_MATCH;
+    }
+    String message =
+        String.format("The tag @%s is not allowed on this type of element.", tag.name());
+    return buildDescription(diagnosticPosition(path, state))
+        .setMessage(message)
+        .addFix(Utils.replace(docTree, "", state))
+        .build();
   }
 
   static String getMessageForInvalidTag(String paramName) {
@@ -139,256 +139,205 @@ public final class InvalidInlineTag extends BugChecker
         paramName);
   }
 
-  final class InvalidTagChecker extends DocTreePathScanner<Void, Void> {
-    private final VisitorState state;
-
-    private final ImmutableSet<String> parameters;
-    private final Context context;
-
-    private final Set<DocTree> fixedTags = new HashSet<>();
-
-    private InvalidTagChecker(
-        VisitorState state, Context context, ImmutableSet<String> parameters) {
-      this.state = state;
-      this.context = context;
-      this.parameters = parameters;
+  private Description matchErroneous(
+      ErroneousTree erroneousTree, DocTreePath path, VisitorState state) {
+    Matcher matcher = ANCHORED_PARAM_MATCHER.matcher(erroneousTree.getBody());
+    if (!matcher.find()) {
+      return Description.NO_MATCH;
     }
-
-    @Override
-    public Void visitErroneous(ErroneousTree erroneousTree, Void unused) {
-      Matcher matcher = ANCHORED_PARAM_MATCHER.matcher(erroneousTree.getBody());
-      if (matcher.find()) {
-        String parameterName = matcher.group(1);
-        if (parameters.contains(parameterName)) {
-          String message =
-              String.format(
-                  "@param cannot be used inline to refer to parameters; {@code %s} is recommended",
-                  parameterName);
-          state.reportMatch(
-              buildDescription(diagnosticPosition(getCurrentPath(), state))
-                  .setMessage(message)
-                  .addFix(
-                      Utils.replace(
-                          erroneousTree, String.format("{@code %s}", parameterName), state))
-                  .build());
-        }
-      }
-      return null;
-    }
-
-    @Override
-    public Void visitText(TextTree node, Void unused) {
-      handleMalformedTags(node);
-      handleIncorrectParens(node);
-      handleDanglingParams(node);
-      return super.visitText(node, null);
+    String parameterName = matcher.group(1);
+    if (!parameters(state).contains(parameterName)) {
+      return Description.NO_MATCH;
     }
+    String message =
+        String.format(
+            "@param cannot be used inline to refer to parameters; {@code %s} is recommended",
+            parameterName);
+    return buildDescription(diagnosticPosition(path, state))
+        .setMessage(message)
+        .addFix(Utils.replace(erroneousTree, String.format("{@code %s}", parameterName), state))
+        .build();
+  }
 
-    private void handleMalformedTags(TextTree node) {
-      String body = node.getBody();
-      Matcher matcher = context.misplacedCurly.matcher(body);
-      Comment comment = ((DCDocComment) getCurrentPath().getDocComment()).comment;
-      while (matcher.find()) {
-        int beforeAt = comment.getSourcePos(((DCText) node).pos + matcher.start());
-        int startOfCurly = comment.getSourcePos(((DCText) node).pos + matcher.end(1));
-        SuggestedFix fix =
-            SuggestedFix.builder()
-                .replace(beforeAt, beforeAt, "{")
-                .replace(startOfCurly, startOfCurly + 1, " ")
-                .build();
-        state.reportMatch(
-            describeMatch(
-                getDiagnosticPosition(beforeAt, getCurrentPath().getTreePath().getLeaf()), fix));
-      }
+  private void handleMalformedTags(
+      TextTree node, DocTreePath path, Context context, VisitorState state) {
+    String body = node.getBody();
+    Matcher matcher = context.misplacedCurly.matcher(body);
+    Comment comment = ((DCDocComment) path.getDocComment()).comment;
+    while (matcher.find()) {
+      int beforeAt = comment.getSourcePos(((DCText) node).pos + matcher.start());
+      int startOfCurly = comment.getSourcePos(((DCText) node).pos + matcher.end(1));
+      SuggestedFix fix =
+          SuggestedFix.builder()
+              .replace(beforeAt, beforeAt, "{")
+              .replace(startOfCurly, startOfCurly + 1, " ")
+              .build();
+      state.reportMatch(
+          describeMatch(getDiagnosticPosition(beforeAt, path.getTreePath().getLeaf()), fix));
     }
+  }
 
-    private void handleIncorrectParens(TextTree node) {
-      String body = node.getBody();
-      Matcher matcher = context.parensRatherThanCurly.matcher(body);
-      Comment comment = ((DCDocComment) getCurrentPath().getDocComment()).comment;
-      while (matcher.find()) {
-        int beforeAt = comment.getSourcePos(((DCText) node).pos + matcher.start());
-        SuggestedFix.Builder fix = SuggestedFix.builder().replace(beforeAt, beforeAt + 1, "{");
+  private void handleIncorrectParens(
+      TextTree node, DocTreePath path, Context context, VisitorState state) {
+    String body = node.getBody();
+    Matcher matcher = context.parensRatherThanCurly.matcher(body);
+    Comment comment = ((DCDocComment) path.getDocComment()).comment;
+    while (matcher.find()) {
+      int beforeAt = comment.getSourcePos(((DCText) node).pos + matcher.start());
+      SuggestedFix.Builder fix = SuggestedFix.builder().replace(beforeAt, beforeAt + 1, "{");
 
-        Optional<Integer> found = findClosingBrace(body, matcher.start(1));
-        found.ifPresent(
-            pos -> {
-              int closing = comment.getSourcePos(((DCText) node).pos + pos);
-              fix.replace(closing, closing + 1, "}");
-            });
+      Optional<Integer> found = findClosingBrace(body, matcher.start(1));
+      found.ifPresent(
+          pos -> {
+            int closing = comment.getSourcePos(((DCText) node).pos + pos);
+            fix.replace(closing, closing + 1, "}");
+          });
 
-        state.reportMatch(
-            buildDescription(
-                    getDiagnosticPosition(beforeAt, getCurrentPath().getTreePath().getLeaf()))
-                .setMessage(
-                    String.format(
-                        "Curly braces should be used for inline Javadoc tags: {@%s ...}",
-                        matcher.group(1)))
-                .addFix(fix.build())
-                .build());
-      }
+      state.reportMatch(
+          buildDescription(getDiagnosticPosition(beforeAt, path.getTreePath().getLeaf()))
+              .setMessage(
+                  String.format(
+                      "Curly braces should be used for inline Javadoc tags: {@%s ...}",
+                      matcher.group(1)))
+              .addFix(fix.build())
+              .build());
     }
+  }
 
-    /** Looks for a matching closing brace, if one is found. */
-    private Optional<Integer> findClosingBrace(String body, int startPos) {
-      int parenDepth = 0;
-      for (int pos = startPos; pos < body.length(); ++pos) {
-        char c = body.charAt(pos);
-        switch (c) {
-          case '(' -> {
-            parenDepth++;
-            continue;
-          }
-          case ')' -> {
-            if (parenDepth == 0) {
-              return Optional.of(pos);
-            }
-            parenDepth--;
-          }
-          case '}' -> {
-            return Optional.empty();
+  /** Looks for a matching closing brace, if one is found. */
+  private static Optional<Integer> findClosingBrace(String body, int startPos) {
+    int parenDepth = 0;
+    for (int pos = startPos; pos < body.length(); ++pos) {
+      char c = body.charAt(pos);
+      switch (c) {
+        case '(' -> {
+          parenDepth++;
+          continue;
+        }
+        case ')' -> {
+          if (parenDepth == 0) {
+            return Optional.of(pos);
           }
-          default -> {}
+          parenDepth--;
+        }
+        case '}' -> {
+          return Optional.empty();
         }
+        default -> {}
       }
-      return Optional.empty();
     }
+    return Optional.empty();
+  }
 
-    private void handleDanglingParams(TextTree node) {
-      Matcher matcher = PARAM_MATCHER.matcher(node.getBody());
-      Comment comment = ((DCDocComment) getCurrentPath().getDocComment()).comment;
-      while (matcher.find()) {
-        int startPos = comment.getSourcePos(((DCText) node).pos + matcher.start());
-        int endPos = comment.getSourcePos(((DCText) node).pos + matcher.end());
-        String paramName = matcher.group(1);
-        SuggestedFix fix =
-            SuggestedFix.replace(startPos, endPos, String.format("{@code %s}", paramName));
-        state.reportMatch(
-            describeMatch(
-                getDiagnosticPosition(startPos, getCurrentPath().getTreePath().getLeaf()), fix));
-      }
+  private void handleDanglingParams(TextTree node, DocTreePath path, VisitorState state) {
+    Matcher matcher = PARAM_MATCHER.matcher(node.getBody());
+    Comment comment = ((DCDocComment) path.getDocComment()).comment;
+    while (matcher.find()) {
+      int startPos = comment.getSourcePos(((DCText) node).pos + matcher.start());
+      int endPos = comment.getSourcePos(((DCText) node).pos + matcher.end());
+      String paramName = matcher.group(1);
+      SuggestedFix fix =
+          SuggestedFix.replace(startPos, endPos, String.format("{@code %s}", paramName));
+      state.reportMatch(
+          describeMatch(getDiagnosticPosition(startPos, path.getTreePath().getLeaf()), fix));
     }
+  }
 
-    @Override
-    public Void visitUnknownInlineTag(UnknownInlineTagTree unknownInlineTagTree, Void unused) {
-      String name = unknownInlineTagTree.getTagName();
-      if (name.equals("param")) {
-        int startPos = Utils.getStartPosition(unknownInlineTagTree, state);
-        int endPos = Utils.getEndPosition(unknownInlineTagTree, state);
-        CharSequence text = state.getSourceCode().subSequence(startPos, endPos);
-        Matcher matcher = PARAM_MATCHER.matcher(text);
-        if (matcher.find()) {
-          String parameterName = matcher.group(1);
-          if (parameters.contains(parameterName)) {
-            String message =
-                String.format(
-                    "@param cannot be used inline to refer to parameters; {@code %s} is"
-                        + " recommended",
-                    parameterName);
-            state.reportMatch(
-                buildDescription(diagnosticPosition(getCurrentPath(), state))
-                    .setMessage(message)
-                    .addFix(
-                        Utils.replace(
-                            unknownInlineTagTree,
-                            String.format("{@code %s}", parameterName),
-                            state))
-                    .build());
-          }
-          fixedTags.add(unknownInlineTagTree);
-          return super.visitUnknownInlineTag(unknownInlineTagTree, null);
+  private Description matchUnknownInlineTag(
+      UnknownInlineTagTree unknownInlineTagTree,
+      DocTreePath path,
+      Context context,
+      VisitorState state) {
+    String name = unknownInlineTagTree.getTagName();
+    ImmutableSet<String> parameters = parameters(state);
+    if (name.equals("param")) {
+      int startPos = Utils.getStartPosition(unknownInlineTagTree, state);
+      int endPos = Utils.getEndPosition(unknownInlineTagTree, state);
+      CharSequence text = state.getSourceCode().subSequence(startPos, endPos);
+      Matcher matcher = PARAM_MATCHER.matcher(text);
+      if (matcher.find()) {
+        String parameterName = matcher.group(1);
+        if (!parameters.contains(parameterName)) {
+          return Description.NO_MATCH;
         }
-      }
-      if (parameters.contains(name)) {
-        String message = getMessageForInvalidTag(name);
-        state.reportMatch(
-            buildDescription(diagnosticPosition(getCurrentPath(), state))
-                .setMessage(message)
-                .addFix(
-                    Utils.replace(unknownInlineTagTree, String.format("{@code %s}", name), state))
-                .build());
-        fixedTags.add(unknownInlineTagTree);
-        return super.visitUnknownInlineTag(unknownInlineTagTree, null);
-      }
-      if (isProbablyType(name)) {
-        int startPos = Utils.getStartPosition(unknownInlineTagTree, state);
         String message =
             String.format(
-                "The tag {@%1$s} is not valid, and will not display or cross-link "
-                    + "to the type %1$s correctly. Prefer {@link %1$s}.",
-                name);
-        state.reportMatch(
-            buildDescription(diagnosticPosition(getCurrentPath(), state))
-                .setMessage(message)
-                .addFix(SuggestedFix.replace(startPos, startPos + 2, "{@link "))
-                .build());
-        fixedTags.add(unknownInlineTagTree);
-        return super.visitUnknownInlineTag(unknownInlineTagTree, null);
+                "@param cannot be used inline to refer to parameters; {@code %s} is"
+                    + " recommended",
+                parameterName);
+        return buildDescription(diagnosticPosition(path, state))
+            .setMessage(message)
+            .addFix(
+                Utils.replace(
+                    unknownInlineTagTree, String.format("{@code %s}", parameterName), state))
+            .build();
       }
-      reportUnknownTag(unknownInlineTagTree, inlineTag(name));
-      return super.visitUnknownInlineTag(unknownInlineTagTree, null);
     }
-
-    private boolean isProbablyType(String name) {
-      Symbol typeSymbol =
-          FindIdentifiers.findIdent(
-              getFirst(DOT_SPLITTER.split(name), null), state, KindSelector.TYP);
-      return typeSymbol instanceof TypeSymbol
-          || name.chars().filter(c -> c == '.').count() >= 3
-          || name.contains("#");
+    if (parameters.contains(name)) {
+      String message = getMessageForInvalidTag(name);
+      return buildDescription(diagnosticPosition(path, state))
+          .setMessage(message)
+          .addFix(Utils.replace(unknownInlineTagTree, String.format("{@code %s}", name), state))
+          .build();
     }
-
-    private void reportUnknownTag(DocTree docTree, JavadocTag tag) {
-      Optional<String> bestMatch =
-          Utils.getBestMatch(
-              tag.name(),
-              /* maxEditDistance= */ 2,
-              context.validTags.stream()
-                  .filter(t -> t.type().equals(tag.type()))
-                  .map(JavadocTag::name)
-                  .collect(toImmutableSet()));
-      int pos = Utils.getStartPosition(docTree, state) + docTree.toString().indexOf(tag.name());
-      String message = String.format("Tag name `%s` is unknown.", tag.name());
-      state.reportMatch(
-          bestMatch
-              .map(
-                  bm ->
-                      buildDescription(diagnosticPosition(getCurrentPath(), state))
-                          .setMessage(message + String.format(" Did you mean tag `%s`?", bm))
-                          .addFix(SuggestedFix.replace(pos, pos + tag.name().length(), bm))
-                          .build())
-              .orElse(
-                  buildDescription(diagnosticPosition(getCurrentPath(), state))
-                      .setMessage(
-                          message
-                              + " If this is a commonly-used custom tag, please "
-                              + "click 'not useful' and file a bug.")
-                      .build()));
-      fixedTags.add(docTree);
+    if (isProbablyType(name, state)) {
+      int startPos = Utils.getStartPosition(unknownInlineTagTree, state);
+      String message =
+          String.format(
+              "The tag {@%1$s} is not valid, and will not display or cross-link "
+                  + "to the type %1$s correctly. Prefer {@link %1$s}.",
+              name);
+      return buildDescription(diagnosticPosition(path, state))
+          .setMessage(message)
+          .addFix(SuggestedFix.replace(startPos, startPos + 2, "{@link "))
+          .build();
     }
+    return describeUnknownTag(unknownInlineTagTree, inlineTag(name), path, context, state);
+  }
 
-    @Override
-    public Void scan(DocTree docTree, Void unused) {
-      super.scan(docTree, null);
-      // Don't complain about this unknown tag if we already generated a better fix for it.
-      if (fixedTags.contains(docTree)) {
-        return null;
-      }
-      if (!(docTree instanceof DCInlineTag)) {
-        return null;
-      }
-      JavadocTag tag = inlineTag(((DCInlineTag) docTree).getTagName());
-      if (context.validTags.contains(tag) || JavadocTag.KNOWN_OTHER_TAGS.contains(tag)) {
-        return null;
-      }
-      String message =
-          String.format("The tag @%s is not allowed on this type of element.", tag.name());
-      state.reportMatch(
-          buildDescription(diagnosticPosition(getCurrentPath(), state))
-              .setMessage(message)
-              .addFix(Utils.replace(docTree, "", state))
-              .build());
-      return null;
+  private static boolean isProbablyType(String name, VisitorState state) {
+    Symbol typeSymbol =
+        FindIdentifiers.findIdent(
+            getFirst(DOT_SPLITTER.split(name), null), state, KindSelector.TYP);
+    return typeSymbol instanceof TypeSymbol
+        || name.chars().filter(c -> c == '.').count() >= 3
+        || name.contains("#");
+  }
+
+  private Description describeUnknownTag(
+      DocTree docTree, JavadocTag tag, DocTreePath path, Context context, VisitorState state) {
+    Optional<String> bestMatch =
+        Utils.getBestMatch(
+            tag.name(),
+            /* maxEditDistance= */ 2,
+            context.validTags.stream()
+                .filter(t -> t.type().equals(tag.type()))
+                .map(JavadocTag::name)
+                .collect(toImmutableSet()));
+    int pos = Utils.getStartPosition(docTree, state) + docTree.toString().indexOf(tag.name());
+    String message = String.format("Tag name `%s` is unknown.", tag.name());
+    return bestMatch
+        .map(
+            bm ->
+                buildDescription(diagnosticPosition(path, state))
+                    .setMessage(message + String.format(" Did you mean tag `%s`?", bm))
+                    .addFix(SuggestedFix.replace(pos, pos + tag.name().length(), bm))
+                    .build())
+        .orElse(
+            buildDescription(diagnosticPosition(path, state))
+                .setMessage(
+                    message
+                        + " If this is a commonly-used custom tag, please "
+                        + "click 'not useful' and file a bug.")
+                .build());
+  }
+
+  private static ImmutableSet<String> parameters(VisitorState state) {
+    if (!(state.getPath().getLeaf() instanceof MethodTree methodTree)) {
+      return ImmutableSet.of();
     }
+    return methodTree.getParameters().stream()
+        .map(v -> v.getName().toString())
+        .collect(toImmutableSet());
   }
 }
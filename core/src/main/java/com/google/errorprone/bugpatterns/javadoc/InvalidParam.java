@@ -21,8 +21,6 @@ import static com.google.common.collect.MoreCollectors.onlyElement;
 import static com.google.errorprone.BugPattern.SeverityLevel.WARNING;
 import static com.google.errorprone.bugpatterns.javadoc.Utils.diagnosticPosition;
 import static com.google.errorprone.bugpatterns.javadoc.Utils.getBestMatch;
-import static com.google.errorprone.bugpatterns.javadoc.Utils.getDocComment;
-import static com.google.errorprone.bugpatterns.javadoc.Utils.getDocTreePath;
 import static com.google.errorprone.bugpatterns.javadoc.Utils.replace;
 import static com.google.errorprone.matchers.Description.NO_MATCH;
 import static com.google.errorprone.names.LevenshteinEditDistance.getEditDistance;
@@ -34,8 +32,7 @@ import com.google.common.collect.Sets;
 import com.google.errorprone.BugPattern;
 import com.google.errorprone.VisitorState;
 import com.google.errorprone.bugpatterns.BugChecker;
-import com.google.errorprone.bugpatterns.BugChecker.ClassTreeMatcher;
-import com.google.errorprone.bugpatterns.BugChecker.MethodTreeMatcher;
+import com.google.errorprone.bugpatterns.BugChecker.DocTreeMatcher;
 import com.google.errorprone.fixes.SuggestedFix;
 import com.google.errorprone.matchers.Description;
 import com.sun.source.doctree.DocTree;
@@ -46,9 +43,9 @@ import com.sun.source.tree.ClassTree;
 import com.sun.source.tree.MethodTree;
 import com.sun.source.tree.Tree;
 import com.sun.source.util.DocTreePath;
-import com.sun.source.util.DocTreePathScanner;
 import com.sun.tools.javac.tree.DCTree.DCDocComment;
 import com.sun.tools.javac.tree.DCTree.DCText;
+import java.util.EnumSet;
 import java.util.Optional;
 import java.util.Set;
 import java.util.regex.Pattern;
@@ -64,7 +61,7 @@ import java.util.regex.Pattern;
     summary = "This @param tag doesn't refer to a parameter of the method.",
     severity = WARNING,
     documentSuppression = false)
-public final class InvalidParam extends BugChecker implements ClassTreeMatcher, MethodTreeMatcher {
+public final class InvalidParam extends BugChecker implements DocTreeMatcher {
 
   private static final Pattern POSSIBLE_PARAMETER = Pattern.compile("[a-z][A-Za-z0-9]*");
 
@@ -77,152 +74,124 @@ public final class InvalidParam extends BugChecker implements ClassTreeMatcher,
   private static final double LIKELY_PARAMETER_THRESHOLD = 0.25;
 
   @Override
-  public Description matchClass(ClassTree classTree, VisitorState state) {
-    DocTreePath path = getDocTreePath(state);
-    if (path != null) {
-      ImmutableSet<String> parameters =
-          isRecord(getSymbol((Tree) classTree))
-              ? getCanonicalRecordConstructor(classTree).getParameters().stream()
-                  .map(p -> p.getName().toString())
-                  .collect(toImmutableSet())
-              : ImmutableSet.of();
-
-      ImmutableSet<String> typeParameters =
-          classTree.getTypeParameters().stream()
-              .map(t -> t.getName().toString())
-              .collect(toImmutableSet());
-
-      new ParamsChecker(state, classTree, parameters, typeParameters).scan(path, null);
-    }
-    return NO_MATCH;
+  public Set<Kind> docTreeKinds() {
+    return EnumSet.of(Kind.PARAM, Kind.CODE);
   }
 
   @Override
-  public Description matchMethod(MethodTree methodTree, VisitorState state) {
-    DocTreePath path = getDocTreePath(state);
-    if (path != null) {
-      ImmutableSet<String> parameters =
-          methodTree.getParameters().stream()
-              .map(v -> v.getName().toString())
-              .collect(toImmutableSet());
-      ImmutableSet<String> typeParameters =
-          methodTree.getTypeParameters().stream()
-              .map(t -> t.getName().toString())
-              .collect(toImmutableSet());
-      new ParamsChecker(state, methodTree, parameters, typeParameters).scan(path, null);
+  public Description matchDocTree(DocTreePath path, VisitorState state) {
+    Tree tree = state.getPath().getLeaf();
+    if (!(tree instanceof ClassTree) && !(tree instanceof MethodTree)) {
+      return NO_MATCH;
     }
-    return NO_MATCH;
-  }
-
-  private static MethodTree getCanonicalRecordConstructor(ClassTree classTree) {
-    return classTree.getMembers().stream()
-        .filter(MethodTree.class::isInstance)
-        .map(MethodTree.class::cast)
-        .filter(tree -> isRecord(getSymbol((Tree) tree)))
-        .collect(onlyElement());
+    return path.getLeaf() instanceof ParamTree paramTree
+        ? matchParam(paramTree, path, tree, state)
+        : matchCode((LiteralTree) path.getLeaf(), path, tree, state);
   }
 
-  /** Checks that documented parameters match the method's parameter list. */
-  private final class ParamsChecker extends DocTreePathScanner<Void, Void> {
-    private final VisitorState state;
-
-    private final ImmutableSet<String> documentedParameters;
-    private final ImmutableSet<String> documentedTypeParameters;
-
-    private final ImmutableSet<String> parameters;
-    private final ImmutableSet<String> typeParameters;
-
-    private ParamsChecker(
-        VisitorState state,
-        Tree tree,
-        ImmutableSet<String> parameters,
-        ImmutableSet<String> typeParameters) {
-      this.state = state;
-      DCDocComment dcDocComment = getDocComment(state, tree);
-      this.documentedParameters =
-          extractDocumentedParams(dcDocComment, /* isTypeParameter= */ false);
-      this.documentedTypeParameters =
-          extractDocumentedParams(dcDocComment, /* isTypeParameter= */ true);
-      this.parameters = parameters;
-      this.typeParameters = typeParameters;
-    }
-
-    @Override
-    public Void visitParam(ParamTree paramTree, Void unused) {
-      ImmutableSet<String> paramNames = paramTree.isTypeParameter() ? typeParameters : parameters;
-      if (!paramTree.getDescription().isEmpty()) {
-        var firstDescription = paramTree.getDescription().get(0);
-        if (firstDescription instanceof DCText dcText) {
-          if (dcText.getBody().startsWith(":")) {
-            int colonLocation = Utils.getEndPosition(paramTree.getName(), state);
-            if (state.getSourceCode().charAt(colonLocation) == ':') {
-              state.reportMatch(
-                  describeMatch(
-                      diagnosticPosition(getCurrentPath(), state),
-                      SuggestedFix.replace(colonLocation, colonLocation + 1, "")));
-            }
+  /** Checks that a documented parameter is in the method's parameter list. */
+  private Description matchParam(
+      ParamTree paramTree, DocTreePath path, Tree tree, VisitorState state) {
+    if (!paramTree.getDescription().isEmpty()) {
+      var firstDescription = paramTree.getDescription().get(0);
+      if (firstDescription instanceof DCText dcText) {
+        if (dcText.getBody().startsWith(":")) {
+          int colonLocation = Utils.getEndPosition(paramTree.getName(), state);
+          if (state.getSourceCode().charAt(colonLocation) == ':') {
+            state.reportMatch(
+                describeMatch(
+                    diagnosticPosition(path, state),
+                    SuggestedFix.replace(colonLocation, colonLocation + 1, "")));
           }
         }
       }
-      if (!paramNames.contains(paramTree.getName().toString())) {
-        var documentedParamNames =
-            paramTree.isTypeParameter() ? documentedTypeParameters : documentedParameters;
-        Set<String> undocumentedParameters = Sets.difference(paramNames, documentedParamNames);
-        Optional<String> bestMatch =
-            getBestMatch(
-                paramTree.getName().toString(), /* maxEditDistance= */ 5, undocumentedParameters);
-        String message = String.format("Parameter name `%s` is unknown.", paramTree.getName());
-        state.reportMatch(
-            bestMatch
-                .map(
-                    bm ->
-                        buildDescription(diagnosticPosition(getCurrentPath(), state))
-                            .setMessage(message + String.format(" Did you mean %s?", bm))
-                            .addFix(replace(paramTree.getName(), bm, state))
-                            .build())
-                .orElse(
-                    buildDescription(diagnosticPosition(getCurrentPath(), state))
-                        .setMessage(message)
-                        .addFix(replace(paramTree, "", state))
-                        .build()));
-      }
-      return super.visitParam(paramTree, null);
     }
-
-    @Override
-    public Void visitLiteral(LiteralTree node, Void unused) {
-      if (node.getKind() != Kind.CODE) {
-        return super.visitLiteral(node, null);
-      }
-      String body = node.getBody().getBody();
-      if (!POSSIBLE_PARAMETER.matcher(body).matches() || EXCLUSIONS.contains(body)) {
-        return super.visitLiteral(node, null);
-      }
-      String bestMatch = null;
-      int minDistance = Integer.MAX_VALUE;
-      for (String parameter : parameters) {
-        int distance = getEditDistance(body, parameter);
-        if (distance < minDistance) {
-          bestMatch = parameter;
-          minDistance = distance;
-        }
-      }
-      if (bestMatch != null
-          && !bestMatch.equals(body)
-          && (double) minDistance / body.length() <= LIKELY_PARAMETER_THRESHOLD) {
-        String message =
-            String.format(
-                "`%s` is very close to the parameter `%s`. "
-                    + "Did you mean to reference the parameter?",
-                body, bestMatch);
-        state.reportMatch(
-            buildDescription(diagnosticPosition(getCurrentPath(), state))
+    ImmutableSet<String> paramNames =
+        paramTree.isTypeParameter() ? typeParameters(tree) : parameters(tree);
+    if (paramNames.contains(paramTree.getName().toString())) {
+      return NO_MATCH;
+    }
+    ImmutableSet<String> documentedParamNames =
+        extractDocumentedParams(
+            (DCDocComment) path.getDocComment(),
+            /* isTypeParameter= */ paramTree.isTypeParameter());
+    Set<String> undocumentedParameters = Sets.difference(paramNames, documentedParamNames);
+    Optional<String> bestMatch =
+        getBestMatch(
+            paramTree.getName().toString(), /* maxEditDistance= */ 5, undocumentedParameters);
+    String message = String.format("Parameter name `%s` is unknown.", paramTree.getName());
+    return bestMatch
+        .map(
+            bm ->
+                buildDescription(diagnosticPosition(path, state))
+                    .setMessage(message + String.format(" Did you mean %s?", bm))
+                    .addFix(replace(paramTree.getName(), bm, state))
+                    .build())
+        .orElse(
+            buildDescription(diagnosticPosition(path, state))
                 .setMessage(message)
-                .addFix(replace(node.getBody(), bestMatch, state))
+                .addFix(replace(paramTree, "", state))
                 .build());
+  }
+
+  /** Checks whether a {@literal @}code tag looks like a misspelt reference to a parameter. */
+  private Description matchCode(LiteralTree node, DocTreePath path, Tree tree, VisitorState state) {
+    String body = node.getBody().getBody();
+    if (!POSSIBLE_PARAMETER.matcher(body).matches() || EXCLUSIONS.contains(body)) {
+      return NO_MATCH;
+    }
+    String bestMatch = null;
+    int minDistance = Integer.MAX_VALUE;
+    for (String parameter : parameters(tree)) {
+      int distance = getEditDistance(body, parameter);
+      if (distance < minDistance) {
+        bestMatch = parameter;
+        minDistance = distance;
       }
-      return super.visitLiteral(node, null);
     }
+    if (bestMatch == null
+        || bestMatch.equals(body)
+        || (double) minDistance / body.length() > LIKELY_PARAMETER_THRESHOLD) {
+      return NO_MATCH;
+    }
+    String message =
+        String.format(
+            "`%s` is very close to the parameter `%s`. "
+                + "Did you mean to reference the parameter?",
+            body, bestMatch);
+    return buildDescription(diagnosticPosition(path, state))
+        .setMessage(message)
+        .addFix(replace(node.getBody(), bestMatch, state))
+        .build();
+  }
+
+  private static ImmutableSet<String> parameters(Tree tree) {
+    if (tree instanceof MethodTree methodTree) {
+      return methodTree.getParameters().stream()
+          .map(v -> v.getName().toString())
+          .collect(toImmutableSet());
+    }
+    ClassTree classTree = (ClassTree) tree;
+    return isRecord(getSymbol((Tree) classTree))
+        ? getCanonicalRecordConstructor(classTree).getParameters().stream()
+            .map(p -> p.getName().toString())
+            .collect(toImmutableSet())
+        : ImmutableSet.of();
+  }
+
+  private static ImmutableSet<String> typeParameters(Tree tree) {
+    return (tree instanceof MethodTree methodTree
+            ? methodTree.getTypeParameters()
+            : ((ClassTree) tree).getTypeParameters())
+        .stream().map(t -> t.getName().toString()).collect(toImmutableSet());
+  }
+
+  private static MethodTree getCanonicalRecordConstructor(ClassTree classTree) {
+    return classTree.getMembers().stream()
+        .filter(MethodTree.class::isInstance)
+        .map(MethodTree.class::cast)
+        .filter(tree -> isRecord(getSymbol((Tree) tree)))
+        .collect(onlyElement());
   }
 
   private static ImmutableSet<String> extractDocumentedParams(
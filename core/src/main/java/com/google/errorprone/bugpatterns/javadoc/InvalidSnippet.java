@@ -22,78 +22,32 @@ import static com.google.errorprone.bugpatterns.javadoc.Utils.diagnosticPosition
 import com.google.errorprone.BugPattern;
 import com.google.errorprone.VisitorState;
 import com.google.errorprone.bugpatterns.BugChecker;
-import com.google.errorprone.bugpatterns.BugChecker.ClassTreeMatcher;
-import com.google.errorprone.bugpatterns.BugChecker.MethodTreeMatcher;
-import com.google.errorprone.bugpatterns.BugChecker.VariableTreeMatcher;
+import com.google.errorprone.bugpatterns.BugChecker.DocTreeMatcher;
 import com.google.errorprone.matchers.Description;
 import com.sun.source.doctree.DocTree;
 import com.sun.source.doctree.ErroneousTree;
-import com.sun.source.tree.ClassTree;
-import com.sun.source.tree.MethodTree;
-import com.sun.source.tree.VariableTree;
 import com.sun.source.util.DocTreePath;
-import com.sun.source.util.DocTreePathScanner;
+import java.util.EnumSet;
+import java.util.Set;
 
 /** A bug pattern; see the summary. */
 @BugPattern(summary = "This tag is invalid.", severity = WARNING, documentSuppression = false)
-public final class InvalidSnippet extends BugChecker
-    implements ClassTreeMatcher, MethodTreeMatcher, VariableTreeMatcher {
-
-  private void scanTags(VisitorState state, DocTreePath path) {
-    new InvalidTagChecker(state).scan(path, null);
-  }
-
-  @Override
-  public Description matchClass(ClassTree classTree, VisitorState state) {
-    DocTreePath path = Utils.getDocTreePath(state);
-    if (path != null) {
-      scanTags(state, path);
-    }
-    return Description.NO_MATCH;
-  }
+public final class InvalidSnippet extends BugChecker implements DocTreeMatcher {
 
   @Override
-  public Description matchMethod(MethodTree methodTree, VisitorState state) {
-    DocTreePath path = Utils.getDocTreePath(state);
-    if (path != null) {
-      scanTags(state, path);
-    }
-    return Description.NO_MATCH;
+  public Set<DocTree.Kind> docTreeKinds() {
+    return EnumSet.of(DocTree.Kind.ERRONEOUS);
   }
 
   @Override
-  public Description matchVariable(VariableTree variableTree, VisitorState state) {
-    DocTreePath path = Utils.getDocTreePath(state);
-    if (path != null) {
-      scanTags(state, path);
-    }
-    return Description.NO_MATCH;
-  }
-
-  final class InvalidTagChecker extends DocTreePathScanner<Void, Void> {
-    private final VisitorState state;
-
-    private InvalidTagChecker(VisitorState state) {
-      this.state = state;
-    }
-
-    @Override
-    public Void visitErroneous(ErroneousTree erroneousTree, Void unused) {
-      if (erroneousTree.getBody().startsWith("{@snippet")) {
-        String message =
-            "This @snippet tag looks to be malformed. Did you forget the \":\"? Snippets should"
-                + " start with \"{@snippet :\" followed by a newline.";
-        state.reportMatch(
-            buildDescription(diagnosticPosition(getCurrentPath(), state))
-                .setMessage(message)
-                .build());
-      }
-      return null;
-    }
-
-    @Override
-    public Void scan(DocTree tree, Void unused) {
-      return super.scan(tree, null);
+  public Description matchDocTree(DocTreePath path, VisitorState state) {
+    ErroneousTree erroneousTree = (ErroneousTree) path.getLeaf();
+    if (!erroneousTree.getBody().startsWith("{@snippet")) {
+      return Description.NO_MATCH;
     }
+    String message =
+        "This @snippet tag looks to be malformed. Did you forget the \":\"? Snippets should"
+            + " start with \"{@snippet :\" followed by a newline.";
+    return buildDescription(diagnosticPosition(path, state)).setMessage(message).build();
   }
 }
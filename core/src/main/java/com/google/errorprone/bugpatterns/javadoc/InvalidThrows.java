@@ -24,16 +24,18 @@ import static com.google.errorprone.util.ASTHelpers.isSubtype;
 import com.google.errorprone.BugPattern;
 import com.google.errorprone.VisitorState;
 import com.google.errorprone.bugpatterns.BugChecker;
-import com.google.errorprone.bugpatterns.BugChecker.MethodTreeMatcher;
+import com.google.errorprone.bugpatterns.BugChecker.DocTreeMatcher;
 import com.google.errorprone.matchers.Description;
+import com.sun.source.doctree.DocTree;
 import com.sun.source.doctree.ReferenceTree;
 import com.sun.source.doctree.ThrowsTree;
 import com.sun.source.tree.MethodTree;
 import com.sun.source.util.DocTreePath;
-import com.sun.source.util.DocTreePathScanner;
 import com.sun.tools.javac.api.JavacTrees;
 import com.sun.tools.javac.code.Type;
 import com.sun.tools.javac.code.TypeTag;
+import java.util.EnumSet;
+import java.util.Set;
 import javax.lang.model.element.Element;
 
 /**
@@ -45,49 +47,35 @@ import javax.lang.model.element.Element;
     summary = "The documented method doesn't actually throw this checked exception.",
     severity = WARNING,
     documentSuppression = false)
-public final class InvalidThrows extends BugChecker implements MethodTreeMatcher {
+public final class InvalidThrows extends BugChecker implements DocTreeMatcher {
 
   @Override
-  public Description matchMethod(MethodTree methodTree, VisitorState state) {
-    DocTreePath path = Utils.getDocTreePath(state);
-    if (path != null) {
-      new ThrowsChecker(state, methodTree).scan(path, null);
-    }
-    return Description.NO_MATCH;
+  public Set<DocTree.Kind> docTreeKinds() {
+    return EnumSet.of(DocTree.Kind.THROWS, DocTree.Kind.EXCEPTION);
   }
 
-  private final class ThrowsChecker extends DocTreePathScanner<Void, Void> {
-    private final VisitorState state;
-    private final MethodTree methodTree;
-
-    private ThrowsChecker(VisitorState state, MethodTree methodTree) {
-      this.state = state;
-      this.methodTree = methodTree;
+  @Override
+  public Description matchDocTree(DocTreePath path, VisitorState state) {
+    if (!(state.getPath().getLeaf() instanceof MethodTree methodTree)) {
+      return Description.NO_MATCH;
     }
-
-    @Override
-    public Void visitThrows(ThrowsTree throwsTree, Void unused) {
-      ReferenceTree exName = throwsTree.getExceptionName();
-      Element element =
-          JavacTrees.instance(state.context).getElement(new DocTreePath(getCurrentPath(), exName));
-      if (element != null) {
-        Type type = (Type) element.asType();
-        if (isCheckedException(type)) {
-          if (methodTree.getThrows().stream().noneMatch(t -> isSubtype(type, getType(t), state))) {
-            state.reportMatch(
-                describeMatch(
-                    diagnosticPosition(getCurrentPath(), state),
-                    Utils.replace(throwsTree, "", state)));
-          }
-        }
-      }
-      return super.visitThrows(throwsTree, null);
+    ThrowsTree throwsTree = (ThrowsTree) path.getLeaf();
+    ReferenceTree exName = throwsTree.getExceptionName();
+    Element element = JavacTrees.instance(state.context).getElement(new DocTreePath(path, exName));
+    if (element == null) {
+      return Description.NO_MATCH;
     }
-
-    private boolean isCheckedException(Type type) {
-      return type.hasTag(TypeTag.CLASS)
-          && !state.getTypes().isAssignable(type, state.getSymtab().errorType)
-          && !state.getTypes().isAssignable(type, state.getSymtab().runtimeExceptionType);
+    Type type = (Type) element.asType();
+    if (!isCheckedException(type, state)
+        || methodTree.getThrows().stream().anyMatch(t -> isSubtype(type, getType(t), state))) {
+      return Description.NO_MATCH;
     }
+    return describeMatch(diagnosticPosition(path, state), Utils.replace(throwsTree, "", state));
+  }
+
+  private static boolean isCheckedException(Type type, VisitorState state) {
+    return type.hasTag(TypeTag.CLASS)
+        && !state.getTypes().isAssignable(type, state.getSymtab().errorType)
+        && !state.getTypes().isAssignable(type, state.getSymtab().runtimeExceptionType);
   }
 }
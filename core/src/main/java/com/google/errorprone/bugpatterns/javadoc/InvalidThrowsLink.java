@@ -23,16 +23,18 @@ import com.google.errorprone.BugPattern;
 import com.google.errorprone.BugPattern.StandardTags;
 import com.google.errorprone.VisitorState;
 import com.google.errorprone.bugpatterns.BugChecker;
-import com.google.errorprone.bugpatterns.BugChecker.MethodTreeMatcher;
+import com.google.errorprone.bugpatterns.BugChecker.DocTreeMatcher;
 import com.google.errorprone.fixes.SuggestedFix;
 import com.google.errorprone.matchers.Description;
+import com.sun.source.doctree.DocTree;
 import com.sun.source.doctree.ErroneousTree;
 import com.sun.source.tree.MethodTree;
 import com.sun.source.util.DocTreePath;
-import com.sun.source.util.DocTreePathScanner;
 import com.sun.tools.javac.parser.Tokens.Comment;
 import com.sun.tools.javac.tree.DCTree.DCDocComment;
 import com.sun.tools.javac.tree.DCTree.DCErroneous;
+import java.util.EnumSet;
+import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -44,39 +46,28 @@ import java.util.regex.Pattern;
     severity = WARNING,
     tags = StandardTags.STYLE,
     documentSuppression = false)
-public final class InvalidThrowsLink extends BugChecker implements MethodTreeMatcher {
+public final class InvalidThrowsLink extends BugChecker implements DocTreeMatcher {
 
   @Override
-  public Description matchMethod(MethodTree methodTree, VisitorState state) {
-    DocTreePath path = Utils.getDocTreePath(state);
-    if (path != null) {
-      new ThrowsChecker(state).scan(path, null);
-    }
-    return Description.NO_MATCH;
+  public Set<DocTree.Kind> docTreeKinds() {
+    return EnumSet.of(DocTree.Kind.ERRONEOUS);
   }
 
-  private final class ThrowsChecker extends DocTreePathScanner<Void, Void> {
-    private final VisitorState state;
-
-    private ThrowsChecker(VisitorState state) {
-      this.state = state;
+  @Override
+  public Description matchDocTree(DocTreePath path, VisitorState state) {
+    if (!(state.getPath().getLeaf() instanceof MethodTree)) {
+      return Description.NO_MATCH;
     }
-
-    @Override
-    public Void visitErroneous(ErroneousTree node, Void unused) {
-      Matcher matcher = THROWS_LINK.matcher(node.getBody());
-      Comment comment = ((DCDocComment) getCurrentPath().getDocComment()).comment;
-      if (matcher.find()) {
-        int beforeAt = comment.getSourcePos(((DCErroneous) node).pos + matcher.start());
-        int startOfCurly = comment.getSourcePos(((DCErroneous) node).pos + matcher.end());
-        SuggestedFix fix =
-            SuggestedFix.replace(beforeAt, startOfCurly, "@throws " + matcher.group(1));
-        state.reportMatch(
-            describeMatch(
-                getDiagnosticPosition(beforeAt, getCurrentPath().getTreePath().getLeaf()), fix));
-      }
-      return super.visitErroneous(node, null);
+    ErroneousTree node = (ErroneousTree) path.getLeaf();
+    Matcher matcher = THROWS_LINK.matcher(node.getBody());
+    if (!matcher.find()) {
+      return Description.NO_MATCH;
     }
+    Comment comment = ((DCDocComment) path.getDocComment()).comment;
+    int beforeAt = comment.getSourcePos(((DCErroneous) node).pos + matcher.start());
+    int startOfCurly = comment.getSourcePos(((DCErroneous) node).pos + matcher.end());
+    SuggestedFix fix = SuggestedFix.replace(beforeAt, startOfCurly, "@throws " + matcher.group(1));
+    return describeMatch(getDiagnosticPosition(beforeAt, path.getTreePath().getLeaf()), fix);
   }
 
   private static final Pattern THROWS_LINK = Pattern.compile("^@throws \\{@link ([^}]+)}");
@@ -23,17 +23,15 @@ import static java.util.stream.Collectors.joining;
 import com.google.errorprone.BugPattern;
 import com.google.errorprone.VisitorState;
 import com.google.errorprone.bugpatterns.BugChecker;
-import com.google.errorprone.bugpatterns.BugChecker.ClassTreeMatcher;
-import com.google.errorprone.bugpatterns.BugChecker.MethodTreeMatcher;
-import com.google.errorprone.bugpatterns.BugChecker.VariableTreeMatcher;
+import com.google.errorprone.bugpatterns.BugChecker.DocTreeMatcher;
 import com.google.errorprone.fixes.SuggestedFix;
 import com.google.errorprone.matchers.Description;
-import com.sun.source.tree.ClassTree;
-import com.sun.source.tree.MethodTree;
-import com.sun.source.tree.VariableTree;
+import com.sun.source.doctree.DocTree;
 import com.sun.source.util.DocTreePath;
 import com.sun.tools.javac.parser.Tokens.Comment;
 import com.sun.tools.javac.tree.DCTree.DCDocComment;
+import java.util.EnumSet;
+import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -46,8 +44,7 @@ import java.util.regex.Pattern;
     summary = "This Javadoc tag is malformed. The correct syntax is {@tag and not @{tag.",
     severity = WARNING,
     documentSuppression = false)
-public final class MalformedInlineTag extends BugChecker
-    implements ClassTreeMatcher, MethodTreeMatcher, VariableTreeMatcher {
+public final class MalformedInlineTag extends BugChecker implements DocTreeMatcher {
 
   private static final Pattern MALFORMED_PATTERN =
       Pattern.compile(
@@ -56,18 +53,8 @@ public final class MalformedInlineTag extends BugChecker
               + ")");
 
   @Override
-  public Description matchClass(ClassTree classTree, VisitorState state) {
-    return handle(state);
-  }
-
-  @Override
-  public Description matchMethod(MethodTree methodTree, VisitorState state) {
-    return handle(state);
-  }
-
-  @Override
-  public Description matchVariable(VariableTree variableTree, VisitorState state) {
-    return handle(state);
+  public Set<DocTree.Kind> docTreeKinds() {
+    return EnumSet.of(DocTree.Kind.DOC_COMMENT);
   }
 
   /**
@@ -77,12 +64,8 @@ public final class MalformedInlineTag extends BugChecker
    * benefit to iterating over the parsed tree, as the syntax errors can appear anywhere and won't
    * be parsed.
    */
-  private Description handle(VisitorState state) {
-    DocTreePath path = Utils.getDocTreePath(state);
-    if (path == null) {
-      return Description.NO_MATCH;
-    }
-
+  @Override
+  public Description matchDocTree(DocTreePath path, VisitorState state) {
     Comment comment = ((DCDocComment) path.getDocComment()).comment;
     Matcher matcher = MALFORMED_PATTERN.matcher(comment.getText());
     while (matcher.find()) {
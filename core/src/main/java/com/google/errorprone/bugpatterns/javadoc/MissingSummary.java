@@ -19,7 +19,6 @@ package com.google.errorprone.bugpatterns.javadoc;
 import static com.google.errorprone.BugPattern.LinkType.CUSTOM;
 import static com.google.errorprone.BugPattern.SeverityLevel.WARNING;
 import static com.google.errorprone.bugpatterns.javadoc.Utils.diagnosticPosition;
-import static com.google.errorprone.bugpatterns.javadoc.Utils.getDocTreePath;
 import static com.google.errorprone.matchers.Description.NO_MATCH;
 import static com.google.errorprone.util.ASTHelpers.findSuperMethods;
 import static com.google.errorprone.util.ASTHelpers.getSymbol;
@@ -30,23 +29,19 @@ import static java.util.stream.Collectors.joining;
 import com.google.errorprone.BugPattern;
 import com.google.errorprone.VisitorState;
 import com.google.errorprone.bugpatterns.BugChecker;
-import com.google.errorprone.bugpatterns.BugChecker.ClassTreeMatcher;
-import com.google.errorprone.bugpatterns.BugChecker.MethodTreeMatcher;
-import com.google.errorprone.bugpatterns.BugChecker.VariableTreeMatcher;
+import com.google.errorprone.bugpatterns.BugChecker.DocTreeMatcher;
 import com.google.errorprone.fixes.SuggestedFix;
 import com.google.errorprone.matchers.Description;
 import com.sun.source.doctree.DocTree;
 import com.sun.source.doctree.ReturnTree;
 import com.sun.source.doctree.SeeTree;
-import com.sun.source.tree.ClassTree;
-import com.sun.source.tree.MethodTree;
 import com.sun.source.tree.Tree;
-import com.sun.source.tree.VariableTree;
 import com.sun.source.util.DocTreePath;
 import com.sun.source.util.DocTreeScanner;
 import com.sun.tools.javac.code.Symbol;
 import com.sun.tools.javac.code.Symbol.MethodSymbol;
 import com.sun.tools.javac.tree.DCTree.DCDocComment;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Set;
 import javax.lang.model.element.Modifier;
@@ -63,32 +58,19 @@ import org.jspecify.annotations.Nullable;
     linkType = CUSTOM,
     link = "https://google.github.io/styleguide/javaguide.html#s7.2-summary-fragment",
     documentSuppression = false)
-public final class MissingSummary extends BugChecker
-    implements ClassTreeMatcher, MethodTreeMatcher, VariableTreeMatcher {
+public final class MissingSummary extends BugChecker implements DocTreeMatcher {
 
   private static final String CONSIDER_USING_MESSAGE =
       "A summary fragment is required; consider using the value of the @%s block as a "
           + "summary fragment instead.";
 
   @Override
-  public Description matchClass(ClassTree classTree, VisitorState state) {
-    return handle(getDocTreePath(state), state);
+  public Set<DocTree.Kind> docTreeKinds() {
+    return EnumSet.of(DocTree.Kind.DOC_COMMENT);
   }
 
   @Override
-  public Description matchMethod(MethodTree methodTree, VisitorState state) {
-    return handle(getDocTreePath(state), state);
-  }
-
-  @Override
-  public Description matchVariable(VariableTree variableTree, VisitorState state) {
-    return handle(getDocTreePath(state), state);
-  }
-
-  private Description handle(@Nullable DocTreePath docTreePath, VisitorState state) {
-    if (docTreePath == null) {
-      return NO_MATCH;
-    }
+  public Description matchDocTree(DocTreePath docTreePath, VisitorState state) {
     if (!requiresJavadoc(docTreePath.getTreePath().getLeaf(), state)) {
       return Description.NO_MATCH;
     }
@@ -193,7 +175,7 @@ public final class MissingSummary extends BugChecker
     }
     Symbol symbol = getSymbol(tree);
     if (symbol instanceof MethodSymbol
-        && !findSuperMethods((MethodSymbol) symbol, state.getTypes()).isEmpty()) {
+        && !findSuperMethods((MethodSymbol) symbol, state).isEmpty()) {
       return false;
     }
     return symbol != null && !isEffectivelyPrivate(symbol);
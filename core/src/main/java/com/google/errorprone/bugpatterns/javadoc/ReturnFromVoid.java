@@ -25,12 +25,13 @@ import com.google.errorprone.BugPattern;
 import com.google.errorprone.BugPattern.StandardTags;
 import com.google.errorprone.VisitorState;
 import com.google.errorprone.bugpatterns.BugChecker;
-import com.google.errorprone.bugpatterns.BugChecker.MethodTreeMatcher;
+import com.google.errorprone.bugpatterns.BugChecker.DocTreeMatcher;
 import com.google.errorprone.matchers.Description;
-import com.sun.source.doctree.ReturnTree;
+import com.sun.source.doctree.DocTree;
 import com.sun.source.tree.MethodTree;
 import com.sun.source.util.DocTreePath;
-import com.sun.source.util.DocTreePathScanner;
+import java.util.EnumSet;
+import java.util.Set;
 
 /**
  * Finds common Javadoc errors, and tries to suggest useful fixes.
@@ -42,34 +43,19 @@ import com.sun.source.util.DocTreePathScanner;
     severity = WARNING,
     tags = StandardTags.STYLE,
     documentSuppression = false)
-public final class ReturnFromVoid extends BugChecker implements MethodTreeMatcher {
+public final class ReturnFromVoid extends BugChecker implements DocTreeMatcher {
 
   @Override
-  public Description matchMethod(MethodTree methodTree, VisitorState state) {
-    DocTreePath path = Utils.getDocTreePath(state);
-    if (path != null) {
-      new VoidReturnTypeChecker(state, methodTree).scan(path, null);
-    }
-    return Description.NO_MATCH;
+  public Set<DocTree.Kind> docTreeKinds() {
+    return EnumSet.of(DocTree.Kind.RETURN);
   }
 
-  private final class VoidReturnTypeChecker extends DocTreePathScanner<Void, Void> {
-    private final VisitorState state;
-    private final MethodTree methodTree;
-
-    private VoidReturnTypeChecker(VisitorState state, MethodTree methodTree) {
-      this.state = state;
-      this.methodTree = methodTree;
-    }
-
-    @Override
-    public Void visitReturn(ReturnTree returnTree, Void unused) {
-      if (isSameType(getType(methodTree.getReturnType()), state.getSymtab().voidType, state)) {
-        state.reportMatch(
-            describeMatch(
-                diagnosticPosition(getCurrentPath(), state), Utils.replace(returnTree, "", state)));
-      }
-      return super.visitReturn(returnTree, null);
+  @Override
+  public Description matchDocTree(DocTreePath path, VisitorState state) {
+    if (!(state.getPath().getLeaf() instanceof MethodTree methodTree)
+        || !isSameType(getType(methodTree.getReturnType()), state.getSymtab().voidType, state)) {
+      return Description.NO_MATCH;
     }
+    return describeMatch(diagnosticPosition(path, state), Utils.replace(path.getLeaf(), "", state));
   }
 }
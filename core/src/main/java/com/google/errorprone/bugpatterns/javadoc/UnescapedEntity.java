@@ -31,9 +31,7 @@ import com.google.common.collect.TreeRangeSet;
 import com.google.errorprone.BugPattern;
 import com.google.errorprone.VisitorState;
 import com.google.errorprone.bugpatterns.BugChecker;
-import com.google.errorprone.bugpatterns.BugChecker.ClassTreeMatcher;
-import com.google.errorprone.bugpatterns.BugChecker.MethodTreeMatcher;
-import com.google.errorprone.bugpatterns.BugChecker.VariableTreeMatcher;
+import com.google.errorprone.bugpatterns.BugChecker.DocTreeMatcher;
 import com.google.errorprone.fixes.SuggestedFix;
 import com.google.errorprone.matchers.Description;
 import com.sun.source.doctree.DocTree;
@@ -43,9 +41,6 @@ import com.sun.source.doctree.LinkTree;
 import com.sun.source.doctree.LiteralTree;
 import com.sun.source.doctree.SeeTree;
 import com.sun.source.doctree.StartElementTree;
-import com.sun.source.tree.ClassTree;
-import com.sun.source.tree.MethodTree;
-import com.sun.source.tree.VariableTree;
 import com.sun.source.util.DocTreePath;
 import com.sun.source.util.DocTreePathScanner;
 import com.sun.tools.javac.parser.Tokens.Comment;
@@ -53,10 +48,11 @@ import com.sun.tools.javac.tree.DCTree.DCDocComment;
 import com.sun.tools.javac.util.Position;
 import java.util.ArrayDeque;
 import java.util.Deque;
+import java.util.EnumSet;
 import java.util.Optional;
+import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import org.jspecify.annotations.Nullable;
 
 /**
  * Finds unescaped entities in Javadocs.
@@ -70,8 +66,7 @@ import org.jspecify.annotations.Nullable;
             + " could be malformed and not recognised by the compiler.",
     severity = WARNING,
     documentSuppression = false)
-public final class UnescapedEntity extends BugChecker
-    implements ClassTreeMatcher, MethodTreeMatcher, VariableTreeMatcher {
+public final class UnescapedEntity extends BugChecker implements DocTreeMatcher {
 
   private static final ImmutableSet<String> PRE_TAGS = ImmutableSet.of("pre", "code");
 
@@ -91,24 +86,12 @@ public final class UnescapedEntity extends BugChecker
       Pattern.compile("&[a-zA-Z0-9]+;|&#[0-9]+;|&#x[0-9a-fA-F]+;|\n *\\*\\s*@|\\{@(literal|code)");
 
   @Override
-  public Description matchClass(ClassTree classTree, VisitorState state) {
-    return handle(Utils.getDocTreePath(state), state);
+  public Set<DocTree.Kind> docTreeKinds() {
+    return EnumSet.of(DocTree.Kind.DOC_COMMENT);
   }
 
   @Override
-  public Description matchMethod(MethodTree methodTree, VisitorState state) {
-    return handle(Utils.getDocTreePath(state), state);
-  }
-
-  @Override
-  public Description matchVariable(VariableTree variableTree, VisitorState state) {
-    return handle(Utils.getDocTreePath(state), state);
-  }
-
-  private Description handle(@Nullable DocTreePath path, VisitorState state) {
-    if (path == null) {
-      return NO_MATCH;
-    }
+  public Description matchDocTree(DocTreePath path, VisitorState state) {
     RangesFinder rangesFinder = new RangesFinder(state);
     rangesFinder.scan(path, null);
     Comment comment = ((DCDocComment) path.getDocComment()).comment;
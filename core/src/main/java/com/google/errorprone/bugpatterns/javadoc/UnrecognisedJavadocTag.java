@@ -26,23 +26,20 @@ import com.google.common.collect.Sets;
 import com.google.errorprone.BugPattern;
 import com.google.errorprone.VisitorState;
 import com.google.errorprone.bugpatterns.BugChecker;
-import com.google.errorprone.bugpatterns.BugChecker.ClassTreeMatcher;
-import com.google.errorprone.bugpatterns.BugChecker.MethodTreeMatcher;
-import com.google.errorprone.bugpatterns.BugChecker.VariableTreeMatcher;
+import com.google.errorprone.bugpatterns.BugChecker.DocTreeMatcher;
 import com.google.errorprone.matchers.Description;
+import com.sun.source.doctree.DocTree;
 import com.sun.source.doctree.DocTree.Kind;
 import com.sun.source.doctree.LinkTree;
 import com.sun.source.doctree.LiteralTree;
-import com.sun.source.tree.ClassTree;
-import com.sun.source.tree.MethodTree;
-import com.sun.source.tree.VariableTree;
 import com.sun.source.util.DocTreePath;
 import com.sun.source.util.DocTreePathScanner;
 import com.sun.tools.javac.parser.Tokens.Comment;
 import com.sun.tools.javac.tree.DCTree.DCDocComment;
+import java.util.EnumSet;
+import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import org.jspecify.annotations.Nullable;
 
 /** Flags tags which haven't been recognised by the Javadoc parser. */
 @BugPattern(
@@ -51,29 +48,16 @@ import org.jspecify.annotations.Nullable;
             + " mismatched braces?",
     severity = WARNING,
     documentSuppression = false)
-public final class UnrecognisedJavadocTag extends BugChecker
-    implements ClassTreeMatcher, MethodTreeMatcher, VariableTreeMatcher {
+public final class UnrecognisedJavadocTag extends BugChecker implements DocTreeMatcher {
   private static final Pattern TAG = Pattern.compile("\\{@(code|link)");
 
   @Override
-  public Description matchClass(ClassTree classTree, VisitorState state) {
-    return handle(Utils.getDocTreePath(state), state);
+  public Set<DocTree.Kind> docTreeKinds() {
+    return EnumSet.of(DocTree.Kind.DOC_COMMENT);
   }
 
   @Override
-  public Description matchMethod(MethodTree methodTree, VisitorState state) {
-    return handle(Utils.getDocTreePath(state), state);
-  }
-
-  @Override
-  public Description matchVariable(VariableTree variableTree, VisitorState state) {
-    return handle(Utils.getDocTreePath(state), state);
-  }
-
-  private Description handle(@Nullable DocTreePath path, VisitorState state) {
-    if (path == null) {
-      return NO_MATCH;
-    }
+  public Description matchDocTree(DocTreePath path, VisitorState state) {
     ImmutableSet<Integer> recognisedTags = findRecognisedTags(path, state);
     ImmutableSet<Integer> tagStrings = findTags(((DCDocComment) path.getDocComment()).comment);
 
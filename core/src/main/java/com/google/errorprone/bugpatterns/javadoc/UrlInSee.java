@@ -18,23 +18,19 @@ package com.google.errorprone.bugpatterns.javadoc;
 
 import static com.google.errorprone.BugPattern.SeverityLevel.WARNING;
 import static com.google.errorprone.bugpatterns.javadoc.Utils.diagnosticPosition;
-import static com.google.errorprone.bugpatterns.javadoc.Utils.getDocTreePath;
 import static com.google.errorprone.bugpatterns.javadoc.Utils.replace;
 import static com.google.errorprone.matchers.Description.NO_MATCH;
 
 import com.google.errorprone.BugPattern;
 import com.google.errorprone.VisitorState;
 import com.google.errorprone.bugpatterns.BugChecker;
-import com.google.errorprone.bugpatterns.BugChecker.ClassTreeMatcher;
-import com.google.errorprone.bugpatterns.BugChecker.MethodTreeMatcher;
-import com.google.errorprone.bugpatterns.BugChecker.VariableTreeMatcher;
+import com.google.errorprone.bugpatterns.BugChecker.DocTreeMatcher;
 import com.google.errorprone.matchers.Description;
+import com.sun.source.doctree.DocTree;
 import com.sun.source.doctree.ErroneousTree;
-import com.sun.source.tree.ClassTree;
-import com.sun.source.tree.MethodTree;
-import com.sun.source.tree.VariableTree;
 import com.sun.source.util.DocTreePath;
-import com.sun.source.util.DocTreePathScanner;
+import java.util.EnumSet;
+import java.util.Set;
 
 /** Discourages using URLs in {@literal @}see tags. */
 @BugPattern(
@@ -42,52 +38,20 @@ import com.sun.source.util.DocTreePathScanner;
         "URLs should not be used in @see tags; they are designed for Java elements which could be"
             + " used with @link.",
     severity = WARNING)
-public final class UrlInSee extends BugChecker
-    implements ClassTreeMatcher, MethodTreeMatcher, VariableTreeMatcher {
+public final class UrlInSee extends BugChecker implements DocTreeMatcher {
   @Override
-  public Description matchClass(ClassTree classTree, VisitorState state) {
-    DocTreePath path = getDocTreePath(state);
-    if (path != null) {
-      new UrlInSeeChecker(state).scan(path, null);
-    }
-    return NO_MATCH;
-  }
-
-  @Override
-  public Description matchMethod(MethodTree methodTree, VisitorState state) {
-    DocTreePath path = getDocTreePath(state);
-    if (path != null) {
-      new UrlInSeeChecker(state).scan(path, null);
-    }
-    return NO_MATCH;
+  public Set<DocTree.Kind> docTreeKinds() {
+    return EnumSet.of(DocTree.Kind.ERRONEOUS);
   }
 
   @Override
-  public Description matchVariable(VariableTree variableTree, VisitorState state) {
-    DocTreePath path = getDocTreePath(state);
-    if (path != null) {
-      new UrlInSeeChecker(state).scan(path, null);
-    }
-    return NO_MATCH;
-  }
-
-  private final class UrlInSeeChecker extends DocTreePathScanner<Void, Void> {
-    private final VisitorState state;
-
-    private UrlInSeeChecker(VisitorState state) {
-      this.state = state;
-    }
-
-    @Override
-    public Void visitErroneous(ErroneousTree erroneousTree, Void unused) {
-      if (erroneousTree.getBody().startsWith("@see http")) {
-        state.reportMatch(
-            describeMatch(
-                diagnosticPosition(getCurrentPath(), state),
-                replace(
-                    erroneousTree, erroneousTree.getBody().replaceFirst("@see", "See"), state)));
-      }
-      return super.visitErroneous(erroneousTree, null);
+  public Description matchDocTree(DocTreePath path, VisitorState state) {
+    ErroneousTree erroneousTree = (ErroneousTree) path.getLeaf();
+    if (!erroneousTree.getBody().startsWith("@see http")) {
+      return NO_MATCH;
     }
+    return describeMatch(
+        diagnosticPosition(path, state),
+        replace(erroneousTree, erroneousTree.getBody().replaceFirst("@see", "See"), state));
   }
 }
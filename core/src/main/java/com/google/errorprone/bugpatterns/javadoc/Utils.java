@@ -29,13 +29,8 @@ import com.sun.source.tree.Tree;
 import com.sun.source.util.DocSourcePositions;
 import com.sun.source.util.DocTreePath;
 import com.sun.tools.javac.api.JavacTrees;
-import com.sun.tools.javac.tree.DCTree.DCDocComment;
-import com.sun.tools.javac.tree.DocCommentTable;
-import com.sun.tools.javac.tree.JCTree;
-import com.sun.tools.javac.tree.JCTree.JCCompilationUnit;
 import com.sun.tools.javac.util.JCDiagnostic.DiagnosticPosition;
 import com.sun.tools.javac.util.Position;
-import java.lang.reflect.Method;
 import java.util.Optional;
 import org.jspecify.annotations.Nullable;
 
@@ -45,8 +40,13 @@ final class Utils {
     String bestMatch = null;
     int minDistance = Integer.MAX_VALUE;
     for (String choice : choices) {
-      int distance = getEditDistance(to, choice);
-      if (distance < minDistance && distance < maxEditDistance) {
+      // Only distances below both the best so far and maxEditDistance are of interest.
+      int bound = Math.min(minDistance, maxEditDistance) - 1;
+      if (bound < 0) {
+        break;
+      }
+      int distance = getEditDistance(to, choice, /* caseSensitive= */ true, bound);
+      if (distance <= bound) {
         bestMatch = choice;
         minDistance = distance;
       }
@@ -54,29 +54,6 @@ final class Utils {
     return Optional.ofNullable(bestMatch);
   }
 
-  static DCDocComment getDocComment(VisitorState state, Tree tree) {
-    return getCommentTree(
-        ((JCCompilationUnit) state.getPath().getCompilationUnit()).docComments, (JCTree) tree);
-  }
-
-  private static final Method COMMENT_TREE_METHOD = getCommentTreeMethod();
-
-  private static Method getCommentTreeMethod() {
-    try {
-      return DocCommentTable.class.getMethod("getCommentTree", JCTree.class);
-    } catch (ReflectiveOperationException e) {
-      throw new LinkageError(e.getMessage(), e);
-    }
-  }
-
-  private static DCDocComment getCommentTree(DocCommentTable docCommentTable, JCTree tree) {
-    try {
-      return (DCDocComment) COMMENT_TREE_METHOD.invoke(docCommentTable, tree);
-    } catch (ReflectiveOperationException e) {
-      throw new LinkageError(e.getMessage(), e);
-    }
-  }
-
   static SuggestedFix replace(DocTree docTree, String replacement, VisitorState state) {
     DocSourcePositions positions = JavacTrees.instance(state.context).getSourcePositions();
     CompilationUnitTree compilationUnitTree = state.getPath().getCompilationUnit();
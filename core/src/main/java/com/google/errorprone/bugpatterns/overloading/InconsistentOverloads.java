@@ -91,7 +91,7 @@ public final class InconsistentOverloads extends BugChecker implements ClassTree
     Preconditions.checkArgument(!groupMethodTrees.isEmpty());
     for (ParameterOrderingViolation violation : getViolations(groupMethodTrees)) {
       MethodSymbol methodSymbol = getSymbol(violation.methodTree());
-      if (ASTHelpers.findSuperMethods(methodSymbol, state.getTypes()).isEmpty()) {
+      if (ASTHelpers.findSuperMethods(methodSymbol, state).isEmpty()) {
         Description.Builder description = buildDescription(violation.methodTree());
         description.setMessage(violation.getDescription());
         state.reportMatch(description.build());
@@ -49,6 +49,7 @@ import com.google.errorprone.bugpatterns.BugChecker.MemberReferenceTreeMatcher;
 import com.google.errorprone.bugpatterns.BugChecker.MethodInvocationTreeMatcher;
 import com.google.errorprone.bugpatterns.BugChecker.MethodTreeMatcher;
 import com.google.errorprone.bugpatterns.BugChecker.NewClassTreeMatcher;
+import com.google.errorprone.bugpatterns.BugChecker.Reusable;
 import com.google.errorprone.bugpatterns.threadsafety.ThreadSafety.Violation;
 import com.google.errorprone.matchers.Description;
 import com.google.errorprone.util.ASTHelpers;
@@ -91,6 +92,7 @@ import org.jspecify.annotations.Nullable;
     summary = "Type declaration annotated with @Immutable is not immutable",
     severity = ERROR,
     documentSuppression = false)
+@Reusable
 public class ImmutableChecker extends BugChecker
     implements ClassTreeMatcher,
         LambdaExpressionTreeMatcher,
@@ -18,17 +18,20 @@ package com.google.errorprone.refaster;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkState;
+import static com.google.common.collect.ImmutableList.toImmutableList;
 
 import com.google.auto.value.AutoValue;
+import com.google.auto.value.extension.memoized.Memoized;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Ascii;
 import com.google.common.base.Joiner;
 import com.google.common.base.Splitter;
 import com.google.common.collect.ImmutableClassToInstanceMap;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Sets;
-import com.google.errorprone.CodeTransformer;
+import com.google.errorprone.CompositeCodeTransformer;
 import com.google.errorprone.DescriptionListener;
 import com.google.errorprone.SubContext;
 import com.sun.source.util.TreePath;
@@ -53,7 +56,7 @@ import javax.tools.JavaFileManager;
  */
 @AutoValue
 public abstract class RefasterRule<M extends TemplateMatch, T extends Template<M>>
-    implements CodeTransformer, Serializable {
+    implements CompositeCodeTransformer.Combinable, Serializable {
   public static RefasterRule<?, ?> create(
       String qualifiedTemplateClass,
       Collection<? extends Template<?>> beforeTemplates,
@@ -135,9 +138,27 @@ public abstract class RefasterRule<M extends TemplateMatch, T extends Template<M
 
   @Override
   public void apply(TreePath path, Context context, DescriptionListener listener) {
-    RefasterScanner.create(this, listener)
-        .scan(
-            path.getLeaf(), prepareContext(context, (JCCompilationUnit) path.getCompilationUnit()));
+    asRuleSet().apply(path, context, listener);
+  }
+
+  @Memoized
+  RefasterRuleSet asRuleSet() {
+    return new RefasterRuleSet(ImmutableList.<RefasterRule<?, ?>>of(this));
+  }
+
+  /**
+   * Returns the identifiers that must appear in a compilation unit for each of the before-templates
+   * to match it. See {@link RequiredIdentifiers}.
+   */
+  @Memoized
+  public ImmutableList<ImmutableSet<String>> requiredIdentifiers() {
+    return beforeTemplates().stream().map(RequiredIdentifiers::of).collect(toImmutableList());
+  }
+
+  /** Rules are combined into a {@link RefasterRuleSet}, which applies them in a single pass. */
+  @Override
+  public CompositeCodeTransformer.Combiner combiner() {
+    return RefasterRuleSet.COMBINER;
   }
 
   boolean rejectMatchesWithComments() {
@@ -146,7 +167,7 @@ public abstract class RefasterRule<M extends TemplateMatch, T extends Template<M
 
   static final Context.Key<ImmutableList<UTypeVar>> RULE_TYPE_VARS = new Context.Key<>();
 
-  private Context prepareContext(Context baseContext, JCCompilationUnit compilationUnit) {
+  Context prepareContext(Context baseContext, JCCompilationUnit compilationUnit) {
     Context context = new SubContext(baseContext);
     if (context.get(JavaFileManager.class) == null) {
       JavacFileManager.preRegister(context);
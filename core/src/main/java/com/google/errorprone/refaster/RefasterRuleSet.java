@@ -0,0 +1,269 @@
+/*
+ * Copyright 2026 The Error Prone Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.errorprone.refaster;
+
+import static java.util.Comparator.comparingInt;
+
+import com.google.common.collect.ImmutableClassToInstanceMap;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableListMultimap;
+import com.google.common.collect.ImmutableSet;
+import com.google.errorprone.CodeTransformer;
+import com.google.errorprone.CompositeCodeTransformer;
+import com.google.errorprone.DescriptionListener;
+import com.google.errorprone.util.ASTHelpers;
+import com.sun.source.tree.BlockTree;
+import com.sun.source.tree.ExpressionTree;
+import com.sun.source.tree.IdentifierTree;
+import com.sun.source.tree.MemberSelectTree;
+import com.sun.source.tree.MethodInvocationTree;
+import com.sun.source.tree.Tree;
+import com.sun.source.tree.Tree.Kind;
+import com.sun.source.util.TreePath;
+import com.sun.tools.javac.code.Symbol;
+import com.sun.tools.javac.tree.JCTree.JCCompilationUnit;
+import com.sun.tools.javac.util.Context;
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Set;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A set of {@link RefasterRule}s that are applied together in a single pass over each compilation
+ * unit.
+ *
+ * <p>The rules' before-templates are indexed by the kind of tree they can match, and for method
+ * invocations by the name of the invoked method, so each tree is only unified with the templates
+ * that could possibly match it. Before scanning, rules are skipped entirely if the compilation unit
+ * doesn't mention the {@linkplain RequiredIdentifiers identifiers} they require. Matches are
+ * reported in the same order as applying each rule in turn.
+ */
+final class RefasterRuleSet implements CodeTransformer {
+
+  static final CompositeCodeTransformer.Combiner COMBINER =
+      rules -> {
+        ImmutableList.Builder<RefasterRule<?, ?>> result = ImmutableList.builder();
+        for (CompositeCodeTransformer.Combinable rule : rules) {
+          result.add((RefasterRule<?, ?>) rule);
+        }
+        return new RefasterRuleSet(result.build());
+      };
+
+  /** A before-template of one of the rules, and its position in the order they are applied. */
+  static final class Candidate<M extends TemplateMatch, T extends Template<M>> {
+    final int ruleIndex;
+    final RefasterRule<M, T> rule;
+    final T template;
+    final int order;
+
+    Candidate(int ruleIndex, RefasterRule<M, T> rule, T template, int order) {
+      this.ruleIndex = ruleIndex;
+      this.rule = rule;
+      this.template = template;
+      this.order = order;
+    }
+  }
+
+  private final ImmutableList<RefasterRule<?, ?>> rules;
+
+  /** Whether any rule can be skipped for a compilation unit that lacks its required identifiers. */
+  private final boolean hasRequiredIdentifiers;
+
+  /** The indices of the rules declared by each template class. */
+  private final ImmutableListMultimap<String, Integer> rulesByTemplateClass;
+
+  /** Templates which might match any tree. */
+  private final ImmutableList<Candidate<?, ?>> anyTree;
+
+  /** Templates which only match trees implementing a particular {@link Tree} subinterface. */
+  private final ImmutableListMultimap<Class<? extends Tree>, Candidate<?, ?>> byTreeInterface;
+
+  /** Templates which only match trees of a particular {@link Kind}. */
+  private final ImmutableListMultimap<Kind, Candidate<?, ?>> byKind;
+
+  /** Templates which only match invocations of methods with a particular name. */
+  private final ImmutableListMultimap<String, Candidate<?, ?>> byMethodName;
+
+  RefasterRuleSet(ImmutableList<RefasterRule<?, ?>> rules) {
+    this.rules = rules;
+    ImmutableListMultimap.Builder<String, Integer> rulesByTemplateClass =
+        ImmutableListMultimap.builder();
+    ImmutableList.Builder<Candidate<?, ?>> anyTree = ImmutableList.builder();
+    ImmutableListMultimap.Builder<Class<? extends Tree>, Candidate<?, ?>> byTreeInterface =
+        ImmutableListMultimap.builder();
+    ImmutableListMultimap.Builder<Kind, Candidate<?, ?>> byKind = ImmutableListMultimap.builder();
+    ImmutableListMultimap.Builder<String, Candidate<?, ?>> byMethodName =
+        ImmutableListMultimap.builder();
+    int order = 0;
+    for (int i = 0; i < rules.size(); i++) {
+      rulesByTemplateClass.put(rules.get(i).qualifiedTemplateClass(), i);
+      ImmutableList<? extends Candidate<?, ?>> candidates = candidates(i, rules.get(i), order);
+      order += candidates.size();
+      for (Candidate<?, ?> candidate : candidates) {
+        if (candidate.template instanceof BlockTemplate) {
+          byTreeInterface.put(BlockTree.class, candidate);
+          continue;
+        }
+        if (!(candidate.template instanceof ExpressionTemplate expressionTemplate)) {
+          anyTree.add(candidate);
+          continue;
+        }
+        UExpression root = expressionTemplate.expression();
+        if (root instanceof UMethodInvocation invocation) {
+          String name = methodName(invocation.getMethodSelect());
+          if (name != null) {
+            byMethodName.put(name, candidate);
+          } else {
+            byTreeInterface.put(MethodInvocationTree.class, candidate);
+          }
+        } else if (root instanceof UBinary || root instanceof UUnary) {
+          byKind.put(root.getKind(), candidate);
+        } else if (root instanceof UNewClass
+            || root instanceof UNewArray
+            || root instanceof UConditional
+            || root instanceof UInstanceOf
+            || root instanceof UTypeCast
+            || root instanceof ULambda
+            || root instanceof UMemberReference
+            || root instanceof UArrayAccess
+            || root instanceof UAssign
+            || root instanceof UAssignOp
+            || root instanceof ULiteral) {
+          byTreeInterface.put(root.getKind().asInterface(), candidate);
+        } else {
+          // e.g. placeholders, free identifiers, Refaster.anyOf, and parentheses, which may match
+          // trees of several kinds
+          anyTree.add(candidate);
+        }
+      }
+    }
+    this.rulesByTemplateClass = rulesByTemplateClass.build();
+    this.hasRequiredIdentifiers =
+        rules.stream()
+            .anyMatch(rule -> rule.requiredIdentifiers().stream().noneMatch(Set::isEmpty));
+    this.anyTree = anyTree.build();
+    this.byTreeInterface = byTreeInterface.build();
+    this.byKind = byKind.build();
+    this.byMethodName = byMethodName.build();
+  }
+
+  private static <M extends TemplateMatch, T extends Template<M>>
+      ImmutableList<Candidate<M, T>> candidates(int ruleIndex, RefasterRule<M, T> rule, int order) {
+    ImmutableList.Builder<Candidate<M, T>> result = ImmutableList.builder();
+    for (T template : rule.beforeTemplates()) {
+      result.add(new Candidate<>(ruleIndex, rule, template, order));
+      order++;
+    }
+    return result.build();
+  }
+
+  /**
+   * Returns the name of the method invoked through {@code methodSelect}, or {@code null} if the
+   * template may match invocations of any method.
+   */
+  private static @Nullable String methodName(UExpression methodSelect) {
+    String name = null;
+    if (methodSelect instanceof UMemberSelect memberSelect) {
+      name = memberSelect.getIdentifier().contents();
+    } else if (methodSelect instanceof UStaticIdent staticIdent) {
+      name = staticIdent.getName().contents();
+    } else if (methodSelect instanceof UMethodIdent methodIdent) {
+      name = methodIdent.getName().contents();
+    }
+    return name == null || name.isEmpty() ? null : name;
+  }
+
+  ImmutableList<RefasterRule<?, ?>> rules() {
+    return rules;
+  }
+
+  /** Returns the indices of the rules declared by the template class with the given name. */
+  ImmutableList<Integer> rulesDeclaredIn(String qualifiedTemplateClass) {
+    return rulesByTemplateClass.get(qualifiedTemplateClass);
+  }
+
+  /** Returns the templates which might match {@code tree}, in the order they are applied. */
+  List<Candidate<?, ?>> candidates(Tree tree) {
+    Kind kind = tree.getKind();
+    ImmutableList<Candidate<?, ?>> forInterface = byTreeInterface.get(kind.asInterface());
+    ImmutableList<Candidate<?, ?>> forKind = byKind.get(kind);
+    ImmutableList<Candidate<?, ?>> forMethodName = ImmutableList.of();
+    ImmutableList<Candidate<?, ?>> forSymbolName = ImmutableList.of();
+    if (tree instanceof MethodInvocationTree invocation) {
+      ExpressionTree methodSelect = invocation.getMethodSelect();
+      CharSequence name = null;
+      if (methodSelect instanceof IdentifierTree identifier) {
+        name = identifier.getName();
+      } else if (methodSelect instanceof MemberSelectTree memberSelect) {
+        name = memberSelect.getIdentifier();
+      }
+      if (name != null) {
+        forMethodName = byMethodName.get(name.toString());
+      }
+      // Templates referring to a method symbol match on its name rather than the tree's, which
+      // differ for e.g. this(...) and super(...)
+      Symbol sym = ASTHelpers.getSymbol(methodSelect);
+      if (sym != null && (name == null || !sym.getSimpleName().contentEquals(name))) {
+        forSymbolName = byMethodName.get(sym.getSimpleName().toString());
+      }
+    }
+    if (forInterface.isEmpty()
+        && forKind.isEmpty()
+        && forMethodName.isEmpty()
+        && forSymbolName.isEmpty()) {
+      return anyTree;
+    }
+    List<Candidate<?, ?>> result = new ArrayList<>(anyTree);
+    result.addAll(forInterface);
+    result.addAll(forKind);
+    result.addAll(forMethodName);
+    result.addAll(forSymbolName);
+    result.sort(comparingInt(c -> c.order));
+    return result;
+  }
+
+  @Override
+  public void apply(TreePath path, Context context, DescriptionListener listener) {
+    BitSet inactive = new BitSet();
+    if (hasRequiredIdentifiers) {
+      ImmutableSet<String> identifiers = RequiredIdentifiers.in(path.getCompilationUnit(), context);
+      for (int i = 0; i < rules.size(); i++) {
+        if (rules.get(i).requiredIdentifiers().stream().noneMatch(identifiers::containsAll)) {
+          inactive.set(i);
+        }
+      }
+      if (inactive.cardinality() == rules.size()) {
+        return;
+      }
+    }
+    new RefasterScanner(
+            this, context, (JCCompilationUnit) path.getCompilationUnit(), listener, inactive)
+        .scanAndReport(path.getLeaf());
+  }
+
+  @Override
+  public ImmutableClassToInstanceMap<Annotation> annotations() {
+    return ImmutableClassToInstanceMap.of();
+  }
+
+  @Override
+  public String toString() {
+    return rules.toString();
+  }
+}
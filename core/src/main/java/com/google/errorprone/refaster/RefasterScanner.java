@@ -18,11 +18,13 @@ package com.google.errorprone.refaster;
 
 import static com.google.errorprone.util.ASTHelpers.stringContainsComments;
 
-import com.google.auto.value.AutoValue;
 import com.google.errorprone.BugPattern.SeverityLevel;
 import com.google.errorprone.DescriptionListener;
+import com.google.errorprone.SuppressionInfo;
+import com.google.errorprone.VisitorState;
 import com.google.errorprone.fixes.SuggestedFix;
 import com.google.errorprone.matchers.Description;
+import com.google.errorprone.refaster.RefasterRuleSet.Candidate;
 import com.google.errorprone.util.ASTHelpers;
 import com.sun.source.tree.ClassTree;
 import com.sun.source.tree.DoWhileLoopTree;
@@ -42,90 +44,196 @@ import com.sun.tools.javac.tree.JCTree.JCStatement;
 import com.sun.tools.javac.tree.TreeMaker;
 import com.sun.tools.javac.util.Context;
 import com.sun.tools.javac.util.ListBuffer;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
 
 /**
- * Scanner that outputs suggested fixes generated by a {@code RefasterMatcher}.
+ * Scanner that outputs suggested fixes generated by the rules of a {@link RefasterRuleSet}.
+ *
+ * <p>The compilation unit is scanned once for all of the rules. Descriptions are buffered per rule
+ * and reported once the scan is complete, in the same order as scanning once for each rule.
  *
  * @author lowasser@google.com (Louis Wasserman)
  */
-@AutoValue
-abstract class RefasterScanner<M extends TemplateMatch, T extends Template<M>>
-    extends TreeScanner<Void, Context> {
-  static <M extends TemplateMatch, T extends Template<M>> RefasterScanner<M, T> create(
-      RefasterRule<M, T> rule, DescriptionListener listener) {
-    return new AutoValue_RefasterScanner<>(rule, listener);
-  }
+final class RefasterScanner extends TreeScanner<Void, Void> {
+  private final RefasterRuleSet ruleSet;
+  private final Context baseContext;
+  private final JCCompilationUnit compilationUnit;
+  private final DescriptionListener listener;
+  private final VisitorState state;
 
-  abstract RefasterRule<M, T> rule();
+  /** The context for each rule, created on first use. */
+  private final Context[] contexts;
 
-  abstract DescriptionListener listener();
+  /** The descriptions reported for each rule, created on first use. */
+  private final List<List<Description>> descriptions;
 
-  @Override
-  public Void visitClass(ClassTree node, Context context) {
-    if (isSuppressed(node, context)) {
-      return null;
+  /**
+   * The rules that aren't applied to the tree currently being scanned, e.g. because they are
+   * suppressed.
+   */
+  private final BitSet inactive;
+
+  RefasterScanner(
+      RefasterRuleSet ruleSet,
+      Context context,
+      JCCompilationUnit compilationUnit,
+      DescriptionListener listener,
+      BitSet inactive) {
+    this.ruleSet = ruleSet;
+    this.inactive = inactive;
+    this.baseContext = context;
+    this.compilationUnit = compilationUnit;
+    this.listener = listener;
+    this.state = VisitorState.createForUtilityPurposes(context);
+    int size = ruleSet.rules().size();
+    this.contexts = new Context[size];
+    this.descriptions = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      descriptions.add(null);
     }
+  }
+
+  /** Scans {@code tree} for matches of every rule, and reports them. */
+  void scanAndReport(Tree tree) {
+    scan(tree, null);
+    for (List<Description> ruleDescriptions : descriptions) {
+      if (ruleDescriptions != null) {
+        ruleDescriptions.forEach(listener::onDescribed);
+      }
+    }
+  }
+
+  @Override
+  public Void visitClass(ClassTree node, Void unused) {
+    BitSet newlySuppressed = suppress(node);
     Symbol sym = ASTHelpers.getSymbol(node);
-    if (sym == null || !sym.getQualifiedName().contentEquals(rule().qualifiedTemplateClass())) {
+    if (sym != null) {
+      // Don't match rules against their own templates.
+      for (int i : ruleSet.rulesDeclaredIn(sym.getQualifiedName().toString())) {
+        if (!inactive.get(i)) {
+          newlySuppressed.set(i);
+          inactive.set(i);
+        }
+      }
+    }
+    if (!allInactive()) {
       ListBuffer<JCStatement> statements = new ListBuffer<>();
       for (Tree tree : node.getMembers()) {
         if (tree instanceof JCStatement jCStatement) {
           statements.append(jCStatement);
         } else {
-          tree.accept(this, context);
+          tree.accept(this, null);
         }
       }
-      scan(TreeMaker.instance(context).Block(0, statements.toList()), context);
+      scan(TreeMaker.instance(baseContext).Block(0, statements.toList()), null);
     }
+    inactive.andNot(newlySuppressed);
     return null;
   }
 
   @Override
-  public Void visitMethod(MethodTree node, Context context) {
-    if (isSuppressed(node, context)) {
-      return null;
+  public Void visitMethod(MethodTree node, Void unused) {
+    BitSet newlySuppressed = suppress(node);
+    if (!allInactive()) {
+      super.visitMethod(node, null);
     }
-    return super.visitMethod(node, context);
+    inactive.andNot(newlySuppressed);
+    return null;
   }
 
   @Override
-  public Void visitVariable(VariableTree node, Context context) {
-    if (isSuppressed(node, context)) {
-      return null;
+  public Void visitVariable(VariableTree node, Void unused) {
+    BitSet newlySuppressed = suppress(node);
+    if (!allInactive()) {
+      super.visitVariable(node, null);
     }
-    return super.visitVariable(node, context);
+    inactive.andNot(newlySuppressed);
+    return null;
   }
 
   @Override
-  public Void scan(Tree tree, Context context) {
+  public Void scan(Tree tree, Void unused) {
     if (tree == null) {
       return null;
     }
-    JCCompilationUnit compilationUnit = context.get(JCCompilationUnit.class);
-    for (T beforeTemplate : rule().beforeTemplates()) {
-      matchLoop:
-      for (M match : beforeTemplate.match((JCTree) tree, context)) {
-        if (rule().rejectMatchesWithComments()) {
-          String matchContents = match.getRange(compilationUnit);
-          if (stringContainsComments(matchContents, context)) {
-            continue matchLoop;
-          }
+    for (Candidate<?, ?> candidate : ruleSet.candidates(tree)) {
+      if (!inactive.get(candidate.ruleIndex)) {
+        describeMatches(candidate, (JCTree) tree);
+      }
+    }
+    return super.scan(tree, null);
+  }
+
+  private <M extends TemplateMatch, T extends Template<M>> void describeMatches(
+      Candidate<M, T> candidate, JCTree tree) {
+    RefasterRule<M, T> rule = candidate.rule;
+    Context context = context(candidate.ruleIndex);
+    matchLoop:
+    for (M match : candidate.template.match(tree, context)) {
+      if (rule.rejectMatchesWithComments()) {
+        String matchContents = match.getRange(compilationUnit);
+        if (stringContainsComments(matchContents, context)) {
+          continue matchLoop;
         }
-        Description.Builder builder =
-            Description.builder(match.getLocation(), rule().qualifiedTemplateClass(), "", "")
-                .overrideSeverity(SeverityLevel.WARNING);
+      }
+      Description.Builder builder =
+          Description.builder(match.getLocation(), rule.qualifiedTemplateClass(), "", "")
+              .overrideSeverity(SeverityLevel.WARNING);
 
-        if (rule().afterTemplates().isEmpty()) {
-          builder.addFix(SuggestedFix.prefixWith(match.getLocation(), "/* match found */ "));
-        } else {
-          for (T afterTemplate : rule().afterTemplates()) {
-            builder.addFix(afterTemplate.replace(match));
-          }
+      if (rule.afterTemplates().isEmpty()) {
+        builder.addFix(SuggestedFix.prefixWith(match.getLocation(), "/* match found */ "));
+      } else {
+        for (T afterTemplate : rule.afterTemplates()) {
+          builder.addFix(afterTemplate.replace(match));
         }
-        listener().onDescribed(builder.build());
       }
+      descriptions(candidate.ruleIndex).add(builder.build());
+    }
+  }
+
+  private Context context(int ruleIndex) {
+    Context context = contexts[ruleIndex];
+    if (context == null) {
+      context = ruleSet.rules().get(ruleIndex).prepareContext(baseContext, compilationUnit);
+      contexts[ruleIndex] = context;
+    }
+    return context;
+  }
+
+  private List<Description> descriptions(int ruleIndex) {
+    List<Description> result = descriptions.get(ruleIndex);
+    if (result == null) {
+      result = new ArrayList<>();
+      descriptions.set(ruleIndex, result);
     }
-    return super.scan(tree, context);
+    return result;
+  }
+
+  /**
+   * Marks the rules that are suppressed on {@code tree} as {@link #inactive}, and returns the ones
+   * that weren't already.
+   */
+  private BitSet suppress(Tree tree) {
+    BitSet newlySuppressed = new BitSet();
+    SuppressionInfo suppressions = RefasterSuppressionHelper.suppressions(tree, state);
+    if (suppressions == SuppressionInfo.EMPTY) {
+      return newlySuppressed;
+    }
+    for (int i = inactive.nextClearBit(0);
+        i < ruleSet.rules().size();
+        i = inactive.nextClearBit(i + 1)) {
+      if (RefasterSuppressionHelper.suppressed(ruleSet.rules().get(i), suppressions, state)) {
+        newlySuppressed.set(i);
+      }
+    }
+    inactive.or(newlySuppressed);
+    return newlySuppressed;
+  }
+
+  private boolean allInactive() {
+    return inactive.nextClearBit(0) >= ruleSet.rules().size();
   }
 
   private static final SimpleTreeVisitor<Tree, Void> SKIP_PARENS =
@@ -147,35 +255,31 @@ abstract class RefasterScanner<M extends TemplateMatch, T extends Template<M>>
    */
 
   @Override
-  public Void visitDoWhileLoop(DoWhileLoopTree node, Context context) {
-    scan(node.getStatement(), context);
-    scan(SKIP_PARENS.visit(node.getCondition(), null), context);
+  public Void visitDoWhileLoop(DoWhileLoopTree node, Void unused) {
+    scan(node.getStatement(), null);
+    scan(SKIP_PARENS.visit(node.getCondition(), null), null);
     return null;
   }
 
   @Override
-  public Void visitWhileLoop(WhileLoopTree node, Context context) {
-    scan(SKIP_PARENS.visit(node.getCondition(), null), context);
-    scan(node.getStatement(), context);
+  public Void visitWhileLoop(WhileLoopTree node, Void unused) {
+    scan(SKIP_PARENS.visit(node.getCondition(), null), null);
+    scan(node.getStatement(), null);
     return null;
   }
 
   @Override
-  public Void visitSynchronized(SynchronizedTree node, Context context) {
-    scan(SKIP_PARENS.visit(node.getExpression(), null), context);
-    scan(node.getBlock(), context);
+  public Void visitSynchronized(SynchronizedTree node, Void unused) {
+    scan(SKIP_PARENS.visit(node.getExpression(), null), null);
+    scan(node.getBlock(), null);
     return null;
   }
 
   @Override
-  public Void visitIf(IfTree node, Context context) {
-    scan(SKIP_PARENS.visit(node.getCondition(), null), context);
-    scan(node.getThenStatement(), context);
-    scan(node.getElseStatement(), context);
+  public Void visitIf(IfTree node, Void unused) {
+    scan(SKIP_PARENS.visit(node.getCondition(), null), null);
+    scan(node.getThenStatement(), null);
+    scan(node.getElseStatement(), null);
     return null;
   }
-
-  private boolean isSuppressed(Tree node, Context context) {
-    return RefasterSuppressionHelper.suppressed(rule(), node, context);
-  }
 }
@@ -23,7 +23,6 @@ import com.google.errorprone.matchers.Suppressible;
 import com.google.errorprone.util.ASTHelpers;
 import com.sun.source.tree.Tree;
 import com.sun.tools.javac.code.Symbol;
-import com.sun.tools.javac.util.Context;
 import com.sun.tools.javac.util.Name;
 import java.lang.annotation.Annotation;
 import java.util.Set;
@@ -32,21 +31,26 @@ import java.util.Set;
 final class RefasterSuppressionHelper {
 
   /**
-   * Returns true if the given rule is suppressed on the given tree.
+   * Returns the suppressions declared on the given tree, or {@link SuppressionInfo#EMPTY} if there
+   * are none.
    *
-   * <p>Unlike Error Prone, which scans the compilation unit once for all checks, refaster scans the
-   * compilation unit separately for each check. This simplifies suppression handling, since we can
-   * just stop recursively scanning as soon as a suppression is found for the current refaster rule.
+   * <p>Unlike Error Prone, refaster doesn't need to track the suppressions inherited from enclosing
+   * trees: the scanner just stops scanning a tree for a rule as soon as a suppression is found for
+   * it.
    */
-  static boolean suppressed(RefasterRule<?, ?> rule, Tree tree, Context context) {
-    VisitorState state = VisitorState.createForUtilityPurposes(context);
+  static SuppressionInfo suppressions(Tree tree, VisitorState state) {
     Symbol sym = ASTHelpers.getDeclaredSymbol(tree);
     if (sym == null) {
-      return false;
+      return SuppressionInfo.EMPTY;
     }
-    return SuppressionInfo.EMPTY
-        .withExtendedSuppressions(
-            sym, state, /* customSuppressionAnnosToLookFor= */ ImmutableSet.of())
+    return SuppressionInfo.EMPTY.withExtendedSuppressions(
+        sym, state, /* customSuppressionAnnosToLookFor= */ ImmutableSet.of());
+  }
+
+  /** Returns true if the given rule is suppressed by the given suppressions. */
+  static boolean suppressed(
+      RefasterRule<?, ?> rule, SuppressionInfo suppressions, VisitorState state) {
+    return suppressions
         .suppressedState(
             new RefasterSuppressible(rule), /* suppressedInGeneratedCode= */ false, state)
         .equals(SuppressionInfo.SuppressedState.SUPPRESSED);
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2026 The Error Prone Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.errorprone.refaster;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Sets;
+import com.google.errorprone.CodeTransformerArchive;
+import com.sun.source.tree.CompilationUnitTree;
+import com.sun.source.tree.IdentifierTree;
+import com.sun.source.tree.MemberSelectTree;
+import com.sun.source.tree.Tree;
+import com.sun.source.util.TreeScanner;
+import com.sun.tools.javac.util.Context;
+import java.util.HashSet;
+import java.util.Set;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Computes the identifiers that must appear in a compilation unit for a template to match it.
+ *
+ * <p>Only names that are unified with the name of an identifier or member select in the target are
+ * considered: the names of methods and fields selected from an expression or referred to through a
+ * static import. Class names are not, since they can be matched through the symbol of a tree that
+ * doesn't mention them, e.g. a statically imported method.
+ */
+final class RequiredIdentifiers {
+
+  /** Returns the identifiers that must appear in a compilation unit for the template to match. */
+  static ImmutableSet<String> of(Template<?> template) {
+    Set<String> result = new HashSet<>();
+    if (template instanceof ExpressionTemplate expressionTemplate) {
+      new Scanner(result).scan(expressionTemplate.expression(), null);
+    } else if (template instanceof BlockTemplate blockTemplate) {
+      new Scanner(result).scan(blockTemplate.templateStatements(), null);
+    }
+    return ImmutableSet.copyOf(result);
+  }
+
+  /**
+   * Returns the identifiers and member selections of the given compilation unit, which are shared
+   * with any other rules applied to it.
+   */
+  static ImmutableSet<String> in(CompilationUnitTree compilationUnit, Context context) {
+    return CodeTransformerArchive.identifiersIn(compilationUnit, context);
+  }
+
+  private static final class Scanner extends TreeScanner<Void, Void> {
+    private final Set<String> required;
+
+    Scanner(Set<String> required) {
+      this.required = required;
+    }
+
+    @Override
+    public Void scan(@Nullable Tree tree, Void unused) {
+      if (tree instanceof UAnyOf anyOf) {
+        // Only the identifiers required by every alternative are required.
+        Set<String> common = null;
+        for (UExpression expression : anyOf.expressions()) {
+          Set<String> alternative = new HashSet<>();
+          new Scanner(alternative).scan(expression, null);
+          common = common == null ? alternative : Sets.intersection(common, alternative);
+        }
+        if (common != null) {
+          required.addAll(common);
+        }
+        return null;
+      }
+      return super.scan(tree, null);
+    }
+
+    @Override
+    public Void visitIdentifier(IdentifierTree node, Void unused) {
+      if (node instanceof UStaticIdent || node instanceof UMethodIdent) {
+        addName(node.getName());
+      }
+      return null;
+    }
+
+    @Override
+    public Void visitMemberSelect(MemberSelectTree node, Void unused) {
+      if (node instanceof UMemberSelect) {
+        addName(node.getIdentifier());
+      }
+      return super.visitMemberSelect(node, null);
+    }
+
+    private void addName(CharSequence name) {
+      String contents = name.toString();
+      // Skip e.g. placeholder names and <init>, which don't appear in the source.
+      if (!contents.isEmpty() && Character.isJavaIdentifierStart(contents.charAt(0))) {
+        required.add(contents);
+      }
+    }
+  }
+
+  private RequiredIdentifiers() {}
+}
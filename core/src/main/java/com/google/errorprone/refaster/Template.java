@@ -192,47 +192,118 @@ public abstract class Template<M extends TemplateMatch> implements Serializable
     return List.from(result);
   }
 
+  /**
+   * Infers the instantiations of the template's free type variables from the expected and actual
+   * types, and binds them in {@code unifier}. Returns absent if there are none that satisfy the
+   * type variables' bounds.
+   *
+   * <p>Verdicts are {@linkplain TypecheckCache cached}, so a candidate with the same bound types as
+   * an earlier candidate in the same compilation unit reuses its result.
+   */
   protected Optional<Unifier> typecheck(
       Unifier unifier,
       Inliner inliner,
       Warner warner,
       List<Type> expectedTypes,
       List<Type> actualTypes) {
+    ImmutableList<UTypeVar> freeTypeVars = freeTypeVars(unifier);
+    TypecheckCache cache = TypecheckCache.instance(unifier.getContext());
+    TypecheckCache.Key key = typecheckKey(cache, unifier, inliner, expectedTypes, actualTypes);
+    Optional<ImmutableList<Type>> verdict = cache.get(key);
+    if (verdict == null) {
+      verdict = infer(cache, key, unifier, inliner, warner, freeTypeVars, expectedTypes, actualTypes);
+    }
+    if (!verdict.isPresent()) {
+      return Optional.absent();
+    }
+    for (int i = 0; i < freeTypeVars.size(); i++) {
+      unifier.putBinding(
+          freeTypeVars.get(i).key(), TypeWithExpression.create(verdict.get().get(i)));
+    }
+    return Optional.of(unifier);
+  }
+
+  /**
+   * Returns the key for type-checking a candidate with the given bindings. Given the template, the
+   * expected types are determined by which arguments and placeholders are bound, the types bound
+   * to its type variables, and whether the target's type was prepended.
+   */
+  private TypecheckCache.Key typecheckKey(
+      TypecheckCache cache,
+      Unifier unifier,
+      Inliner inliner,
+      List<Type> expectedTypes,
+      List<Type> actualTypes) {
+    ImmutableList.Builder<Object> shape = ImmutableList.builder();
+    shape.add(expectedTypes.size());
+    for (String argName : expressionArgumentTypes().keySet()) {
+      Optional<java.util.List<JCExpression>> exprs =
+          inliner.getOptionalBinding(new URepeated.Key(argName));
+      shape.add(
+          inliner.getOptionalBinding(new UFreeIdent.Key(argName)).isPresent()
+              || (exprs.isPresent() && !exprs.get().isEmpty()));
+    }
+    shape.addAll(
+        Ordering.natural()
+            .immutableSortedCopy(
+                Iterables.filter(inliner.bindings.keySet(), PlaceholderExpressionKey.class)));
+    java.util.List<@Nullable Type> types = new ArrayList<>();
+    for (UTypeVar var : typeVariables(unifier.getContext())) {
+      TypeWithExpression binding = unifier.getBinding(var.key());
+      types.add(binding == null ? null : binding.type());
+    }
+    types.addAll(actualTypes);
+    return cache.key(this, shape.build(), types);
+  }
+
+  /**
+   * Returns the instantiations of {@code freeTypeVars}, or absent if there are none, and records
+   * the result in {@code cache} if it can be reused.
+   */
+  private Optional<ImmutableList<Type>> infer(
+      TypecheckCache cache,
+      TypecheckCache.Key key,
+      Unifier unifier,
+      Inliner inliner,
+      Warner warner,
+      ImmutableList<UTypeVar> freeTypeVars,
+      List<Type> expectedTypes,
+      List<Type> actualTypes) {
+    Unifier checked = unifier.fork();
     try {
-      ImmutableList<UTypeVar> freeTypeVars = freeTypeVars(unifier);
+      List<Type> inferenceVars = inliner.<Type>inlineList(freeTypeVars);
       var unused =
           infer(
-              warner,
-              inliner,
-              inliner.<Type>inlineList(freeTypeVars),
-              expectedTypes,
-              inliner.symtab().voidType,
-              actualTypes);
+              warner, inliner, inferenceVars, expectedTypes, inliner.symtab().voidType, actualTypes);
 
+      ImmutableList.Builder<Type> instantiations = ImmutableList.builder();
       for (UTypeVar var : freeTypeVars) {
         Type instantiationForVar =
             infer(
-                warner,
-                inliner,
-                inliner.<Type>inlineList(freeTypeVars),
-                expectedTypes,
-                var.inline(inliner),
-                actualTypes);
-        unifier.putBinding(
+                warner, inliner, inferenceVars, expectedTypes, var.inline(inliner), actualTypes);
+        instantiations.add(instantiationForVar.getReturnType());
+        checked.putBinding(
             var.key(), TypeWithExpression.create(instantiationForVar.getReturnType()));
       }
 
-      if (!checkBounds(unifier, inliner, warner)) {
+      if (!checkBounds(checked, inliner, warner)) {
+        cache.put(key, Optional.absent());
         return Optional.absent();
       }
-      return Optional.of(unifier);
+      ImmutableList<Type> result = instantiations.build();
+      // The inference variables are specific to this inliner, so a result mentioning them can't
+      // be reused.
+      if (result.stream().noneMatch(type -> type.containsAny(inferenceVars))) {
+        cache.put(key, Optional.of(result));
+      }
+      return Optional.of(result);
     } catch (CouldNotResolveImportException e) {
       logger.log(FINE, "Failure to resolve an import", e);
-      return Optional.absent();
     } catch (InferException e) {
       logger.log(FINE, "No valid instantiation found: " + e.getMessage());
-      return Optional.absent();
     }
+    cache.put(key, Optional.absent());
+    return Optional.absent();
   }
 
   private boolean checkBounds(Unifier unifier, Inliner inliner, Warner warner)
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2026 The Error Prone Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.errorprone.refaster;
+
+import com.google.common.base.Optional;
+import com.google.common.collect.ImmutableList;
+import com.sun.tools.javac.code.Type;
+import com.sun.tools.javac.code.Types;
+import com.sun.tools.javac.util.Context;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Remembers the outcome of {@linkplain Template#typecheck type-checking} a template's candidate
+ * matches, so that a candidate with the same bound types as an earlier one doesn't repeat javac's
+ * inference.
+ *
+ * <p>An instance is scoped to the context a rule is applied with, i.e. to one rule and one
+ * compilation unit. Types are compared with {@link Types#isSameType}, so e.g. two occurrences of
+ * {@code List<String>} share an entry, but two captured wildcards never do.
+ */
+final class TypecheckCache {
+  private static final Context.Key<TypecheckCache> TYPECHECK_CACHE_KEY = new Context.Key<>();
+
+  static TypecheckCache instance(Context context) {
+    TypecheckCache instance = context.get(TYPECHECK_CACHE_KEY);
+    if (instance == null) {
+      instance = new TypecheckCache(context);
+    }
+    return instance;
+  }
+
+  private final Types types;
+
+  /**
+   * The instantiations of the template's free type variables for each key, or absent if the
+   * candidate didn't type-check.
+   */
+  private final Map<Key, Optional<ImmutableList<Type>>> verdicts = new HashMap<>();
+
+  private int hits;
+  private int misses;
+
+  private TypecheckCache(Context context) {
+    context.put(TYPECHECK_CACHE_KEY, this);
+    this.types = Types.instance(context);
+  }
+
+  /**
+   * Returns a key for type-checking a candidate match of {@code template}.
+   *
+   * @param shape everything other than types that determines the template's expected types, e.g.
+   *     which of its arguments and placeholders are bound
+   * @param types the types bound to the template's type variables, or null for free type
+   *     variables, followed by the actual types of the candidate
+   */
+  Key key(Template<?> template, ImmutableList<Object> shape, List<@Nullable Type> types) {
+    return new Key(template, shape, types);
+  }
+
+  /** Returns the recorded verdict for {@code key}, or null if there is none. */
+  @Nullable Optional<ImmutableList<Type>> get(Key key) {
+    Optional<ImmutableList<Type>> verdict = verdicts.get(key);
+    if (verdict == null) {
+      misses++;
+    } else {
+      hits++;
+    }
+    return verdict;
+  }
+
+  void put(Key key, Optional<ImmutableList<Type>> verdict) {
+    verdicts.put(key, verdict);
+  }
+
+  int hits() {
+    return hits;
+  }
+
+  int misses() {
+    return misses;
+  }
+
+  final class Key {
+    private final Template<?> template;
+    private final ImmutableList<Object> shape;
+    private final List<@Nullable Type> types;
+    private final int hashCode;
+
+    private Key(Template<?> template, ImmutableList<Object> shape, List<@Nullable Type> types) {
+      this.template = template;
+      this.shape = shape;
+      this.types = types;
+      int hash = System.identityHashCode(template) * 31 + shape.hashCode();
+      for (Type type : types) {
+        // Consistent with isSameType, at the cost of collisions between e.g. List<A> and List<B>.
+        hash = hash * 31 + (type == null ? 0 : System.identityHashCode(type.tsym));
+      }
+      this.hashCode = hash;
+    }
+
+    @Override
+    public boolean equals(@Nullable Object obj) {
+      if (!(obj instanceof Key other)
+          || template != other.template
+          || hashCode != other.hashCode
+          || !shape.equals(other.shape)
+          || types.size() != other.types.size()) {
+        return false;
+      }
+      for (int i = 0; i < types.size(); i++) {
+        Type a = types.get(i);
+        Type b = other.types.get(i);
+        if (a == b) {
+          continue;
+        }
+        if (a == null || b == null || !TypecheckCache.this.types.isSameType(a, b)) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+  }
+}
@@ -19,7 +19,6 @@ import static com.google.common.base.Preconditions.checkNotNull;
 
 import com.google.common.base.Function;
 import com.google.common.base.Optional;
-import com.google.errorprone.SubContext;
 import com.google.errorprone.annotations.CanIgnoreReturnValue;
 import com.sun.tools.javac.code.Type;
 import com.sun.tools.javac.code.Types;
@@ -35,21 +34,44 @@ import org.jspecify.annotations.Nullable;
  * A mutable representation of an attempt to match a template source tree against a target source
  * tree.
  *
+ * <p>Bindings are recorded on a trail: an immutable linked list of the bindings made so far, most
+ * recent first. {@link #fork} is constant-time, since the fork shares the trail with this {@code
+ * Unifier}, and backing out of a failed branch just discards the bindings it pushed.
+ *
  * @author Louis Wasserman
  */
 public final class Unifier {
-  private final Bindings bindings;
+  /** A binding, or the removal of a binding if {@code value} is null, and the bindings before it. */
+  private static final class Trail {
+    final Bindings.Key<?> key;
+    final @Nullable Object value;
+    final @Nullable Trail previous;
+    final int length;
+
+    Trail(Bindings.Key<?> key, @Nullable Object value, @Nullable Trail previous) {
+      this.key = key;
+      this.value = value;
+      this.previous = previous;
+      this.length = previous == null ? 1 : previous.length + 1;
+    }
+  }
 
   private final Context context;
 
+  private @Nullable Trail trail;
+
+  /** The bindings on {@link #trail} as a map, if they have been computed. */
+  private @Nullable Bindings bindings;
+
+  private @Nullable Trail bindingsTrail;
+
   public Unifier(Context context) {
-    this.bindings = Bindings.create();
-    this.context = checkNotNull(context);
+    this(checkNotNull(context), null);
   }
 
-  private Unifier(Context context, Bindings bindings) {
-    this.context = new SubContext(context);
-    this.bindings = Bindings.create(bindings);
+  private Unifier(Context context, @Nullable Trail trail) {
+    this.context = context;
+    this.trail = trail;
   }
 
   /**
@@ -57,7 +79,10 @@ public final class Unifier {
    * succeed or fail independently of this {@code Unifier}.
    */
   public Unifier fork() {
-    return new Unifier(context, bindings);
+    Unifier fork = new Unifier(context, trail);
+    fork.bindings = bindings;
+    fork.bindingsTrail = bindingsTrail;
+    return fork;
   }
 
   public Types types() {
@@ -69,30 +94,71 @@ public final class Unifier {
   }
 
   public Inliner createInliner() {
-    return new Inliner(context, bindings);
+    return new Inliner(context, bindings());
   }
 
+  @SuppressWarnings("unchecked")
   public <V> @Nullable V getBinding(Bindings.Key<V> key) {
-    return bindings.getBinding(key);
+    checkNotNull(key);
+    for (Trail t = trail; t != null; t = t.previous) {
+      if (t.key == key || t.key.equals(key)) {
+        return (V) t.value;
+      }
+    }
+    return null;
   }
 
   @CanIgnoreReturnValue
-  public <V> V putBinding(Bindings.Key<V> key, V value) {
-    checkArgument(!bindings.containsKey(key), "Cannot bind %s more than once", key);
-    return bindings.putBinding(key, value);
+  public <V> @Nullable V putBinding(Bindings.Key<V> key, V value) {
+    checkArgument(getBinding(key) == null, "Cannot bind %s more than once", key);
+    trail = new Trail(key, checkNotNull(value), trail);
+    return null;
   }
 
   public <V> V replaceBinding(Bindings.Key<V> key, V value) {
-    checkArgument(bindings.containsKey(key), "Binding for %s does not exist", key);
-    return bindings.putBinding(key, value);
+    V previous = getBinding(key);
+    checkArgument(previous != null, "Binding for %s does not exist", key);
+    trail = new Trail(key, checkNotNull(value), trail);
+    return previous;
   }
 
   public void clearBinding(Bindings.Key<?> key) {
-    bindings.remove(key);
+    if (getBinding(key) != null) {
+      trail = new Trail(key, null, trail);
+    }
   }
 
   public Bindings getBindings() {
-    return bindings.unmodifiable();
+    return bindings().unmodifiable();
+  }
+
+  /** Replays the trail into a map, reusing the last result if nothing was bound since. */
+  private Bindings bindings() {
+    if (bindings == null || bindingsTrail != trail) {
+      Bindings result = Bindings.create();
+      if (trail != null) {
+        Trail[] entries = new Trail[trail.length];
+        int i = entries.length;
+        for (Trail t = trail; t != null; t = t.previous) {
+          entries[--i] = t;
+        }
+        for (Trail entry : entries) {
+          if (entry.value == null) {
+            result.remove(entry.key);
+          } else {
+            bind(result, entry.key, entry.value);
+          }
+        }
+      }
+      bindings = result;
+      bindingsTrail = trail;
+    }
+    return bindings;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <V> void bind(Bindings bindings, Bindings.Key<V> key, Object value) {
+    bindings.putBinding(key, (V) value);
   }
 
   public Context getContext() {
@@ -101,7 +167,7 @@ public final class Unifier {
 
   @Override
   public String toString() {
-    return "Unifier{" + bindings + "}";
+    return "Unifier{" + bindings() + "}";
   }
 
   public static <T, U extends Unifiable<? super T>> Function<Unifier, Choice<Unifier>> unifications(
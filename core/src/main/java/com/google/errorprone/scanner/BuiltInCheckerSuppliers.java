@@ -21,605 +21,7 @@ import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Streams;
 import com.google.errorprone.BugCheckerInfo;
-import com.google.errorprone.bugpatterns.ASTHelpersSuggestions;
-import com.google.errorprone.bugpatterns.AddressSelection;
-import com.google.errorprone.bugpatterns.AlreadyChecked;
-import com.google.errorprone.bugpatterns.AlwaysThrows;
-import com.google.errorprone.bugpatterns.AmbiguousMethodReference;
-import com.google.errorprone.bugpatterns.AnnotateFormatMethod;
-import com.google.errorprone.bugpatterns.AnnotationMirrorToString;
-import com.google.errorprone.bugpatterns.AnnotationPosition;
-import com.google.errorprone.bugpatterns.AnnotationValueToString;
-import com.google.errorprone.bugpatterns.ArrayAsKeyOfSetOrMap;
-import com.google.errorprone.bugpatterns.ArrayEquals;
-import com.google.errorprone.bugpatterns.ArrayFillIncompatibleType;
-import com.google.errorprone.bugpatterns.ArrayHashCode;
-import com.google.errorprone.bugpatterns.ArrayRecordComponent;
-import com.google.errorprone.bugpatterns.ArrayToString;
-import com.google.errorprone.bugpatterns.ArraysAsListPrimitiveArray;
-import com.google.errorprone.bugpatterns.AssertFalse;
-import com.google.errorprone.bugpatterns.AssertThrowsMultipleStatements;
-import com.google.errorprone.bugpatterns.AssertionFailureIgnored;
-import com.google.errorprone.bugpatterns.AsyncCallableReturnsNull;
-import com.google.errorprone.bugpatterns.AsyncFunctionReturnsNull;
-import com.google.errorprone.bugpatterns.AttemptedNegativeZero;
-import com.google.errorprone.bugpatterns.AutoValueBoxedValues;
-import com.google.errorprone.bugpatterns.AutoValueBuilderDefaultsInConstructor;
-import com.google.errorprone.bugpatterns.AutoValueFinalMethods;
-import com.google.errorprone.bugpatterns.AutoValueImmutableFields;
-import com.google.errorprone.bugpatterns.AutoValueSubclassLeaked;
-import com.google.errorprone.bugpatterns.AvoidObjectArrays;
-import com.google.errorprone.bugpatterns.BadAnnotationImplementation;
-import com.google.errorprone.bugpatterns.BadComparable;
-import com.google.errorprone.bugpatterns.BadImport;
-import com.google.errorprone.bugpatterns.BadInstanceof;
-import com.google.errorprone.bugpatterns.BadShiftAmount;
-import com.google.errorprone.bugpatterns.BanClassLoader;
-import com.google.errorprone.bugpatterns.BanJNDI;
-import com.google.errorprone.bugpatterns.BanSerializableRead;
-import com.google.errorprone.bugpatterns.BareDotMetacharacter;
-import com.google.errorprone.bugpatterns.BigDecimalEquals;
-import com.google.errorprone.bugpatterns.BigDecimalLiteralDouble;
-import com.google.errorprone.bugpatterns.BooleanParameter;
-import com.google.errorprone.bugpatterns.BoxedPrimitiveConstructor;
-import com.google.errorprone.bugpatterns.BoxedPrimitiveEquality;
 import com.google.errorprone.bugpatterns.BugChecker;
-import com.google.errorprone.bugpatterns.BugPatternNaming;
-import com.google.errorprone.bugpatterns.ByteBufferBackingArray;
-import com.google.errorprone.bugpatterns.CacheLoaderNull;
-import com.google.errorprone.bugpatterns.CannotMockFinalClass;
-import com.google.errorprone.bugpatterns.CannotMockMethod;
-import com.google.errorprone.bugpatterns.CanonicalDuration;
-import com.google.errorprone.bugpatterns.CatchAndPrintStackTrace;
-import com.google.errorprone.bugpatterns.CatchFail;
-import com.google.errorprone.bugpatterns.CatchingUnchecked;
-import com.google.errorprone.bugpatterns.ChainedAssertionLosesContext;
-import com.google.errorprone.bugpatterns.ChainingConstructorIgnoresParameter;
-import com.google.errorprone.bugpatterns.CharacterGetNumericValue;
-import com.google.errorprone.bugpatterns.CheckNotNullMultipleTimes;
-import com.google.errorprone.bugpatterns.CheckReturnValue;
-import com.google.errorprone.bugpatterns.CheckedExceptionNotThrown;
-import com.google.errorprone.bugpatterns.ClassCanBeStatic;
-import com.google.errorprone.bugpatterns.ClassInitializationDeadlock;
-import com.google.errorprone.bugpatterns.ClassName;
-import com.google.errorprone.bugpatterns.ClassNamedLikeTypeParameter;
-import com.google.errorprone.bugpatterns.ClassNewInstance;
-import com.google.errorprone.bugpatterns.ClosingStandardOutputStreams;
-import com.google.errorprone.bugpatterns.CollectionToArraySafeParameter;
-import com.google.errorprone.bugpatterns.CollectorShouldNotUseState;
-import com.google.errorprone.bugpatterns.ComparableAndComparator;
-import com.google.errorprone.bugpatterns.ComparableType;
-import com.google.errorprone.bugpatterns.CompareToZero;
-import com.google.errorprone.bugpatterns.ComparingThisWithNull;
-import com.google.errorprone.bugpatterns.ComparisonContractViolated;
-import com.google.errorprone.bugpatterns.ComparisonOutOfRange;
-import com.google.errorprone.bugpatterns.CompileTimeConstantChecker;
-import com.google.errorprone.bugpatterns.ComplexBooleanConstant;
-import com.google.errorprone.bugpatterns.ComputeIfAbsentAmbiguousReference;
-import com.google.errorprone.bugpatterns.ConditionalExpressionNumericPromotion;
-import com.google.errorprone.bugpatterns.ConstantField;
-import com.google.errorprone.bugpatterns.ConstantOverflow;
-import com.google.errorprone.bugpatterns.ConstantPatternCompile;
-import com.google.errorprone.bugpatterns.DangerousLiteralNullChecker;
-import com.google.errorprone.bugpatterns.DateFormatConstant;
-import com.google.errorprone.bugpatterns.DeadException;
-import com.google.errorprone.bugpatterns.DeadThread;
-import com.google.errorprone.bugpatterns.DeduplicateConstants;
-import com.google.errorprone.bugpatterns.DeeplyNested;
-import com.google.errorprone.bugpatterns.DefaultCharset;
-import com.google.errorprone.bugpatterns.DefaultLocale;
-import com.google.errorprone.bugpatterns.DefaultPackage;
-import com.google.errorprone.bugpatterns.DepAnn;
-import com.google.errorprone.bugpatterns.DeprecatedVariable;
-import com.google.errorprone.bugpatterns.DifferentNameButSame;
-import com.google.errorprone.bugpatterns.DirectInvocationOnMock;
-import com.google.errorprone.bugpatterns.DiscardedPostfixExpression;
-import com.google.errorprone.bugpatterns.DistinctVarargsChecker;
-import com.google.errorprone.bugpatterns.DoNotCallChecker;
-import com.google.errorprone.bugpatterns.DoNotCallSuggester;
-import com.google.errorprone.bugpatterns.DoNotClaimAnnotations;
-import com.google.errorprone.bugpatterns.DoNotMockAutoValue;
-import com.google.errorprone.bugpatterns.DoNotMockChecker;
-import com.google.errorprone.bugpatterns.DoubleBraceInitialization;
-import com.google.errorprone.bugpatterns.DuplicateBranches;
-import com.google.errorprone.bugpatterns.DuplicateDateFormatField;
-import com.google.errorprone.bugpatterns.DuplicateMapKeys;
-import com.google.errorprone.bugpatterns.EmptyCatch;
-import com.google.errorprone.bugpatterns.EmptyIfStatement;
-import com.google.errorprone.bugpatterns.EmptyTopLevelDeclaration;
-import com.google.errorprone.bugpatterns.EnumOrdinal;
-import com.google.errorprone.bugpatterns.EqualsGetClass;
-import com.google.errorprone.bugpatterns.EqualsHashCode;
-import com.google.errorprone.bugpatterns.EqualsIncompatibleType;
-import com.google.errorprone.bugpatterns.EqualsNaN;
-import com.google.errorprone.bugpatterns.EqualsNull;
-import com.google.errorprone.bugpatterns.EqualsReference;
-import com.google.errorprone.bugpatterns.EqualsUnsafeCast;
-import com.google.errorprone.bugpatterns.EqualsUsingHashCode;
-import com.google.errorprone.bugpatterns.EqualsWrongThing;
-import com.google.errorprone.bugpatterns.ErroneousBitwiseExpression;
-import com.google.errorprone.bugpatterns.ErroneousThreadPoolConstructorChecker;
-import com.google.errorprone.bugpatterns.ExpectedExceptionChecker;
-import com.google.errorprone.bugpatterns.ExtendingJUnitAssert;
-import com.google.errorprone.bugpatterns.ExtendsAutoValue;
-import com.google.errorprone.bugpatterns.FallThrough;
-import com.google.errorprone.bugpatterns.FieldCanBeFinal;
-import com.google.errorprone.bugpatterns.FieldCanBeLocal;
-import com.google.errorprone.bugpatterns.FieldCanBeStatic;
-import com.google.errorprone.bugpatterns.Finalize;
-import com.google.errorprone.bugpatterns.Finally;
-import com.google.errorprone.bugpatterns.FloatCast;
-import com.google.errorprone.bugpatterns.FloatingPointAssertionWithinEpsilon;
-import com.google.errorprone.bugpatterns.FloatingPointLiteralPrecision;
-import com.google.errorprone.bugpatterns.ForEachIterable;
-import com.google.errorprone.bugpatterns.ForOverrideChecker;
-import com.google.errorprone.bugpatterns.FunctionalInterfaceClash;
-import com.google.errorprone.bugpatterns.FunctionalInterfaceMethodChanged;
-import com.google.errorprone.bugpatterns.FutureReturnValueIgnored;
-import com.google.errorprone.bugpatterns.FutureTransformAsync;
-import com.google.errorprone.bugpatterns.FuturesGetCheckedIllegalExceptionType;
-import com.google.errorprone.bugpatterns.FuzzyEqualsShouldNotBeUsedInEqualsMethod;
-import com.google.errorprone.bugpatterns.GetClassOnAnnotation;
-import com.google.errorprone.bugpatterns.GetClassOnClass;
-import com.google.errorprone.bugpatterns.GetClassOnEnum;
-import com.google.errorprone.bugpatterns.GuiceNestedCombine;
-import com.google.errorprone.bugpatterns.HashtableContains;
-import com.google.errorprone.bugpatterns.HidingField;
-import com.google.errorprone.bugpatterns.ICCProfileGetInstance;
-import com.google.errorprone.bugpatterns.IdentifierName;
-import com.google.errorprone.bugpatterns.IdentityBinaryExpression;
-import com.google.errorprone.bugpatterns.IdentityHashMapBoxing;
-import com.google.errorprone.bugpatterns.IdentityHashMapUsage;
-import com.google.errorprone.bugpatterns.IgnoredPureGetter;
-import com.google.errorprone.bugpatterns.ImmutableMemberCollection;
-import com.google.errorprone.bugpatterns.ImmutableSetForContains;
-import com.google.errorprone.bugpatterns.ImplementAssertionWithChaining;
-import com.google.errorprone.bugpatterns.ImpossibleNullComparison;
-import com.google.errorprone.bugpatterns.Incomparable;
-import com.google.errorprone.bugpatterns.IncompatibleModifiersChecker;
-import com.google.errorprone.bugpatterns.InconsistentCapitalization;
-import com.google.errorprone.bugpatterns.InconsistentHashCode;
-import com.google.errorprone.bugpatterns.IncorrectMainMethod;
-import com.google.errorprone.bugpatterns.IncrementInForLoopAndHeader;
-import com.google.errorprone.bugpatterns.IndexOfChar;
-import com.google.errorprone.bugpatterns.InexactVarargsConditional;
-import com.google.errorprone.bugpatterns.InfiniteRecursion;
-import com.google.errorprone.bugpatterns.InitializeInline;
-import com.google.errorprone.bugpatterns.InjectOnBugCheckers;
-import com.google.errorprone.bugpatterns.InlineTrivialConstant;
-import com.google.errorprone.bugpatterns.InputStreamSlowMultibyteRead;
-import com.google.errorprone.bugpatterns.InsecureCipherMode;
-import com.google.errorprone.bugpatterns.InstanceOfAndCastMatchWrongType;
-import com.google.errorprone.bugpatterns.IntLongMath;
-import com.google.errorprone.bugpatterns.InterfaceWithOnlyStatics;
-import com.google.errorprone.bugpatterns.InterruptedExceptionSwallowed;
-import com.google.errorprone.bugpatterns.Interruption;
-import com.google.errorprone.bugpatterns.InvalidPatternSyntax;
-import com.google.errorprone.bugpatterns.InvalidTimeZoneID;
-import com.google.errorprone.bugpatterns.InvalidZoneId;
-import com.google.errorprone.bugpatterns.IsInstanceIncompatibleType;
-import com.google.errorprone.bugpatterns.IsInstanceOfClass;
-import com.google.errorprone.bugpatterns.IterableAndIterator;
-import com.google.errorprone.bugpatterns.IterablePathParameter;
-import com.google.errorprone.bugpatterns.JUnit3FloatingPointComparisonWithoutDelta;
-import com.google.errorprone.bugpatterns.JUnit3TestNotRun;
-import com.google.errorprone.bugpatterns.JUnit4ClassAnnotationNonStatic;
-import com.google.errorprone.bugpatterns.JUnit4ClassUsedInJUnit3;
-import com.google.errorprone.bugpatterns.JUnit4EmptyMethods;
-import com.google.errorprone.bugpatterns.JUnit4SetUpNotRun;
-import com.google.errorprone.bugpatterns.JUnit4TearDownNotRun;
-import com.google.errorprone.bugpatterns.JUnit4TestNotRun;
-import com.google.errorprone.bugpatterns.JUnit4TestsNotRunWithinEnclosed;
-import com.google.errorprone.bugpatterns.JUnitAmbiguousTestClass;
-import com.google.errorprone.bugpatterns.JUnitAssertSameCheck;
-import com.google.errorprone.bugpatterns.JUnitParameterMethodNotFound;
-import com.google.errorprone.bugpatterns.JavaLangClash;
-import com.google.errorprone.bugpatterns.JavaUtilDateChecker;
-import com.google.errorprone.bugpatterns.JdkObsolete;
-import com.google.errorprone.bugpatterns.LabelledBreakTarget;
-import com.google.errorprone.bugpatterns.LambdaFunctionalInterface;
-import com.google.errorprone.bugpatterns.LenientFormatStringValidation;
-import com.google.errorprone.bugpatterns.LiteByteStringUtf8;
-import com.google.errorprone.bugpatterns.LiteEnumValueOf;
-import com.google.errorprone.bugpatterns.LiteProtoToString;
-import com.google.errorprone.bugpatterns.LockNotBeforeTry;
-import com.google.errorprone.bugpatterns.LockOnBoxedPrimitive;
-import com.google.errorprone.bugpatterns.LockOnNonEnclosingClassLiteral;
-import com.google.errorprone.bugpatterns.LogicalAssignment;
-import com.google.errorprone.bugpatterns.LongDoubleConversion;
-import com.google.errorprone.bugpatterns.LongFloatConversion;
-import com.google.errorprone.bugpatterns.LongLiteralLowerCaseSuffix;
-import com.google.errorprone.bugpatterns.LoopConditionChecker;
-import com.google.errorprone.bugpatterns.LoopOverCharArray;
-import com.google.errorprone.bugpatterns.LossyPrimitiveCompare;
-import com.google.errorprone.bugpatterns.MathAbsoluteNegative;
-import com.google.errorprone.bugpatterns.MathRoundIntLong;
-import com.google.errorprone.bugpatterns.MemoizeConstantVisitorStateLookups;
-import com.google.errorprone.bugpatterns.MethodCanBeStatic;
-import com.google.errorprone.bugpatterns.MisformattedTestData;
-import com.google.errorprone.bugpatterns.MisleadingEscapedSpace;
-import com.google.errorprone.bugpatterns.MissingBraces;
-import com.google.errorprone.bugpatterns.MissingCasesInEnumSwitch;
-import com.google.errorprone.bugpatterns.MissingDefault;
-import com.google.errorprone.bugpatterns.MissingFail;
-import com.google.errorprone.bugpatterns.MissingImplementsComparable;
-import com.google.errorprone.bugpatterns.MissingOverride;
-import com.google.errorprone.bugpatterns.MissingRefasterAnnotation;
-import com.google.errorprone.bugpatterns.MissingSuperCall;
-import com.google.errorprone.bugpatterns.MissingTestCall;
-import com.google.errorprone.bugpatterns.MisusedDayOfYear;
-import com.google.errorprone.bugpatterns.MisusedWeekYear;
-import com.google.errorprone.bugpatterns.MixedArrayDimensions;
-import com.google.errorprone.bugpatterns.MixedDescriptors;
-import com.google.errorprone.bugpatterns.MixedMutabilityReturnType;
-import com.google.errorprone.bugpatterns.MockNotUsedInProduction;
-import com.google.errorprone.bugpatterns.MockitoDoSetup;
-import com.google.errorprone.bugpatterns.MockitoUsage;
-import com.google.errorprone.bugpatterns.ModifiedButNotUsed;
-import com.google.errorprone.bugpatterns.ModifyCollectionInEnhancedForLoop;
-import com.google.errorprone.bugpatterns.ModifySourceCollectionInStream;
-import com.google.errorprone.bugpatterns.ModifyingCollectionWithItself;
-import com.google.errorprone.bugpatterns.MultiVariableDeclaration;
-import com.google.errorprone.bugpatterns.MultimapKeys;
-import com.google.errorprone.bugpatterns.MultipleParallelOrSequentialCalls;
-import com.google.errorprone.bugpatterns.MultipleTopLevelClasses;
-import com.google.errorprone.bugpatterns.MultipleUnaryOperatorsInMethodCall;
-import com.google.errorprone.bugpatterns.MustBeClosedChecker;
-import com.google.errorprone.bugpatterns.MutableGuiceModule;
-import com.google.errorprone.bugpatterns.MutablePublicArray;
-import com.google.errorprone.bugpatterns.NCopiesOfChar;
-import com.google.errorprone.bugpatterns.NamedLikeContextualKeyword;
-import com.google.errorprone.bugpatterns.NarrowCalculation;
-import com.google.errorprone.bugpatterns.NarrowingCompoundAssignment;
-import com.google.errorprone.bugpatterns.NegativeBoolean;
-import com.google.errorprone.bugpatterns.NegativeCharLiteral;
-import com.google.errorprone.bugpatterns.NestedInstanceOfConditions;
-import com.google.errorprone.bugpatterns.NewFileSystem;
-import com.google.errorprone.bugpatterns.NoAllocationChecker;
-import com.google.errorprone.bugpatterns.NonApiType;
-import com.google.errorprone.bugpatterns.NonAtomicVolatileUpdate;
-import com.google.errorprone.bugpatterns.NonCanonicalStaticImport;
-import com.google.errorprone.bugpatterns.NonCanonicalStaticMemberImport;
-import com.google.errorprone.bugpatterns.NonCanonicalType;
-import com.google.errorprone.bugpatterns.NonFinalCompileTimeConstant;
-import com.google.errorprone.bugpatterns.NonFinalStaticField;
-import com.google.errorprone.bugpatterns.NonOverridingEquals;
-import com.google.errorprone.bugpatterns.NonRuntimeAnnotation;
-import com.google.errorprone.bugpatterns.NullOptional;
-import com.google.errorprone.bugpatterns.NullTernary;
-import com.google.errorprone.bugpatterns.NullableConstructor;
-import com.google.errorprone.bugpatterns.NullableOnContainingClass;
-import com.google.errorprone.bugpatterns.NullableOptional;
-import com.google.errorprone.bugpatterns.NullableVoid;
-import com.google.errorprone.bugpatterns.ObjectEqualsForPrimitives;
-import com.google.errorprone.bugpatterns.ObjectToString;
-import com.google.errorprone.bugpatterns.ObjectsHashCodePrimitive;
-import com.google.errorprone.bugpatterns.OperatorPrecedence;
-import com.google.errorprone.bugpatterns.OptionalEquality;
-import com.google.errorprone.bugpatterns.OptionalMapToOptional;
-import com.google.errorprone.bugpatterns.OptionalMapUnusedValue;
-import com.google.errorprone.bugpatterns.OptionalNotPresent;
-import com.google.errorprone.bugpatterns.OptionalOfRedundantMethod;
-import com.google.errorprone.bugpatterns.OrphanedFormatString;
-import com.google.errorprone.bugpatterns.OutlineNone;
-import com.google.errorprone.bugpatterns.OverrideThrowableToString;
-import com.google.errorprone.bugpatterns.Overrides;
-import com.google.errorprone.bugpatterns.OverridingMethodInconsistentArgumentNamesChecker;
-import com.google.errorprone.bugpatterns.PackageInfo;
-import com.google.errorprone.bugpatterns.PackageLocation;
-import com.google.errorprone.bugpatterns.ParameterComment;
-import com.google.errorprone.bugpatterns.ParameterName;
-import com.google.errorprone.bugpatterns.ParametersButNotParameterized;
-import com.google.errorprone.bugpatterns.PatternMatchingInstanceof;
-import com.google.errorprone.bugpatterns.PreconditionsCheckNotNullRepeated;
-import com.google.errorprone.bugpatterns.PreconditionsInvalidPlaceholder;
-import com.google.errorprone.bugpatterns.PreferredInterfaceType;
-import com.google.errorprone.bugpatterns.PrimitiveArrayPassedToVarargsMethod;
-import com.google.errorprone.bugpatterns.PrimitiveAtomicReference;
-import com.google.errorprone.bugpatterns.PrivateConstructorForUtilityClass;
-import com.google.errorprone.bugpatterns.PrivateSecurityContractProtoAccess;
-import com.google.errorprone.bugpatterns.ProtectedMembersInFinalClass;
-import com.google.errorprone.bugpatterns.ProtoBuilderReturnValueIgnored;
-import com.google.errorprone.bugpatterns.ProtoStringFieldReferenceEquality;
-import com.google.errorprone.bugpatterns.ProtoTruthMixedDescriptors;
-import com.google.errorprone.bugpatterns.ProtocolBufferOrdinal;
-import com.google.errorprone.bugpatterns.PublicApiNamedStreamShouldReturnStream;
-import com.google.errorprone.bugpatterns.RandomCast;
-import com.google.errorprone.bugpatterns.RandomModInteger;
-import com.google.errorprone.bugpatterns.ReachabilityFenceUsage;
-import com.google.errorprone.bugpatterns.RedundantControlFlow;
-import com.google.errorprone.bugpatterns.RedundantOverride;
-import com.google.errorprone.bugpatterns.RedundantSetterCall;
-import com.google.errorprone.bugpatterns.RedundantThrows;
-import com.google.errorprone.bugpatterns.ReferenceEquality;
-import com.google.errorprone.bugpatterns.RemoveUnusedImports;
-import com.google.errorprone.bugpatterns.RequiredModifiersChecker;
-import com.google.errorprone.bugpatterns.RestrictedApiChecker;
-import com.google.errorprone.bugpatterns.RethrowReflectiveOperationExceptionAsLinkageError;
-import com.google.errorprone.bugpatterns.ReturnAtTheEndOfVoidFunction;
-import com.google.errorprone.bugpatterns.ReturnValueIgnored;
-import com.google.errorprone.bugpatterns.ReturnsNullCollection;
-import com.google.errorprone.bugpatterns.RobolectricShadowDirectlyOn;
-import com.google.errorprone.bugpatterns.RxReturnValueIgnored;
-import com.google.errorprone.bugpatterns.SameNameButDifferent;
-import com.google.errorprone.bugpatterns.SelfAlwaysReturnsThis;
-import com.google.errorprone.bugpatterns.SelfAssertion;
-import com.google.errorprone.bugpatterns.SelfAssignment;
-import com.google.errorprone.bugpatterns.SelfComparison;
-import com.google.errorprone.bugpatterns.SelfEquals;
-import com.google.errorprone.bugpatterns.SetUnrecognized;
-import com.google.errorprone.bugpatterns.ShortCircuitBoolean;
-import com.google.errorprone.bugpatterns.ShouldHaveEvenArgs;
-import com.google.errorprone.bugpatterns.SizeGreaterThanOrEqualsZero;
-import com.google.errorprone.bugpatterns.StatementSwitchToExpressionSwitch;
-import com.google.errorprone.bugpatterns.StaticAssignmentInConstructor;
-import com.google.errorprone.bugpatterns.StaticAssignmentOfThrowable;
-import com.google.errorprone.bugpatterns.StaticMockMember;
-import com.google.errorprone.bugpatterns.StaticQualifiedUsingExpression;
-import com.google.errorprone.bugpatterns.StreamResourceLeak;
-import com.google.errorprone.bugpatterns.StreamToIterable;
-import com.google.errorprone.bugpatterns.StreamToString;
-import com.google.errorprone.bugpatterns.StringBuilderInitWithChar;
-import com.google.errorprone.bugpatterns.StringCaseLocaleUsage;
-import com.google.errorprone.bugpatterns.StringCharset;
-import com.google.errorprone.bugpatterns.StringConcatToTextBlock;
-import com.google.errorprone.bugpatterns.StringFormatWithLiteral;
-import com.google.errorprone.bugpatterns.StringSplitter;
-import com.google.errorprone.bugpatterns.StronglyTypeByteString;
-import com.google.errorprone.bugpatterns.SubstringOfZero;
-import com.google.errorprone.bugpatterns.SunApi;
-import com.google.errorprone.bugpatterns.SuperCallToObjectMethod;
-import com.google.errorprone.bugpatterns.SuppressWarningsDeprecated;
-import com.google.errorprone.bugpatterns.SuppressWarningsWithoutExplanation;
-import com.google.errorprone.bugpatterns.SwigMemoryLeak;
-import com.google.errorprone.bugpatterns.SwitchDefault;
-import com.google.errorprone.bugpatterns.SymbolToString;
-import com.google.errorprone.bugpatterns.SystemConsoleNull;
-import com.google.errorprone.bugpatterns.SystemExitOutsideMain;
-import com.google.errorprone.bugpatterns.SystemOut;
-import com.google.errorprone.bugpatterns.TestExceptionChecker;
-import com.google.errorprone.bugpatterns.TestParametersNotInitialized;
-import com.google.errorprone.bugpatterns.TheoryButNoTheories;
-import com.google.errorprone.bugpatterns.ThreadJoinLoop;
-import com.google.errorprone.bugpatterns.ThreadLocalUsage;
-import com.google.errorprone.bugpatterns.ThreeLetterTimeZoneID;
-import com.google.errorprone.bugpatterns.ThrowIfUncheckedKnownChecked;
-import com.google.errorprone.bugpatterns.ThrowIfUncheckedKnownUnchecked;
-import com.google.errorprone.bugpatterns.ThrowNull;
-import com.google.errorprone.bugpatterns.ThrowSpecificExceptions;
-import com.google.errorprone.bugpatterns.ThrowsUncheckedException;
-import com.google.errorprone.bugpatterns.ToStringReturnsNull;
-import com.google.errorprone.bugpatterns.TooManyParameters;
-import com.google.errorprone.bugpatterns.TraditionalSwitchExpression;
-import com.google.errorprone.bugpatterns.TransientMisuse;
-import com.google.errorprone.bugpatterns.TreeToString;
-import com.google.errorprone.bugpatterns.TruthAssertExpected;
-import com.google.errorprone.bugpatterns.TruthConstantAsserts;
-import com.google.errorprone.bugpatterns.TruthContainsExactlyElementsInUsage;
-import com.google.errorprone.bugpatterns.TruthGetOrDefault;
-import com.google.errorprone.bugpatterns.TryFailRefactoring;
-import com.google.errorprone.bugpatterns.TryFailThrowable;
-import com.google.errorprone.bugpatterns.TryWithResourcesVariable;
-import com.google.errorprone.bugpatterns.TypeEqualsChecker;
-import com.google.errorprone.bugpatterns.TypeNameShadowing;
-import com.google.errorprone.bugpatterns.TypeParameterNaming;
-import com.google.errorprone.bugpatterns.TypeParameterQualifier;
-import com.google.errorprone.bugpatterns.TypeParameterShadowing;
-import com.google.errorprone.bugpatterns.TypeParameterUnusedInFormals;
-import com.google.errorprone.bugpatterns.TypeToString;
-import com.google.errorprone.bugpatterns.URLEqualsHashCode;
-import com.google.errorprone.bugpatterns.UndefinedEquals;
-import com.google.errorprone.bugpatterns.UngroupedOverloads;
-import com.google.errorprone.bugpatterns.UnicodeDirectionalityCharacters;
-import com.google.errorprone.bugpatterns.UnicodeEscape;
-import com.google.errorprone.bugpatterns.UnicodeInCode;
-import com.google.errorprone.bugpatterns.UnnecessarilyFullyQualified;
-import com.google.errorprone.bugpatterns.UnnecessarilyVisible;
-import com.google.errorprone.bugpatterns.UnnecessaryAnonymousClass;
-import com.google.errorprone.bugpatterns.UnnecessaryAssignment;
-import com.google.errorprone.bugpatterns.UnnecessaryAsync;
-import com.google.errorprone.bugpatterns.UnnecessaryBoxedAssignment;
-import com.google.errorprone.bugpatterns.UnnecessaryBoxedVariable;
-import com.google.errorprone.bugpatterns.UnnecessaryBreakInSwitch;
-import com.google.errorprone.bugpatterns.UnnecessaryDefaultInEnumSwitch;
-import com.google.errorprone.bugpatterns.UnnecessaryFinal;
-import com.google.errorprone.bugpatterns.UnnecessaryLambda;
-import com.google.errorprone.bugpatterns.UnnecessaryLongToIntConversion;
-import com.google.errorprone.bugpatterns.UnnecessaryMethodInvocationMatcher;
-import com.google.errorprone.bugpatterns.UnnecessaryMethodReference;
-import com.google.errorprone.bugpatterns.UnnecessaryOptionalGet;
-import com.google.errorprone.bugpatterns.UnnecessaryParentheses;
-import com.google.errorprone.bugpatterns.UnnecessarySetDefault;
-import com.google.errorprone.bugpatterns.UnnecessaryStaticImport;
-import com.google.errorprone.bugpatterns.UnnecessaryStringBuilder;
-import com.google.errorprone.bugpatterns.UnnecessaryTestMethodPrefix;
-import com.google.errorprone.bugpatterns.UnnecessaryTypeArgument;
-import com.google.errorprone.bugpatterns.UnsafeFinalization;
-import com.google.errorprone.bugpatterns.UnsafeLocaleUsage;
-import com.google.errorprone.bugpatterns.UnsafeReflectiveConstructionCast;
-import com.google.errorprone.bugpatterns.UnsynchronizedOverridesSynchronized;
-import com.google.errorprone.bugpatterns.UnusedAnonymousClass;
-import com.google.errorprone.bugpatterns.UnusedCollectionModifiedInPlace;
-import com.google.errorprone.bugpatterns.UnusedException;
-import com.google.errorprone.bugpatterns.UnusedLabel;
-import com.google.errorprone.bugpatterns.UnusedMethod;
-import com.google.errorprone.bugpatterns.UnusedNestedClass;
-import com.google.errorprone.bugpatterns.UnusedTypeParameter;
-import com.google.errorprone.bugpatterns.UnusedVariable;
-import com.google.errorprone.bugpatterns.UseCorrectAssertInTests;
-import com.google.errorprone.bugpatterns.UseEnumSwitch;
-import com.google.errorprone.bugpatterns.VarChecker;
-import com.google.errorprone.bugpatterns.VarTypeName;
-import com.google.errorprone.bugpatterns.VariableNameSameAsType;
-import com.google.errorprone.bugpatterns.Varifier;
-import com.google.errorprone.bugpatterns.VoidUsed;
-import com.google.errorprone.bugpatterns.WaitNotInLoop;
-import com.google.errorprone.bugpatterns.WildcardImport;
-import com.google.errorprone.bugpatterns.WithSignatureDiscouraged;
-import com.google.errorprone.bugpatterns.WrongOneof;
-import com.google.errorprone.bugpatterns.XorPower;
-import com.google.errorprone.bugpatterns.YodaCondition;
-import com.google.errorprone.bugpatterns.android.BinderIdentityRestoredDangerously;
-import com.google.errorprone.bugpatterns.android.BundleDeserializationCast;
-import com.google.errorprone.bugpatterns.android.FragmentInjection;
-import com.google.errorprone.bugpatterns.android.FragmentNotInstantiable;
-import com.google.errorprone.bugpatterns.android.HardCodedSdCardPath;
-import com.google.errorprone.bugpatterns.android.IsLoggableTagLength;
-import com.google.errorprone.bugpatterns.android.MislabeledAndroidString;
-import com.google.errorprone.bugpatterns.android.ParcelableCreator;
-import com.google.errorprone.bugpatterns.android.RectIntersectReturnValueIgnored;
-import com.google.errorprone.bugpatterns.android.StaticOrDefaultInterfaceMethod;
-import com.google.errorprone.bugpatterns.android.WakelockReleasedDangerously;
-import com.google.errorprone.bugpatterns.apidiff.AndroidJdkLibsChecker;
-import com.google.errorprone.bugpatterns.apidiff.Java7ApiChecker;
-import com.google.errorprone.bugpatterns.apidiff.Java8ApiChecker;
-import com.google.errorprone.bugpatterns.argumentselectiondefects.ArgumentSelectionDefectChecker;
-import com.google.errorprone.bugpatterns.argumentselectiondefects.AssertEqualsArgumentOrderChecker;
-import com.google.errorprone.bugpatterns.argumentselectiondefects.AutoValueConstructorOrderChecker;
-import com.google.errorprone.bugpatterns.checkreturnvalue.BuilderReturnThis;
-import com.google.errorprone.bugpatterns.checkreturnvalue.CanIgnoreReturnValueSuggester;
-import com.google.errorprone.bugpatterns.checkreturnvalue.NoCanIgnoreReturnValueOnClasses;
-import com.google.errorprone.bugpatterns.checkreturnvalue.UnnecessarilyUsedValue;
-import com.google.errorprone.bugpatterns.checkreturnvalue.UsingJsr305CheckReturnValue;
-import com.google.errorprone.bugpatterns.collectionincompatibletype.CollectionIncompatibleType;
-import com.google.errorprone.bugpatterns.collectionincompatibletype.CollectionUndefinedEquality;
-import com.google.errorprone.bugpatterns.collectionincompatibletype.CompatibleWithMisuse;
-import com.google.errorprone.bugpatterns.collectionincompatibletype.IncompatibleArgumentType;
-import com.google.errorprone.bugpatterns.collectionincompatibletype.JUnitIncompatibleType;
-import com.google.errorprone.bugpatterns.collectionincompatibletype.TruthIncompatibleType;
-import com.google.errorprone.bugpatterns.flogger.FloggerArgumentToString;
-import com.google.errorprone.bugpatterns.flogger.FloggerFormatString;
-import com.google.errorprone.bugpatterns.flogger.FloggerLogString;
-import com.google.errorprone.bugpatterns.flogger.FloggerLogVarargs;
-import com.google.errorprone.bugpatterns.flogger.FloggerLogWithCause;
-import com.google.errorprone.bugpatterns.flogger.FloggerMessageFormat;
-import com.google.errorprone.bugpatterns.flogger.FloggerRedundantIsEnabled;
-import com.google.errorprone.bugpatterns.flogger.FloggerRequiredModifiers;
-import com.google.errorprone.bugpatterns.flogger.FloggerSplitLogStatement;
-import com.google.errorprone.bugpatterns.flogger.FloggerStringConcatenation;
-import com.google.errorprone.bugpatterns.flogger.FloggerWithCause;
-import com.google.errorprone.bugpatterns.flogger.FloggerWithoutCause;
-import com.google.errorprone.bugpatterns.formatstring.FormatString;
-import com.google.errorprone.bugpatterns.formatstring.FormatStringAnnotationChecker;
-import com.google.errorprone.bugpatterns.formatstring.InlineFormatString;
-import com.google.errorprone.bugpatterns.inject.AssistedInjectAndInjectOnConstructors;
-import com.google.errorprone.bugpatterns.inject.AssistedInjectAndInjectOnSameConstructor;
-import com.google.errorprone.bugpatterns.inject.AutoFactoryAtInject;
-import com.google.errorprone.bugpatterns.inject.CloseableProvides;
-import com.google.errorprone.bugpatterns.inject.InjectOnConstructorOfAbstractClass;
-import com.google.errorprone.bugpatterns.inject.InjectOnMemberAndConstructor;
-import com.google.errorprone.bugpatterns.inject.InjectedConstructorAnnotations;
-import com.google.errorprone.bugpatterns.inject.InvalidTargetingOnScopingAnnotation;
-import com.google.errorprone.bugpatterns.inject.JavaxInjectOnAbstractMethod;
-import com.google.errorprone.bugpatterns.inject.JavaxInjectOnFinalField;
-import com.google.errorprone.bugpatterns.inject.MisplacedScopeAnnotations;
-import com.google.errorprone.bugpatterns.inject.MissingRuntimeRetention;
-import com.google.errorprone.bugpatterns.inject.MoreThanOneInjectableConstructor;
-import com.google.errorprone.bugpatterns.inject.MoreThanOneQualifier;
-import com.google.errorprone.bugpatterns.inject.MoreThanOneScopeAnnotationOnClass;
-import com.google.errorprone.bugpatterns.inject.OverlappingQualifierAndScopeAnnotation;
-import com.google.errorprone.bugpatterns.inject.QualifierOrScopeOnInjectMethod;
-import com.google.errorprone.bugpatterns.inject.QualifierWithTypeUse;
-import com.google.errorprone.bugpatterns.inject.ScopeAnnotationOnInterfaceOrAbstractClass;
-import com.google.errorprone.bugpatterns.inject.dagger.AndroidInjectionBeforeSuper;
-import com.google.errorprone.bugpatterns.inject.dagger.EmptySetMultibindingContributions;
-import com.google.errorprone.bugpatterns.inject.dagger.PrivateConstructorForNoninstantiableModule;
-import com.google.errorprone.bugpatterns.inject.dagger.ProvidesNull;
-import com.google.errorprone.bugpatterns.inject.dagger.RefersToDaggerCodegen;
-import com.google.errorprone.bugpatterns.inject.dagger.ScopeOnModule;
-import com.google.errorprone.bugpatterns.inject.dagger.UseBinds;
-import com.google.errorprone.bugpatterns.inject.guice.AssistedInjectScoping;
-import com.google.errorprone.bugpatterns.inject.guice.AssistedParameters;
-import com.google.errorprone.bugpatterns.inject.guice.BindingToUnqualifiedCommonType;
-import com.google.errorprone.bugpatterns.inject.guice.InjectOnFinalField;
-import com.google.errorprone.bugpatterns.inject.guice.OverridesGuiceInjectableMethod;
-import com.google.errorprone.bugpatterns.inject.guice.OverridesJavaxInjectableMethod;
-import com.google.errorprone.bugpatterns.inject.guice.ProvidesMethodOutsideOfModule;
-import com.google.errorprone.bugpatterns.inlineme.Inliner;
-import com.google.errorprone.bugpatterns.inlineme.Suggester;
-import com.google.errorprone.bugpatterns.inlineme.Validator;
-import com.google.errorprone.bugpatterns.javadoc.AlmostJavadoc;
-import com.google.errorprone.bugpatterns.javadoc.EmptyBlockTag;
-import com.google.errorprone.bugpatterns.javadoc.EscapedEntity;
-import com.google.errorprone.bugpatterns.javadoc.InheritDoc;
-import com.google.errorprone.bugpatterns.javadoc.InvalidBlockTag;
-import com.google.errorprone.bugpatterns.javadoc.InvalidInlineTag;
-import com.google.errorprone.bugpatterns.javadoc.InvalidLink;
-import com.google.errorprone.bugpatterns.javadoc.InvalidParam;
-import com.google.errorprone.bugpatterns.javadoc.InvalidSnippet;
-import com.google.errorprone.bugpatterns.javadoc.InvalidThrows;
-import com.google.errorprone.bugpatterns.javadoc.InvalidThrowsLink;
-import com.google.errorprone.bugpatterns.javadoc.MalformedInlineTag;
-import com.google.errorprone.bugpatterns.javadoc.MissingSummary;
-import com.google.errorprone.bugpatterns.javadoc.NotJavadoc;
-import com.google.errorprone.bugpatterns.javadoc.ReturnFromVoid;
-import com.google.errorprone.bugpatterns.javadoc.UnescapedEntity;
-import com.google.errorprone.bugpatterns.javadoc.UnrecognisedJavadocTag;
-import com.google.errorprone.bugpatterns.javadoc.UrlInSee;
-import com.google.errorprone.bugpatterns.nullness.DereferenceWithNullBranch;
-import com.google.errorprone.bugpatterns.nullness.EqualsBrokenForNull;
-import com.google.errorprone.bugpatterns.nullness.EqualsMissingNullable;
-import com.google.errorprone.bugpatterns.nullness.ExtendsObject;
-import com.google.errorprone.bugpatterns.nullness.FieldMissingNullable;
-import com.google.errorprone.bugpatterns.nullness.MultipleNullnessAnnotations;
-import com.google.errorprone.bugpatterns.nullness.NullArgumentForNonNullParameter;
-import com.google.errorprone.bugpatterns.nullness.NullablePrimitive;
-import com.google.errorprone.bugpatterns.nullness.NullablePrimitiveArray;
-import com.google.errorprone.bugpatterns.nullness.NullableTypeParameter;
-import com.google.errorprone.bugpatterns.nullness.NullableWildcard;
-import com.google.errorprone.bugpatterns.nullness.ParameterMissingNullable;
-import com.google.errorprone.bugpatterns.nullness.ReturnMissingNullable;
-import com.google.errorprone.bugpatterns.nullness.UnnecessaryCheckNotNull;
-import com.google.errorprone.bugpatterns.nullness.UnsafeWildcard;
-import com.google.errorprone.bugpatterns.nullness.VoidMissingNullable;
-import com.google.errorprone.bugpatterns.overloading.InconsistentOverloads;
-import com.google.errorprone.bugpatterns.threadsafety.DoubleCheckedLocking;
-import com.google.errorprone.bugpatterns.threadsafety.GuardedByChecker;
-import com.google.errorprone.bugpatterns.threadsafety.ImmutableAnnotationChecker;
-import com.google.errorprone.bugpatterns.threadsafety.ImmutableChecker;
-import com.google.errorprone.bugpatterns.threadsafety.ImmutableEnumChecker;
-import com.google.errorprone.bugpatterns.threadsafety.ImmutableRefactoring;
-import com.google.errorprone.bugpatterns.threadsafety.StaticGuardedByInstance;
-import com.google.errorprone.bugpatterns.threadsafety.SynchronizeOnNonFinalField;
-import com.google.errorprone.bugpatterns.threadsafety.ThreadPriorityCheck;
-import com.google.errorprone.bugpatterns.time.DateChecker;
-import com.google.errorprone.bugpatterns.time.DurationFrom;
-import com.google.errorprone.bugpatterns.time.DurationGetTemporalUnit;
-import com.google.errorprone.bugpatterns.time.DurationTemporalUnit;
-import com.google.errorprone.bugpatterns.time.DurationToLongTimeUnit;
-import com.google.errorprone.bugpatterns.time.FromTemporalAccessor;
-import com.google.errorprone.bugpatterns.time.InstantTemporalUnit;
-import com.google.errorprone.bugpatterns.time.InvalidJavaTimeConstant;
-import com.google.errorprone.bugpatterns.time.JavaDurationGetSecondsGetNano;
-import com.google.errorprone.bugpatterns.time.JavaDurationGetSecondsToToSeconds;
-import com.google.errorprone.bugpatterns.time.JavaDurationWithNanos;
-import com.google.errorprone.bugpatterns.time.JavaDurationWithSeconds;
-import com.google.errorprone.bugpatterns.time.JavaInstantGetSecondsGetNano;
-import com.google.errorprone.bugpatterns.time.JavaLocalDateTimeGetNano;
-import com.google.errorprone.bugpatterns.time.JavaLocalTimeGetNano;
-import com.google.errorprone.bugpatterns.time.JavaPeriodGetDays;
-import com.google.errorprone.bugpatterns.time.JavaTimeDefaultTimeZone;
-import com.google.errorprone.bugpatterns.time.JodaConstructors;
-import com.google.errorprone.bugpatterns.time.JodaDateTimeConstants;
-import com.google.errorprone.bugpatterns.time.JodaDurationWithMillis;
-import com.google.errorprone.bugpatterns.time.JodaInstantWithMillis;
-import com.google.errorprone.bugpatterns.time.JodaNewPeriod;
-import com.google.errorprone.bugpatterns.time.JodaPlusMinusLong;
-import com.google.errorprone.bugpatterns.time.JodaTimeConverterManager;
-import com.google.errorprone.bugpatterns.time.JodaToSelf;
-import com.google.errorprone.bugpatterns.time.JodaWithDurationAddedLong;
-import com.google.errorprone.bugpatterns.time.LocalDateTemporalAmount;
-import com.google.errorprone.bugpatterns.time.PeriodFrom;
-import com.google.errorprone.bugpatterns.time.PeriodGetTemporalUnit;
-import com.google.errorprone.bugpatterns.time.PeriodTimeMath;
-import com.google.errorprone.bugpatterns.time.PreferJavaTimeOverload;
-import com.google.errorprone.bugpatterns.time.ProtoDurationGetSecondsGetNano;
-import com.google.errorprone.bugpatterns.time.ProtoTimestampGetSecondsGetNano;
-import com.google.errorprone.bugpatterns.time.StronglyTypeTime;
-import com.google.errorprone.bugpatterns.time.TemporalAccessorGetChronoField;
-import com.google.errorprone.bugpatterns.time.TimeUnitConversionChecker;
-import com.google.errorprone.bugpatterns.time.TimeUnitMismatch;
-import com.google.errorprone.bugpatterns.time.ZoneIdOfZ;
 import java.util.Arrays;
 
 /**
@@ -639,6 +41,18 @@ public class BuiltInCheckerSuppliers {
         .collect(ImmutableSet.toImmutableSet());
   }
 
+  /**
+   * Returns the {@link BugCheckerInfo}s of the checks with the given binary class names. The
+   * checks' metadata is read from the {@code @BugPattern} index written at build time, so their
+   * classes are only loaded once they're enabled and instantiated.
+   */
+  private static ImmutableSet<BugCheckerInfo> getSuppliersByName(String... classNames) {
+    ClassLoader classLoader = BuiltInCheckerSuppliers.class.getClassLoader();
+    return Arrays.stream(classNames)
+        .map(className -> BugCheckerInfo.create(className, classLoader))
+        .collect(ImmutableSet.toImmutableSet());
+  }
+
   /** Returns a {@link ScannerSupplier} with all {@link BugChecker}s in Error Prone. */
   public static ScannerSupplier allChecks() {
     return ScannerSupplier.fromBugCheckerInfos(
@@ -671,620 +85,624 @@ public class BuiltInCheckerSuppliers {
 
   /** A list of all checks with severity ERROR that are on by default. */
   public static final ImmutableSet<BugCheckerInfo> ENABLED_ERRORS =
-      getSuppliers(
+      getSuppliersByName(
           // keep-sorted start
-          AlwaysThrows.class,
-          AndroidInjectionBeforeSuper.class,
-          ArrayEquals.class,
-          ArrayFillIncompatibleType.class,
-          ArrayHashCode.class,
-          ArrayToString.class,
-          ArraysAsListPrimitiveArray.class,
-          AssistedInjectScoping.class,
-          AssistedParameters.class,
-          AsyncCallableReturnsNull.class,
-          AsyncFunctionReturnsNull.class,
-          AutoValueBuilderDefaultsInConstructor.class,
-          AutoValueConstructorOrderChecker.class,
-          BadAnnotationImplementation.class,
-          BadShiftAmount.class,
-          BanJNDI.class,
-          BoxedPrimitiveEquality.class,
-          BundleDeserializationCast.class,
-          ChainingConstructorIgnoresParameter.class,
-          CheckNotNullMultipleTimes.class,
-          CheckReturnValue.class,
-          CollectionIncompatibleType.class,
-          CollectionToArraySafeParameter.class,
-          ComparableType.class,
-          ComparingThisWithNull.class,
-          ComparisonOutOfRange.class,
-          CompatibleWithMisuse.class,
-          CompileTimeConstantChecker.class,
-          ComputeIfAbsentAmbiguousReference.class,
-          ConditionalExpressionNumericPromotion.class,
-          ConstantOverflow.class,
-          DangerousLiteralNullChecker.class,
-          DeadException.class,
-          DeadThread.class,
-          DereferenceWithNullBranch.class,
-          DiscardedPostfixExpression.class,
-          DoNotCallChecker.class,
-          DoNotMockChecker.class,
-          DoubleBraceInitialization.class,
-          DuplicateMapKeys.class,
-          DurationFrom.class,
-          DurationGetTemporalUnit.class,
-          DurationTemporalUnit.class,
-          DurationToLongTimeUnit.class,
-          EqualsHashCode.class,
-          EqualsNaN.class,
-          EqualsNull.class,
-          EqualsReference.class,
-          EqualsWrongThing.class,
-          FloggerFormatString.class,
-          FloggerLogString.class,
-          FloggerLogVarargs.class,
-          FloggerSplitLogStatement.class,
-          ForOverrideChecker.class,
-          FormatString.class,
-          FormatStringAnnotationChecker.class,
-          FromTemporalAccessor.class,
-          FunctionalInterfaceMethodChanged.class,
-          FuturesGetCheckedIllegalExceptionType.class,
-          FuzzyEqualsShouldNotBeUsedInEqualsMethod.class,
-          GetClassOnAnnotation.class,
-          GetClassOnClass.class,
-          GuardedByChecker.class,
-          HashtableContains.class,
-          IdentityBinaryExpression.class,
-          IdentityHashMapBoxing.class,
-          ImmutableChecker.class,
-          ImpossibleNullComparison.class,
-          Incomparable.class,
-          IncompatibleArgumentType.class,
-          IncompatibleModifiersChecker.class,
-          IndexOfChar.class,
-          InexactVarargsConditional.class,
-          InfiniteRecursion.class,
-          InjectOnFinalField.class,
-          InjectOnMemberAndConstructor.class,
-          InstantTemporalUnit.class,
-          InvalidJavaTimeConstant.class,
-          InvalidPatternSyntax.class,
-          InvalidTimeZoneID.class,
-          InvalidZoneId.class,
-          IsInstanceIncompatibleType.class,
-          IsInstanceOfClass.class,
-          IsLoggableTagLength.class,
-          JUnit3TestNotRun.class,
-          JUnit4ClassAnnotationNonStatic.class,
-          JUnit4SetUpNotRun.class,
-          JUnit4TearDownNotRun.class,
-          JUnit4TestNotRun.class,
-          JUnit4TestsNotRunWithinEnclosed.class,
-          JUnitAssertSameCheck.class,
-          JUnitParameterMethodNotFound.class,
-          JavaxInjectOnAbstractMethod.class,
-          JodaToSelf.class,
-          LenientFormatStringValidation.class,
-          LiteByteStringUtf8.class,
-          LocalDateTemporalAmount.class,
-          LockOnBoxedPrimitive.class,
-          LoopConditionChecker.class,
-          LossyPrimitiveCompare.class,
-          MathRoundIntLong.class,
-          MislabeledAndroidString.class,
-          MisleadingEscapedSpace.class,
-          MisplacedScopeAnnotations.class,
-          MissingSuperCall.class,
-          MissingTestCall.class,
-          MisusedDayOfYear.class,
-          MisusedWeekYear.class,
-          MixedDescriptors.class,
-          MockitoUsage.class,
-          ModifyingCollectionWithItself.class,
-          MoreThanOneInjectableConstructor.class,
-          MoreThanOneScopeAnnotationOnClass.class,
-          MustBeClosedChecker.class,
-          NCopiesOfChar.class,
-          NoCanIgnoreReturnValueOnClasses.class,
-          NonCanonicalStaticImport.class,
-          NonFinalCompileTimeConstant.class,
-          NonRuntimeAnnotation.class,
-          NullArgumentForNonNullParameter.class,
-          NullTernary.class,
-          NullableOnContainingClass.class,
-          OptionalEquality.class,
-          OptionalMapUnusedValue.class,
-          OptionalOfRedundantMethod.class,
-          OverlappingQualifierAndScopeAnnotation.class,
-          OverridesJavaxInjectableMethod.class,
-          PackageInfo.class,
-          ParametersButNotParameterized.class,
-          ParcelableCreator.class,
-          PeriodFrom.class,
-          PeriodGetTemporalUnit.class,
-          PeriodTimeMath.class,
-          PreconditionsInvalidPlaceholder.class,
-          PrivateSecurityContractProtoAccess.class,
-          ProtoBuilderReturnValueIgnored.class,
-          ProtoStringFieldReferenceEquality.class,
-          ProtoTruthMixedDescriptors.class,
-          ProtocolBufferOrdinal.class,
-          ProvidesMethodOutsideOfModule.class,
-          ProvidesNull.class,
-          RandomCast.class,
-          RandomModInteger.class,
-          RectIntersectReturnValueIgnored.class,
-          RedundantSetterCall.class,
-          RequiredModifiersChecker.class,
-          RestrictedApiChecker.class,
-          ReturnValueIgnored.class,
-          SelfAssertion.class,
-          SelfAssignment.class,
-          SelfComparison.class,
-          SelfEquals.class,
-          SetUnrecognized.class,
-          ShouldHaveEvenArgs.class,
-          SizeGreaterThanOrEqualsZero.class,
-          StreamToString.class,
-          StringBuilderInitWithChar.class,
-          SubstringOfZero.class,
-          SuppressWarningsDeprecated.class,
-          TemporalAccessorGetChronoField.class,
-          TestParametersNotInitialized.class,
-          TheoryButNoTheories.class,
-          ThrowIfUncheckedKnownChecked.class,
-          ThrowNull.class,
-          TreeToString.class,
-          TryFailThrowable.class,
-          TypeParameterQualifier.class,
-          UnicodeDirectionalityCharacters.class,
-          UnicodeInCode.class,
-          UnnecessaryCheckNotNull.class,
-          UnnecessaryTypeArgument.class,
-          UnsafeWildcard.class,
-          UnusedAnonymousClass.class,
-          UnusedCollectionModifiedInPlace.class,
-          Validator.class,
-          VarTypeName.class,
-          WrongOneof.class,
-          XorPower.class,
-          ZoneIdOfZ.class
+          "com.google.errorprone.bugpatterns.AlwaysThrows",
+          "com.google.errorprone.bugpatterns.ArrayEquals",
+          "com.google.errorprone.bugpatterns.ArrayFillIncompatibleType",
+          "com.google.errorprone.bugpatterns.ArrayHashCode",
+          "com.google.errorprone.bugpatterns.ArrayToString",
+          "com.google.errorprone.bugpatterns.ArraysAsListPrimitiveArray",
+          "com.google.errorprone.bugpatterns.AsyncCallableReturnsNull",
+          "com.google.errorprone.bugpatterns.AsyncFunctionReturnsNull",
+          "com.google.errorprone.bugpatterns.AutoValueBuilderDefaultsInConstructor",
+          "com.google.errorprone.bugpatterns.BadAnnotationImplementation",
+          "com.google.errorprone.bugpatterns.BadShiftAmount",
+          "com.google.errorprone.bugpatterns.BanJNDI",
+          "com.google.errorprone.bugpatterns.BoxedPrimitiveEquality",
+          "com.google.errorprone.bugpatterns.ChainingConstructorIgnoresParameter",
+          "com.google.errorprone.bugpatterns.CheckNotNullMultipleTimes",
+          "com.google.errorprone.bugpatterns.CheckReturnValue",
+          "com.google.errorprone.bugpatterns.CollectionToArraySafeParameter",
+          "com.google.errorprone.bugpatterns.ComparableType",
+          "com.google.errorprone.bugpatterns.ComparingThisWithNull",
+          "com.google.errorprone.bugpatterns.ComparisonOutOfRange",
+          "com.google.errorprone.bugpatterns.CompileTimeConstantChecker",
+          "com.google.errorprone.bugpatterns.ComputeIfAbsentAmbiguousReference",
+          "com.google.errorprone.bugpatterns.ConditionalExpressionNumericPromotion",
+          "com.google.errorprone.bugpatterns.ConstantOverflow",
+          "com.google.errorprone.bugpatterns.DangerousLiteralNullChecker",
+          "com.google.errorprone.bugpatterns.DeadException",
+          "com.google.errorprone.bugpatterns.DeadThread",
+          "com.google.errorprone.bugpatterns.DiscardedPostfixExpression",
+          "com.google.errorprone.bugpatterns.DoNotCallChecker",
+          "com.google.errorprone.bugpatterns.DoNotMockChecker",
+          "com.google.errorprone.bugpatterns.DoubleBraceInitialization",
+          "com.google.errorprone.bugpatterns.DuplicateMapKeys",
+          "com.google.errorprone.bugpatterns.EqualsHashCode",
+          "com.google.errorprone.bugpatterns.EqualsNaN",
+          "com.google.errorprone.bugpatterns.EqualsNull",
+          "com.google.errorprone.bugpatterns.EqualsReference",
+          "com.google.errorprone.bugpatterns.EqualsWrongThing",
+          "com.google.errorprone.bugpatterns.ForOverrideChecker",
+          "com.google.errorprone.bugpatterns.FunctionalInterfaceMethodChanged",
+          "com.google.errorprone.bugpatterns.FuturesGetCheckedIllegalExceptionType",
+          "com.google.errorprone.bugpatterns.FuzzyEqualsShouldNotBeUsedInEqualsMethod",
+          "com.google.errorprone.bugpatterns.GetClassOnAnnotation",
+          "com.google.errorprone.bugpatterns.GetClassOnClass",
+          "com.google.errorprone.bugpatterns.HashtableContains",
+          "com.google.errorprone.bugpatterns.IdentityBinaryExpression",
+          "com.google.errorprone.bugpatterns.IdentityHashMapBoxing",
+          "com.google.errorprone.bugpatterns.ImpossibleNullComparison",
+          "com.google.errorprone.bugpatterns.Incomparable",
+          "com.google.errorprone.bugpatterns.IncompatibleModifiersChecker",
+          "com.google.errorprone.bugpatterns.IndexOfChar",
+          "com.google.errorprone.bugpatterns.InexactVarargsConditional",
+          "com.google.errorprone.bugpatterns.InfiniteRecursion",
+          "com.google.errorprone.bugpatterns.InvalidPatternSyntax",
+          "com.google.errorprone.bugpatterns.InvalidTimeZoneID",
+          "com.google.errorprone.bugpatterns.InvalidZoneId",
+          "com.google.errorprone.bugpatterns.IsInstanceIncompatibleType",
+          "com.google.errorprone.bugpatterns.IsInstanceOfClass",
+          "com.google.errorprone.bugpatterns.JUnit3TestNotRun",
+          "com.google.errorprone.bugpatterns.JUnit4ClassAnnotationNonStatic",
+          "com.google.errorprone.bugpatterns.JUnit4SetUpNotRun",
+          "com.google.errorprone.bugpatterns.JUnit4TearDownNotRun",
+          "com.google.errorprone.bugpatterns.JUnit4TestNotRun",
+          "com.google.errorprone.bugpatterns.JUnit4TestsNotRunWithinEnclosed",
+          "com.google.errorprone.bugpatterns.JUnitAssertSameCheck",
+          "com.google.errorprone.bugpatterns.JUnitParameterMethodNotFound",
+          "com.google.errorprone.bugpatterns.LenientFormatStringValidation",
+          "com.google.errorprone.bugpatterns.LiteByteStringUtf8",
+          "com.google.errorprone.bugpatterns.LockOnBoxedPrimitive",
+          "com.google.errorprone.bugpatterns.LoopConditionChecker",
+          "com.google.errorprone.bugpatterns.LossyPrimitiveCompare",
+          "com.google.errorprone.bugpatterns.MathRoundIntLong",
+          "com.google.errorprone.bugpatterns.MisleadingEscapedSpace",
+          "com.google.errorprone.bugpatterns.MissingSuperCall",
+          "com.google.errorprone.bugpatterns.MissingTestCall",
+          "com.google.errorprone.bugpatterns.MisusedDayOfYear",
+          "com.google.errorprone.bugpatterns.MisusedWeekYear",
+          "com.google.errorprone.bugpatterns.MixedDescriptors",
+          "com.google.errorprone.bugpatterns.MockitoUsage",
+          "com.google.errorprone.bugpatterns.ModifyingCollectionWithItself",
+          "com.google.errorprone.bugpatterns.MustBeClosedChecker",
+          "com.google.errorprone.bugpatterns.NCopiesOfChar",
+          "com.google.errorprone.bugpatterns.NonCanonicalStaticImport",
+          "com.google.errorprone.bugpatterns.NonFinalCompileTimeConstant",
+          "com.google.errorprone.bugpatterns.NonRuntimeAnnotation",
+          "com.google.errorprone.bugpatterns.NullTernary",
+          "com.google.errorprone.bugpatterns.NullableOnContainingClass",
+          "com.google.errorprone.bugpatterns.OptionalEquality",
+          "com.google.errorprone.bugpatterns.OptionalMapUnusedValue",
+          "com.google.errorprone.bugpatterns.OptionalOfRedundantMethod",
+          "com.google.errorprone.bugpatterns.PackageInfo",
+          "com.google.errorprone.bugpatterns.ParametersButNotParameterized",
+          "com.google.errorprone.bugpatterns.PreconditionsInvalidPlaceholder",
+          "com.google.errorprone.bugpatterns.PrivateSecurityContractProtoAccess",
+          "com.google.errorprone.bugpatterns.ProtoBuilderReturnValueIgnored",
+          "com.google.errorprone.bugpatterns.ProtoStringFieldReferenceEquality",
+          "com.google.errorprone.bugpatterns.ProtoTruthMixedDescriptors",
+          "com.google.errorprone.bugpatterns.ProtocolBufferOrdinal",
+          "com.google.errorprone.bugpatterns.RandomCast",
+          "com.google.errorprone.bugpatterns.RandomModInteger",
+          "com.google.errorprone.bugpatterns.RedundantSetterCall",
+          "com.google.errorprone.bugpatterns.RequiredModifiersChecker",
+          "com.google.errorprone.bugpatterns.RestrictedApiChecker",
+          "com.google.errorprone.bugpatterns.ReturnValueIgnored",
+          "com.google.errorprone.bugpatterns.SelfAssertion",
+          "com.google.errorprone.bugpatterns.SelfAssignment",
+          "com.google.errorprone.bugpatterns.SelfComparison",
+          "com.google.errorprone.bugpatterns.SelfEquals",
+          "com.google.errorprone.bugpatterns.SetUnrecognized",
+          "com.google.errorprone.bugpatterns.ShouldHaveEvenArgs",
+          "com.google.errorprone.bugpatterns.SizeGreaterThanOrEqualsZero",
+          "com.google.errorprone.bugpatterns.StreamToString",
+          "com.google.errorprone.bugpatterns.StringBuilderInitWithChar",
+          "com.google.errorprone.bugpatterns.SubstringOfZero",
+          "com.google.errorprone.bugpatterns.SuppressWarningsDeprecated",
+          "com.google.errorprone.bugpatterns.TestParametersNotInitialized",
+          "com.google.errorprone.bugpatterns.TheoryButNoTheories",
+          "com.google.errorprone.bugpatterns.ThrowIfUncheckedKnownChecked",
+          "com.google.errorprone.bugpatterns.ThrowNull",
+          "com.google.errorprone.bugpatterns.TreeToString",
+          "com.google.errorprone.bugpatterns.TryFailThrowable",
+          "com.google.errorprone.bugpatterns.TypeParameterQualifier",
+          "com.google.errorprone.bugpatterns.UnicodeDirectionalityCharacters",
+          "com.google.errorprone.bugpatterns.UnicodeInCode",
+          "com.google.errorprone.bugpatterns.UnnecessaryTypeArgument",
+          "com.google.errorprone.bugpatterns.UnusedAnonymousClass",
+          "com.google.errorprone.bugpatterns.UnusedCollectionModifiedInPlace",
+          "com.google.errorprone.bugpatterns.VarTypeName",
+          "com.google.errorprone.bugpatterns.WrongOneof",
+          "com.google.errorprone.bugpatterns.XorPower",
+          "com.google.errorprone.bugpatterns.android.BundleDeserializationCast",
+          "com.google.errorprone.bugpatterns.android.IsLoggableTagLength",
+          "com.google.errorprone.bugpatterns.android.MislabeledAndroidString",
+          "com.google.errorprone.bugpatterns.android.ParcelableCreator",
+          "com.google.errorprone.bugpatterns.android.RectIntersectReturnValueIgnored",
+          "com.google.errorprone.bugpatterns.argumentselectiondefects.AutoValueConstructorOrderChecker",
+          "com.google.errorprone.bugpatterns.checkreturnvalue.NoCanIgnoreReturnValueOnClasses",
+          "com.google.errorprone.bugpatterns.collectionincompatibletype.CollectionIncompatibleType",
+          "com.google.errorprone.bugpatterns.collectionincompatibletype.CompatibleWithMisuse",
+          "com.google.errorprone.bugpatterns.collectionincompatibletype.IncompatibleArgumentType",
+          "com.google.errorprone.bugpatterns.flogger.FloggerFormatString",
+          "com.google.errorprone.bugpatterns.flogger.FloggerLogString",
+          "com.google.errorprone.bugpatterns.flogger.FloggerLogVarargs",
+          "com.google.errorprone.bugpatterns.flogger.FloggerSplitLogStatement",
+          "com.google.errorprone.bugpatterns.formatstring.FormatString",
+          "com.google.errorprone.bugpatterns.formatstring.FormatStringAnnotationChecker",
+          "com.google.errorprone.bugpatterns.inject.InjectOnMemberAndConstructor",
+          "com.google.errorprone.bugpatterns.inject.JavaxInjectOnAbstractMethod",
+          "com.google.errorprone.bugpatterns.inject.MisplacedScopeAnnotations",
+          "com.google.errorprone.bugpatterns.inject.MoreThanOneInjectableConstructor",
+          "com.google.errorprone.bugpatterns.inject.MoreThanOneScopeAnnotationOnClass",
+          "com.google.errorprone.bugpatterns.inject.OverlappingQualifierAndScopeAnnotation",
+          "com.google.errorprone.bugpatterns.inject.dagger.AndroidInjectionBeforeSuper",
+          "com.google.errorprone.bugpatterns.inject.dagger.ProvidesNull",
+          "com.google.errorprone.bugpatterns.inject.guice.AssistedInjectScoping",
+          "com.google.errorprone.bugpatterns.inject.guice.AssistedParameters",
+          "com.google.errorprone.bugpatterns.inject.guice.InjectOnFinalField",
+          "com.google.errorprone.bugpatterns.inject.guice.OverridesJavaxInjectableMethod",
+          "com.google.errorprone.bugpatterns.inject.guice.ProvidesMethodOutsideOfModule",
+          "com.google.errorprone.bugpatterns.inlineme.Validator",
+          "com.google.errorprone.bugpatterns.nullness.DereferenceWithNullBranch",
+          "com.google.errorprone.bugpatterns.nullness.NullArgumentForNonNullParameter",
+          "com.google.errorprone.bugpatterns.nullness.UnnecessaryCheckNotNull",
+          "com.google.errorprone.bugpatterns.nullness.UnsafeWildcard",
+          "com.google.errorprone.bugpatterns.threadsafety.GuardedByChecker",
+          "com.google.errorprone.bugpatterns.threadsafety.ImmutableChecker",
+          "com.google.errorprone.bugpatterns.time.DurationFrom",
+          "com.google.errorprone.bugpatterns.time.DurationGetTemporalUnit",
+          "com.google.errorprone.bugpatterns.time.DurationTemporalUnit",
+          "com.google.errorprone.bugpatterns.time.DurationToLongTimeUnit",
+          "com.google.errorprone.bugpatterns.time.FromTemporalAccessor",
+          "com.google.errorprone.bugpatterns.time.InstantTemporalUnit",
+          "com.google.errorprone.bugpatterns.time.InvalidJavaTimeConstant",
+          "com.google.errorprone.bugpatterns.time.JodaToSelf",
+          "com.google.errorprone.bugpatterns.time.LocalDateTemporalAmount",
+          "com.google.errorprone.bugpatterns.time.PeriodFrom",
+          "com.google.errorprone.bugpatterns.time.PeriodGetTemporalUnit",
+          "com.google.errorprone.bugpatterns.time.PeriodTimeMath",
+          "com.google.errorprone.bugpatterns.time.TemporalAccessorGetChronoField",
+          "com.google.errorprone.bugpatterns.time.ZoneIdOfZ"
           // keep-sorted end
           );
 
   /** A list of all checks with severity WARNING that are on by default. */
   public static final ImmutableSet<BugCheckerInfo> ENABLED_WARNINGS =
-      getSuppliers(
+      getSuppliersByName(
           // keep-sorted start
-          ASTHelpersSuggestions.class,
-          AddressSelection.class,
-          AlmostJavadoc.class,
-          AlreadyChecked.class,
-          AmbiguousMethodReference.class,
-          AnnotateFormatMethod.class,
-          ArgumentSelectionDefectChecker.class,
-          ArrayAsKeyOfSetOrMap.class,
-          ArrayRecordComponent.class,
-          AssertEqualsArgumentOrderChecker.class,
-          AssertThrowsMultipleStatements.class,
-          AssertionFailureIgnored.class,
-          AssistedInjectAndInjectOnSameConstructor.class,
-          AttemptedNegativeZero.class,
-          AutoValueBoxedValues.class,
-          AutoValueFinalMethods.class,
-          AutoValueImmutableFields.class,
-          AutoValueSubclassLeaked.class,
-          BadComparable.class,
-          BadImport.class,
-          BadInstanceof.class,
-          BareDotMetacharacter.class,
-          BigDecimalEquals.class,
-          BigDecimalLiteralDouble.class,
-          BoxedPrimitiveConstructor.class,
-          BugPatternNaming.class,
-          ByteBufferBackingArray.class,
-          CacheLoaderNull.class,
-          CanonicalDuration.class,
-          CatchAndPrintStackTrace.class,
-          CatchFail.class,
-          ChainedAssertionLosesContext.class,
-          CharacterGetNumericValue.class,
-          ClassCanBeStatic.class,
-          ClassInitializationDeadlock.class,
-          ClassNewInstance.class,
-          CloseableProvides.class,
-          ClosingStandardOutputStreams.class,
-          CollectionUndefinedEquality.class,
-          CollectorShouldNotUseState.class,
-          ComparableAndComparator.class,
-          CompareToZero.class,
-          ComplexBooleanConstant.class,
-          DateChecker.class,
-          DateFormatConstant.class,
-          DeeplyNested.class,
-          DefaultCharset.class,
-          DefaultPackage.class,
-          DeprecatedVariable.class,
-          DirectInvocationOnMock.class,
-          DistinctVarargsChecker.class,
-          DoNotCallSuggester.class,
-          DoNotClaimAnnotations.class,
-          DoNotMockAutoValue.class,
-          DoubleCheckedLocking.class,
-          DuplicateBranches.class,
-          DuplicateDateFormatField.class,
-          EmptyBlockTag.class,
-          EmptyCatch.class,
-          EmptySetMultibindingContributions.class,
-          EmptyTopLevelDeclaration.class,
-          EnumOrdinal.class,
-          EqualsGetClass.class,
-          EqualsIncompatibleType.class,
-          EqualsUnsafeCast.class,
-          EqualsUsingHashCode.class,
-          ErroneousBitwiseExpression.class,
-          ErroneousThreadPoolConstructorChecker.class,
-          EscapedEntity.class,
-          ExtendingJUnitAssert.class,
-          ExtendsObject.class,
-          FallThrough.class,
-          Finalize.class,
-          Finally.class,
-          FloatCast.class,
-          FloatingPointAssertionWithinEpsilon.class,
-          FloatingPointLiteralPrecision.class,
-          FloggerArgumentToString.class,
-          FloggerStringConcatenation.class,
-          FragmentInjection.class,
-          FragmentNotInstantiable.class,
-          FutureReturnValueIgnored.class,
-          FutureTransformAsync.class,
-          GetClassOnEnum.class,
-          GuiceNestedCombine.class,
-          HidingField.class,
-          ICCProfileGetInstance.class,
-          IdentityHashMapUsage.class,
-          IgnoredPureGetter.class,
-          ImmutableAnnotationChecker.class,
-          ImmutableEnumChecker.class,
-          InconsistentCapitalization.class,
-          InconsistentHashCode.class,
-          IncorrectMainMethod.class,
-          IncrementInForLoopAndHeader.class,
-          InheritDoc.class,
-          InjectOnBugCheckers.class,
-          InjectOnConstructorOfAbstractClass.class,
-          InjectedConstructorAnnotations.class,
-          InlineFormatString.class,
-          InlineTrivialConstant.class,
-          Inliner.class,
-          InputStreamSlowMultibyteRead.class,
-          InstanceOfAndCastMatchWrongType.class,
-          IntLongMath.class,
-          InvalidBlockTag.class,
-          InvalidInlineTag.class,
-          InvalidLink.class,
-          InvalidParam.class,
-          InvalidSnippet.class,
-          InvalidTargetingOnScopingAnnotation.class,
-          InvalidThrows.class,
-          InvalidThrowsLink.class,
-          IterableAndIterator.class,
-          JUnit3FloatingPointComparisonWithoutDelta.class,
-          JUnit4ClassUsedInJUnit3.class,
-          JUnit4EmptyMethods.class,
-          JUnitAmbiguousTestClass.class,
-          JUnitIncompatibleType.class,
-          JavaDurationGetSecondsGetNano.class,
-          JavaDurationGetSecondsToToSeconds.class,
-          JavaDurationWithNanos.class,
-          JavaDurationWithSeconds.class,
-          JavaInstantGetSecondsGetNano.class,
-          JavaLangClash.class,
-          JavaLocalDateTimeGetNano.class,
-          JavaLocalTimeGetNano.class,
-          JavaPeriodGetDays.class,
-          JavaTimeDefaultTimeZone.class,
-          JavaUtilDateChecker.class,
-          JavaxInjectOnFinalField.class,
-          JdkObsolete.class,
-          JodaConstructors.class,
-          JodaDateTimeConstants.class,
-          JodaDurationWithMillis.class,
-          JodaInstantWithMillis.class,
-          JodaNewPeriod.class,
-          JodaPlusMinusLong.class,
-          JodaTimeConverterManager.class,
-          JodaWithDurationAddedLong.class,
-          LabelledBreakTarget.class,
-          LiteEnumValueOf.class,
-          LiteProtoToString.class,
-          LockNotBeforeTry.class,
-          LockOnNonEnclosingClassLiteral.class,
-          LogicalAssignment.class,
-          LongDoubleConversion.class,
-          LongFloatConversion.class,
-          LoopOverCharArray.class,
-          MalformedInlineTag.class,
-          MathAbsoluteNegative.class,
-          MemoizeConstantVisitorStateLookups.class,
-          MisformattedTestData.class,
-          MissingCasesInEnumSwitch.class,
-          MissingFail.class,
-          MissingImplementsComparable.class,
-          MissingOverride.class,
-          MissingRefasterAnnotation.class,
-          MissingSummary.class,
-          MixedMutabilityReturnType.class,
-          MockNotUsedInProduction.class,
-          ModifiedButNotUsed.class,
-          ModifyCollectionInEnhancedForLoop.class,
-          ModifySourceCollectionInStream.class,
-          MultimapKeys.class,
-          MultipleNullnessAnnotations.class,
-          MultipleParallelOrSequentialCalls.class,
-          MultipleUnaryOperatorsInMethodCall.class,
-          MutablePublicArray.class,
-          NamedLikeContextualKeyword.class,
-          NarrowCalculation.class,
-          NarrowingCompoundAssignment.class,
-          NegativeCharLiteral.class,
-          NestedInstanceOfConditions.class,
-          NewFileSystem.class,
-          NonApiType.class,
-          NonAtomicVolatileUpdate.class,
-          NonCanonicalType.class,
-          NonOverridingEquals.class,
-          NotJavadoc.class,
-          NullOptional.class,
-          NullableConstructor.class,
-          NullableOptional.class,
-          NullablePrimitive.class,
-          NullablePrimitiveArray.class,
-          NullableTypeParameter.class,
-          NullableVoid.class,
-          NullableWildcard.class,
-          ObjectEqualsForPrimitives.class,
-          ObjectToString.class,
-          ObjectsHashCodePrimitive.class,
-          OperatorPrecedence.class,
-          OptionalMapToOptional.class,
-          OptionalNotPresent.class,
-          OrphanedFormatString.class,
-          OutlineNone.class,
-          OverrideThrowableToString.class,
-          Overrides.class,
-          OverridesGuiceInjectableMethod.class,
-          OverridingMethodInconsistentArgumentNamesChecker.class,
-          ParameterName.class,
-          PatternMatchingInstanceof.class,
-          PreconditionsCheckNotNullRepeated.class,
-          PrimitiveAtomicReference.class,
-          ProtectedMembersInFinalClass.class,
-          ProtoDurationGetSecondsGetNano.class,
-          ProtoTimestampGetSecondsGetNano.class,
-          QualifierOrScopeOnInjectMethod.class,
-          ReachabilityFenceUsage.class,
-          RedundantControlFlow.class,
-          ReferenceEquality.class,
-          RethrowReflectiveOperationExceptionAsLinkageError.class,
-          ReturnAtTheEndOfVoidFunction.class,
-          ReturnFromVoid.class,
-          RobolectricShadowDirectlyOn.class,
-          RxReturnValueIgnored.class,
-          SameNameButDifferent.class,
-          ScopeAnnotationOnInterfaceOrAbstractClass.class,
-          SelfAlwaysReturnsThis.class,
-          ShortCircuitBoolean.class,
-          StatementSwitchToExpressionSwitch.class,
-          StaticAssignmentInConstructor.class,
-          StaticAssignmentOfThrowable.class,
-          StaticGuardedByInstance.class,
-          StaticMockMember.class,
-          StreamResourceLeak.class,
-          StreamToIterable.class,
-          StringCaseLocaleUsage.class,
-          StringCharset.class,
-          StringConcatToTextBlock.class,
-          StringSplitter.class,
-          Suggester.class,
-          SuperCallToObjectMethod.class,
-          SwigMemoryLeak.class,
-          SynchronizeOnNonFinalField.class,
-          SystemConsoleNull.class,
-          ThreadJoinLoop.class,
-          ThreadLocalUsage.class,
-          ThreadPriorityCheck.class,
-          ThreeLetterTimeZoneID.class,
-          ThrowIfUncheckedKnownUnchecked.class,
-          TimeUnitConversionChecker.class,
-          ToStringReturnsNull.class,
-          TraditionalSwitchExpression.class,
-          TruthAssertExpected.class,
-          TruthConstantAsserts.class,
-          TruthGetOrDefault.class,
-          TruthIncompatibleType.class,
-          TypeEqualsChecker.class,
-          TypeNameShadowing.class,
-          TypeParameterShadowing.class,
-          TypeParameterUnusedInFormals.class,
-          URLEqualsHashCode.class,
-          UndefinedEquals.class,
-          UnicodeEscape.class,
-          UnnecessaryAssignment.class,
-          UnnecessaryAsync.class,
-          UnnecessaryBreakInSwitch.class,
-          UnnecessaryLambda.class,
-          UnnecessaryLongToIntConversion.class,
-          UnnecessaryMethodInvocationMatcher.class,
-          UnnecessaryMethodReference.class,
-          UnnecessaryParentheses.class,
-          UnnecessaryStringBuilder.class,
-          UnrecognisedJavadocTag.class,
-          UnsafeFinalization.class,
-          UnsafeReflectiveConstructionCast.class,
-          UnsynchronizedOverridesSynchronized.class,
-          UnusedLabel.class,
-          UnusedMethod.class,
-          UnusedNestedClass.class,
-          UnusedTypeParameter.class,
-          UnusedVariable.class,
-          UseBinds.class,
-          VariableNameSameAsType.class,
-          VoidUsed.class,
-          WaitNotInLoop.class,
-          WakelockReleasedDangerously.class,
-          WithSignatureDiscouraged.class
+          "com.google.errorprone.bugpatterns.ASTHelpersSuggestions",
+          "com.google.errorprone.bugpatterns.AddressSelection",
+          "com.google.errorprone.bugpatterns.AlreadyChecked",
+          "com.google.errorprone.bugpatterns.AmbiguousMethodReference",
+          "com.google.errorprone.bugpatterns.AnnotateFormatMethod",
+          "com.google.errorprone.bugpatterns.ArrayAsKeyOfSetOrMap",
+          "com.google.errorprone.bugpatterns.ArrayRecordComponent",
+          "com.google.errorprone.bugpatterns.AssertThrowsMultipleStatements",
+          "com.google.errorprone.bugpatterns.AssertionFailureIgnored",
+          "com.google.errorprone.bugpatterns.AttemptedNegativeZero",
+          "com.google.errorprone.bugpatterns.AutoValueBoxedValues",
+          "com.google.errorprone.bugpatterns.AutoValueFinalMethods",
+          "com.google.errorprone.bugpatterns.AutoValueImmutableFields",
+          "com.google.errorprone.bugpatterns.AutoValueSubclassLeaked",
+          "com.google.errorprone.bugpatterns.BadComparable",
+          "com.google.errorprone.bugpatterns.BadImport",
+          "com.google.errorprone.bugpatterns.BadInstanceof",
+          "com.google.errorprone.bugpatterns.BareDotMetacharacter",
+          "com.google.errorprone.bugpatterns.BigDecimalEquals",
+          "com.google.errorprone.bugpatterns.BigDecimalLiteralDouble",
+          "com.google.errorprone.bugpatterns.BoxedPrimitiveConstructor",
+          "com.google.errorprone.bugpatterns.BugPatternNaming",
+          "com.google.errorprone.bugpatterns.ByteBufferBackingArray",
+          "com.google.errorprone.bugpatterns.CacheLoaderNull",
+          "com.google.errorprone.bugpatterns.CanonicalDuration",
+          "com.google.errorprone.bugpatterns.CatchAndPrintStackTrace",
+          "com.google.errorprone.bugpatterns.CatchFail",
+          "com.google.errorprone.bugpatterns.ChainedAssertionLosesContext",
+          "com.google.errorprone.bugpatterns.CharacterGetNumericValue",
+          "com.google.errorprone.bugpatterns.ClassCanBeStatic",
+          "com.google.errorprone.bugpatterns.ClassInitializationDeadlock",
+          "com.google.errorprone.bugpatterns.ClassNewInstance",
+          "com.google.errorprone.bugpatterns.ClosingStandardOutputStreams",
+          "com.google.errorprone.bugpatterns.CollectorShouldNotUseState",
+          "com.google.errorprone.bugpatterns.ComparableAndComparator",
+          "com.google.errorprone.bugpatterns.CompareToZero",
+          "com.google.errorprone.bugpatterns.ComplexBooleanConstant",
+          "com.google.errorprone.bugpatterns.DateFormatConstant",
+          "com.google.errorprone.bugpatterns.DeeplyNested",
+          "com.google.errorprone.bugpatterns.DefaultCharset",
+          "com.google.errorprone.bugpatterns.DefaultPackage",
+          "com.google.errorprone.bugpatterns.DeprecatedVariable",
+          "com.google.errorprone.bugpatterns.DirectInvocationOnMock",
+          "com.google.errorprone.bugpatterns.DistinctVarargsChecker",
+          "com.google.errorprone.bugpatterns.DoNotCallSuggester",
+          "com.google.errorprone.bugpatterns.DoNotClaimAnnotations",
+          "com.google.errorprone.bugpatterns.DoNotMockAutoValue",
+          "com.google.errorprone.bugpatterns.DuplicateBranches",
+          "com.google.errorprone.bugpatterns.DuplicateDateFormatField",
+          "com.google.errorprone.bugpatterns.EmptyCatch",
+          "com.google.errorprone.bugpatterns.EmptyTopLevelDeclaration",
+          "com.google.errorprone.bugpatterns.EnumOrdinal",
+          "com.google.errorprone.bugpatterns.EqualsGetClass",
+          "com.google.errorprone.bugpatterns.EqualsIncompatibleType",
+          "com.google.errorprone.bugpatterns.EqualsUnsafeCast",
+          "com.google.errorprone.bugpatterns.EqualsUsingHashCode",
+          "com.google.errorprone.bugpatterns.ErroneousBitwiseExpression",
+          "com.google.errorprone.bugpatterns.ErroneousThreadPoolConstructorChecker",
+          "com.google.errorprone.bugpatterns.ExtendingJUnitAssert",
+          "com.google.errorprone.bugpatterns.FallThrough",
+          "com.google.errorprone.bugpatterns.Finalize",
+          "com.google.errorprone.bugpatterns.Finally",
+          "com.google.errorprone.bugpatterns.FloatCast",
+          "com.google.errorprone.bugpatterns.FloatingPointAssertionWithinEpsilon",
+          "com.google.errorprone.bugpatterns.FloatingPointLiteralPrecision",
+          "com.google.errorprone.bugpatterns.FutureReturnValueIgnored",
+          "com.google.errorprone.bugpatterns.FutureTransformAsync",
+          "com.google.errorprone.bugpatterns.GetClassOnEnum",
+          "com.google.errorprone.bugpatterns.GuiceNestedCombine",
+          "com.google.errorprone.bugpatterns.HidingField",
+          "com.google.errorprone.bugpatterns.ICCProfileGetInstance",
+          "com.google.errorprone.bugpatterns.IdentityHashMapUsage",
+          "com.google.errorprone.bugpatterns.IgnoredPureGetter",
+          "com.google.errorprone.bugpatterns.InconsistentCapitalization",
+          "com.google.errorprone.bugpatterns.InconsistentHashCode",
+          "com.google.errorprone.bugpatterns.IncorrectMainMethod",
+          "com.google.errorprone.bugpatterns.IncrementInForLoopAndHeader",
+          "com.google.errorprone.bugpatterns.InjectOnBugCheckers",
+          "com.google.errorprone.bugpatterns.InlineTrivialConstant",
+          "com.google.errorprone.bugpatterns.InputStreamSlowMultibyteRead",
+          "com.google.errorprone.bugpatterns.InstanceOfAndCastMatchWrongType",
+          "com.google.errorprone.bugpatterns.IntLongMath",
+          "com.google.errorprone.bugpatterns.IterableAndIterator",
+          "com.google.errorprone.bugpatterns.JUnit3FloatingPointComparisonWithoutDelta",
+          "com.google.errorprone.bugpatterns.JUnit4ClassUsedInJUnit3",
+          "com.google.errorprone.bugpatterns.JUnit4EmptyMethods",
+          "com.google.errorprone.bugpatterns.JUnitAmbiguousTestClass",
+          "com.google.errorprone.bugpatterns.JavaLangClash",
+          "com.google.errorprone.bugpatterns.JavaUtilDateChecker",
+          "com.google.errorprone.bugpatterns.JdkObsolete",
+          "com.google.errorprone.bugpatterns.LabelledBreakTarget",
+          "com.google.errorprone.bugpatterns.LiteEnumValueOf",
+          "com.google.errorprone.bugpatterns.LiteProtoToString",
+          "com.google.errorprone.bugpatterns.LockNotBeforeTry",
+          "com.google.errorprone.bugpatterns.LockOnNonEnclosingClassLiteral",
+          "com.google.errorprone.bugpatterns.LogicalAssignment",
+          "com.google.errorprone.bugpatterns.LongDoubleConversion",
+          "com.google.errorprone.bugpatterns.LongFloatConversion",
+          "com.google.errorprone.bugpatterns.LoopOverCharArray",
+          "com.google.errorprone.bugpatterns.MathAbsoluteNegative",
+          "com.google.errorprone.bugpatterns.MemoizeConstantVisitorStateLookups",
+          "com.google.errorprone.bugpatterns.MisformattedTestData",
+          "com.google.errorprone.bugpatterns.MissingCasesInEnumSwitch",
+          "com.google.errorprone.bugpatterns.MissingFail",
+          "com.google.errorprone.bugpatterns.MissingImplementsComparable",
+          "com.google.errorprone.bugpatterns.MissingOverride",
+          "com.google.errorprone.bugpatterns.MissingRefasterAnnotation",
+          "com.google.errorprone.bugpatterns.MixedMutabilityReturnType",
+          "com.google.errorprone.bugpatterns.MockNotUsedInProduction",
+          "com.google.errorprone.bugpatterns.ModifiedButNotUsed",
+          "com.google.errorprone.bugpatterns.ModifyCollectionInEnhancedForLoop",
+          "com.google.errorprone.bugpatterns.ModifySourceCollectionInStream",
+          "com.google.errorprone.bugpatterns.MultimapKeys",
+          "com.google.errorprone.bugpatterns.MultipleParallelOrSequentialCalls",
+          "com.google.errorprone.bugpatterns.MultipleUnaryOperatorsInMethodCall",
+          "com.google.errorprone.bugpatterns.MutablePublicArray",
+          "com.google.errorprone.bugpatterns.NamedLikeContextualKeyword",
+          "com.google.errorprone.bugpatterns.NarrowCalculation",
+          "com.google.errorprone.bugpatterns.NarrowingCompoundAssignment",
+          "com.google.errorprone.bugpatterns.NegativeCharLiteral",
+          "com.google.errorprone.bugpatterns.NestedInstanceOfConditions",
+          "com.google.errorprone.bugpatterns.NewFileSystem",
+          "com.google.errorprone.bugpatterns.NonApiType",
+          "com.google.errorprone.bugpatterns.NonAtomicVolatileUpdate",
+          "com.google.errorprone.bugpatterns.NonCanonicalType",
+          "com.google.errorprone.bugpatterns.NonOverridingEquals",
+          "com.google.errorprone.bugpatterns.NullOptional",
+          "com.google.errorprone.bugpatterns.NullableConstructor",
+          "com.google.errorprone.bugpatterns.NullableOptional",
+          "com.google.errorprone.bugpatterns.NullableVoid",
+          "com.google.errorprone.bugpatterns.ObjectEqualsForPrimitives",
+          "com.google.errorprone.bugpatterns.ObjectToString",
+          "com.google.errorprone.bugpatterns.ObjectsHashCodePrimitive",
+          "com.google.errorprone.bugpatterns.OperatorPrecedence",
+          "com.google.errorprone.bugpatterns.OptionalMapToOptional",
+          "com.google.errorprone.bugpatterns.OptionalNotPresent",
+          "com.google.errorprone.bugpatterns.OrphanedFormatString",
+          "com.google.errorprone.bugpatterns.OutlineNone",
+          "com.google.errorprone.bugpatterns.OverrideThrowableToString",
+          "com.google.errorprone.bugpatterns.Overrides",
+          "com.google.errorprone.bugpatterns.OverridingMethodInconsistentArgumentNamesChecker",
+          "com.google.errorprone.bugpatterns.ParameterName",
+          "com.google.errorprone.bugpatterns.PatternMatchingInstanceof",
+          "com.google.errorprone.bugpatterns.PreconditionsCheckNotNullRepeated",
+          "com.google.errorprone.bugpatterns.PrimitiveAtomicReference",
+          "com.google.errorprone.bugpatterns.ProtectedMembersInFinalClass",
+          "com.google.errorprone.bugpatterns.ReachabilityFenceUsage",
+          "com.google.errorprone.bugpatterns.RedundantControlFlow",
+          "com.google.errorprone.bugpatterns.ReferenceEquality",
+          "com.google.errorprone.bugpatterns.RethrowReflectiveOperationExceptionAsLinkageError",
+          "com.google.errorprone.bugpatterns.ReturnAtTheEndOfVoidFunction",
+          "com.google.errorprone.bugpatterns.RobolectricShadowDirectlyOn",
+          "com.google.errorprone.bugpatterns.RxReturnValueIgnored",
+          "com.google.errorprone.bugpatterns.SameNameButDifferent",
+          "com.google.errorprone.bugpatterns.SelfAlwaysReturnsThis",
+          "com.google.errorprone.bugpatterns.ShortCircuitBoolean",
+          "com.google.errorprone.bugpatterns.StatementSwitchToExpressionSwitch",
+          "com.google.errorprone.bugpatterns.StaticAssignmentInConstructor",
+          "com.google.errorprone.bugpatterns.StaticAssignmentOfThrowable",
+          "com.google.errorprone.bugpatterns.StaticMockMember",
+          "com.google.errorprone.bugpatterns.StreamResourceLeak",
+          "com.google.errorprone.bugpatterns.StreamToIterable",
+          "com.google.errorprone.bugpatterns.StringCaseLocaleUsage",
+          "com.google.errorprone.bugpatterns.StringCharset",
+          "com.google.errorprone.bugpatterns.StringConcatToTextBlock",
+          "com.google.errorprone.bugpatterns.StringSplitter",
+          "com.google.errorprone.bugpatterns.SuperCallToObjectMethod",
+          "com.google.errorprone.bugpatterns.SwigMemoryLeak",
+          "com.google.errorprone.bugpatterns.SystemConsoleNull",
+          "com.google.errorprone.bugpatterns.ThreadJoinLoop",
+          "com.google.errorprone.bugpatterns.ThreadLocalUsage",
+          "com.google.errorprone.bugpatterns.ThreeLetterTimeZoneID",
+          "com.google.errorprone.bugpatterns.ThrowIfUncheckedKnownUnchecked",
+          "com.google.errorprone.bugpatterns.ToStringReturnsNull",
+          "com.google.errorprone.bugpatterns.TraditionalSwitchExpression",
+          "com.google.errorprone.bugpatterns.TruthAssertExpected",
+          "com.google.errorprone.bugpatterns.TruthConstantAsserts",
+          "com.google.errorprone.bugpatterns.TruthGetOrDefault",
+          "com.google.errorprone.bugpatterns.TypeEqualsChecker",
+          "com.google.errorprone.bugpatterns.TypeNameShadowing",
+          "com.google.errorprone.bugpatterns.TypeParameterShadowing",
+          "com.google.errorprone.bugpatterns.TypeParameterUnusedInFormals",
+          "com.google.errorprone.bugpatterns.URLEqualsHashCode",
+          "com.google.errorprone.bugpatterns.UndefinedEquals",
+          "com.google.errorprone.bugpatterns.UnicodeEscape",
+          "com.google.errorprone.bugpatterns.UnnecessaryAssignment",
+          "com.google.errorprone.bugpatterns.UnnecessaryAsync",
+          "com.google.errorprone.bugpatterns.UnnecessaryBreakInSwitch",
+          "com.google.errorprone.bugpatterns.UnnecessaryLambda",
+          "com.google.errorprone.bugpatterns.UnnecessaryLongToIntConversion",
+          "com.google.errorprone.bugpatterns.UnnecessaryMethodInvocationMatcher",
+          "com.google.errorprone.bugpatterns.UnnecessaryMethodReference",
+          "com.google.errorprone.bugpatterns.UnnecessaryParentheses",
+          "com.google.errorprone.bugpatterns.UnnecessaryStringBuilder",
+          "com.google.errorprone.bugpatterns.UnsafeFinalization",
+          "com.google.errorprone.bugpatterns.UnsafeReflectiveConstructionCast",
+          "com.google.errorprone.bugpatterns.UnsynchronizedOverridesSynchronized",
+          "com.google.errorprone.bugpatterns.UnusedLabel",
+          "com.google.errorprone.bugpatterns.UnusedMethod",
+          "com.google.errorprone.bugpatterns.UnusedNestedClass",
+          "com.google.errorprone.bugpatterns.UnusedTypeParameter",
+          "com.google.errorprone.bugpatterns.UnusedVariable",
+          "com.google.errorprone.bugpatterns.VariableNameSameAsType",
+          "com.google.errorprone.bugpatterns.VoidUsed",
+          "com.google.errorprone.bugpatterns.WaitNotInLoop",
+          "com.google.errorprone.bugpatterns.WithSignatureDiscouraged",
+          "com.google.errorprone.bugpatterns.android.FragmentInjection",
+          "com.google.errorprone.bugpatterns.android.FragmentNotInstantiable",
+          "com.google.errorprone.bugpatterns.android.WakelockReleasedDangerously",
+          "com.google.errorprone.bugpatterns.argumentselectiondefects.ArgumentSelectionDefectChecker",
+          "com.google.errorprone.bugpatterns.argumentselectiondefects.AssertEqualsArgumentOrderChecker",
+          "com.google.errorprone.bugpatterns.collectionincompatibletype.CollectionUndefinedEquality",
+          "com.google.errorprone.bugpatterns.collectionincompatibletype.JUnitIncompatibleType",
+          "com.google.errorprone.bugpatterns.collectionincompatibletype.TruthIncompatibleType",
+          "com.google.errorprone.bugpatterns.flogger.FloggerArgumentToString",
+          "com.google.errorprone.bugpatterns.flogger.FloggerStringConcatenation",
+          "com.google.errorprone.bugpatterns.formatstring.InlineFormatString",
+          "com.google.errorprone.bugpatterns.inject.AssistedInjectAndInjectOnSameConstructor",
+          "com.google.errorprone.bugpatterns.inject.CloseableProvides",
+          "com.google.errorprone.bugpatterns.inject.InjectOnConstructorOfAbstractClass",
+          "com.google.errorprone.bugpatterns.inject.InjectedConstructorAnnotations",
+          "com.google.errorprone.bugpatterns.inject.InvalidTargetingOnScopingAnnotation",
+          "com.google.errorprone.bugpatterns.inject.JavaxInjectOnFinalField",
+          "com.google.errorprone.bugpatterns.inject.QualifierOrScopeOnInjectMethod",
+          "com.google.errorprone.bugpatterns.inject.ScopeAnnotationOnInterfaceOrAbstractClass",
+          "com.google.errorprone.bugpatterns.inject.dagger.EmptySetMultibindingContributions",
+          "com.google.errorprone.bugpatterns.inject.dagger.UseBinds",
+          "com.google.errorprone.bugpatterns.inject.guice.OverridesGuiceInjectableMethod",
+          "com.google.errorprone.bugpatterns.inlineme.Inliner",
+          "com.google.errorprone.bugpatterns.inlineme.Suggester",
+          "com.google.errorprone.bugpatterns.javadoc.AlmostJavadoc",
+          "com.google.errorprone.bugpatterns.javadoc.EmptyBlockTag",
+          "com.google.errorprone.bugpatterns.javadoc.EscapedEntity",
+          "com.google.errorprone.bugpatterns.javadoc.InheritDoc",
+          "com.google.errorprone.bugpatterns.javadoc.InvalidBlockTag",
+          "com.google.errorprone.bugpatterns.javadoc.InvalidInlineTag",
+          "com.google.errorprone.bugpatterns.javadoc.InvalidLink",
+          "com.google.errorprone.bugpatterns.javadoc.InvalidParam",
+          "com.google.errorprone.bugpatterns.javadoc.InvalidSnippet",
+          "com.google.errorprone.bugpatterns.javadoc.InvalidThrows",
+          "com.google.errorprone.bugpatterns.javadoc.InvalidThrowsLink",
+          "com.google.errorprone.bugpatterns.javadoc.MalformedInlineTag",
+          "com.google.errorprone.bugpatterns.javadoc.MissingSummary",
+          "com.google.errorprone.bugpatterns.javadoc.NotJavadoc",
+          "com.google.errorprone.bugpatterns.javadoc.ReturnFromVoid",
+          "com.google.errorprone.bugpatterns.javadoc.UnrecognisedJavadocTag",
+          "com.google.errorprone.bugpatterns.nullness.ExtendsObject",
+          "com.google.errorprone.bugpatterns.nullness.MultipleNullnessAnnotations",
+          "com.google.errorprone.bugpatterns.nullness.NullablePrimitive",
+          "com.google.errorprone.bugpatterns.nullness.NullablePrimitiveArray",
+          "com.google.errorprone.bugpatterns.nullness.NullableTypeParameter",
+          "com.google.errorprone.bugpatterns.nullness.NullableWildcard",
+          "com.google.errorprone.bugpatterns.threadsafety.DoubleCheckedLocking",
+          "com.google.errorprone.bugpatterns.threadsafety.ImmutableAnnotationChecker",
+          "com.google.errorprone.bugpatterns.threadsafety.ImmutableEnumChecker",
+          "com.google.errorprone.bugpatterns.threadsafety.StaticGuardedByInstance",
+          "com.google.errorprone.bugpatterns.threadsafety.SynchronizeOnNonFinalField",
+          "com.google.errorprone.bugpatterns.threadsafety.ThreadPriorityCheck",
+          "com.google.errorprone.bugpatterns.time.DateChecker",
+          "com.google.errorprone.bugpatterns.time.JavaDurationGetSecondsGetNano",
+          "com.google.errorprone.bugpatterns.time.JavaDurationGetSecondsToToSeconds",
+          "com.google.errorprone.bugpatterns.time.JavaDurationWithNanos",
+          "com.google.errorprone.bugpatterns.time.JavaDurationWithSeconds",
+          "com.google.errorprone.bugpatterns.time.JavaInstantGetSecondsGetNano",
+          "com.google.errorprone.bugpatterns.time.JavaLocalDateTimeGetNano",
+          "com.google.errorprone.bugpatterns.time.JavaLocalTimeGetNano",
+          "com.google.errorprone.bugpatterns.time.JavaPeriodGetDays",
+          "com.google.errorprone.bugpatterns.time.JavaTimeDefaultTimeZone",
+          "com.google.errorprone.bugpatterns.time.JodaConstructors",
+          "com.google.errorprone.bugpatterns.time.JodaDateTimeConstants",
+          "com.google.errorprone.bugpatterns.time.JodaDurationWithMillis",
+          "com.google.errorprone.bugpatterns.time.JodaInstantWithMillis",
+          "com.google.errorprone.bugpatterns.time.JodaNewPeriod",
+          "com.google.errorprone.bugpatterns.time.JodaPlusMinusLong",
+          "com.google.errorprone.bugpatterns.time.JodaTimeConverterManager",
+          "com.google.errorprone.bugpatterns.time.JodaWithDurationAddedLong",
+          "com.google.errorprone.bugpatterns.time.ProtoDurationGetSecondsGetNano",
+          "com.google.errorprone.bugpatterns.time.ProtoTimestampGetSecondsGetNano",
+          "com.google.errorprone.bugpatterns.time.TimeUnitConversionChecker"
           // keep-sorted end
           );
 
   /** A list of all checks that are off by default. */
   public static final ImmutableSet<BugCheckerInfo> DISABLED_CHECKS =
-      getSuppliers(
+      getSuppliersByName(
           // keep-sorted start
-          AndroidJdkLibsChecker.class,
-          AnnotationMirrorToString.class,
-          AnnotationPosition.class,
-          AnnotationValueToString.class,
-          AssertFalse.class,
-          AssistedInjectAndInjectOnConstructors.class,
-          AutoFactoryAtInject.class,
-          AvoidObjectArrays.class,
-          BanClassLoader.class,
-          BanSerializableRead.class,
-          BinderIdentityRestoredDangerously.class, // TODO: enable this by default.
-          BindingToUnqualifiedCommonType.class,
-          BooleanParameter.class,
-          BuilderReturnThis.class,
-          CanIgnoreReturnValueSuggester.class,
-          CannotMockFinalClass.class,
-          CannotMockMethod.class,
-          CatchingUnchecked.class,
-          CheckedExceptionNotThrown.class,
-          ClassName.class,
-          ClassNamedLikeTypeParameter.class,
-          ComparisonContractViolated.class,
-          ConstantField.class,
-          ConstantPatternCompile.class,
-          DeduplicateConstants.class,
-          DefaultLocale.class, // TODO: enable this by default.
-          DepAnn.class,
-          DifferentNameButSame.class,
-          EmptyIfStatement.class,
-          EqualsBrokenForNull.class,
-          EqualsMissingNullable.class,
-          ExpectedExceptionChecker.class,
-          ExtendsAutoValue.class,
-          FieldCanBeFinal.class,
-          FieldCanBeLocal.class,
-          FieldCanBeStatic.class,
-          FieldMissingNullable.class,
-          FloggerLogWithCause.class,
-          FloggerMessageFormat.class,
-          FloggerRedundantIsEnabled.class,
-          FloggerRequiredModifiers.class,
-          FloggerWithCause.class,
-          FloggerWithoutCause.class,
-          ForEachIterable.class,
-          FunctionalInterfaceClash.class,
-          HardCodedSdCardPath.class,
-          IdentifierName.class,
-          ImmutableMemberCollection.class,
-          ImmutableRefactoring.class,
-          ImmutableSetForContains.class,
-          ImplementAssertionWithChaining.class,
-          InconsistentOverloads.class,
-          InitializeInline.class,
-          InsecureCipherMode.class,
-          InterfaceWithOnlyStatics.class,
-          InterruptedExceptionSwallowed.class,
-          Interruption.class,
-          IterablePathParameter.class,
-          Java7ApiChecker.class,
-          Java8ApiChecker.class,
-          LambdaFunctionalInterface.class,
-          LongLiteralLowerCaseSuffix.class,
-          MethodCanBeStatic.class,
-          MissingBraces.class,
-          MissingDefault.class,
-          MissingRuntimeRetention.class,
-          MixedArrayDimensions.class,
-          MockitoDoSetup.class,
-          MoreThanOneQualifier.class,
-          MultiVariableDeclaration.class,
-          MultipleTopLevelClasses.class,
-          MutableGuiceModule.class,
-          NegativeBoolean.class,
-          NoAllocationChecker.class,
-          NonCanonicalStaticMemberImport.class,
-          NonFinalStaticField.class, // Intentionally disabled in OSS.
-          PackageLocation.class,
-          ParameterComment.class,
-          ParameterMissingNullable.class,
-          PreferJavaTimeOverload.class,
-          PreferredInterfaceType.class,
-          PrimitiveArrayPassedToVarargsMethod.class,
-          PrivateConstructorForNoninstantiableModule.class,
-          PrivateConstructorForUtilityClass.class,
-          PublicApiNamedStreamShouldReturnStream.class,
-          QualifierWithTypeUse.class,
-          RedundantOverride.class,
-          RedundantThrows.class,
-          RefersToDaggerCodegen.class,
-          RemoveUnusedImports.class,
-          ReturnMissingNullable.class,
-          ReturnsNullCollection.class,
-          ScopeOnModule.class,
-          StaticOrDefaultInterfaceMethod.class,
-          StaticQualifiedUsingExpression.class,
-          StringFormatWithLiteral.class,
-          StronglyTypeByteString.class,
-          StronglyTypeTime.class,
-          SunApi.class,
-          SuppressWarningsWithoutExplanation.class,
-          SwitchDefault.class,
-          SymbolToString.class,
-          SystemExitOutsideMain.class,
-          SystemOut.class,
-          TestExceptionChecker.class,
-          ThrowSpecificExceptions.class,
-          ThrowsUncheckedException.class,
-          TimeUnitMismatch.class,
-          TooManyParameters.class,
-          TransientMisuse.class,
-          TruthContainsExactlyElementsInUsage.class,
-          TryFailRefactoring.class,
-          TryWithResourcesVariable.class,
-          TypeParameterNaming.class,
-          TypeToString.class,
-          UnescapedEntity.class, // TODO(b/263817298): re-enable
-          UngroupedOverloads.class,
-          UnnecessarilyFullyQualified.class,
-          UnnecessarilyUsedValue.class,
-          UnnecessarilyVisible.class,
-          UnnecessaryAnonymousClass.class,
-          UnnecessaryBoxedAssignment.class,
-          UnnecessaryBoxedVariable.class,
-          UnnecessaryDefaultInEnumSwitch.class,
-          UnnecessaryFinal.class,
-          UnnecessaryOptionalGet.class,
-          UnnecessarySetDefault.class,
-          UnnecessaryStaticImport.class,
-          UnnecessaryTestMethodPrefix.class,
-          UnsafeLocaleUsage.class,
-          UnusedException.class,
-          UrlInSee.class,
-          UseCorrectAssertInTests.class,
-          UseEnumSwitch.class,
-          UsingJsr305CheckReturnValue.class,
-          VarChecker.class,
-          Varifier.class,
-          VoidMissingNullable.class,
-          WildcardImport.class,
-          YodaCondition.class
+          "com.google.errorprone.bugpatterns.AnnotationMirrorToString",
+          "com.google.errorprone.bugpatterns.AnnotationPosition",
+          "com.google.errorprone.bugpatterns.AnnotationValueToString",
+          "com.google.errorprone.bugpatterns.AssertFalse",
+          "com.google.errorprone.bugpatterns.AvoidObjectArrays",
+          "com.google.errorprone.bugpatterns.BanClassLoader",
+          "com.google.errorprone.bugpatterns.BanSerializableRead",
+          "com.google.errorprone.bugpatterns.BooleanParameter",
+          "com.google.errorprone.bugpatterns.CannotMockFinalClass",
+          "com.google.errorprone.bugpatterns.CannotMockMethod",
+          "com.google.errorprone.bugpatterns.CatchingUnchecked",
+          "com.google.errorprone.bugpatterns.CheckedExceptionNotThrown",
+          "com.google.errorprone.bugpatterns.ClassName",
+          "com.google.errorprone.bugpatterns.ClassNamedLikeTypeParameter",
+          "com.google.errorprone.bugpatterns.ComparisonContractViolated",
+          "com.google.errorprone.bugpatterns.ConstantField",
+          "com.google.errorprone.bugpatterns.ConstantPatternCompile",
+          "com.google.errorprone.bugpatterns.DeduplicateConstants",
+          "com.google.errorprone.bugpatterns.DefaultLocale", // TODO: enable this by default.
+          "com.google.errorprone.bugpatterns.DepAnn",
+          "com.google.errorprone.bugpatterns.DifferentNameButSame",
+          "com.google.errorprone.bugpatterns.EmptyIfStatement",
+          "com.google.errorprone.bugpatterns.ExpectedExceptionChecker",
+          "com.google.errorprone.bugpatterns.ExtendsAutoValue",
+          "com.google.errorprone.bugpatterns.FieldCanBeFinal",
+          "com.google.errorprone.bugpatterns.FieldCanBeLocal",
+          "com.google.errorprone.bugpatterns.FieldCanBeStatic",
+          "com.google.errorprone.bugpatterns.ForEachIterable",
+          "com.google.errorprone.bugpatterns.FunctionalInterfaceClash",
+          "com.google.errorprone.bugpatterns.IdentifierName",
+          "com.google.errorprone.bugpatterns.ImmutableMemberCollection",
+          "com.google.errorprone.bugpatterns.ImmutableSetForContains",
+          "com.google.errorprone.bugpatterns.ImplementAssertionWithChaining",
+          "com.google.errorprone.bugpatterns.InitializeInline",
+          "com.google.errorprone.bugpatterns.InsecureCipherMode",
+          "com.google.errorprone.bugpatterns.InterfaceWithOnlyStatics",
+          "com.google.errorprone.bugpatterns.InterruptedExceptionSwallowed",
+          "com.google.errorprone.bugpatterns.Interruption",
+          "com.google.errorprone.bugpatterns.IterablePathParameter",
+          "com.google.errorprone.bugpatterns.LambdaFunctionalInterface",
+          "com.google.errorprone.bugpatterns.LongLiteralLowerCaseSuffix",
+          "com.google.errorprone.bugpatterns.MethodCanBeStatic",
+          "com.google.errorprone.bugpatterns.MissingBraces",
+          "com.google.errorprone.bugpatterns.MissingDefault",
+          "com.google.errorprone.bugpatterns.MixedArrayDimensions",
+          "com.google.errorprone.bugpatterns.MockitoDoSetup",
+          "com.google.errorprone.bugpatterns.MultiVariableDeclaration",
+          "com.google.errorprone.bugpatterns.MultipleTopLevelClasses",
+          "com.google.errorprone.bugpatterns.MutableGuiceModule",
+          "com.google.errorprone.bugpatterns.NegativeBoolean",
+          "com.google.errorprone.bugpatterns.NoAllocationChecker",
+          "com.google.errorprone.bugpatterns.NonCanonicalStaticMemberImport",
+          "com.google.errorprone.bugpatterns.NonFinalStaticField", // Intentionally disabled in OSS.
+          "com.google.errorprone.bugpatterns.PackageLocation",
+          "com.google.errorprone.bugpatterns.ParameterComment",
+          "com.google.errorprone.bugpatterns.PreferredInterfaceType",
+          "com.google.errorprone.bugpatterns.PrimitiveArrayPassedToVarargsMethod",
+          "com.google.errorprone.bugpatterns.PrivateConstructorForUtilityClass",
+          "com.google.errorprone.bugpatterns.PublicApiNamedStreamShouldReturnStream",
+          "com.google.errorprone.bugpatterns.RedundantOverride",
+          "com.google.errorprone.bugpatterns.RedundantThrows",
+          "com.google.errorprone.bugpatterns.RemoveUnusedImports",
+          "com.google.errorprone.bugpatterns.ReturnsNullCollection",
+          "com.google.errorprone.bugpatterns.StaticQualifiedUsingExpression",
+          "com.google.errorprone.bugpatterns.StringFormatWithLiteral",
+          "com.google.errorprone.bugpatterns.StronglyTypeByteString",
+          "com.google.errorprone.bugpatterns.SunApi",
+          "com.google.errorprone.bugpatterns.SuppressWarningsWithoutExplanation",
+          "com.google.errorprone.bugpatterns.SwitchDefault",
+          "com.google.errorprone.bugpatterns.SymbolToString",
+          "com.google.errorprone.bugpatterns.SystemExitOutsideMain",
+          "com.google.errorprone.bugpatterns.SystemOut",
+          "com.google.errorprone.bugpatterns.TestExceptionChecker",
+          "com.google.errorprone.bugpatterns.ThrowSpecificExceptions",
+          "com.google.errorprone.bugpatterns.ThrowsUncheckedException",
+          "com.google.errorprone.bugpatterns.TooManyParameters",
+          "com.google.errorprone.bugpatterns.TransientMisuse",
+          "com.google.errorprone.bugpatterns.TruthContainsExactlyElementsInUsage",
+          "com.google.errorprone.bugpatterns.TryFailRefactoring",
+          "com.google.errorprone.bugpatterns.TryWithResourcesVariable",
+          "com.google.errorprone.bugpatterns.TypeParameterNaming",
+          "com.google.errorprone.bugpatterns.TypeToString",
+          "com.google.errorprone.bugpatterns.UngroupedOverloads",
+          "com.google.errorprone.bugpatterns.UnnecessarilyFullyQualified",
+          "com.google.errorprone.bugpatterns.UnnecessarilyVisible",
+          "com.google.errorprone.bugpatterns.UnnecessaryAnonymousClass",
+          "com.google.errorprone.bugpatterns.UnnecessaryBoxedAssignment",
+          "com.google.errorprone.bugpatterns.UnnecessaryBoxedVariable",
+          "com.google.errorprone.bugpatterns.UnnecessaryDefaultInEnumSwitch",
+          "com.google.errorprone.bugpatterns.UnnecessaryFinal",
+          "com.google.errorprone.bugpatterns.UnnecessaryOptionalGet",
+          "com.google.errorprone.bugpatterns.UnnecessarySetDefault",
+          "com.google.errorprone.bugpatterns.UnnecessaryStaticImport",
+          "com.google.errorprone.bugpatterns.UnnecessaryTestMethodPrefix",
+          "com.google.errorprone.bugpatterns.UnsafeLocaleUsage",
+          "com.google.errorprone.bugpatterns.UnusedException",
+          "com.google.errorprone.bugpatterns.UseCorrectAssertInTests",
+          "com.google.errorprone.bugpatterns.UseEnumSwitch",
+          "com.google.errorprone.bugpatterns.VarChecker",
+          "com.google.errorprone.bugpatterns.Varifier",
+          "com.google.errorprone.bugpatterns.WildcardImport",
+          "com.google.errorprone.bugpatterns.YodaCondition",
+          "com.google.errorprone.bugpatterns.android.BinderIdentityRestoredDangerously", // TODO:
+          // enable
+          // this by
+          // default.
+          "com.google.errorprone.bugpatterns.android.HardCodedSdCardPath",
+          "com.google.errorprone.bugpatterns.android.StaticOrDefaultInterfaceMethod",
+          "com.google.errorprone.bugpatterns.apidiff.AndroidJdkLibsChecker",
+          "com.google.errorprone.bugpatterns.apidiff.Java7ApiChecker",
+          "com.google.errorprone.bugpatterns.apidiff.Java8ApiChecker",
+          "com.google.errorprone.bugpatterns.checkreturnvalue.BuilderReturnThis",
+          "com.google.errorprone.bugpatterns.checkreturnvalue.CanIgnoreReturnValueSuggester",
+          "com.google.errorprone.bugpatterns.checkreturnvalue.UnnecessarilyUsedValue",
+          "com.google.errorprone.bugpatterns.checkreturnvalue.UsingJsr305CheckReturnValue",
+          "com.google.errorprone.bugpatterns.flogger.FloggerLogWithCause",
+          "com.google.errorprone.bugpatterns.flogger.FloggerMessageFormat",
+          "com.google.errorprone.bugpatterns.flogger.FloggerRedundantIsEnabled",
+          "com.google.errorprone.bugpatterns.flogger.FloggerRequiredModifiers",
+          "com.google.errorprone.bugpatterns.flogger.FloggerWithCause",
+          "com.google.errorprone.bugpatterns.flogger.FloggerWithoutCause",
+          "com.google.errorprone.bugpatterns.inject.AssistedInjectAndInjectOnConstructors",
+          "com.google.errorprone.bugpatterns.inject.AutoFactoryAtInject",
+          "com.google.errorprone.bugpatterns.inject.MissingRuntimeRetention",
+          "com.google.errorprone.bugpatterns.inject.MoreThanOneQualifier",
+          "com.google.errorprone.bugpatterns.inject.QualifierWithTypeUse",
+          "com.google.errorprone.bugpatterns.inject.dagger.PrivateConstructorForNoninstantiableModule",
+          "com.google.errorprone.bugpatterns.inject.dagger.RefersToDaggerCodegen",
+          "com.google.errorprone.bugpatterns.inject.dagger.ScopeOnModule",
+          "com.google.errorprone.bugpatterns.inject.guice.BindingToUnqualifiedCommonType",
+          "com.google.errorprone.bugpatterns.javadoc.UnescapedEntity", // TODO(b/263817298):
+          // re-enable
+          "com.google.errorprone.bugpatterns.javadoc.UrlInSee",
+          "com.google.errorprone.bugpatterns.nullness.EqualsBrokenForNull",
+          "com.google.errorprone.bugpatterns.nullness.EqualsMissingNullable",
+          "com.google.errorprone.bugpatterns.nullness.FieldMissingNullable",
+          "com.google.errorprone.bugpatterns.nullness.ParameterMissingNullable",
+          "com.google.errorprone.bugpatterns.nullness.ReturnMissingNullable",
+          "com.google.errorprone.bugpatterns.nullness.VoidMissingNullable",
+          "com.google.errorprone.bugpatterns.overloading.InconsistentOverloads",
+          "com.google.errorprone.bugpatterns.threadsafety.ImmutableRefactoring",
+          "com.google.errorprone.bugpatterns.time.PreferJavaTimeOverload",
+          "com.google.errorprone.bugpatterns.time.StronglyTypeTime",
+          "com.google.errorprone.bugpatterns.time.TimeUnitMismatch"
           // keep-sorted end
           );
 
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2026 The Error Prone Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.errorprone;
+
+import static com.google.common.truth.Truth.assertThat;
+import static com.google.common.truth.Truth.assertWithMessage;
+import static org.junit.Assert.assertThrows;
+
+import com.google.errorprone.BugPattern.LinkType;
+import com.google.errorprone.BugPattern.SeverityLevel;
+import com.google.errorprone.bugpatterns.BugChecker;
+import com.google.errorprone.bugpatterns.DeadException;
+import com.google.errorprone.scanner.BuiltInCheckerSuppliers;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import org.jspecify.annotations.Nullable;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/** Tests for {@link BugPatternIndex}. */
+@RunWith(JUnit4.class)
+public class BugPatternIndexTest {
+
+  @Rule public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Test
+  public void indexMatchesAnnotations() {
+    ClassLoader classLoader = BuiltInCheckerSuppliers.class.getClassLoader();
+    for (BugCheckerInfo checker : BuiltInCheckerSuppliers.allChecks().getAllChecks().values()) {
+      Class<? extends BugChecker> clazz = checker.checkerClass();
+      assertWithMessage(checker.checkerClassName())
+          .that(BugPatternIndex.lookup(checker.checkerClassName(), classLoader))
+          .hasValue(BugPatternIndex.describe(clazz, clazz.getAnnotation(BugPattern.class)));
+      BugCheckerInfo expected = BugCheckerInfo.create(clazz);
+      assertThat(checker.canonicalName()).isEqualTo(expected.canonicalName());
+      assertThat(checker.allNames()).containsExactlyElementsIn(expected.allNames()).inOrder();
+      assertThat(checker.message()).isEqualTo(expected.message());
+      assertThat(checker.defaultSeverity()).isEqualTo(expected.defaultSeverity());
+      assertThat(checker.linkUrl()).isEqualTo(expected.linkUrl());
+      assertThat(checker.supportsSuppressWarnings()).isEqualTo(expected.supportsSuppressWarnings());
+      assertThat(checker.customSuppressionAnnotations())
+          .containsExactlyElementsIn(expected.customSuppressionAnnotations());
+      assertThat(checker.getTags()).containsExactlyElementsIn(expected.getTags());
+      assertThat(checker.disableable()).isEqualTo(expected.disableable());
+    }
+  }
+
+  @Test
+  public void create_loadsClassOnlyWhenNeeded() {
+    RecordingClassLoader classLoader = new RecordingClassLoader(/* index= */ null);
+
+    BugCheckerInfo checker = BugCheckerInfo.create(DeadException.class.getName(), classLoader);
+
+    assertThat(checker.canonicalName()).isEqualTo("DeadException");
+    assertThat(classLoader.loaded).doesNotContain(DeadException.class.getName());
+    assertThat(checker.checkerClass()).isEqualTo(DeadException.class);
+    assertThat(classLoader.loaded).contains(DeadException.class.getName());
+  }
+
+  @Test
+  public void create_notInIndex() throws IOException {
+    Path index = temporaryFolder.newFile().toPath();
+    RecordingClassLoader classLoader = new RecordingClassLoader(index.toUri().toURL());
+
+    BugCheckerInfo checker = BugCheckerInfo.create(DeadException.class.getName(), classLoader);
+
+    // The annotation is read reflectively instead.
+    assertThat(classLoader.loaded).contains(DeadException.class.getName());
+    assertThat(checker.canonicalName()).isEqualTo("DeadException");
+    assertThat(checker.checkerClass()).isEqualTo(DeadException.class);
+  }
+
+  /** Records the classes it's asked for, and optionally replaces the index with another file. */
+  private static final class RecordingClassLoader extends ClassLoader {
+    final List<String> loaded = new ArrayList<>();
+    private final @Nullable URL index;
+
+    RecordingClassLoader(@Nullable URL index) {
+      super(BugPatternIndexTest.class.getClassLoader());
+      this.index = index;
+    }
+
+    @Override
+    protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+      loaded.add(name);
+      return super.loadClass(name, resolve);
+    }
+
+    @Override
+    public Enumeration<URL> getResources(String name) throws IOException {
+      return index != null && name.equals(BugPatternIndex.INDEX)
+          ? Collections.enumeration(List.of(index))
+          : super.getResources(name);
+    }
+  }
+
+  @Test
+  public void parse() {
+    BugPatternIndex.Entry entry =
+        BugPatternIndex.parse(
+            "com.example.Check\tCheck\tOld,Older\tTabs\\tand\\\\slashes\\c too\tERROR\tCUSTOM"
+                + "\thttps://example.com\tA,B\tcom.example.Outer$Suppress\tfalse");
+    assertThat(entry.className()).isEqualTo("com.example.Check");
+    assertThat(entry.canonicalName()).isEqualTo("Check");
+    assertThat(entry.altNames()).containsExactly("Old", "Older").inOrder();
+    assertThat(entry.summary()).isEqualTo("Tabs\tand\\slashes, too");
+    assertThat(entry.severity()).isEqualTo(SeverityLevel.ERROR);
+    assertThat(entry.linkType()).isEqualTo(LinkType.CUSTOM);
+    assertThat(entry.link()).isEqualTo("https://example.com");
+    assertThat(entry.tags()).containsExactly("A", "B").inOrder();
+    assertThat(entry.suppressionAnnotations()).containsExactly("com.example.Outer$Suppress");
+    assertThat(entry.disableable()).isFalse();
+  }
+
+  @Test
+  public void parse_emptyLists() {
+    BugPatternIndex.Entry entry =
+        BugPatternIndex.parse(
+            "com.example.Check\tCheck\t\tSummary\tWARNING\tNONE\t\t\tjava.lang.SuppressWarnings"
+                + "\ttrue");
+    assertThat(entry.altNames()).isEmpty();
+    assertThat(entry.tags()).isEmpty();
+  }
+
+  @Test
+  public void parse_malformed() {
+    assertThrows(IllegalStateException.class, () -> BugPatternIndex.parse("com.example.Check"));
+  }
+}
@@ -42,7 +42,9 @@ import com.google.errorprone.scanner.ScannerSupplier;
 import com.google.errorprone.util.ASTHelpers;
 import com.sun.source.tree.ClassTree;
 import com.sun.source.tree.MethodTree;
+import com.sun.tools.javac.api.BasicJavacTask;
 import com.sun.tools.javac.file.JavacFileManager;
+import com.sun.tools.javac.util.Context;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
@@ -324,6 +326,31 @@ public class ErrorProneJavaCompilerTest {
         .contains("[ChainingConstructorIgnoresParameter]");
   }
 
+  @Test
+  public void trackAllocations() throws Exception {
+    JavaCompiler errorProneJavaCompiler = new ErrorProneJavaCompiler();
+    ImmutableList<String> args =
+        ImmutableList.of(
+            "-d",
+            tempDir.getRoot().getAbsolutePath(),
+            "-proc:none",
+            "-XepOpt:" + ErrorProneTimings.TRACK_ALLOCATIONS_FLAG + "=true");
+    ImmutableList<JavaFileObject> sources =
+        forResources(
+            ChainingConstructorIgnoresParameter.class,
+            "testdata/ChainingConstructorIgnoresParameterPositiveCases.java");
+
+    JavaCompiler.CompilationTask task =
+        errorProneJavaCompiler.getTask(null, null, null, args, null, sources);
+    Context context = ((BasicJavacTask) task).getContext();
+    boolean unused = task.call();
+
+    ErrorProneTimings timings = ErrorProneTimings.instance(context);
+    assertThat(timings.allocations()).isNotEmpty();
+    assertThat(timings.timings().keySet())
+        .containsAtLeastElementsIn(timings.allocations().keySet());
+  }
+
   @Test
   public void maturityResetsAfterOverride() throws Exception {
     DiagnosticTestHelper diagnosticHelper = new DiagnosticTestHelper();
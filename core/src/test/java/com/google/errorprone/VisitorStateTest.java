@@ -47,6 +47,7 @@ import java.nio.file.FileSystem;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.jar.JarEntry;
 import java.util.jar.JarOutputStream;
 import java.util.stream.Stream;
@@ -108,6 +109,49 @@ public class VisitorStateTest {
     assertThat(visitorState.getConstantExpression('\'')).isEqualTo("'\\''");
   }
 
+  @Test
+  public void memoize_cachedPerContext() {
+    AtomicInteger calls = new AtomicInteger();
+    Supplier<Integer> supplier = VisitorState.memoize(state -> calls.incrementAndGet());
+    VisitorState first = VisitorState.createForUtilityPurposes(newContext());
+    VisitorState second = VisitorState.createForUtilityPurposes(newContext());
+
+    assertThat(supplier.get(first)).isEqualTo(1);
+    assertThat(supplier.get(first)).isEqualTo(1);
+    assertThat(supplier.get(second)).isEqualTo(2);
+    assertThat(supplier.get(first)).isEqualTo(1);
+    assertThat(supplier.get(VisitorState.createForUtilityPurposes(first.context))).isEqualTo(1);
+  }
+
+  @Test
+  public void memoize_doesNotCacheNull() {
+    AtomicInteger calls = new AtomicInteger();
+    Supplier<Object> supplier =
+        VisitorState.memoize(
+            state -> {
+              calls.incrementAndGet();
+              return null;
+            });
+    VisitorState state = VisitorState.createForUtilityPurposes(newContext());
+
+    assertThat(supplier.get(state)).isNull();
+    assertThat(supplier.get(state)).isNull();
+    assertThat(calls.get()).isEqualTo(2);
+  }
+
+  private static Context newContext() {
+    JavacTask task =
+        JavacTool.create()
+            .getTask(
+                /* out= */ null,
+                FileManagers.testFileManager(),
+                /* diagnosticListener= */ null,
+                /* options= */ ImmutableList.of(),
+                /* classes= */ ImmutableList.of(),
+                /* compilationUnits= */ ImmutableList.of());
+    return ((BasicJavacTask) task).getContext();
+  }
+
   // The following is taken from ErrorProneJavacPluginTest. There may be an easier way.
   // It's possible that it's overkill for what we need here.
 
@@ -191,4 +235,41 @@ public class VisitorStateTest {
             .collect(onlyElement());
     assertThat(diagnostic.getMessage(ENGLISH)).contains("UnsupportedOperationException");
   }
+
+  /** A bugpattern for testing. */
+  @BugPattern(summary = "", severity = ERROR)
+  public static class SymbolFromStringChecker extends BugChecker implements ClassTreeMatcher {
+    @Override
+    public Description matchClass(ClassTree tree, VisitorState state) {
+      return buildDescription(tree)
+          .setMessage(
+              String.format(
+                  "list=%s, self=%s, missing=%s",
+                  state.getSymbolFromString("java.util.List"),
+                  state.getSymbolFromString("foo.Test"),
+                  state.getSymbolFromString("foo.DoesNotExist")))
+          .build();
+    }
+  }
+
+  @Test
+  public void symbolFromString_modular() {
+    CompilationTestHelper.newInstance(SymbolFromStringChecker.class, getClass())
+        .addSourceLines(
+            "module-info.java",
+            """
+            module foo {
+              requires java.base;
+            }
+            """)
+        .addSourceLines(
+            "foo/Test.java",
+            """
+            package foo;
+
+            // BUG: Diagnostic contains: list=java.util.List, self=foo.Test, missing=null
+            class Test {}
+            """)
+        .doTest();
+  }
 }
@@ -22,10 +22,10 @@ import com.google.errorprone.CompilationTestHelper;
 import com.google.errorprone.VisitorState;
 import com.google.errorprone.bugpatterns.BugChecker;
 import com.google.errorprone.bugpatterns.BugChecker.MethodInvocationTreeMatcher;
+import com.google.errorprone.bugpatterns.argumentselectiondefects.ArgumentChangeFinder.DistanceFunction;
 import com.google.errorprone.matchers.Description;
 import com.google.errorprone.util.ASTHelpers;
 import com.sun.source.tree.MethodInvocationTree;
-import java.util.function.Function;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
@@ -320,10 +320,10 @@ public class ArgumentSelectionDefectCheckerTest {
         .doTest();
   }
 
-  private static Function<ParameterPair, Double> buildEqualityFunction() {
-    return new Function<ParameterPair, Double>() {
+  private static DistanceFunction buildEqualityFunction() {
+    return new DistanceFunction() {
       @Override
-      public Double apply(ParameterPair parameterPair) {
+      public double distance(ParameterPair parameterPair, VisitorState state) {
         return parameterPair.formal().name().equals(parameterPair.actual().name()) ? 0.0 : 1.0;
       }
     };
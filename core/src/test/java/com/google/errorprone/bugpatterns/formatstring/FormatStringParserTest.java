@@ -0,0 +1,140 @@
+/*
+ * Copyright 2026 The Error Prone Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.errorprone.bugpatterns.formatstring;
+
+import static com.google.common.truth.Truth.assertThat;
+import static com.google.common.truth.Truth.assertWithMessage;
+
+import com.google.common.collect.ImmutableList;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.IllegalFormatException;
+import java.util.OptionalInt;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/** {@link FormatStringParser}Test */
+@RunWith(JUnit4.class)
+public class FormatStringParserTest {
+
+  private static final ImmutableList<String> FORMAT_STRINGS =
+      ImmutableList.of(
+          "",
+          "no specifiers",
+          "%",
+          "%%",
+          "100%% %n",
+          "%s",
+          "%S %s",
+          "%-10s|",
+          "%-s",
+          "%--5s",
+          "%10.3s",
+          "%.s",
+          "%d",
+          "%5d",
+          "%05d",
+          "%,d",
+          "%.2d",
+          "%x %X %o",
+          "%c",
+          "%.1c",
+          "%f %e %g",
+          "%.2f",
+          "%-8.3E",
+          "%a",
+          "%b %h",
+          "%tY",
+          "%1$s %1$s",
+          "%2$s %1$s",
+          "%0$s",
+          "%3$d",
+          "%s %<s",
+          "%1$%",
+          "%5%",
+          "%-5n",
+          "%q",
+          "%D",
+          "%12345678901s",
+          "%s %d %f %c");
+
+  private static final ImmutableList<Object[]> ARGUMENTS =
+      ImmutableList.of(
+          new Object[] {},
+          new Object[] {"string"},
+          new Object[] {3},
+          new Object[] {(byte) 1, (short) 2, 4L},
+          new Object[] {BigInteger.ONE, BigDecimal.TEN},
+          new Object[] {5.0f, 6.0d},
+          new Object[] {'c', null},
+          new Object[] {new Object(), new Date()},
+          new Object[] {"string", 3, 6.0d, 'c'},
+          new Object[] {3, 0x110000, -1, "string"});
+
+  @Test
+  public void agreesWithFormatter() {
+    for (String formatString : FORMAT_STRINGS) {
+      for (Object[] arguments : ARGUMENTS) {
+        OptionalInt used = FormatStringParser.argumentsUsed(formatString, arguments);
+        if (used.isEmpty()) {
+          continue;
+        }
+        assertWithMessage("%s with %s", formatString, Arrays.toString(arguments))
+            .that(used.getAsInt())
+            .isEqualTo(formatterArgumentsUsed(formatString, arguments));
+      }
+    }
+  }
+
+  @Test
+  public void commonFormatStrings() {
+    assertThat(FormatStringParser.argumentsUsed("%s: %d%%%n", new Object[] {"a", 1}))
+        .isEqualTo(OptionalInt.of(2));
+    assertThat(FormatStringParser.argumentsUsed("%-10s %.2f", new Object[] {"a", 1.0d, 2}))
+        .isEqualTo(OptionalInt.of(2));
+    assertThat(FormatStringParser.argumentsUsed("%2$s %1$s", new Object[] {"a", "b"}))
+        .isEqualTo(OptionalInt.of(2));
+  }
+
+  @Test
+  public void defersToFormatter() {
+    assertThat(FormatStringParser.argumentsUsed("%d", new Object[] {"a"})).isEmpty();
+    assertThat(FormatStringParser.argumentsUsed("%s %s", new Object[] {"a"})).isEmpty();
+    assertThat(FormatStringParser.argumentsUsed("%+d", new Object[] {1})).isEmpty();
+    assertThat(FormatStringParser.argumentsUsed("%tY", new Object[] {new Date()})).isEmpty();
+    assertThat(FormatStringParser.argumentsUsed("%l", new Object[] {1})).isEmpty();
+  }
+
+  /**
+   * The number of leading arguments the formatter needs, computed the way {@link
+   * FormatStringValidation} did before it had a parser; or -1 if formatting fails.
+   */
+  private static int formatterArgumentsUsed(String formatString, Object[] arguments) {
+    for (int i = 0; i <= arguments.length; i++) {
+      try {
+        String unused = String.format(formatString, Arrays.copyOf(arguments, i));
+        return i;
+      } catch (IllegalFormatException e) {
+        // try with another argument
+      }
+    }
+    return -1;
+  }
+}
@@ -28,6 +28,7 @@ import com.google.errorprone.VisitorState;
 import com.google.errorprone.bugpatterns.BugChecker;
 import com.google.errorprone.bugpatterns.BugChecker.MemberReferenceTreeMatcher;
 import com.google.errorprone.bugpatterns.BugChecker.MethodInvocationTreeMatcher;
+import com.google.errorprone.bugpatterns.BugChecker.NewClassTreeMatcher;
 import com.google.errorprone.fixes.SuggestedFix;
 import com.google.errorprone.matchers.method.MethodMatchers;
 import com.google.errorprone.matchers.method.MethodMatchers.MethodNameMatcher;
@@ -274,4 +275,94 @@ public class MethodMatchersTest {
             """)
         .doTest();
   }
+
+  /** Test BugChecker for checking cheap constraints before owner predicates. */
+  @BugPattern(summary = "", severity = ERROR)
+  public static class ConstraintOrderChecker extends BugChecker
+      implements MethodInvocationTreeMatcher {
+    private static final Matcher<ExpressionTree> MATCHER =
+        instanceMethod()
+            .onClass(
+                (type, state) -> {
+                  throw new AssertionError("owner checked before name: " + type);
+                })
+            .named("neverCalled");
+
+    @Override
+    public Description matchMethodInvocation(MethodInvocationTree tree, VisitorState state) {
+      return MATCHER.matches(tree, state) ? describeMatch(tree) : NO_MATCH;
+    }
+  }
+
+  @Test
+  public void constraintOrder_nameCheckedBeforeOwner() {
+    CompilationTestHelper.newInstance(ConstraintOrderChecker.class, getClass())
+        .addSourceLines(
+            "Test.java",
+            """
+            class Test {
+              void f() {
+                toString();
+              }
+            }
+            """)
+        .doTest();
+  }
+
+  /** Test BugChecker for {@code anyOf} groups of method matchers. */
+  @BugPattern(summary = "", severity = ERROR)
+  public static class AnyOfMethodsChecker extends BugChecker
+      implements MethodInvocationTreeMatcher, NewClassTreeMatcher {
+    private static final Matcher<ExpressionTree> MATCHER =
+        Matchers.anyOf(
+            instanceMethod().onDescendantOf("java.util.List").named("add"),
+            instanceMethod().onExactClass("java.lang.String").namedAnyOf("trim", "strip"),
+            staticMethod().onClass("java.lang.String").named("valueOf"),
+            staticMethod().anyClass().named("valueOf").withNoParameters(),
+            constructor().forClass("java.lang.StringBuilder"));
+
+    @Override
+    public Description matchMethodInvocation(MethodInvocationTree tree, VisitorState state) {
+      return MATCHER.matches(tree, state) ? describeMatch(tree) : NO_MATCH;
+    }
+
+    @Override
+    public Description matchNewClass(NewClassTree tree, VisitorState state) {
+      return MATCHER.matches(tree, state) ? describeMatch(tree) : NO_MATCH;
+    }
+  }
+
+  @Test
+  public void anyOf_indexedByName() {
+    CompilationTestHelper.newInstance(AnyOfMethodsChecker.class, getClass())
+        .addSourceLines(
+            "Test.java",
+            """
+            import java.util.ArrayList;
+            import java.util.List;
+            import java.util.Set;
+
+            class Test {
+              void f(List<String> list, ArrayList<String> arrayList, Set<String> set, String s) {
+                // BUG: Diagnostic contains:
+                list.add(s);
+                // BUG: Diagnostic contains:
+                arrayList.add(s);
+                set.add(s);
+                // BUG: Diagnostic contains:
+                s.trim();
+                // BUG: Diagnostic contains:
+                s.strip();
+                s.isBlank();
+                // BUG: Diagnostic contains:
+                String.valueOf(42);
+                Integer.valueOf(42);
+                // BUG: Diagnostic contains:
+                new StringBuilder();
+                new StringBuffer();
+              }
+            }
+            """)
+        .doTest();
+  }
 }
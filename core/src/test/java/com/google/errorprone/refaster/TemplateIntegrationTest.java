@@ -25,12 +25,24 @@ import static org.junit.Assert.assertThrows;
 import com.google.common.base.CharMatcher;
 import com.google.common.base.Function;
 import com.google.common.collect.FluentIterable;
+import com.google.common.collect.ImmutableClassToInstanceMap;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Iterables;
 import com.google.errorprone.CodeTransformer;
+import com.google.errorprone.CompositeCodeTransformer;
+import com.google.errorprone.DescriptionListener;
 import com.sun.source.tree.ClassTree;
 import com.sun.source.tree.CompilationUnitTree;
 import com.sun.source.tree.Tree;
+import com.sun.source.util.TreePath;
+import com.sun.tools.javac.tree.JCTree.JCMethodInvocation;
+import com.sun.tools.javac.tree.TreeInfo;
+import com.sun.tools.javac.tree.TreeScanner;
+import com.sun.tools.javac.util.Context;
 import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
 import java.util.List;
 import javax.tools.JavaFileObject;
 import org.junit.Ignore;
@@ -384,4 +396,102 @@ public class TemplateIntegrationTest extends CompilerBasedTest {
   public void unqualifiedMethod() throws IOException {
     runTest("UnqualifiedMethodTemplate");
   }
+
+  @Test
+  public void combinedRulesMatchSeparateRules() throws IOException {
+    ImmutableList<String> testNames =
+        ImmutableList.of(
+            "AnyOfTemplate",
+            "BinaryTemplate",
+            "MethodInvocationTemplate",
+            "StaticFieldTemplate",
+            "SuppressWarningsTemplate",
+            "TwoLinesToOneTemplate",
+            "UnqualifiedMethodTemplate");
+    List<CodeTransformer> rules = new ArrayList<>();
+    List<CodeTransformer> separateRules = new ArrayList<>();
+    for (String testName : testNames) {
+      CodeTransformer rule =
+          extractRefasterRule(forResource(String.format("%s/%s.java", TEMPLATE_DIR, testName)));
+      rules.add(rule);
+      // Hide that the rule is combinable, so that it gets applied on its own.
+      separateRules.add(
+          new CodeTransformer() {
+            @Override
+            public void apply(TreePath path, Context context, DescriptionListener listener) {
+              rule.apply(path, context, listener);
+            }
+
+            @Override
+            public ImmutableClassToInstanceMap<Annotation> annotations() {
+              return rule.annotations();
+            }
+          });
+    }
+    CodeTransformer combined = CompositeCodeTransformer.compose(rules);
+    CodeTransformer separate = CompositeCodeTransformer.compose(separateRules);
+    for (String testName : testNames) {
+      JavaFileObject input = forResource(String.format("%s/%sExample.java", INPUT_DIR, testName));
+      assertThat(
+              CodeTransformerTestHelper.create(combined)
+                  .transform(input)
+                  .getCharContent(false)
+                  .toString())
+          .isEqualTo(
+              CodeTransformerTestHelper.create(separate)
+                  .transform(input)
+                  .getCharContent(false)
+                  .toString());
+    }
+  }
+
+  @Test
+  public void requiredIdentifiers() {
+    assertThat(requiredIdentifiers("MethodInvocationTemplate"))
+        .containsExactly(ImmutableSet.of("digest", "getBytes"));
+    assertThat(requiredIdentifiers("AnyOfTemplate")).containsExactly(ImmutableSet.of("signum"));
+    assertThat(requiredIdentifiers("StaticFieldTemplate"))
+        .containsExactly(ImmutableSet.of("EMPTY_LIST"));
+  }
+
+  private ImmutableList<ImmutableSet<String>> requiredIdentifiers(String testName) {
+    return ((RefasterRule<?, ?>)
+            extractRefasterRule(forResource(String.format("%s/%s.java", TEMPLATE_DIR, testName))))
+        .requiredIdentifiers();
+  }
+
+  @Test
+  public void typecheckVerdictsCached() throws IOException {
+    RefasterRule<?, ?> rule =
+        (RefasterRule<?, ?>)
+            extractRefasterRule(
+                forResource(String.format("%s/%s.java", TEMPLATE_DIR, "ImplicitTypesInlinedTemplate")));
+    compile(
+        "import java.util.Collections;",
+        "import java.util.List;",
+        "class A {",
+        "  void f() {",
+        "    List<String> a = Collections.emptyList();",
+        "    List<String> b = Collections.emptyList();",
+        "    List<Double> c = Collections.emptyList();",
+        "  }",
+        "}");
+    List<JCMethodInvocation> invocations = new ArrayList<>();
+    new TreeScanner() {
+      @Override
+      public void visitApply(JCMethodInvocation tree) {
+        if (TreeInfo.name(tree.getMethodSelect()).contentEquals("emptyList")) {
+          invocations.add(tree);
+        }
+      }
+    }.scan(compilationUnits.get(0));
+    Context ruleContext = rule.prepareContext(context, compilationUnits.get(0));
+    Template<?> template = Iterables.getOnlyElement(rule.beforeTemplates());
+    for (JCMethodInvocation invocation : invocations) {
+      assertThat(template.match(invocation, ruleContext)).hasSize(1);
+    }
+    TypecheckCache cache = TypecheckCache.instance(ruleContext);
+    assertThat(cache.misses()).isEqualTo(2);
+    assertThat(cache.hits()).isEqualTo(1);
+  }
 }
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2026 The Error Prone Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.errorprone.refaster;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import com.google.common.collect.ImmutableMap;
+import com.sun.tools.javac.util.Context;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/** Tests for {@link Unifier}. */
+@RunWith(JUnit4.class)
+public class UnifierTest {
+  private static class Key extends Bindings.Key<String> {
+    Key(String identifier) {
+      super(identifier);
+    }
+  }
+
+  private final Unifier unifier = new Unifier(new Context());
+
+  @Test
+  public void forksAreIndependent() {
+    unifier.putBinding(new Key("a"), "1");
+    Unifier fork = unifier.fork();
+    fork.putBinding(new Key("b"), "2");
+    unifier.putBinding(new Key("c"), "3");
+
+    assertThat(fork.getBindings()).containsExactly(new Key("a"), "1", new Key("b"), "2");
+    assertThat(unifier.getBindings()).containsExactly(new Key("a"), "1", new Key("c"), "3");
+    assertThat(fork.getBinding(new Key("c"))).isNull();
+    assertThat(unifier.getBinding(new Key("b"))).isNull();
+  }
+
+  @Test
+  public void replaceAndClear() {
+    unifier.putBinding(new Key("a"), "1");
+    Unifier fork = unifier.fork();
+    assertThat(fork.replaceBinding(new Key("a"), "2")).isEqualTo("1");
+    fork.clearBinding(new Key("a"));
+    fork.clearBinding(new Key("missing"));
+    fork.putBinding(new Key("a"), "3");
+
+    assertThat(fork.getBinding(new Key("a"))).isEqualTo("3");
+    assertThat(unifier.getBinding(new Key("a"))).isEqualTo("1");
+    assertThat(fork.getBindings()).isEqualTo(ImmutableMap.of(new Key("a"), "3"));
+  }
+
+  @Test
+  public void putBindingTwice() {
+    unifier.putBinding(new Key("a"), "1");
+    assertThrows(IllegalArgumentException.class, () -> unifier.putBinding(new Key("a"), "2"));
+    assertThrows(
+        IllegalArgumentException.class, () -> unifier.replaceBinding(new Key("b"), "2"));
+  }
+}
@@ -16,6 +16,7 @@
 
 package com.google.errorprone.scanner;
 
+import static com.google.common.collect.MoreCollectors.onlyElement;
 import static com.google.common.truth.Truth.assertAbout;
 import static com.google.common.truth.Truth.assertThat;
 import static com.google.errorprone.BugPattern.SeverityLevel.ERROR;
@@ -53,6 +54,7 @@ import com.google.errorprone.bugpatterns.MissingBraces;
 import com.google.errorprone.bugpatterns.PackageLocation;
 import com.google.errorprone.bugpatterns.ReferenceEquality;
 import com.google.errorprone.bugpatterns.StaticQualifiedUsingExpression;
+import com.google.errorprone.bugpatterns.apidiff.Java8ApiChecker;
 import com.google.errorprone.bugpatterns.nullness.UnnecessaryCheckNotNull;
 import com.sun.source.util.JavacTask;
 import com.sun.tools.javac.api.JavacTool;
@@ -667,6 +669,53 @@ public class ScannerSupplierTest {
     var unused = ss1.get();
   }
 
+  @Test
+  public void reuseCheckers_reusesReusableCheckers() {
+    ScannerSupplier ss =
+        ScannerSupplier.fromBugCheckerClasses(ArrayEquals.class, Java8ApiChecker.class);
+
+    // Each compilation applies its options to the supplier, as a persistent worker would.
+    Scanner first = scanner(ss, "-XepOpt:ErrorProne:ReuseCheckers=true");
+    Scanner second = scanner(ss, "-XepOpt:ErrorProne:ReuseCheckers=true");
+
+    assertThat(checker(second, Java8ApiChecker.class))
+        .isSameInstanceAs(checker(first, Java8ApiChecker.class));
+    assertThat(checker(second, ArrayEquals.class))
+        .isNotSameInstanceAs(checker(first, ArrayEquals.class));
+  }
+
+  @Test
+  public void reuseCheckers_offByDefault() {
+    ScannerSupplier ss = ScannerSupplier.fromBugCheckerClasses(Java8ApiChecker.class);
+
+    assertThat(checker(scanner(ss, "-Xep:Java8ApiChecker:WARN"), Java8ApiChecker.class))
+        .isNotSameInstanceAs(
+            checker(scanner(ss, "-Xep:Java8ApiChecker:WARN"), Java8ApiChecker.class));
+  }
+
+  @Test
+  public void reuseCheckers_notSharedBetweenFlags() {
+    ScannerSupplier ss = ScannerSupplier.fromBugCheckerClasses(Java8ApiChecker.class);
+
+    assertThat(checker(scanner(ss, "-XepOpt:ErrorProne:ReuseCheckers=true"), Java8ApiChecker.class))
+        .isNotSameInstanceAs(
+            checker(
+                scanner(
+                    ss,
+                    "-XepOpt:ErrorProne:ReuseCheckers=true",
+                    "-XepOpt:Java8ApiChecker:checkBuffer=false"),
+                Java8ApiChecker.class));
+  }
+
+  private static Scanner scanner(ScannerSupplier ss, String... args) {
+    return ss.applyOverrides(ErrorProneOptions.processArgs(args)).get();
+  }
+
+  private static BugChecker checker(Scanner scanner, Class<? extends BugChecker> checkerClass) {
+    return ((ErrorProneScanner) scanner)
+        .getBugCheckers().stream().filter(checkerClass::isInstance).collect(onlyElement());
+  }
+
   private static ScannerSupplierSubject assertScanner(ScannerSupplier scannerSupplier) {
     return assertAbout(ScannerSupplierSubject::new).that(scannerSupplier);
   }
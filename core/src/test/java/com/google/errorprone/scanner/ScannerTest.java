@@ -16,18 +16,34 @@
 
 package com.google.errorprone.scanner;
 
+import static com.google.common.truth.Truth.assertThat;
 import static com.google.errorprone.BugPattern.SeverityLevel.ERROR;
 import static com.google.errorprone.matchers.Description.NO_MATCH;
 import static com.google.errorprone.util.ASTHelpers.getSymbol;
+import static com.google.errorprone.util.ASTHelpers.isGeneratedConstructor;
 
 import com.google.common.collect.ImmutableList;
 import com.google.errorprone.BugPattern;
 import com.google.errorprone.CompilationTestHelper;
 import com.google.errorprone.VisitorState;
 import com.google.errorprone.bugpatterns.BugChecker;
+import com.google.errorprone.bugpatterns.BugChecker.CompilationUnitVisitor;
+import com.google.errorprone.bugpatterns.BugChecker.CompilationUnitVisitorMatcher;
+import com.google.errorprone.bugpatterns.BugChecker.DocTreeMatcher;
 import com.google.errorprone.bugpatterns.BugChecker.IdentifierTreeMatcher;
 import com.google.errorprone.matchers.Description;
+import com.sun.source.doctree.DocTree;
+import com.sun.source.doctree.TextTree;
+import com.sun.source.tree.CompilationUnitTree;
 import com.sun.source.tree.IdentifierTree;
+import com.sun.source.tree.MethodTree;
+import com.sun.source.tree.Tree;
+import com.sun.source.util.DocTreePath;
+import com.sun.source.util.TreeScanner;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
@@ -141,6 +157,74 @@ public class ScannerTest {
         .doTest();
   }
 
+  @Test
+  public void docTreeMatcher() {
+    CompilationTestHelper.newInstance(NoTodoInJavadoc.class, getClass())
+        .addSourceLines(
+            "Test.java",
+            """
+            /** TODO: document. */
+            // BUG: Diagnostic contains: NoTodoInJavadoc
+            class Test {
+              /** {@code x} is a field. TODO */
+              // BUG: Diagnostic contains: NoTodoInJavadoc
+              int x;
+
+              /**
+               * A method.
+               *
+               * @param y TODO
+               */
+              @SuppressWarnings("NoTodoInJavadoc")
+              void f(int y) {}
+
+              /** Does nothing. */
+              void g() {
+                // TODO: not javadoc
+              }
+            }
+            """)
+        .doTest();
+  }
+
+  @Test
+  public void compilationUnitVisitor() {
+    CompilationTestHelper.newInstance(CountNodes.class, getClass())
+        .addSourceLines(
+            "Test.java",
+            """
+// BUG: Diagnostic contains: all nodes visited, depth=0, identifiers=[String, String, a, b]
+class Test {
+  String f(String a) {
+    int b = 1;
+    return a + b;
+  }
+}
+""")
+        .doTest();
+  }
+
+  @Test
+  public void compilationUnitVisitor_skipsSuppressedTrees() {
+    CompilationTestHelper.newInstance(CountNodes.class, getClass())
+        .addSourceLines(
+            "Test.java",
+            """
+            // BUG: Diagnostic contains: depth=0, identifiers=[a]
+            class Test {
+              int f(int a) {
+                return a;
+              }
+
+              @SuppressWarnings("CountNodes")
+              int g(int b) {
+                return b;
+              }
+            }
+            """)
+        .doTest();
+  }
+
   @OkToUseFoo // Foo can use itself. But this shouldn't suppress errors on *usages* of Foo.
   public static final class Foo<T> {}
 
@@ -158,4 +242,82 @@ public class ScannerTest {
           : NO_MATCH;
     }
   }
+
+  @BugPattern(summary = "Javadoc should not contain TODOs.", severity = ERROR)
+  public static class NoTodoInJavadoc extends BugChecker implements DocTreeMatcher {
+    @Override
+    public Set<DocTree.Kind> docTreeKinds() {
+      return EnumSet.of(DocTree.Kind.TEXT);
+    }
+
+    @Override
+    public Description matchDocTree(DocTreePath path, VisitorState state) {
+      return ((TextTree) path.getLeaf()).getBody().contains("TODO")
+          ? describeMatch(state.getPath().getLeaf())
+          : NO_MATCH;
+    }
+  }
+
+  /**
+   * Counts the nodes of each compilation unit, both with a {@link CompilationUnitVisitor} and with
+   * a separate traversal.
+   */
+  @BugPattern(summary = "Counts the nodes in a compilation unit.", severity = ERROR)
+  public static class CountNodes extends BugChecker implements CompilationUnitVisitorMatcher {
+    @Override
+    public CompilationUnitVisitor visitCompilationUnit(
+        CompilationUnitTree tree, VisitorState state) {
+      int[] expected = {0};
+      new TreeScanner<Void, Void>() {
+        @Override
+        public Void scan(Tree tree, Void unused) {
+          if (tree instanceof MethodTree methodTree && isGeneratedConstructor(methodTree)) {
+            return null;
+          }
+          if (tree != null) {
+            expected[0]++;
+          }
+          return super.scan(tree, null);
+        }
+      }.scan(tree, null);
+      // The compilation unit itself isn't passed to the visitor.
+      expected[0]--;
+
+      return new SuppressibleCompilationUnitVisitor() {
+        private int nodes = 0;
+        private int depth = 0;
+        private final List<String> identifiers = new ArrayList<>();
+
+        @Override
+        protected boolean visit(Tree tree, NodeState node) {
+          assertThat(node.state().getPath().getLeaf()).isSameInstanceAs(tree);
+          nodes++;
+          depth++;
+          if (tree instanceof IdentifierTree identifierTree) {
+            identifiers.add(identifierTree.getName().toString());
+          }
+          return true;
+        }
+
+        @Override
+        public void exit(Tree tree, NodeState node) {
+          depth--;
+        }
+
+        @Override
+        public Description finish(VisitorState state) {
+          return buildDescription(tree.getTypeDecls().get(0))
+              .setMessage(
+                  String.format(
+                      "%s, depth=%d, identifiers=%s",
+                      nodes == expected[0]
+                          ? "all nodes visited"
+                          : String.format("%d of %d nodes visited", nodes, expected[0]),
+                      depth,
+                      identifiers))
+              .build();
+        }
+      };
+    }
+  }
 }
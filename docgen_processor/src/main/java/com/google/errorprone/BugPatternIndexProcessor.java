@@ -0,0 +1,174 @@
+/*
+ * Copyright 2026 The Error Prone Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.errorprone;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.google.auto.service.AutoService;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Processor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Annotation processor which writes an index of the {@code BugPattern} annotations on the classes
+ * being compiled, so that the metadata of the checks can be read at runtime without reflecting on
+ * each check's annotation.
+ *
+ * <p>The index is written to {@value #INDEX}, one check per line. The format is described in {@code
+ * com.google.errorprone.BugPatternIndex}, which reads it.
+ */
+@AutoService(Processor.class)
+@SupportedAnnotationTypes("com.google.errorprone.BugPattern")
+public class BugPatternIndexProcessor extends AbstractProcessor {
+
+  static final String INDEX = "META-INF/errorprone/bugpatterns.index";
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latest();
+  }
+
+  /** The index lines, by class name. */
+  private final Map<String, String> lines = new TreeMap<>();
+
+  @Override
+  public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+    for (Element element : roundEnv.getElementsAnnotatedWith(BugPattern.class)) {
+      // Abstract classes can't be instantiated as checks; BugCheckerInfo reports them at runtime.
+      if (!(element instanceof TypeElement typeElement)
+          || typeElement.getModifiers().contains(Modifier.ABSTRACT)) {
+        continue;
+      }
+      BugPattern pattern = typeElement.getAnnotation(BugPattern.class);
+      try {
+        BugPatternValidator.validate(pattern);
+      } catch (ValidationException e) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, e.getMessage(), element);
+        continue;
+      }
+      String className = binaryName(typeElement);
+      lines.put(className, indexLine(className, typeElement, pattern));
+    }
+
+    if (roundEnv.processingOver() && !lines.isEmpty()) {
+      try {
+        FileObject index =
+            processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", INDEX);
+        try (Writer writer =
+            new BufferedWriter(new OutputStreamWriter(index.openOutputStream(), UTF_8))) {
+          for (String line : lines.values()) {
+            writer.write(line);
+            writer.write('\n');
+          }
+        }
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+    return false;
+  }
+
+  private String indexLine(String className, TypeElement element, BugPattern pattern) {
+    List<String> fields = new ArrayList<>();
+    fields.add(escape(className));
+    fields.add(
+        escape(pattern.name().isEmpty() ? element.getSimpleName().toString() : pattern.name()));
+    fields.add(list(List.of(pattern.altNames())));
+    fields.add(escape(pattern.summary()));
+    fields.add(pattern.severity().name());
+    fields.add(pattern.linkType().name());
+    fields.add(escape(pattern.link()));
+    fields.add(list(List.of(pattern.tags())));
+    fields.add(list(suppressionAnnotations(element)));
+    fields.add(Boolean.toString(pattern.disableable()));
+    return String.join("\t", fields);
+  }
+
+  /** The binary names of the {@code suppressionAnnotations}, which can't be read as classes. */
+  private List<String> suppressionAnnotations(TypeElement element) {
+    for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+      if (!binaryName((TypeElement) mirror.getAnnotationType().asElement())
+          .equals(BugPattern.class.getName())) {
+        continue;
+      }
+      for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry :
+          mirror.getElementValues().entrySet()) {
+        if (!entry.getKey().getSimpleName().contentEquals("suppressionAnnotations")) {
+          continue;
+        }
+        List<String> names = new ArrayList<>();
+        for (Object value : (List<?>) entry.getValue().getValue()) {
+          DeclaredType type = (DeclaredType) ((AnnotationValue) value).getValue();
+          names.add(binaryName((TypeElement) type.asElement()));
+        }
+        return names;
+      }
+    }
+    return List.of(SuppressWarnings.class.getName());
+  }
+
+  private String binaryName(TypeElement element) {
+    return processingEnv.getElementUtils().getBinaryName(element).toString();
+  }
+
+  private static String list(List<String> values) {
+    List<String> escaped = new ArrayList<>();
+    for (String value : values) {
+      escaped.add(escape(value));
+    }
+    return String.join(",", escaped);
+  }
+
+  /** Escapes the characters which separate lines, fields and list elements in the index. */
+  private static String escape(String value) {
+    StringBuilder result = new StringBuilder(value.length());
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      switch (c) {
+        case '\\' -> result.append("\\\\");
+        case '\t' -> result.append("\\t");
+        case '\n' -> result.append("\\n");
+        case '\r' -> result.append("\\r");
+        case ',' -> result.append("\\c");
+        default -> result.append(c);
+      }
+    }
+    return result.toString();
+  }
+}
@@ -0,0 +1,323 @@
+/*
+ * Copyright 2026 The Error Prone Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.errorprone.refaster;
+
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.google.common.base.Stopwatch;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import com.google.common.primitives.Ints;
+import com.google.errorprone.CodeTransformer;
+import com.google.errorprone.CodeTransformerArchive;
+import com.google.errorprone.ImportOrderParser;
+import com.google.errorprone.apply.DescriptionBasedDiff;
+import com.google.errorprone.apply.DiffApplier;
+import com.google.errorprone.apply.FsFileSource;
+import com.google.errorprone.apply.ImportOrganizer;
+import com.google.errorprone.apply.PatchFileDestination;
+import com.sun.source.tree.CompilationUnitTree;
+import com.sun.source.util.TreePath;
+import com.sun.tools.javac.api.JavacTaskImpl;
+import com.sun.tools.javac.api.JavacTool;
+import com.sun.tools.javac.file.JavacFileManager;
+import com.sun.tools.javac.tree.JCTree.JCCompilationUnit;
+import com.sun.tools.javac.util.Context;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaFileObject;
+
+/**
+ * Applies compiled Refaster rules to every Java file under a source root, outside of a build.
+ *
+ * <p>Files are attributed in batches by parallel javac tasks, the rules are applied to each
+ * compilation unit, and the changes are written as a single patch through a {@link DiffApplier}.
+ * Nothing is fetched from the network: the classpath must contain everything the sources need.
+ *
+ * <pre>{@code
+ * java -jar error_prone_refaster.jar \
+ *     --rules rules.refaster --sourcepath src/main/java [--classpath deps.jar] \
+ *     [--threads N] [--batch-size N] [--import-order static-first] [--out refaster.patch] \
+ *     [-- javac options]
+ * }</pre>
+ *
+ * <p>Files that don't compile are skipped. The patch paths are relative to the source root, so it
+ * can be applied with {@code patch -p0 -u -i refaster.patch} from there.
+ */
+public final class RefasterBatchRunner {
+  private static final Logger logger = Logger.getLogger(RefasterBatchRunner.class.getName());
+
+  private static final String USAGE =
+      """
+      Usage: java -jar error_prone_refaster.jar --rules <file> --sourcepath <dir> [options]
+          [-- <javac options>]
+        --rules <file>          compiled Refaster rules, as written by RefasterRuleCompiler
+        --sourcepath <dir>      the source root; every .java file under it is refactored
+        --classpath <path>      the classpath the sources compile against
+        --out <file>            the patch to write (default: <sourcepath>/refaster.patch)
+        --threads <n>           parallel javac tasks (default: the number of processors)
+        --batch-size <n>        files attributed by each task at a time (default: 50)
+        --import-order <order>  static-first, static-last, android-static-first,
+                                android-static-last or idea (default: static-first)
+      """;
+
+  public static void main(String[] args) throws Exception {
+    Path rules = null;
+    Path sourcePath = null;
+    String classPath = null;
+    Path out = null;
+    int threads = Runtime.getRuntime().availableProcessors();
+    int batchSize = 50;
+    ImportOrganizer importOrganizer = ImportOrganizer.STATIC_FIRST_ORGANIZER;
+    List<String> javacOptions = new ArrayList<>();
+    Iterator<String> itr = ImmutableList.copyOf(args).iterator();
+    while (itr.hasNext()) {
+      String arg = itr.next();
+      switch (arg) {
+        case "--rules" -> rules = Paths.get(value(itr, arg));
+        case "--sourcepath" -> sourcePath = Paths.get(value(itr, arg));
+        case "--classpath" -> classPath = value(itr, arg);
+        case "--out" -> out = Paths.get(value(itr, arg));
+        case "--threads" -> threads = positiveInt(itr, arg);
+        case "--batch-size" -> batchSize = positiveInt(itr, arg);
+        case "--import-order" -> importOrganizer = importOrganizer(value(itr, arg));
+        case "--" -> itr.forEachRemaining(javacOptions::add);
+        default -> usage("Unknown option: " + arg);
+      }
+    }
+    if (rules == null) {
+      usage("No --rules specified");
+    } else if (!Files.isRegularFile(rules)) {
+      usage("Cannot find --rules file: " + rules);
+    }
+    if (sourcePath == null) {
+      usage("No --sourcepath specified");
+    } else if (!Files.isDirectory(sourcePath)) {
+      usage("Cannot find --sourcepath directory: " + sourcePath);
+    }
+    sourcePath = sourcePath.toAbsolutePath().normalize();
+    if (out == null) {
+      out = sourcePath.resolve("refaster.patch");
+    }
+    if (classPath != null) {
+      javacOptions.add("-classpath");
+      javacOptions.add(classPath);
+    }
+
+    RefasterBatchRunner runner =
+        new RefasterBatchRunner(
+            CodeTransformerArchive.load(rules),
+            sourcePath,
+            javacOptions,
+            threads,
+            batchSize,
+            importOrganizer);
+    System.out.println(runner.run(out));
+  }
+
+  private static String value(Iterator<String> itr, String option) {
+    if (!itr.hasNext()) {
+      usage("No value given for " + option);
+    }
+    return itr.next();
+  }
+
+  private static int positiveInt(Iterator<String> itr, String option) {
+    String value = value(itr, option);
+    Integer result = Ints.tryParse(value);
+    if (result == null || result <= 0) {
+      usage(option + " must be a positive integer, was: " + value);
+    }
+    return result;
+  }
+
+  private static ImportOrganizer importOrganizer(String importOrder) {
+    try {
+      return ImportOrderParser.getImportOrganizer(importOrder);
+    } catch (IllegalStateException e) {
+      usage(e.getMessage());
+      throw e;
+    }
+  }
+
+  private static void usage(String err) {
+    System.err.println(err);
+    System.err.print(USAGE);
+    System.exit(1);
+  }
+
+  private final CodeTransformer rules;
+  private final Path sourcePath;
+  private final ImmutableList<String> javacOptions;
+  private final int threads;
+  private final int batchSize;
+  private final ImportOrganizer importOrganizer;
+
+  private final AtomicInteger attributedFiles = new AtomicInteger();
+  private final AtomicInteger skippedFiles = new AtomicInteger();
+
+  RefasterBatchRunner(
+      CodeTransformer rules,
+      Path sourcePath,
+      List<String> javacOptions,
+      int threads,
+      int batchSize,
+      ImportOrganizer importOrganizer) {
+    this.rules = rules;
+    this.sourcePath = sourcePath;
+    this.javacOptions =
+        ImmutableList.<String>builder()
+            // Other sources are read as needed to resolve references, but only the batch is
+            // attributed.
+            .add("-sourcepath", sourcePath.toString(), "-implicit:none", "-proc:none")
+            .addAll(javacOptions)
+            .build();
+    this.threads = threads;
+    this.batchSize = batchSize;
+    this.importOrganizer = importOrganizer;
+  }
+
+  /** Applies the rules to all sources, writes the patch to {@code out}, and returns a summary. */
+  String run(Path out) throws IOException, InterruptedException, ExecutionException {
+    ImmutableList<Path> files;
+    try (Stream<Path> paths = Files.walk(sourcePath)) {
+      files =
+          paths
+              .filter(path -> path.toString().endsWith(".java") && Files.isRegularFile(path))
+              .sorted()
+              .collect(toImmutableList());
+    }
+    Stopwatch stopwatch = Stopwatch.createStarted();
+
+    // DescriptionBasedDiff refers to files by their absolute paths.
+    Path root = sourcePath.getRoot();
+    PatchFileDestination destination = new PatchFileDestination(sourcePath, root);
+    DiffApplier applier = new DiffApplier(threads, new FsFileSource(root), destination);
+    applier.startAsync().awaitRunning();
+    try {
+      ExecutorService executor = Executors.newFixedThreadPool(threads);
+      try {
+        List<Future<?>> batches = new ArrayList<>();
+        for (List<Path> batch : Lists.partition(files, batchSize)) {
+          batches.add(
+              executor.submit(
+                  () -> {
+                    refactor(batch, applier);
+                    int attributed = attributedFiles.addAndGet(batch.size());
+                    logger.log(
+                        Level.INFO,
+                        String.format(
+                            "Attributed %d of %d files (%.1f files/sec)",
+                            attributed, files.size(), filesPerSecond(attributed, stopwatch)));
+                    return null;
+                  }));
+        }
+        for (Future<?> batch : batches) {
+          batch.get();
+        }
+      } finally {
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.MINUTES);
+      }
+    } finally {
+      // Also stop the applier if a batch failed, so that its worker threads don't outlive the run.
+      applier.stopAsync().awaitTerminated();
+    }
+
+    StringBuilder patch = new StringBuilder();
+    int changedFiles = 0;
+    for (Path file : files) {
+      String diff = destination.patchFile(file.toUri());
+      if (diff != null) {
+        patch.append(diff);
+        changedFiles++;
+      }
+    }
+    Files.writeString(out, patch, UTF_8);
+    stopwatch.stop();
+    return String.format(
+        "Applied rules to %d files in %s (%.1f files/sec): %d changed, %d skipped due to"
+            + " compilation errors. Changes were written to %s",
+        files.size(),
+        stopwatch,
+        filesPerSecond(files.size(), stopwatch),
+        changedFiles,
+        skippedFiles.get(),
+        out);
+  }
+
+  private void refactor(List<Path> batch, DiffApplier applier) throws IOException {
+    DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+    try (JavacFileManager fileManager = new JavacFileManager(new Context(), false, UTF_8)) {
+      JavacTaskImpl task =
+          (JavacTaskImpl)
+              JavacTool.create()
+                  .getTask(
+                      /* out= */ null,
+                      fileManager,
+                      diagnostics,
+                      javacOptions,
+                      /* classes= */ null,
+                      fileManager.getJavaFileObjectsFromPaths(batch));
+      Iterable<? extends CompilationUnitTree> units = task.parse();
+      var unused = task.analyze();
+
+      Set<JavaFileObject> withErrors = new HashSet<>();
+      for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+        if (diagnostic.getKind() == Diagnostic.Kind.ERROR
+            && withErrors.add(diagnostic.getSource())) {
+          logger.log(Level.WARNING, "Skipping file that doesn't compile: " + diagnostic);
+        }
+      }
+      for (CompilationUnitTree unit : units) {
+        if (withErrors.contains(unit.getSourceFile())) {
+          skippedFiles.incrementAndGet();
+          continue;
+        }
+        DescriptionBasedDiff diff =
+            DescriptionBasedDiff.createIgnoringOverlaps((JCCompilationUnit) unit, importOrganizer);
+        rules.apply(new TreePath(unit), task.getContext(), diff);
+        if (!diff.isEmpty()) {
+          applier.put(diff);
+        }
+      }
+    }
+  }
+
+  private static double filesPerSecond(int files, Stopwatch stopwatch) {
+    return files * 1e9 / Math.max(1, stopwatch.elapsed(TimeUnit.NANOSECONDS));
+  }
+}
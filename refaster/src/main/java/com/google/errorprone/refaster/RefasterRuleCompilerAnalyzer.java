@@ -14,8 +14,9 @@
 
 package com.google.errorprone.refaster;
 
+import com.google.common.collect.ImmutableList;
 import com.google.errorprone.CodeTransformer;
-import com.google.errorprone.CompositeCodeTransformer;
+import com.google.errorprone.CodeTransformerArchive;
 import com.sun.source.tree.ClassTree;
 import com.sun.source.util.TaskEvent;
 import com.sun.source.util.TaskEvent.Kind;
@@ -24,16 +25,17 @@ import com.sun.source.util.TreeScanner;
 import com.sun.tools.javac.api.JavacTrees;
 import com.sun.tools.javac.main.JavaCompiler;
 import com.sun.tools.javac.util.Context;
+import java.io.BufferedOutputStream;
 import java.io.IOException;
-import java.io.ObjectOutputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 
 /**
- * TaskListener that receives compilation of a Refaster rule class and outputs a serialized analyzer
- * to the specified path.
+ * TaskListener that receives compilation of a Refaster rule class and outputs a {@link
+ * CodeTransformerArchive} of its rules to the specified path.
  */
 public class RefasterRuleCompilerAnalyzer implements TaskListener {
   private final Context context;
@@ -67,9 +69,17 @@ public class RefasterRuleCompilerAnalyzer implements TaskListener {
     if (rules.isEmpty()) {
       throw new IllegalArgumentException("Did not find any Refaster templates");
     }
-    try (ObjectOutputStream output =
-        new ObjectOutputStream(Files.newOutputStream(destinationPath))) {
-      output.writeObject(CompositeCodeTransformer.compose(rules));
+    List<CodeTransformerArchive.Entry> entries = new ArrayList<>(rules.size());
+    for (CodeTransformer rule : rules) {
+      entries.add(
+          CodeTransformerArchive.Entry.create(
+              rule,
+              rule instanceof RefasterRule<?, ?> refasterRule
+                  ? refasterRule.requiredIdentifiers()
+                  : ImmutableList.of()));
+    }
+    try (OutputStream output = new BufferedOutputStream(Files.newOutputStream(destinationPath))) {
+      CodeTransformerArchive.write(entries, output);
     } catch (IOException e) {
       throw new RuntimeException(e);
     }
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2026 The Error Prone Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.errorprone.refaster;
+
+import static com.google.common.truth.Truth.assertThat;
+import static com.google.errorprone.refaster.RefasterBatchRunnerTest.compileRules;
+import static com.google.errorprone.refaster.RefasterBatchRunnerTest.write;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.google.common.collect.ImmutableList;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/**
+ * Runs the shaded {@code error_prone_refaster.jar} with {@code java -jar}, in a JVM without the
+ * test's {@code --add-exports} flags.
+ */
+@RunWith(JUnit4.class)
+public class RefasterBatchRunnerIT {
+
+  @Rule public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Test
+  public void appliesRules() throws Exception {
+    Path rules =
+        compileRules(
+            temporaryFolder,
+            "package rules;",
+            "import com.google.errorprone.refaster.annotation.AfterTemplate;",
+            "import com.google.errorprone.refaster.annotation.BeforeTemplate;",
+            "public class StringIsEmpty {",
+            "  @BeforeTemplate boolean before(String s) {",
+            "    return s.length() == 0;",
+            "  }",
+            "  @AfterTemplate boolean after(String s) {",
+            "    return s.isEmpty();",
+            "  }",
+            "}");
+    Path sourcePath = temporaryFolder.newFolder("src").toPath();
+    write(
+        sourcePath.resolve("a/A.java"),
+        "package a;",
+        "class A {",
+        "  boolean f(String s) {",
+        "    return s.length() == 0;",
+        "  }",
+        "}");
+    Path out = temporaryFolder.getRoot().toPath().resolve("refaster.patch");
+
+    Result result =
+        runJar(
+            "--rules", rules.toString(),
+            "--sourcepath", sourcePath.toString(),
+            "--out", out.toString());
+
+    assertThat(result.output).contains("Applied rules to 1 files");
+    assertThat(result.exitCode).isEqualTo(0);
+    assertThat(Files.readString(out)).contains("+    return s.isEmpty();");
+  }
+
+  @Test
+  public void missingOption() throws Exception {
+    Result result = runJar("--sourcepath", "src");
+
+    assertThat(result.exitCode).isNotEqualTo(0);
+    assertThat(result.output).contains("No --rules specified");
+    assertThat(result.output).contains("Usage: java -jar error_prone_refaster.jar");
+    assertThat(result.output).doesNotContain("Exception");
+  }
+
+  @Test
+  public void unknownOption() throws Exception {
+    Result result = runJar("--rules", "rules.refaster", "--sourcepth", "src");
+
+    assertThat(result.exitCode).isNotEqualTo(0);
+    assertThat(result.output).contains("Unknown option: --sourcepth");
+    assertThat(result.output).contains("Usage: java -jar error_prone_refaster.jar");
+    assertThat(result.output).doesNotContain("Exception");
+  }
+
+  @Test
+  public void missingRules() throws Exception {
+    temporaryFolder.newFolder("src");
+
+    Result result = runJar("--rules", "rules.refaster", "--sourcepath", "src");
+
+    assertThat(result.exitCode).isNotEqualTo(0);
+    assertThat(result.output).contains("Cannot find --rules file: rules.refaster");
+    assertThat(result.output).doesNotContain("Exception");
+  }
+
+  private static final class Result {
+    final int exitCode;
+    final String output;
+
+    Result(int exitCode, String output) {
+      this.exitCode = exitCode;
+      this.output = output;
+    }
+  }
+
+  private Result runJar(String... args) throws IOException, InterruptedException {
+    Path jar = Paths.get(System.getProperty("refaster.jar"));
+    Path java = Paths.get(System.getProperty("java.home"), "bin", "java");
+    Process process =
+        new ProcessBuilder(
+                ImmutableList.<String>builder()
+                    .add(java.toString(), "-jar", jar.toString())
+                    .add(args)
+                    .build())
+            .directory(temporaryFolder.getRoot())
+            .redirectErrorStream(true)
+            .start();
+    String output = new String(process.getInputStream().readAllBytes(), UTF_8);
+    assertThat(process.waitFor(1, TimeUnit.MINUTES)).isTrue();
+    return new Result(process.exitValue(), output);
+  }
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright 2026 The Error Prone Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.errorprone.refaster;
+
+import static com.google.common.truth.Truth.assertThat;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertThrows;
+
+import com.google.common.collect.ImmutableClassToInstanceMap;
+import com.google.common.collect.ImmutableList;
+import com.google.errorprone.CodeTransformer;
+import com.google.errorprone.CodeTransformerArchive;
+import com.google.errorprone.DescriptionListener;
+import com.google.errorprone.apply.DiffApplier;
+import com.google.errorprone.apply.ImportOrganizer;
+import com.sun.source.util.JavacTask;
+import com.sun.source.util.TreePath;
+import com.sun.tools.javac.api.JavacTool;
+import com.sun.tools.javac.file.JavacFileManager;
+import com.sun.tools.javac.util.Context;
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/** {@link RefasterBatchRunner}Test */
+@RunWith(JUnit4.class)
+public class RefasterBatchRunnerTest {
+
+  @Rule public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Test
+  public void appliesRulesAndSkipsFilesThatDontCompile() throws Exception {
+    Path rules =
+        compileRules(
+            temporaryFolder,
+            "package rules;",
+            "import com.google.errorprone.refaster.annotation.AfterTemplate;",
+            "import com.google.errorprone.refaster.annotation.BeforeTemplate;",
+            "public class StringIsEmpty {",
+            "  @BeforeTemplate boolean before(String s) {",
+            "    return s.length() == 0;",
+            "  }",
+            "  @AfterTemplate boolean after(String s) {",
+            "    return s.isEmpty();",
+            "  }",
+            "}");
+    Path sourcePath = temporaryFolder.newFolder("src").toPath();
+    write(
+        sourcePath.resolve("a/Broken.java"),
+        "package a;",
+        "class Broken {",
+        "  boolean f(String s) {",
+        "    return s.lenght() == 0;",
+        "  }",
+        "}");
+    write(
+        sourcePath.resolve("a/Changed.java"),
+        "package a;",
+        "class Changed {",
+        "  boolean f(String s) {",
+        "    return s.length() == 0;",
+        "  }",
+        "}");
+    write(
+        sourcePath.resolve("a/Unchanged.java"),
+        "package a;",
+        "class Unchanged {",
+        "  int f(String s) {",
+        "    return s.length();",
+        "  }",
+        "}");
+    Path out = temporaryFolder.getRoot().toPath().resolve("refaster.patch");
+
+    String summary = runner(CodeTransformerArchive.load(rules), sourcePath).run(out);
+
+    assertThat(summary).contains("Applied rules to 3 files");
+    assertThat(summary).contains("1 changed, 1 skipped due to compilation errors");
+    String patch = Files.readString(out);
+    assertThat(patch).contains("--- a/Changed.java");
+    assertThat(patch).contains("-    return s.length() == 0;");
+    assertThat(patch).contains("+    return s.isEmpty();");
+    assertThat(patch).doesNotContain("Broken.java");
+    assertThat(patch).doesNotContain("Unchanged.java");
+  }
+
+  @Test
+  public void stopsDiffApplierIfBatchFails() throws Exception {
+    Path sourcePath = temporaryFolder.newFolder("src").toPath();
+    write(sourcePath.resolve("A.java"), "class A {}");
+    List<String> messages = new ArrayList<>();
+    Handler handler =
+        new Handler() {
+          @Override
+          public void publish(LogRecord record) {
+            messages.add(record.getMessage());
+          }
+
+          @Override
+          public void flush() {}
+
+          @Override
+          public void close() {}
+        };
+    Logger logger = Logger.getLogger(DiffApplier.class.getName());
+    logger.addHandler(handler);
+    try {
+      RefasterBatchRunner runner = runner(new FailingTransformer(), sourcePath);
+      ExecutionException e =
+          assertThrows(
+              ExecutionException.class,
+              () -> runner.run(temporaryFolder.getRoot().toPath().resolve("refaster.patch")));
+      assertThat(e).hasCauseThat().isInstanceOf(IllegalStateException.class);
+    } finally {
+      logger.removeHandler(handler);
+    }
+    // Logged by the applier when it's stopped.
+    assertThat(messages.stream().anyMatch(m -> m.startsWith("Completed 0 files"))).isTrue();
+  }
+
+  private static final class FailingTransformer implements CodeTransformer {
+    @Override
+    public void apply(TreePath path, Context context, DescriptionListener listener) {
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public ImmutableClassToInstanceMap<Annotation> annotations() {
+      return ImmutableClassToInstanceMap.of();
+    }
+  }
+
+  private static RefasterBatchRunner runner(CodeTransformer rules, Path sourcePath) {
+    return new RefasterBatchRunner(
+        rules,
+        sourcePath,
+        ImmutableList.of(),
+        /* threads= */ 1,
+        /* batchSize= */ 10,
+        ImportOrganizer.STATIC_FIRST_ORGANIZER);
+  }
+
+  /** Compiles a rule class named {@code rules.StringIsEmpty} to an archive. */
+  static Path compileRules(TemporaryFolder temporaryFolder, String... lines) throws IOException {
+    Path source = temporaryFolder.getRoot().toPath().resolve("rules/StringIsEmpty.java");
+    write(source, lines);
+    Path classes = temporaryFolder.newFolder("classes").toPath();
+    Path rules = temporaryFolder.getRoot().toPath().resolve("rules.refaster");
+    try (JavacFileManager fileManager = new JavacFileManager(new Context(), false, UTF_8)) {
+      JavacTask task =
+          JavacTool.create()
+              .getTask(
+                  /* out= */ null,
+                  fileManager,
+                  /* diagnosticListener= */ null,
+                  ImmutableList.of("-d", classes.toString(), "-proc:none"),
+                  /* classes= */ null,
+                  fileManager.getJavaFileObjects(source));
+      new RefasterRuleCompiler().init(task, "--out", rules.toString());
+      assertThat(task.call()).isTrue();
+    }
+    return rules;
+  }
+
+  static void write(Path path, String... lines) throws IOException {
+    Files.createDirectories(path.getParent());
+    Files.write(path, ImmutableList.copyOf(lines), UTF_8);
+  }
+}
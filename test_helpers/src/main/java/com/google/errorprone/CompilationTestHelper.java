@@ -86,6 +86,7 @@ public class CompilationTestHelper {
   private Optional<Result> expectedResult = Optional.empty();
   private LookForCheckNameInDiagnostic lookForCheckNameInDiagnostic =
       LookForCheckNameInDiagnostic.YES;
+  private boolean codeGeneration = false;
 
   private boolean run = false;
 
@@ -138,13 +139,30 @@ public class CompilationTestHelper {
    * the overridden classpath, if provided, and any extraArgs that were provided.
    */
   private static ImmutableList<String> buildArguments(
-      @Nullable List<Class<?>> overrideClasspath, List<String> extraArgs) {
+      @Nullable List<Class<?>> overrideClasspath, List<String> extraArgs, boolean codeGeneration) {
     ImmutableList.Builder<String> result = ImmutableList.<String>builder().addAll(DEFAULT_ARGS);
+    if (!codeGeneration && canSkipCodeGeneration(extraArgs)) {
+      result.add("--should-stop=ifNoError=FLOW");
+    }
     getOverrideClasspath(overrideClasspath)
         .ifPresent((Path jar) -> result.add("-cp").add(jar.toString()));
     return result.addAll(disableImplicitProcessing(extraArgs)).build();
   }
 
+  /**
+   * Error Prone's checks run once flow analysis is done, so unless the test needs the later phases
+   * the compilation can stop there instead of lowering the sources and writing class files. Patching
+   * happens as each class is generated, and explicit should-stop policies are left alone.
+   */
+  private static boolean canSkipCodeGeneration(List<String> extraArgs) {
+    return extraArgs.stream()
+        .noneMatch(
+            arg ->
+                arg.startsWith("--should-stop")
+                    || arg.startsWith("-XDshould-stop")
+                    || arg.startsWith("-XepPatch"));
+  }
+
   private static Optional<Path> getOverrideClasspath(@Nullable List<Class<?>> overrideClasspath) {
     if (overrideClasspath == null) {
       return Optional.empty();
@@ -272,6 +290,17 @@ public class CompilationTestHelper {
     return this;
   }
 
+  /**
+   * Runs the compilation through code generation. By default the compilation stops once Error
+   * Prone's checks have run, which skips any diagnostics javac only reports while lowering the
+   * sources or writing class files.
+   */
+  @CanIgnoreReturnValue
+  public CompilationTestHelper withCodeGeneration() {
+    this.codeGeneration = true;
+    return this;
+  }
+
   /**
    * Tells the compilation helper to expect a specific result from the compilation, e.g. success or
    * failure.
@@ -375,7 +404,7 @@ public class CompilationTestHelper {
   }
 
   private Result compile() {
-    List<String> processedArgs = buildArguments(overrideClasspath, extraArgs);
+    List<String> processedArgs = buildArguments(overrideClasspath, extraArgs, codeGeneration);
     return compiler
             .getTask(
                 new PrintWriter(
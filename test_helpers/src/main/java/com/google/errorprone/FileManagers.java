@@ -37,6 +37,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import javax.tools.StandardLocation;
+import org.jspecify.annotations.Nullable;
 
 /**
  * Manages {@link JavacFileManager}s for use in Error Prone's test.
@@ -67,8 +68,12 @@ public final class FileManagers {
 
     // Explicitly set the class path to the ambient runtime's classpath. This is the default
     // behaviour, but re-doing it for each test avoids issues when tests are executed in different
-    // classloaders observed with IntelliJ and maven.
-    setLocation(fileManager, systemClassPath(), StandardLocation.CLASS_PATH);
+    // classloaders observed with IntelliJ and maven. Setting a location discards the file manager's
+    // caches for it, so only do so if a previous test changed it, e.g. by passing -cp.
+    ImmutableList<Path> systemClassPath = systemClassPath();
+    if (!systemClassPath.equals(classPath(fileManager))) {
+      setLocation(fileManager, systemClassPath, StandardLocation.CLASS_PATH);
+    }
 
     // Set the output directories (for compiled classes and generated sources) to an in-memory
     // temporary directory, to avoid successful compilations trying to write their output to
@@ -97,6 +102,11 @@ public final class FileManagers {
         .collect(toImmutableList());
   }
 
+  private static @Nullable ImmutableList<Path> classPath(JavacFileManager fileManager) {
+    Iterable<? extends Path> classPath = fileManager.getLocationAsPaths(StandardLocation.CLASS_PATH);
+    return classPath == null ? null : ImmutableList.copyOf(classPath);
+  }
+
   private static void setLocation(
       JavacFileManager fileManager, ImmutableList<Path> collect, StandardLocation classPath) {
     // Calling `setLocationFromPaths` on trusted inputs should never fail, so rethrow the
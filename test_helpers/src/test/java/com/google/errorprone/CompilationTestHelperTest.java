@@ -288,6 +288,34 @@ public class CompilationTestHelperTest {
     assertThat(expected).hasMessageThat().contains("Expected compilation result ERROR, but was OK");
   }
 
+  @Test
+  public void codeGenerationSkippedByDefault() {
+    // javac only checks the length of string constants when writing the class file
+    compilationHelper
+        .addSourceLines(
+            "Test.java",
+            "public class Test {",
+            "  String s = \"" + "a".repeat(70_000) + "\";",
+            "}")
+        .expectResult(Result.OK)
+        .doTest();
+  }
+
+  @Test
+  public void withCodeGeneration() {
+    compilationHelper
+        .addSourceLines(
+            "Test.java",
+            "public class Test {",
+            "  // BUG: Diagnostic contains: constant string too long",
+            "  String s = \"" + "a".repeat(70_000) + "\";",
+            "}")
+        .withCodeGeneration()
+        .matchAllDiagnostics()
+        .expectResult(Result.ERROR)
+        .doTest();
+  }
+
   @Test
   public void expectNoDiagnoticsAndNoDiagnosticsProducedSucceeds() {
     compilationHelper